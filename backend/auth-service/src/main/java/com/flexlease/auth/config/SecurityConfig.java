@@ -4,9 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flexlease.auth.service.CustomUserDetailsService;
 import com.flexlease.common.dto.ApiResponse;
 import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.common.security.JwtAuthProperties;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -15,6 +17,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -35,22 +38,29 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  *   <li>无状态：JWT 鉴权，不使用 Session。</li>
  *   <li>登录失败：统一返回 JSON 格式的错误响应（前端更好处理）。</li>
  *   <li>内部接口：/api/v1/internal/** 走自定义 Header 鉴权，不走 JWT。</li>
+ *   <li>指标：/actuator/prometheus 只对携带正确 {@code X-Internal-Token} 的抓取请求开放。</li>
  * </ul>
  */
 @Configuration
 @EnableMethodSecurity
+@EnableConfigurationProperties(JwtAuthProperties.class)
 public class SecurityConfig {
 
+    private static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomUserDetailsService userDetailsService;
     private final ObjectMapper objectMapper;
+    private final JwtAuthProperties jwtAuthProperties;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
                           CustomUserDetailsService userDetailsService,
-                          ObjectMapper objectMapper) {
+                          ObjectMapper objectMapper,
+                          JwtAuthProperties jwtAuthProperties) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.userDetailsService = userDetailsService;
         this.objectMapper = objectMapper;
+        this.jwtAuthProperties = jwtAuthProperties;
     }
 
     @Bean
@@ -69,6 +79,8 @@ public class SecurityConfig {
                                 "/api/v1/internal/**",
                                 "/actuator/health",
                                 "/actuator/info").permitAll()
+                        .requestMatchers("/actuator/prometheus").access((authentication, context) -> new AuthorizationDecision(
+                                jwtAuthProperties.isInternalAccessToken(context.getRequest().getHeader(INTERNAL_TOKEN_HEADER))))
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(config -> config
@@ -0,0 +1,144 @@
+package com.flexlease.common.concurrent;
+
+import com.sun.net.httpserver.HttpServer;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 下游变慢时阻塞式服务的吞吐：嵌入式 Tomcat 中的 Servlet 用 {@link RestTemplate} 同步调用一个固定延迟
+ * {@code downstreamLatencyMs} 的下游（模拟 order-service 等待 product-service），每次调用同时发出
+ * {@code concurrency} 个请求并等待全部返回。
+ *
+ * <p>{@code threads=platform} 为 Tomcat 默认的 200 个平台线程，{@code threads=virtual} 与
+ * {@code spring.threads.virtual.enabled=true} 时 Spring Boot 的做法相同（连接器改用 {@link VirtualThreadExecutor}）。
+ * 结果单位为请求/秒；平台线程下吞吐上限约为 200 / 下游延迟，虚拟线程下只受 CPU 限制。核数少的机器上
+ * 100ms 场景两者都会先被 CPU 限住，500ms 场景能稳定体现线程池上限。</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadSlowDownstreamBenchmark {
+
+    private static final int CONCURRENCY = 1000;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"100", "500"})
+    public long downstreamLatencyMs;
+
+    private HttpServer downstream;
+    private ExecutorService downstreamExecutor;
+    private WebServer server;
+    private HttpClient client;
+    private ExecutorService clientExecutor;
+    private URI endpoint;
+
+    @Setup
+    public void setUp() throws IOException {
+        downstreamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        downstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        downstream.setExecutor(downstreamExecutor);
+        downstream.createContext("/api/v1/internal/inventory/reservations", exchange -> {
+            try {
+                Thread.sleep(downstreamLatencyMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"code\":0,\"data\":{\"reserved\":true}}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        downstream.start();
+        String downstreamUrl = "http://127.0.0.1:" + downstream.getAddress().getPort() + "/api/v1/internal/inventory/reservations";
+
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        if ("virtual".equals(threads)) {
+            factory.addProtocolHandlerCustomizers(handler -> handler.setExecutor(new VirtualThreadExecutor("tomcat-handler-")));
+        }
+        RestTemplate restTemplate = new RestTemplate();
+        server = factory.getWebServer(context -> context.addServlet("checkout", new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                String result = restTemplate.postForObject(downstreamUrl, "{}", String.class);
+                response.setContentType("application/json");
+                response.getWriter().write(result == null ? "{}" : result);
+            }
+        }).addMapping("/api/v1/orders"));
+        server.start();
+        endpoint = URI.create("http://127.0.0.1:" + server.getPort() + "/api/v1/orders");
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.destroy();
+        downstream.stop(0);
+        downstreamExecutor.shutdownNow();
+        clientExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENCY)
+    public int burst() {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .header("Content-Type", "application/json")
+                .build();
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() == 200) {
+                ok++;
+            }
+        }
+        if (ok != CONCURRENCY) {
+            throw new IllegalStateException("only " + ok + " of " + CONCURRENCY + " requests succeeded");
+        }
+        return ok;
+    }
+}
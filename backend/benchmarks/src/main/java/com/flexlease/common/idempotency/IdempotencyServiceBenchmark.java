@@ -0,0 +1,59 @@
+package com.flexlease.common.idempotency;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link IdempotencyService#execute} 在多线程争用下的吞吐：{@code keySpace=1} 时所有线程争同一个 key
+ * （重复提交风暴），较大的 key 空间模拟正常的分散请求；{@code ttlMs=0} 让每次调用都执行 action，测量写路径。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class IdempotencyServiceBenchmark {
+
+    @Param({"1", "64", "65536"})
+    public int keySpace;
+
+    @Param({"0", "60000"})
+    public long ttlMs;
+
+    private IdempotencyService service;
+    private String[] keys;
+    private Duration ttl;
+
+    @Setup
+    public void setUp() {
+        service = new IdempotencyService(new FlexleaseMetrics(new SimpleMeterRegistry()));
+        keys = new String[keySpace];
+        for (int i = 0; i < keySpace; i++) {
+            keys[i] = "payment:init:" + i;
+        }
+        ttl = Duration.ofMillis(ttlMs);
+    }
+
+    @Benchmark
+    public Object execute() {
+        String key = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+        return service.execute(key, ttl, () -> key);
+    }
+}
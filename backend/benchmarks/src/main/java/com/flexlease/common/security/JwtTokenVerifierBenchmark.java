@@ -0,0 +1,76 @@
+package com.flexlease.common.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 每个经过鉴权过滤器的请求都会调用一次 {@link JwtTokenVerifier#verify(String)}：
+ * 分别测量合法令牌与签名不符令牌（异常路径）的耗时。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenVerifierBenchmark {
+
+    private JwtTokenVerifier verifier;
+    private String validToken;
+    private String forgedToken;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder().encodeToString("flexlease-benchmark-secret-0123456789".getBytes());
+        JwtAuthProperties properties = new JwtAuthProperties();
+        properties.setSecret(secret);
+        verifier = new JwtTokenVerifier(properties);
+        validToken = sign(secret, properties.getIssuer());
+        forgedToken = sign(Base64.getEncoder().encodeToString("another-secret-of-enough-length-0123".getBytes()),
+                properties.getIssuer());
+        if (verifier.verify(validToken).isEmpty() || verifier.verify(forgedToken).isPresent()) {
+            throw new IllegalStateException("Benchmark tokens are not set up correctly");
+        }
+    }
+
+    @Benchmark
+    public Optional<FlexleasePrincipal> verifyValid() {
+        return verifier.verify(validToken);
+    }
+
+    @Benchmark
+    public Optional<FlexleasePrincipal> verifyForged() {
+        return verifier.verify(forgedToken);
+    }
+
+    private String sign(String secret, String issuer) {
+        return Jwts.builder()
+                .setIssuer(issuer)
+                .setSubject(UUID.randomUUID().toString())
+                .claim("username", "benchmark-user")
+                .claim("vendorId", UUID.randomUUID().toString())
+                .claim("roles", "USER,VENDOR")
+                .claim("tokenType", "ACCESS")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
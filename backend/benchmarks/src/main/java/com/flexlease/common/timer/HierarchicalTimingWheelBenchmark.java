@@ -0,0 +1,130 @@
+package com.flexlease.common.timer;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 数百万待触发定时器下的分层时间轮：
+ * <ul>
+ *     <li>{@link #scheduleAll}：一次性装入 {@code timers} 个到期时间随机分布在 {@code windowMs} 内的条目；</li>
+ *     <li>{@link #drainAll}：在装满的轮上逐刻度推进直到全部到期；</li>
+ *     <li>{@link #steadyState}：每次推进一个刻度，并把到期条目以新的随机到期时间重新放回，使轮中始终保持 {@code timers} 个条目，
+ *     对应驱动线程在稳定负载下每个刻度的开销。</li>
+ * </ul>
+ * 参数与 {@code flexlease.timer.*} 默认值一致（100ms 刻度、512 格）。
+ */
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class HierarchicalTimingWheelBenchmark {
+
+    private static final long TICK_MS = 100;
+    private static final int WHEEL_SIZE = 512;
+
+    @Param({"1000000", "5000000"})
+    public int timers;
+
+    @Param({"3600000"})
+    public long windowMs;
+
+    private long[] expirations;
+
+    @Setup(Level.Trial)
+    public void prepareExpirations() {
+        SplittableRandom random = new SplittableRandom(42);
+        expirations = new long[timers];
+        for (int i = 0; i < timers; i++) {
+            expirations[i] = 1 + random.nextLong(windowMs);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public HierarchicalTimingWheel<Integer> scheduleAll() {
+        return newFilledWheel();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public int drainAll(FilledWheel state, Blackhole blackhole) {
+        int fired = 0;
+        for (long now = TICK_MS; now <= windowMs + 2 * TICK_MS; now += TICK_MS) {
+            List<Integer> expired = state.wheel.advance(now);
+            fired += expired.size();
+            blackhole.consume(expired);
+        }
+        if (fired != timers) {
+            throw new IllegalStateException("Expected " + timers + " timers to fire but got " + fired);
+        }
+        return fired;
+    }
+
+    private HierarchicalTimingWheel<Integer> newFilledWheel() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, 0);
+        for (int i = 0; i < timers; i++) {
+            wheel.add(i, expirations[i]);
+        }
+        return wheel;
+    }
+
+    @State(Scope.Thread)
+    public static class FilledWheel {
+
+        private HierarchicalTimingWheel<Integer> wheel;
+
+        @Setup(Level.Invocation)
+        public void setUp(HierarchicalTimingWheelBenchmark benchmark) {
+            wheel = benchmark.newFilledWheel();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SteadyState {
+
+        private HierarchicalTimingWheel<Integer> wheel;
+        private SplittableRandom random;
+        private long now;
+        private long windowMs;
+
+        @Setup(Level.Iteration)
+        public void setUp(HierarchicalTimingWheelBenchmark benchmark) {
+            wheel = benchmark.newFilledWheel();
+            random = new SplittableRandom(7);
+            now = 0;
+            windowMs = benchmark.windowMs;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public int steadyState(SteadyState state) {
+        state.now += TICK_MS;
+        List<Integer> expired = state.wheel.advance(state.now);
+        for (Integer item : expired) {
+            state.wheel.add(item, state.now + 1 + state.random.nextLong(state.windowMs));
+        }
+        return expired.size();
+    }
+}
@@ -0,0 +1,63 @@
+package com.flexlease.notification.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 通知模板渲染：每条通知的标题与正文各渲染一次，耗时随变量个数线性增长（每个变量一次全文替换）。
+ * {@code extraVariables} 模拟调用方透传了模板用不到的上下文字段。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NotificationRenderBenchmark {
+
+    private static final String TEMPLATE = """
+            尊敬的 {{username}}，您的订单 {{orderNo}}（{{productName}}）已于 {{shippedAt}} 由 {{carrier}} 发出，\
+            运单号 {{trackingNo}}。租期自 {{leaseStartAt}} 至 {{leaseEndAt}}，月租 {{rentAmount}} 元，押金 {{depositAmount}} 元。\
+            如有疑问请在订单详情页联系厂商 {{vendorName}}。""";
+
+    @Param({"0", "20"})
+    public int extraVariables;
+
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        variables = new LinkedHashMap<>();
+        variables.put("username", "张三");
+        variables.put("orderNo", "FL202610190001");
+        variables.put("productName", "MacBook Pro 14 英寸");
+        variables.put("shippedAt", "2026-10-19 10:00");
+        variables.put("carrier", "顺丰速运");
+        variables.put("trackingNo", "SF1234567890");
+        variables.put("leaseStartAt", "2026-10-20");
+        variables.put("leaseEndAt", "2027-04-20");
+        variables.put("rentAmount", "899.00");
+        variables.put("depositAmount", "3000.00");
+        variables.put("vendorName", "某某数码租赁");
+        for (int i = 0; i < extraVariables; i++) {
+            variables.put("context" + i, "value-" + i);
+        }
+    }
+
+    @Benchmark
+    public String render() {
+        return NotificationService.render(TEMPLATE, variables);
+    }
+}
@@ -0,0 +1,99 @@
+package com.flexlease.order.service;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.flexlease.common.dto.ApiResponse;
+import com.flexlease.common.messaging.OrderEventMessage;
+import com.flexlease.common.messaging.PaymentSucceededMessage;
+import com.flexlease.order.config.ProofPolicyProperties;
+import com.flexlease.order.domain.OrderEventType;
+import com.flexlease.order.domain.RentalOrder;
+import com.flexlease.order.dto.OrderStatusResponse;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 服务间报文的 JSON 与 Smile 编解码对比，报文均为实际在服务间传递的 DTO：
+ * {@code orderEvent}（订单事件消息）、{@code paymentSucceeded}（支付成功消息）、
+ * {@code orderStatus}（支付回调返回的 {@code view=status} 响应）与 {@code orderDetail}（20 条子记录的订单详情）。
+ * 两种编码都按生产方式由 {@link Jackson2ObjectMapperBuilder} 构建并注册 Blackbird；
+ * 单条报文编码后的字节数在初始化时打印到基准输出（{@code wire bytes ...}）。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InternalCodecBenchmark {
+
+    @Param({"orderEvent", "paymentSucceeded", "orderStatus", "orderDetail"})
+    public String payload;
+
+    @Param({"json", "smile"})
+    public String codec;
+
+    private ObjectMapper objectMapper;
+    private Object message;
+    private JavaType type;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule());
+        if ("smile".equals(codec)) {
+            builder.factory(new SmileFactory());
+        }
+        objectMapper = builder.build();
+        message = createMessage();
+        type = objectMapper.constructType(message.getClass());
+        if (message instanceof ApiResponse<?> response) {
+            type = objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, response.data().getClass());
+        }
+        encoded = objectMapper.writeValueAsBytes(message);
+        System.out.printf("wire bytes %s/%s: %d%n", payload, codec, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return objectMapper.readValue(encoded, type);
+    }
+
+    private Object createMessage() throws Exception {
+        RentalOrder order = OrderFixtures.largeOrder(20);
+        return switch (payload) {
+            case "orderEvent" -> new OrderEventMessage(order.getId(), order.getOrderNo(), order.getUserId(), order.getVendorId(),
+                    order.getStatus().name(), OrderEventType.EXTENSION_REQUESTED.name(), OffsetDateTime.now(), order.getUserId(),
+                    "用户申请续租", Map.of("additionalMonths", 3));
+            case "paymentSucceeded" -> new PaymentSucceededMessage(UUID.randomUUID(), UUID.randomUUID(), order.getId(),
+                    order.getUserId(), "RENT", new BigDecimal("3899.00"), OffsetDateTime.now());
+            case "orderStatus" -> ApiResponse.success(new OrderStatusResponse(order.getId(), order.getOrderNo(),
+                    order.getStatus(), order.getUpdatedAt()));
+            case "orderDetail" -> ApiResponse.success(new OrderAssembler(new ProofPolicyProperties()).toOrderResponse(order));
+            default -> throw new IllegalArgumentException(payload);
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.flexlease.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.flexlease.common.dto.ApiResponse;
+import com.flexlease.order.config.ProofPolicyProperties;
+import com.flexlease.order.dto.RentalOrderResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 订单详情序列化：把 {@link OrderFixtures} 组装出的 {@link RentalOrderResponse} 包成 {@link ApiResponse} 写成 JSON。
+ * {@code mapper=reflection} 为 Jackson 默认的反射访问器，{@code mapper=blackbird} 为各服务共享 ObjectMapper
+ * 注册的 Blackbird 模块（LambdaMetafactory 生成访问器）；两者都按 Spring Boot 的默认配置注册 JavaTimeModule
+ * 并关闭时间戳输出。{@code serializeGzip} 额外计入 Tomcat 默认级别的 gzip，用于估算大响应压缩的 CPU 代价。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"5", "200"})
+    public int aggregateSize;
+
+    @Param({"reflection", "blackbird"})
+    public String mapper;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<RentalOrderResponse> payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("blackbird".equals(mapper)) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+        payload = ApiResponse.success(new OrderAssembler(new ProofPolicyProperties())
+                .toOrderResponse(OrderFixtures.largeOrder(aggregateSize)));
+        objectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(gzip, payload);
+        }
+        return buffer.toByteArray();
+    }
+}
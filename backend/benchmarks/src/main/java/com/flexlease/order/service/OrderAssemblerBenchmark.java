@@ -0,0 +1,49 @@
+package com.flexlease.order.service;
+
+import com.flexlease.order.config.ProofPolicyProperties;
+import com.flexlease.order.domain.RentalOrder;
+import com.flexlease.order.dto.RentalOrderResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 订单详情组装：{@link OrderAssembler#toOrderResponse(RentalOrder)} 会对事件、续租、退租、凭证、纠纷、问卷
+ * 各做一次排序与映射。{@code aggregateSize} 为每类子集合的条目数，较大值对应长租期、纠纷反复的订单。
+ * 订单数据见 {@link OrderFixtures}。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderAssemblerBenchmark {
+
+    @Param({"5", "200"})
+    public int aggregateSize;
+
+    private OrderAssembler assembler;
+    private RentalOrder order;
+
+    @Setup
+    public void setUp() throws Exception {
+        assembler = new OrderAssembler(new ProofPolicyProperties());
+        order = OrderFixtures.largeOrder(aggregateSize);
+        assembler.toOrderResponse(order);
+    }
+
+    @Benchmark
+    public RentalOrderResponse toOrderResponse() {
+        return assembler.toOrderResponse(order);
+    }
+}
@@ -0,0 +1,65 @@
+package com.flexlease.order.service;
+
+import com.flexlease.common.user.CreditTier;
+import com.flexlease.order.domain.DisputeResolutionOption;
+import com.flexlease.order.domain.OrderActorRole;
+import com.flexlease.order.domain.OrderDispute;
+import com.flexlease.order.domain.OrderEvent;
+import com.flexlease.order.domain.OrderEventType;
+import com.flexlease.order.domain.OrderExtensionRequest;
+import com.flexlease.order.domain.OrderProof;
+import com.flexlease.order.domain.OrderProofType;
+import com.flexlease.order.domain.OrderReturnRequest;
+import com.flexlease.order.domain.OrderSatisfactionSurvey;
+import com.flexlease.order.domain.RentalOrder;
+import com.flexlease.order.domain.RentalOrderItem;
+import jakarta.persistence.PrePersist;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 基准共用的大聚合订单：每类子集合（明细、事件、续租、退租、凭证、纠纷、问卷）各 {@code aggregateSize} 条。
+ * 实体不落库，直接调用各实体的 {@code @PrePersist} 回调补齐时间戳。
+ */
+final class OrderFixtures {
+
+    private OrderFixtures() {
+    }
+
+    static RentalOrder largeOrder(int aggregateSize) throws Exception {
+        OffsetDateTime leaseStart = OffsetDateTime.now();
+        RentalOrder order = prePersist(RentalOrder.create(UUID.randomUUID(), UUID.randomUUID(), "STANDARD",
+                new BigDecimal("3000.00"), new BigDecimal("3000.00"), new BigDecimal("899.00"), new BigDecimal("8000.00"),
+                new BigDecimal("3899.00"), 720, CreditTier.values()[0], BigDecimal.ONE, false,
+                leaseStart, leaseStart.plusMonths(12)));
+        UUID actor = UUID.randomUUID();
+        OrderEventType[] eventTypes = OrderEventType.values();
+        OrderProofType[] proofTypes = OrderProofType.values();
+        for (int i = 0; i < aggregateSize; i++) {
+            order.addItem(prePersist(RentalOrderItem.create(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                    "商品-" + i, "SKU-" + i, "{\"planType\":\"STANDARD\",\"termMonths\":12}", 1,
+                    new BigDecimal("899.00"), new BigDecimal("3000.00"), new BigDecimal("8000.00"))));
+            order.addEvent(prePersist(OrderEvent.record(eventTypes[i % eventTypes.length], "事件 " + i, actor, OrderActorRole.USER)));
+            order.addExtensionRequest(prePersist(OrderExtensionRequest.create(3, actor, "续租 " + i)));
+            order.addReturnRequest(prePersist(OrderReturnRequest.create("退租 " + i, "顺丰速运", "SF" + i, actor)));
+            order.addProof(prePersist(OrderProof.create(proofTypes[i % proofTypes.length], "凭证 " + i, "proof-" + i + ".jpg",
+                    "/api/v1/proofs/proof-" + i + ".jpg", "image/jpeg", 204_800L, actor, OrderActorRole.VENDOR)));
+            order.addDispute(prePersist(OrderDispute.create(OrderActorRole.USER, actor, DisputeResolutionOption.PARTIAL_REFUND,
+                    "纠纷原因 " + i, "备注 " + i)));
+            order.addSurvey(prePersist(OrderSatisfactionSurvey.create(OrderActorRole.VENDOR, UUID.randomUUID(), leaseStart)));
+        }
+        return order;
+    }
+
+    private static <T> T prePersist(T entity) throws Exception {
+        for (Method method : entity.getClass().getDeclaredMethods()) {
+            if (method.isAnnotationPresent(PrePersist.class)) {
+                method.setAccessible(true);
+                method.invoke(entity);
+            }
+        }
+        return entity;
+    }
+}
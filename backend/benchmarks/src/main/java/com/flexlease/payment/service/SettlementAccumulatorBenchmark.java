@@ -0,0 +1,103 @@
+package com.flexlease.payment.service;
+
+import com.flexlease.payment.domain.PaymentChannel;
+import com.flexlease.payment.domain.PaymentScene;
+import com.flexlease.payment.domain.PaymentSplit;
+import com.flexlease.payment.domain.PaymentSplitType;
+import com.flexlease.payment.domain.PaymentTransaction;
+import com.flexlease.payment.domain.RefundTransaction;
+import com.flexlease.payment.dto.PaymentSettlementResponse;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 结算汇总（{@code PaymentTransactionService#listSettlements}）在取回流水之后的纯内存部分：
+ * 按厂商分组、逐笔拆分押金/租金/抽成并累计窗口内退款，最后按厂商排序输出。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SettlementAccumulatorBenchmark {
+
+    private static final BigDecimal COMMISSION_RATE = new BigDecimal("0.08");
+
+    @Param({"1000", "100000"})
+    public int transactions;
+
+    @Param({"50"})
+    public int vendors;
+
+    private List<PaymentTransaction> source;
+    private OffsetDateTime refundFrom;
+    private OffsetDateTime refundTo;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(11);
+        List<UUID> vendorIds = new ArrayList<>();
+        for (int i = 0; i < vendors; i++) {
+            vendorIds.add(UUID.randomUUID());
+        }
+        PaymentScene[] scenes = PaymentScene.values();
+        OffsetDateTime base = OffsetDateTime.now().minusDays(30);
+        source = new ArrayList<>(transactions);
+        for (int i = 0; i < transactions; i++) {
+            PaymentScene scene = scenes[random.nextInt(scenes.length)];
+            BigDecimal amount = BigDecimal.valueOf(100 + random.nextInt(5_000)).setScale(2, RoundingMode.HALF_UP);
+            PaymentTransaction transaction = PaymentTransaction.create(UUID.randomUUID(), UUID.randomUUID(),
+                    vendorIds.get(random.nextInt(vendors)), scene, PaymentChannel.MOCK, amount, "benchmark");
+            if (scene == PaymentScene.DEPOSIT) {
+                transaction.addSplit(PaymentSplit.create(PaymentSplitType.DEPOSIT_RESERVE, amount, "PLATFORM"));
+            } else {
+                BigDecimal commission = amount.multiply(COMMISSION_RATE).setScale(2, RoundingMode.HALF_UP);
+                transaction.addSplit(PaymentSplit.create(PaymentSplitType.PLATFORM_COMMISSION, commission, "PLATFORM"));
+                transaction.addSplit(PaymentSplit.create(PaymentSplitType.VENDOR_INCOME, amount.subtract(commission), "VENDOR"));
+            }
+            transaction.markSucceeded("BENCH-" + i, base.plusMinutes(i));
+            if (random.nextInt(10) == 0) {
+                RefundTransaction refund = transaction.createRefund(amount.divide(BigDecimal.TWO, 2, RoundingMode.HALF_UP), "benchmark");
+                refund.markSucceeded();
+            }
+            source.add(transaction);
+        }
+        refundFrom = base;
+        refundTo = OffsetDateTime.now().plusDays(1);
+    }
+
+    @Benchmark
+    public List<PaymentSettlementResponse> settle() {
+        Map<UUID, PaymentTransactionService.SettlementAccumulator> grouped = new LinkedHashMap<>();
+        for (PaymentTransaction transaction : source) {
+            grouped.computeIfAbsent(transaction.getVendorId(),
+                            key -> new PaymentTransactionService.SettlementAccumulator(refundFrom, refundTo))
+                    .add(transaction);
+        }
+        return grouped.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(UUID::toString)))
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .toList();
+    }
+}
@@ -0,0 +1,248 @@
+package com.flexlease.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.product.domain.RentalPlanType;
+import com.flexlease.product.dto.CatalogProductResponse;
+import com.flexlease.product.dto.CatalogSearchResponse;
+import com.flexlease.product.dto.PagedResponse;
+import com.flexlease.product.repository.ProductRepository;
+import com.flexlease.product.search.CatalogSearchIndexer;
+import com.flexlease.product.search.CatalogSearchTokenizer;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * 目录检索在大规模商品下的查询耗时（H2 文件库，PostgreSQL 兼容模式）。
+ * <p>
+ * 首次运行按 {@code productCount} 生成合成商品并以与 {@link CatalogSearchIndexer} 相同的分词与字段权重写入倒排索引，
+ * 数据库保存在 {@code flexlease.benchmark.data-dir}（默认 {@code target/benchmark-data}）下，后续运行直接复用。
+ * 默认 10 万商品；百万级用 {@code -p productCount=1000000}，H2 写入倒排索引较慢，首次生成需要较长时间。
+ * 只测量检索 SQL（命中、排序、分页、分面），当前页商品实体的加载不计入。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CatalogSearchBenchmark {
+
+    private static final String[] CATEGORIES = {
+            "LAPTOP", "PHONE", "TABLET", "CAMERA", "DRONE", "CONSOLE", "PROJECTOR", "AUDIO",
+            "MONITOR", "PRINTER", "ROUTER", "WEARABLE", "FURNITURE", "APPLIANCE", "OUTDOOR", "INSTRUMENT"
+    };
+    private static final String[] NOUNS = {
+            "笔记本", "手机", "平板", "相机", "无人机", "游戏机", "投影仪", "耳机", "显示器", "打印机",
+            "路由器", "手表", "沙发", "冰箱", "帐篷", "钢琴", "音箱", "镜头", "键盘", "座椅"
+    };
+    private static final String[] ADJECTIVES = {"轻薄", "旗舰", "入门", "专业", "便携", "高清", "静音", "智能"};
+    private static final String[] PLAN_TYPES = {
+            RentalPlanType.STANDARD.name(), RentalPlanType.RENT_TO_OWN.name(), RentalPlanType.LEASE_TO_SALE.name()
+    };
+    private static final int BRANDS = 400;
+    private static final int COMMIT_EVERY = 5_000;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Param({"100000"})
+    public int productCount;
+
+    private JdbcConnectionPool dataSource;
+    private CatalogSearchService searchService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Path dir = Path.of(System.getProperty("flexlease.benchmark.data-dir", "target/benchmark-data")).toAbsolutePath();
+        Files.createDirectories(dir);
+        String url = "jdbc:h2:file:" + dir.resolve("catalog-" + productCount)
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;CACHE_SIZE=1048576";
+        Connection connection = DriverManager.getConnection(url, "sa", "");
+        if (indexedProducts(connection) != productCount) {
+            generate(connection);
+            // 批量写入留下大量旧版本页，压缩后再测量，避免读放大；SHUTDOWN 会同时关闭连接
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SHUTDOWN COMPACT");
+            }
+        } else {
+            connection.close();
+        }
+        dataSource = JdbcConnectionPool.create(url, "sa", "");
+        ProductRepository repository = (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> {
+                    if ("findWithPlansByIdIn".equals(method.getName())) {
+                        return List.of();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        searchService = new CatalogSearchService(new NamedParameterJdbcTemplate(dataSource), repository,
+                new ProductAssembler(new ObjectMapper()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.dispose();
+    }
+
+    /** 品牌词命中约 0.25% 的商品，按相关度排序。 */
+    @Benchmark
+    public PagedResponse<CatalogProductResponse> selectiveKeyword() {
+        return searchService.list("brand399", null, null, null, null, null, FIRST_PAGE);
+    }
+
+    /** 中文二元组（名称或描述）命中约 10% 的商品。 */
+    @Benchmark
+    public PagedResponse<CatalogProductResponse> broadCjkKeyword() {
+        return searchService.list("无人机", null, null, null, null, null, FIRST_PAGE);
+    }
+
+    /** 多词 AND：品牌前缀 + 中文品类 + 修饰词。 */
+    @Benchmark
+    public PagedResponse<CatalogProductResponse> multiTermKeyword() {
+        return searchService.list("bra 便携 耳机", null, null, null, null, null, FIRST_PAGE);
+    }
+
+    /** 无关键词，仅按类目、方案类型、押金区间筛选并按月租升序。 */
+    @Benchmark
+    public PagedResponse<CatalogProductResponse> filterAndRentSort() {
+        return searchService.list(null, "CAMERA", RentalPlanType.STANDARD, new BigDecimal("500"), new BigDecimal("2000"),
+                "RENT_ASC", FIRST_PAGE);
+    }
+
+    /** 检索接口完整路径：结果页加三组分面统计。 */
+    @Benchmark
+    public CatalogSearchResponse keywordWithFacets() {
+        return searchService.search("投影仪", null, null, null, null, null, FIRST_PAGE);
+    }
+
+    private long indexedProducts(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet tables = statement.executeQuery("SELECT COUNT(*) FROM information_schema.tables"
+                     + " WHERE table_schema = 'product' AND table_name = 'catalog_search_document'")) {
+            tables.next();
+            if (tables.getLong(1) == 0) {
+                return -1;
+            }
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet count = statement.executeQuery("SELECT COUNT(*) FROM product.catalog_search_document")) {
+            count.next();
+            return count.getLong(1);
+        }
+    }
+
+    private void generate(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS product CASCADE");
+            statement.execute("CREATE SCHEMA product");
+            // 各服务的 V000 同名，只按文件名取商品服务独有的脚本
+            statement.execute("RUNSCRIPT FROM 'classpath:/db/migration/V001__product_tables.sql'");
+            statement.execute("RUNSCRIPT FROM 'classpath:/db/migration/V005__catalog_search.sql'");
+        }
+        connection.setAutoCommit(false);
+        SplittableRandom random = new SplittableRandom(2026);
+        UUID vendorId = UUID.randomUUID();
+        Timestamp base = Timestamp.from(Instant.now().minusSeconds(86_400L * 365));
+        try (PreparedStatement product = connection.prepareStatement("""
+                INSERT INTO product.product (id, vendor_id, name, category_code, description, status, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, 'ACTIVE', ?, ?)""");
+             PreparedStatement document = connection.prepareStatement("""
+                     INSERT INTO product.catalog_search_document (product_id, category_code, created_at, indexed_at)
+                     VALUES (?, ?, ?, ?)""");
+             PreparedStatement term = connection.prepareStatement(
+                     "INSERT INTO product.catalog_search_term (term, product_id, weight) VALUES (?, ?, ?)");
+             PreparedStatement plan = connection.prepareStatement("""
+                     INSERT INTO product.catalog_search_plan (plan_id, product_id, plan_type, deposit_amount, rent_amount_monthly)
+                     VALUES (?, ?, ?, ?, ?)""")) {
+            for (int i = 0; i < productCount; i++) {
+                UUID id = UUID.randomUUID();
+                int category = random.nextInt(CATEGORIES.length);
+                String name = "brand" + random.nextInt(BRANDS) + " " + (char) ('a' + random.nextInt(26)) + random.nextInt(1000)
+                        + " " + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + NOUNS[random.nextInt(NOUNS.length)];
+                String description = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + NOUNS[random.nextInt(NOUNS.length)] + "，支持随时退租";
+                Timestamp createdAt = new Timestamp(base.getTime() + i * 1_000L);
+
+                product.setObject(1, id);
+                product.setObject(2, vendorId);
+                product.setString(3, name);
+                product.setString(4, CATEGORIES[category]);
+                product.setString(5, description);
+                product.setTimestamp(6, createdAt);
+                product.setTimestamp(7, createdAt);
+                product.addBatch();
+
+                document.setObject(1, id);
+                document.setString(2, CATEGORIES[category]);
+                document.setTimestamp(3, createdAt);
+                document.setTimestamp(4, createdAt);
+                document.addBatch();
+
+                Map<String, Integer> weights = new HashMap<>();
+                CatalogSearchTokenizer.index(name, CatalogSearchIndexer.NAME_WEIGHT, weights);
+                CatalogSearchTokenizer.index(CATEGORIES[category], CatalogSearchIndexer.CATEGORY_WEIGHT, weights);
+                CatalogSearchTokenizer.index(description, CatalogSearchIndexer.DESCRIPTION_WEIGHT, weights);
+                for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                    term.setString(1, entry.getKey());
+                    term.setObject(2, id);
+                    term.setInt(3, entry.getValue());
+                    term.addBatch();
+                }
+
+                int plans = 1 + random.nextInt(PLAN_TYPES.length);
+                for (int p = 0; p < plans; p++) {
+                    plan.setObject(1, UUID.randomUUID());
+                    plan.setObject(2, id);
+                    plan.setString(3, PLAN_TYPES[p]);
+                    plan.setBigDecimal(4, BigDecimal.valueOf(100L * (1 + random.nextInt(80))));
+                    plan.setBigDecimal(5, BigDecimal.valueOf(50L + random.nextInt(2_000)));
+                    plan.addBatch();
+                }
+
+                if ((i + 1) % COMMIT_EVERY == 0 || i + 1 == productCount) {
+                    product.executeBatch();
+                    document.executeBatch();
+                    term.executeBatch();
+                    plan.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+}
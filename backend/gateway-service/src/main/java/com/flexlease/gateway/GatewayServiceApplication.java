@@ -1,14 +1,19 @@
 package com.flexlease.gateway;
 
+import com.flexlease.gateway.config.GatewayRateLimitProperties;
+import com.flexlease.gateway.config.GatewayResponseCacheProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 /**
  * API 网关启动入口（Spring Cloud Gateway）。
  *
- * <p>本项目中网关只负责路由转发与基础跨域；JWT 校验由各业务微服务各自完成。</p>
+ * <p>网关负责路由转发、基础跨域与边缘鉴权（JWT 只在此校验一次），并在转发前做本地限流、目录响应缓存与读请求合并；
+ * 业务 RBAC 仍由各微服务完成。</p>
  */
 @SpringBootApplication
+@EnableConfigurationProperties({GatewayRateLimitProperties.class, GatewayResponseCacheProperties.class})
 public class GatewayServiceApplication {
 
     public static void main(String[] args) {
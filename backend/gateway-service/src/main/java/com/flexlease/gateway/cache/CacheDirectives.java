@@ -0,0 +1,64 @@
+package com.flexlease.gateway.cache;
+
+import java.util.Locale;
+
+/**
+ * 从上游 {@code Cache-Control} 中解析出网关关心的指令。
+ *
+ * @param publicCache                 是否声明 {@code public}
+ * @param restricted                  是否含 {@code private}、{@code no-store} 或 {@code no-cache}，任一存在即不可共享缓存
+ * @param maxAgeSeconds               {@code max-age}，缺省为 0
+ * @param staleWhileRevalidateSeconds {@code stale-while-revalidate}，缺省为 0
+ */
+public record CacheDirectives(
+        boolean publicCache,
+        boolean restricted,
+        long maxAgeSeconds,
+        long staleWhileRevalidateSeconds
+) {
+
+    private static final CacheDirectives NONE = new CacheDirectives(false, false, 0, 0);
+
+    public static CacheDirectives parse(String cacheControl) {
+        if (cacheControl == null || cacheControl.isBlank()) {
+            return NONE;
+        }
+        boolean publicCache = false;
+        boolean restricted = false;
+        long maxAge = 0;
+        long staleWhileRevalidate = 0;
+        for (String token : cacheControl.split(",")) {
+            String directive = token.trim().toLowerCase(Locale.ROOT);
+            int eq = directive.indexOf('=');
+            String name = eq < 0 ? directive : directive.substring(0, eq).trim();
+            String value = eq < 0 ? null : directive.substring(eq + 1).trim().replace("\"", "");
+            switch (name) {
+                case "public" -> publicCache = true;
+                case "private", "no-store", "no-cache" -> restricted = true;
+                case "max-age" -> maxAge = seconds(value);
+                case "stale-while-revalidate" -> staleWhileRevalidate = seconds(value);
+                default -> {
+                }
+            }
+        }
+        return new CacheDirectives(publicCache, restricted, maxAge, staleWhileRevalidate);
+    }
+
+    /**
+     * 上游明确允许共享缓存且新鲜期大于 0。
+     */
+    public boolean sharedCacheable() {
+        return publicCache && !restricted && maxAgeSeconds > 0;
+    }
+
+    private static long seconds(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.flexlease.gateway.cache;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 一条缓存的 200 响应。
+ *
+ * @param headers      上游响应头（已去掉 {@code Content-Length}/{@code Transfer-Encoding}）
+ * @param body         完整响应体
+ * @param etag         上游 {@code ETag}，用于响应客户端的 {@code If-None-Match} 与后台重新验证
+ * @param productId    详情接口对应的商品 ID；列表与搜索页为 {@code null}，任一商品变更都会失效
+ * @param storedAt     写入（或最近一次重新验证成功）的时间，毫秒
+ * @param directives   上游 {@code Cache-Control}
+ * @param revalidating 是否已有后台重新验证在进行，保证同一条目同时只发起一次
+ */
+public record CachedResponse(
+        HttpHeaders headers,
+        byte[] body,
+        String etag,
+        UUID productId,
+        long storedAt,
+        CacheDirectives directives,
+        AtomicBoolean revalidating
+) {
+
+    public CachedResponse(HttpHeaders headers, byte[] body, UUID productId, long storedAt, CacheDirectives directives) {
+        this(headers, body, headers.getETag(), productId, storedAt, directives, new AtomicBoolean());
+    }
+
+    public long ageSeconds(long now) {
+        return Math.max(0, (now - storedAt) / 1000);
+    }
+
+    public boolean isFresh(long now) {
+        return now - storedAt < directives.maxAgeSeconds() * 1000;
+    }
+
+    /**
+     * 已过新鲜期但仍在 {@code stale-while-revalidate} 窗口内，可先返回旧响应再后台刷新。
+     */
+    public boolean isServableStale(long now) {
+        return now - storedAt < (directives.maxAgeSeconds() + directives.staleWhileRevalidateSeconds()) * 1000;
+    }
+
+    /**
+     * 上游返回 304 后沿用响应体，重新开始计算新鲜期。
+     */
+    public CachedResponse revalidated(long now, String cacheControl) {
+        HttpHeaders refreshed = new HttpHeaders();
+        refreshed.putAll(headers);
+        CacheDirectives refreshedDirectives = directives;
+        if (cacheControl != null) {
+            refreshed.setCacheControl(cacheControl);
+            refreshedDirectives = CacheDirectives.parse(cacheControl);
+        }
+        return new CachedResponse(refreshed, body, etag, productId, now, refreshedDirectives, new AtomicBoolean());
+    }
+}
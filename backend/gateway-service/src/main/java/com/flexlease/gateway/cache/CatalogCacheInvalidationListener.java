@@ -0,0 +1,44 @@
+package com.flexlease.gateway.cache;
+
+import com.flexlease.common.messaging.MessagingConstants;
+import com.flexlease.common.messaging.ProductChangedMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 商品变更监听器：失效网关目录响应缓存。
+ * <p>
+ * 每个网关实例使用独占的匿名队列绑定 {@code product.events}，保证所有实例都能收到变更广播。
+ */
+@Component
+@ConditionalOnProperty(prefix = "flexlease.messaging", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CatalogCacheInvalidationListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogCacheInvalidationListener.class);
+
+    private final CatalogResponseCache responseCache;
+
+    public CatalogCacheInvalidationListener(CatalogResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(exclusive = "true", autoDelete = "true"),
+            exchange = @Exchange(value = MessagingConstants.PRODUCT_EVENTS_EXCHANGE, type = ExchangeTypes.TOPIC),
+            key = MessagingConstants.PRODUCT_CHANGED_ROUTING_KEY
+    ))
+    public void onProductChanged(ProductChangedMessage message) {
+        if (message.productId() == null) {
+            return;
+        }
+        int removed = responseCache.invalidateProduct(message.productId());
+        LOG.debug("Product {} changed, evicted {} cached catalog responses", message.productId(), removed);
+    }
+}
@@ -0,0 +1,107 @@
+package com.flexlease.gateway.cache;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.gateway.config.GatewayResponseCacheProperties;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * 网关目录响应缓存：按访问顺序的 {@link LinkedHashMap}，同时受条目数与总字节数限制，超出时淘汰最久未访问的条目。
+ *
+ * <p>商品变更事件到达时失效该商品的详情以及全部列表/搜索页，并推进代数 {@link #generation()}；
+ * 写入方需带上发起上游请求前读取的代数，代数已变化说明期间发生过失效，响应可能是变更前的旧数据，直接丢弃。</p>
+ */
+@Component
+public class CatalogResponseCache {
+
+    static final String CAUSE_SIZE = "size";
+    static final String CAUSE_EVENT = "event";
+
+    private final FlexleaseMetrics metrics;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private long generation;
+
+    public CatalogResponseCache(GatewayResponseCacheProperties properties, FlexleaseMetrics metrics) {
+        this.metrics = metrics;
+        this.maxEntries = properties.getMaxEntries();
+        this.maxBytes = properties.getMaxBytes().toBytes();
+        this.maxEntryBytes = properties.getMaxEntryBytes().toBytes();
+    }
+
+    public synchronized CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * 写入或替换条目；响应体超过单条上限或期间发生过失效时不写入。
+     *
+     * @return 是否写入
+     */
+    public synchronized boolean put(String key, CachedResponse response, long expectedGeneration) {
+        if (expectedGeneration != generation || response.body().length > maxEntryBytes) {
+            return false;
+        }
+        CachedResponse previous = entries.put(key, response);
+        if (previous != null) {
+            totalBytes -= previous.body().length;
+        }
+        totalBytes += response.body().length;
+        int evicted = 0;
+        Iterator<CachedResponse> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || totalBytes > maxBytes) && eldest.hasNext()) {
+            CachedResponse candidate = eldest.next();
+            if (candidate == response) {
+                continue;
+            }
+            totalBytes -= candidate.body().length;
+            eldest.remove();
+            evicted++;
+        }
+        if (evicted > 0) {
+            metrics.gatewayCacheEvicted(CAUSE_SIZE, evicted);
+        }
+        return true;
+    }
+
+    /**
+     * 失效指定商品的详情与所有列表/搜索页。
+     *
+     * @return 失效的条目数
+     */
+    public synchronized int invalidateProduct(UUID productId) {
+        generation++;
+        int removed = 0;
+        Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            CachedResponse candidate = iterator.next().getValue();
+            if (candidate.productId() == null || candidate.productId().equals(productId)) {
+                totalBytes -= candidate.body().length;
+                iterator.remove();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            metrics.gatewayCacheEvicted(CAUSE_EVENT, removed);
+        }
+        return removed;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+}
@@ -0,0 +1,141 @@
+package com.flexlease.gateway.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 网关本地令牌桶限流配置。
+ *
+ * <p>每个客户端（已登录按用户 ID，未登录按客户端 IP）在每条规则下各有一个令牌桶：{@code capacity} 为允许的突发请求数，
+ * {@code refill-per-second} 为持续速率。规则按声明顺序匹配请求路径，均未命中时使用默认规则；{@code capacity=0} 表示不限流。
+ * 令牌桶只保存在本实例内存中，多实例部署时总配额约为单实例配额乘以实例数。</p>
+ */
+@Validated
+@ConfigurationProperties(prefix = "flexlease.gateway.rate-limit")
+public class GatewayRateLimitProperties {
+
+    /**
+     * 默认规则的突发容量。
+     */
+    @Min(0)
+    private int defaultCapacity = 120;
+
+    /**
+     * 默认规则每秒补充的令牌数。
+     */
+    @Min(0)
+    private double defaultRefillPerSecond = 60;
+
+    /**
+     * 最多保留的令牌桶数量；超出后清理已回满（近期无请求）的桶，仍无空间时新客户端按规则共用一个溢出桶。
+     */
+    @Min(1)
+    private int maxBuckets = 100_000;
+
+    /**
+     * 是否信任前置 Nginx 写入的 {@code X-Real-IP} 作为客户端 IP；网关直接对外暴露时应关闭，以免被伪造。
+     */
+    private boolean trustRealIpHeader = true;
+
+    @Valid
+    private List<Rule> rules = new ArrayList<>();
+
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    public void setDefaultCapacity(int defaultCapacity) {
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    public double getDefaultRefillPerSecond() {
+        return defaultRefillPerSecond;
+    }
+
+    public void setDefaultRefillPerSecond(double defaultRefillPerSecond) {
+        this.defaultRefillPerSecond = defaultRefillPerSecond;
+    }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public boolean isTrustRealIpHeader() {
+        return trustRealIpHeader;
+    }
+
+    public void setTrustRealIpHeader(boolean trustRealIpHeader) {
+        this.trustRealIpHeader = trustRealIpHeader;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static class Rule {
+
+        /**
+         * 规则名，同时作为指标标签 {@code rule}。
+         */
+        @NotBlank
+        private String name;
+
+        /**
+         * Ant 风格路径模式，如 {@code /api/v1/orders/**}。
+         */
+        @NotEmpty
+        private List<String> paths = new ArrayList<>();
+
+        @Min(0)
+        private int capacity;
+
+        @Min(0)
+        private double refillPerSecond;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        public void setRefillPerSecond(double refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.flexlease.gateway.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 网关目录响应缓存配置。
+ *
+ * <p>缓存只保存在本实例内存中，按条目数与总字节数双重限制，超出后淘汰最久未访问的条目。
+ * 新鲜期与过期后可继续使用的时长完全由上游的 {@code Cache-Control: max-age, stale-while-revalidate} 决定，这里不做覆盖。</p>
+ */
+@Validated
+@ConfigurationProperties(prefix = "flexlease.gateway.response-cache")
+public class GatewayResponseCacheProperties {
+
+    /**
+     * 参与缓存的 Ant 风格路径模式。
+     */
+    @NotEmpty
+    private List<String> paths = new ArrayList<>(List.of("/api/v1/catalog/**"));
+
+    /**
+     * 最多缓存的响应条数。
+     */
+    @Min(1)
+    private int maxEntries = 1000;
+
+    /**
+     * 所有缓存响应体的总字节上限。
+     */
+    @NotNull
+    private DataSize maxBytes = DataSize.ofMegabytes(32);
+
+    /**
+     * 单个响应体的字节上限，更大的响应直接透传不缓存。
+     */
+    @NotNull
+    private DataSize maxEntryBytes = DataSize.ofKilobytes(512);
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public DataSize getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(DataSize maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public DataSize getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public void setMaxEntryBytes(DataSize maxEntryBytes) {
+        this.maxEntryBytes = maxEntryBytes;
+    }
+}
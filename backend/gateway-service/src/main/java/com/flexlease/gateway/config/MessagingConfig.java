@@ -0,0 +1,24 @@
+package com.flexlease.gateway.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.codec.InternalCodec;
+import com.flexlease.common.codec.InternalMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RabbitMQ 消费端配置（商品事件）。
+ * <p>
+ * 网关只订阅 {@code product.events} 以失效目录响应缓存，不发布消息。
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "flexlease.messaging", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MessagingConfig {
+
+    @Bean
+    public MessageConverter internalMessageConverter(ObjectMapper objectMapper, InternalCodec codec) {
+        return new InternalMessageConverter(objectMapper, codec);
+    }
+}
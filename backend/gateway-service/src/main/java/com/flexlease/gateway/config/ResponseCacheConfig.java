@@ -0,0 +1,20 @@
+package com.flexlease.gateway.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * 目录响应缓存的后台重新验证客户端：经 Eureka 负载均衡访问 {@code http://product-service}。
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "flexlease.gateway.response-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    @Bean
+    public WebClient catalogRevalidationClient(ReactorLoadBalancerExchangeFilterFunction loadBalancerFilter) {
+        return WebClient.builder().filter(loadBalancerFilter).build();
+    }
+}
@@ -1,28 +1,51 @@
 package com.flexlease.gateway.config;
 
+import com.flexlease.common.security.JwtAuthProperties;
+import com.flexlease.common.security.JwtTokenVerifier;
+import com.flexlease.common.security.PrincipalHeaderCodec;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import reactor.core.publisher.Mono;
 
 /**
  * Gateway 安全配置（WebFlux）。
  *
- * <p>网关层不做 JWT/RBAC（避免在网关和微服务重复校验）；所有请求在这里先放行，
- * 由下游服务根据自身的 SecurityConfig 进行鉴权与授权。</p>
+ * <p>网关只负责身份认证：{@link com.flexlease.gateway.filter.EdgeAuthenticationFilter} 校验一次 JWT 并向下游转发签名身份头，
+ * 下游据此跳过重复的 JWT 解析；RBAC 仍由各服务的 SecurityConfig 处理，因此这里对所有请求放行。
+ * 例外是网关自身的 {@code /actuator/prometheus}，只对携带正确 {@code X-Internal-Token} 的抓取请求开放。</p>
  */
 @Configuration
 @EnableWebFluxSecurity
+@EnableConfigurationProperties(JwtAuthProperties.class)
 public class SecurityConfig {
 
+    private static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    @Bean
+    public JwtTokenVerifier jwtTokenVerifier(JwtAuthProperties properties) {
+        return new JwtTokenVerifier(properties);
+    }
+
+    @Bean
+    public PrincipalHeaderCodec principalHeaderCodec(JwtAuthProperties properties) {
+        return new PrincipalHeaderCodec(properties);
+    }
+
     @Bean
-    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtAuthProperties properties) {
         return http
             .csrf(ServerHttpSecurity.CsrfSpec::disable)
             .cors(Customizer.withDefaults())
-            .authorizeExchange(exchange -> exchange.anyExchange().permitAll())
+            .authorizeExchange(exchange -> exchange
+                .pathMatchers("/actuator/prometheus").access((authentication, context) -> Mono.just(new AuthorizationDecision(
+                    properties.isInternalAccessToken(context.getExchange().getRequest().getHeaders().getFirst(INTERNAL_TOKEN_HEADER)))))
+                .anyExchange().permitAll())
             .build();
     }
 }
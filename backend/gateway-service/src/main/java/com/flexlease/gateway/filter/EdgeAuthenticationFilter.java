@@ -0,0 +1,86 @@
+package com.flexlease.gateway.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.common.security.FlexleasePrincipal;
+import com.flexlease.common.security.JwtTokenVerifier;
+import com.flexlease.common.security.PrincipalHeaderCodec;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 边缘鉴权：在网关校验一次 Bearer JWT，并向下游转发签名身份头 {@link PrincipalHeaderCodec#HEADER}。
+ *
+ * <ul>
+ *     <li>客户端自带的身份头一律剥离，只有网关签发的才会到达下游；</li>
+ *     <li>令牌无效或过期直接在网关返回 401，不再占用下游线程；</li>
+ *     <li>未携带令牌的请求原样放行，是否需要登录仍由下游的 {@code SecurityConfig} 决定；</li>
+ *     <li>{@code flexlease.gateway.edge-auth.skip-paths}（默认 {@code /api/v1/auth/**}）不做边缘校验，
+ *     认证中心自行处理登录、刷新等令牌流程。</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(prefix = "flexlease.gateway.edge-auth", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EdgeAuthenticationFilter implements GlobalFilter, Ordered {
+
+    /** 早于路由与负载均衡，确保被拒绝的请求不会选择实例。 */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    /** 校验通过的 {@link FlexleasePrincipal} 存放在该 exchange 属性中，供限流等后续过滤器按用户区分。 */
+    public static final String PRINCIPAL_ATTRIBUTE = EdgeAuthenticationFilter.class.getName() + ".principal";
+
+    private final JwtTokenVerifier tokenVerifier;
+    private final PrincipalHeaderCodec principalHeaderCodec;
+    private final ObjectMapper objectMapper;
+    private final List<String> skipPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public EdgeAuthenticationFilter(JwtTokenVerifier tokenVerifier,
+                                    PrincipalHeaderCodec principalHeaderCodec,
+                                    ObjectMapper objectMapper,
+                                    @Value("${flexlease.gateway.edge-auth.skip-paths:/api/v1/auth/**}") List<String> skipPaths) {
+        this.tokenVerifier = tokenVerifier;
+        this.principalHeaderCodec = principalHeaderCodec;
+        this.objectMapper = objectMapper;
+        this.skipPaths = skipPaths;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getURI().getRawPath();
+        ServerHttpRequest.Builder forwarded = request.mutate()
+                .headers(headers -> headers.remove(PrincipalHeaderCodec.HEADER));
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        boolean skipped = skipPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+        if (skipped || authorization == null || !authorization.startsWith("Bearer ")) {
+            return chain.filter(exchange.mutate().request(forwarded.build()).build());
+        }
+        Optional<FlexleasePrincipal> principal = tokenVerifier.verify(authorization.substring(7).trim());
+        if (principal.isEmpty()) {
+            return GatewayResponses.writeFailure(exchange.getResponse(), objectMapper,
+                    HttpStatus.UNAUTHORIZED, ErrorCode.UNAUTHORIZED, "访问令牌无效或已过期");
+        }
+        exchange.getAttributes().put(PRINCIPAL_ATTRIBUTE, principal.get());
+        forwarded.header(PrincipalHeaderCodec.HEADER,
+                principalHeaderCodec.encode(principal.get(), request.getMethod().name(), path, request.getURI().getRawQuery()));
+        return chain.filter(exchange.mutate().request(forwarded.build()).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
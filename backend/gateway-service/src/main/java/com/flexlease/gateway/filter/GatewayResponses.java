@@ -0,0 +1,37 @@
+package com.flexlease.gateway.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.dto.ApiResponse;
+import com.flexlease.common.exception.ErrorCode;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 网关直接应答（不转发下游）时统一输出 {@link ApiResponse} 格式，与各服务的 {@code GlobalExceptionHandler} 保持一致。
+ */
+final class GatewayResponses {
+
+    private GatewayResponses() {
+    }
+
+    static Mono<Void> writeFailure(ServerHttpResponse response,
+                                   ObjectMapper objectMapper,
+                                   HttpStatus status,
+                                   ErrorCode errorCode,
+                                   String message) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ApiResponse.failure(errorCode.code(), message));
+        } catch (JsonProcessingException ex) {
+            return response.setComplete();
+        }
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+}
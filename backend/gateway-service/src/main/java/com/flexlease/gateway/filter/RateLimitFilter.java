@@ -0,0 +1,165 @@
+package com.flexlease.gateway.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.security.FlexleasePrincipal;
+import com.flexlease.gateway.config.GatewayRateLimitProperties;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 进程内令牌桶限流，不依赖 Redis。
+ *
+ * <p>排在 {@link EdgeAuthenticationFilter} 之后：已登录请求按用户 ID 计数（同一用户多端共享配额），
+ * 其余按客户端 IP 计数。超出配额返回 429 与 {@code Retry-After}，请求不会到达下游，
+ * 避免单个客户端轮询订单/通知接口时占满下游数据库连接池。规则见 {@link GatewayRateLimitProperties}。</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "flexlease.gateway.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = EdgeAuthenticationFilter.ORDER + 100;
+
+    static final String DEFAULT_RULE = "default";
+    private static final String REAL_IP_HEADER = "X-Real-IP";
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final GatewayRateLimitProperties properties;
+    private final FlexleaseMetrics metrics;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier nanoClock;
+    private final List<GatewayRateLimitProperties.Rule> rules;
+    private final GatewayRateLimitProperties.Rule defaultRule;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, TokenBucket> overflowBuckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong();
+
+    @Autowired
+    public RateLimitFilter(GatewayRateLimitProperties properties, FlexleaseMetrics metrics, ObjectMapper objectMapper) {
+        this(properties, metrics, objectMapper, System::nanoTime);
+    }
+
+    RateLimitFilter(GatewayRateLimitProperties properties,
+                    FlexleaseMetrics metrics,
+                    ObjectMapper objectMapper,
+                    LongSupplier nanoClock) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+        this.nanoClock = nanoClock;
+        this.rules = new ArrayList<>(properties.getRules());
+        this.defaultRule = new GatewayRateLimitProperties.Rule();
+        this.defaultRule.setName(DEFAULT_RULE);
+        this.defaultRule.setCapacity(properties.getDefaultCapacity());
+        this.defaultRule.setRefillPerSecond(properties.getDefaultRefillPerSecond());
+        this.lastSweep.set(nanoClock.getAsLong());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String path = exchange.getRequest().getURI().getRawPath();
+        GatewayRateLimitProperties.Rule rule = matchRule(path);
+        if (rule.getCapacity() <= 0) {
+            return chain.filter(exchange);
+        }
+        FlexleasePrincipal principal = exchange.getAttribute(EdgeAuthenticationFilter.PRINCIPAL_ATTRIBUTE);
+        boolean authenticated = principal != null && principal.userId() != null;
+        String client = authenticated ? "user" : "ip";
+        String clientKey = authenticated ? principal.userId().toString() : clientIp(exchange.getRequest());
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = resolveBucket(rule, rule.getName() + '|' + client + ':' + clientKey, now);
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos == 0) {
+            return chain.filter(exchange);
+        }
+        metrics.gatewayRateLimited(rule.getName(), client);
+        long retryAfterSeconds = waitNanos == Long.MAX_VALUE ? 60 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return GatewayResponses.writeFailure(exchange.getResponse(), objectMapper,
+                HttpStatus.TOO_MANY_REQUESTS, ErrorCode.TOO_MANY_REQUESTS, "请求过于频繁，请稍后再试");
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * 桶数量达到上限且清理后仍未腾出空间时，新客户端共用所命中规则的溢出桶，保证表大小有界；
+     * 已有桶的客户端不受影响。大量不同 IP 涌入时溢出桶很快耗尽，相当于对新来源整体限流。
+     */
+    private TokenBucket resolveBucket(GatewayRateLimitProperties.Rule rule, String key, long now) {
+        TokenBucket existing = buckets.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (buckets.size() >= properties.getMaxBuckets()) {
+            sweep(now);
+            if (buckets.size() >= properties.getMaxBuckets()) {
+                return overflowBuckets.computeIfAbsent(rule.getName(),
+                        name -> new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond(), now));
+            }
+        }
+        return buckets.computeIfAbsent(key, ignored -> new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond(), now));
+    }
+
+    private GatewayRateLimitProperties.Rule matchRule(String path) {
+        for (GatewayRateLimitProperties.Rule rule : rules) {
+            for (String pattern : rule.getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return rule;
+                }
+            }
+        }
+        return defaultRule;
+    }
+
+    private String clientIp(ServerHttpRequest request) {
+        if (properties.isTrustRealIpHeader()) {
+            String realIp = request.getHeaders().getFirst(REAL_IP_HEADER);
+            if (StringUtils.hasText(realIp)) {
+                return realIp.trim();
+            }
+        }
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote == null) {
+            return "unknown";
+        }
+        return remote.getAddress() != null ? remote.getAddress().getHostAddress() : remote.getHostString();
+    }
+
+    /**
+     * 桶数量超限时回收已回满的桶；每秒最多清理一次，避免热点期间每个请求都遍历整张表。
+     */
+    private void sweep(long now) {
+        long previous = lastSweep.get();
+        if (now - previous < SWEEP_INTERVAL_NANOS || !lastSweep.compareAndSet(previous, now)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+}
@@ -0,0 +1,101 @@
+package com.flexlease.gateway.filter;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 相同 GET 请求合并：同一时刻对 {@code flexlease.gateway.coalescing.paths}（默认 {@code /api/v1/catalog/**}）
+ * 的相同请求只转发第一个（leader），其余请求（follower）等待并复用 leader 的响应，不再各自访问下游。
+ *
+ * <ul>
+ *     <li>合并键为路径 + 查询串 + {@code Accept}，不含调用者身份；
+ *     只有通过边缘鉴权的请求参与合并，且只复用上游标记为 {@code Cache-Control: public} 的 200 响应，见 {@link SharedResponses}；</li>
+ *     <li>只合并"正在进行中"的请求，leader 完成即移除，不构成缓存；</li>
+ *     <li>leader 失败、被取消、响应不可共享或以流式方式写出时 follower 各自回退为正常转发。</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(prefix = "flexlease.gateway.coalescing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = RateLimitFilter.ORDER + 100;
+
+    static final String ROLE_LEADER = "leader";
+    static final String ROLE_FOLLOWER = "follower";
+    static final String ROLE_FALLBACK = "fallback";
+
+    private final FlexleaseMetrics metrics;
+    private final List<String> paths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ConcurrentHashMap<String, Sinks.One<SharedResponses.Captured>> inFlight = new ConcurrentHashMap<>();
+
+    public RequestCoalescingFilter(FlexleaseMetrics metrics,
+                                   @Value("${flexlease.gateway.coalescing.paths:/api/v1/catalog/**}") List<String> paths) {
+        this.metrics = metrics;
+        this.paths = paths;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getURI().getRawPath();
+        if (request.getMethod() != HttpMethod.GET
+                || paths.stream().noneMatch(pattern -> pathMatcher.match(pattern, path))
+                || !SharedResponses.isEdgeAuthenticated(exchange)) {
+            return chain.filter(exchange);
+        }
+        String key = SharedResponses.requestKey(request);
+        String route = SharedResponses.routeId(exchange);
+        Sinks.One<SharedResponses.Captured> sink = Sinks.one();
+        Sinks.One<SharedResponses.Captured> leader = inFlight.putIfAbsent(key, sink);
+        if (leader != null) {
+            return leader.asMono()
+                    .flatMap(shared -> {
+                        metrics.gatewayCoalesced(route, ROLE_FOLLOWER);
+                        return SharedResponses.write(exchange.getResponse(), shared.status(), shared.headers(), shared.body())
+                                .thenReturn(Boolean.TRUE);
+                    })
+                    .switchIfEmpty(Mono.defer(() -> {
+                        metrics.gatewayCoalesced(route, ROLE_FALLBACK);
+                        return chain.filter(exchange).thenReturn(Boolean.TRUE);
+                    }))
+                    .then();
+        }
+        metrics.gatewayCoalesced(route, ROLE_LEADER);
+        SharedResponses.CapturingResponse capturing = new SharedResponses.CapturingResponse(exchange.getResponse(), shared -> {
+            inFlight.remove(key, sink);
+            if (shared.shareable()) {
+                sink.tryEmitValue(shared);
+            } else {
+                sink.tryEmitEmpty();
+            }
+        });
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, sink);
+                    sink.tryEmitEmpty();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,246 @@
+package com.flexlease.gateway.filter;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.security.PrincipalHeaderCodec;
+import com.flexlease.gateway.cache.CacheDirectives;
+import com.flexlease.gateway.cache.CachedResponse;
+import com.flexlease.gateway.cache.CatalogResponseCache;
+import com.flexlease.gateway.config.GatewayResponseCacheProperties;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * 目录响应缓存：对 {@code flexlease.gateway.response-cache.paths}（默认 {@code /api/v1/catalog/**}）的 GET
+ * 按上游 {@code Cache-Control}/{@code ETag} 在网关内存中缓存，命中时不再访问 product-service。
+ *
+ * <ul>
+ *     <li>只缓存上游以 {@code public, max-age>0} 声明可共享的 200 响应，且只对通过边缘鉴权的请求提供缓存，见 {@link SharedResponses}；</li>
+ *     <li>新鲜期内直接返回（{@code X-Cache: HIT}），客户端 {@code If-None-Match} 与缓存的 ETag 一致时返回 304；</li>
+ *     <li>过期但仍在 {@code stale-while-revalidate} 窗口内时先返回旧响应（{@code X-Cache: STALE}），
+ *     同时在后台带 {@code If-None-Match} 向上游重新验证，同一条目同时只发起一次；</li>
+ *     <li>商品变更事件到达时失效对应条目，见 {@link com.flexlease.gateway.cache.CatalogCacheInvalidationListener}；
+ *     关闭消息时只依赖 {@code max-age} 收敛。</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(prefix = "flexlease.gateway.response-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    /** 限流之后、请求合并之前：未命中的请求仍可与同时到达的相同请求合并。 */
+    public static final int ORDER = RateLimitFilter.ORDER + 50;
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    static final String RESULT_HIT = "hit";
+    static final String RESULT_STALE = "stale";
+    static final String RESULT_NOT_MODIFIED = "not_modified";
+    static final String RESULT_MISS = "miss";
+    static final String OUTCOME_NOT_MODIFIED = "not_modified";
+    static final String OUTCOME_UPDATED = "updated";
+    static final String OUTCOME_FAILED = "failed";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResponseCacheFilter.class);
+    private static final Pattern PRODUCT_DETAIL = Pattern.compile("^/api/v1/catalog/products/([0-9a-fA-F-]{36})$");
+
+    private final CatalogResponseCache cache;
+    private final WebClient revalidationClient;
+    private final FlexleaseMetrics metrics;
+    private final List<String> paths;
+    private final LongSupplier clock;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    public ResponseCacheFilter(CatalogResponseCache cache,
+                               @Qualifier("catalogRevalidationClient") WebClient revalidationClient,
+                               FlexleaseMetrics metrics,
+                               GatewayResponseCacheProperties properties) {
+        this(cache, revalidationClient, metrics, properties, System::currentTimeMillis);
+    }
+
+    ResponseCacheFilter(CatalogResponseCache cache,
+                        WebClient revalidationClient,
+                        FlexleaseMetrics metrics,
+                        GatewayResponseCacheProperties properties,
+                        LongSupplier clock) {
+        this.cache = cache;
+        this.revalidationClient = revalidationClient;
+        this.metrics = metrics;
+        this.paths = properties.getPaths();
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getURI().getRawPath();
+        if (request.getMethod() != HttpMethod.GET
+                || paths.stream().noneMatch(pattern -> pathMatcher.match(pattern, path))
+                || !SharedResponses.isEdgeAuthenticated(exchange)) {
+            return chain.filter(exchange);
+        }
+        String key = SharedResponses.requestKey(request);
+        String route = SharedResponses.routeId(exchange);
+        long now = clock.getAsLong();
+        CachedResponse cached = cache.get(key);
+        if (cached != null && cached.isFresh(now)) {
+            boolean notModified = matchesEtag(request, cached);
+            metrics.gatewayCacheRequest(route, notModified ? RESULT_NOT_MODIFIED : RESULT_HIT);
+            return serve(exchange.getResponse(), cached, now, "HIT", notModified);
+        }
+        if (cached != null && cached.isServableStale(now)) {
+            metrics.gatewayCacheRequest(route, RESULT_STALE);
+            revalidate(exchange, key, cached);
+            return serve(exchange.getResponse(), cached, now, "STALE", matchesEtag(request, cached));
+        }
+        metrics.gatewayCacheRequest(route, RESULT_MISS);
+        long generation = cache.generation();
+        exchange.getResponse().getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+        SharedResponses.CapturingResponse capturing = new SharedResponses.CapturingResponse(exchange.getResponse(),
+                captured -> store(key, path, captured, generation));
+        return chain.filter(exchange.mutate().response(capturing).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private Mono<Void> serve(ServerHttpResponse response, CachedResponse cached, long now, String cacheStatus, boolean notModified) {
+        HttpHeaders target = response.getHeaders();
+        target.set(CACHE_STATUS_HEADER, cacheStatus);
+        target.set(HttpHeaders.AGE, Long.toString(cached.ageSeconds(now)));
+        if (notModified) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            target.setETag(cached.etag());
+            target.setCacheControl(cached.headers().getCacheControl());
+            return response.setComplete();
+        }
+        return SharedResponses.write(response, HttpStatus.OK, cached.headers(), cached.body());
+    }
+
+    private boolean store(String key, String path, SharedResponses.Captured captured, long generation) {
+        CacheDirectives directives = CacheDirectives.parse(captured.headers().getCacheControl());
+        if (!captured.shareable() || !directives.sharedCacheable()) {
+            return false;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(captured.headers());
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        headers.remove(HttpHeaders.AGE);
+        headers.remove(CACHE_STATUS_HEADER);
+        return cache.put(key, new CachedResponse(headers, captured.body(), productId(path), clock.getAsLong(), directives), generation);
+    }
+
+    /**
+     * 带上触发请求的签名身份头（签名覆盖同一方法与路径）向上游发起条件请求，结果只更新缓存，不影响当前响应。
+     */
+    private void revalidate(ServerWebExchange exchange, String key, CachedResponse cached) {
+        URI upstream = upstreamUri(exchange);
+        if (upstream == null || cached.etag() == null || !cached.revalidating().compareAndSet(false, true)) {
+            return;
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getURI().getRawPath();
+        long generation = cache.generation();
+        revalidationClient.get()
+                .uri(upstream)
+                .headers(headers -> {
+                    headers.addAll(HttpHeaders.ACCEPT, request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT));
+                    headers.addAll(PrincipalHeaderCodec.HEADER, request.getHeaders().getOrEmpty(PrincipalHeaderCodec.HEADER));
+                    headers.setIfNoneMatch(cached.etag());
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        long now = clock.getAsLong();
+                        String cacheControl = response.headers().asHttpHeaders().getCacheControl();
+                        boolean stored = cache.put(key, cached.revalidated(now, cacheControl), generation);
+                        return response.releaseBody().thenReturn(stored ? OUTCOME_NOT_MODIFIED : OUTCOME_FAILED);
+                    }
+                    if (response.statusCode().isSameCodeAs(HttpStatus.OK)) {
+                        return response.bodyToMono(byte[].class)
+                                .defaultIfEmpty(new byte[0])
+                                .map(body -> store(key, path,
+                                        new SharedResponses.Captured(HttpStatus.OK, response.headers().asHttpHeaders(), body), generation)
+                                        ? OUTCOME_UPDATED : OUTCOME_FAILED);
+                    }
+                    return response.releaseBody().thenReturn(OUTCOME_FAILED);
+                })
+                .onErrorResume(ex -> {
+                    LOG.debug("Revalidation of cached response {} failed: {}", key, ex.getMessage());
+                    return Mono.just(OUTCOME_FAILED);
+                })
+                .doFinally(signal -> cached.revalidating().set(false))
+                .subscribe(metrics::gatewayCacheRevalidated);
+    }
+
+    /**
+     * 由当前路由推导上游地址，{@code lb://} 交给负载均衡 WebClient 按服务名解析。
+     */
+    private URI upstreamUri(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return null;
+        }
+        URI base = route.getUri();
+        URI requestUri = exchange.getRequest().getURI();
+        return UriComponentsBuilder.newInstance()
+                .scheme("lb".equalsIgnoreCase(base.getScheme()) ? "http" : base.getScheme())
+                .host(base.getHost())
+                .port(base.getPort())
+                .path(requestUri.getRawPath())
+                .query(requestUri.getRawQuery())
+                .build(true)
+                .toUri();
+    }
+
+    private static boolean matchesEtag(ServerHttpRequest request, CachedResponse cached) {
+        if (cached.etag() == null) {
+            return false;
+        }
+        String etag = stripWeak(cached.etag());
+        return request.getHeaders().getIfNoneMatch().stream()
+                .anyMatch(candidate -> "*".equals(candidate) || stripWeak(candidate).equals(etag));
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static UUID productId(String path) {
+        Matcher matcher = PRODUCT_DETAIL.matcher(path);
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(matcher.group(1));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
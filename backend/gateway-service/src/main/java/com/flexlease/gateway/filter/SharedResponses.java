@@ -0,0 +1,116 @@
+package com.flexlease.gateway.filter;
+
+import com.flexlease.gateway.cache.CacheDirectives;
+import java.util.function.Consumer;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 请求合并与响应缓存共用的工具：请求键、响应捕获与回放。
+ *
+ * <p>一个调用者的响应只有同时满足以下条件才会交给其他调用者复用：请求已通过边缘鉴权
+ * （目录接口仍要求登录，未登录请求必须交给下游拒绝），且上游返回 200 并以 {@code Cache-Control: public}
+ * 声明内容与调用者无关。按用户区分的接口（如目录下的咨询列表）不会带 {@code public}，因而永远不会被复用。</p>
+ */
+final class SharedResponses {
+
+    private SharedResponses() {
+    }
+
+    /**
+     * 路径 + 查询串 + {@code Accept}，不含调用者身份。网关转发时去掉了 {@code Accept-Encoding}，
+     * 上游响应体总是未压缩的，因此键中不区分编码，压缩在写回客户端时统一进行。
+     */
+    static String requestKey(ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        String query = request.getURI().getRawQuery();
+        return request.getURI().getRawPath()
+                + (query == null ? "" : "?" + query)
+                + '|' + String.join(",", headers.getOrEmpty(HttpHeaders.ACCEPT));
+    }
+
+    static boolean isEdgeAuthenticated(ServerWebExchange exchange) {
+        return exchange.getAttribute(EdgeAuthenticationFilter.PRINCIPAL_ATTRIBUTE) != null;
+    }
+
+    static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route == null ? "unknown" : route.getId();
+    }
+
+    /**
+     * 以给定的状态、响应头与响应体写出；已存在的响应头（如 CORS）保留不覆盖。
+     */
+    static Mono<Void> write(ServerHttpResponse response, HttpStatusCode status, HttpHeaders headers, byte[] body) {
+        response.setStatusCode(status);
+        HttpHeaders target = response.getHeaders();
+        headers.forEach((name, values) -> {
+            if (!target.containsKey(name)
+                    && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                    && !HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name)) {
+                target.put(name, values);
+            }
+        });
+        target.setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    record Captured(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+        /**
+         * 上游声明可被不同调用者共享的 200 响应。
+         */
+        boolean shareable() {
+            CacheDirectives directives = CacheDirectives.parse(headers.getCacheControl());
+            return HttpStatus.OK.isSameCodeAs(status)
+                    && directives.publicCache()
+                    && !directives.restricted()
+                    && !headers.containsKey(HttpHeaders.SET_COOKIE);
+        }
+    }
+
+    /**
+     * 聚合上游响应体后再写出，同时把完整响应交给回调。
+     */
+    static final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final Consumer<Captured> onCaptured;
+
+        CapturingResponse(ServerHttpResponse delegate, Consumer<Captured> onCaptured) {
+            super(delegate);
+            this.onCaptured = onCaptured;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return Flux.from(body).collectList().flatMap(buffers -> {
+                int size = buffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+                byte[] bytes = new byte[size];
+                int offset = 0;
+                for (DataBuffer buffer : buffers) {
+                    int length = buffer.readableByteCount();
+                    buffer.read(bytes, offset, length);
+                    offset += length;
+                    DataBufferUtils.release(buffer);
+                }
+                HttpHeaders headers = new HttpHeaders();
+                headers.putAll(getDelegate().getHeaders());
+                HttpStatusCode status = getDelegate().getStatusCode();
+                onCaptured.accept(new Captured(status == null ? HttpStatus.OK : status, headers, bytes));
+                return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+    }
+}
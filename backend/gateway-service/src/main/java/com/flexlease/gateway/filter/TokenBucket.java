@@ -0,0 +1,52 @@
+package com.flexlease.gateway.filter;
+
+/**
+ * 单个客户端的令牌桶，按调用时刻惰性补充令牌，无需后台线程。
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.refilledAt = nowNanos;
+    }
+
+    /**
+     * 尝试取走一个令牌。
+     *
+     * @return 0 表示放行；否则为距离下一个令牌可用的纳秒数（不再补充时为 {@link Long#MAX_VALUE}）
+     */
+    synchronized long tryAcquire(long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        if (tokensPerNano <= 0) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+
+    /**
+     * 桶已回满说明该客户端近期没有请求，可以安全回收。
+     */
+    synchronized boolean isFull(long nowNanos) {
+        refill(nowNanos);
+        return tokens >= capacity;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - refilledAt;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            refilledAt = nowNanos;
+        }
+    }
+}
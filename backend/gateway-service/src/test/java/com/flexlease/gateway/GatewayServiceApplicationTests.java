@@ -3,7 +3,7 @@ package com.flexlease.gateway;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "flexlease.messaging.enabled=false")
 class GatewayServiceApplicationTests {
 
     @Test
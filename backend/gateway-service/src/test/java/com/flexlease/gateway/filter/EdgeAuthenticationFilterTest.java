@@ -0,0 +1,117 @@
+package com.flexlease.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.security.FlexleasePrincipal;
+import com.flexlease.common.security.JwtAuthProperties;
+import com.flexlease.common.security.JwtTokenVerifier;
+import com.flexlease.common.security.PrincipalHeaderCodec;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class EdgeAuthenticationFilterTest {
+
+    private static final String PATH = "/api/v1/orders/123";
+
+    private final JwtAuthProperties properties = new JwtAuthProperties();
+    private final PrincipalHeaderCodec codec = new PrincipalHeaderCodec(properties);
+    private final EdgeAuthenticationFilter filter = new EdgeAuthenticationFilter(
+            new JwtTokenVerifier(properties), codec, new ObjectMapper(), List.of("/api/v1/auth/**"));
+    private final AtomicReference<ServerHttpRequest> forwarded = new AtomicReference<>();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.set(exchange.getRequest());
+        return Mono.empty();
+    };
+
+    @Test
+    void validBearerIsForwardedAsSignedPrincipalHeader() {
+        UUID userId = UUID.randomUUID();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH + "?page=2")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(userId, properties.getSecret())));
+
+        filter.filter(exchange, chain).block();
+
+        String header = forwarded.get().getHeaders().getFirst(PrincipalHeaderCodec.HEADER);
+        assertThat(codec.decode(header, "GET", PATH, "page=2"))
+                .map(FlexleasePrincipal::userId)
+                .contains(userId);
+        assertThat(codec.decode(header, "DELETE", PATH, "page=2")).isEmpty();
+        // 查询串同样在签名范围内，改写参数后验签失败
+        assertThat(codec.decode(header, "GET", PATH, "page=3")).isEmpty();
+        assertThat(codec.decode(header, "GET", PATH, null)).isEmpty();
+    }
+
+    @Test
+    void invalidBearerIsRejectedAtTheEdge() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(UUID.randomUUID(), "another-secret-another-secret-1234")));
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(forwarded.get()).isNull();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(exchange.getResponse().getBodyAsString().block()).contains("访问令牌无效或已过期");
+    }
+
+    @Test
+    void clientSuppliedPrincipalHeaderIsStripped() {
+        String forged = codec.encode(new FlexleasePrincipal(UUID.randomUUID(), null, "admin", Set.of("ADMIN")), "GET", PATH, null);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(PrincipalHeaderCodec.HEADER, forged));
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(forwarded.get().getHeaders().containsKey(PrincipalHeaderCodec.HEADER)).isFalse();
+    }
+
+    @Test
+    void authRoutesAreLeftToTheAuthService() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/auth/token/refresh")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer not-a-jwt"));
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(forwarded.get().getHeaders().getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer not-a-jwt");
+        assertThat(forwarded.get().getHeaders().containsKey(PrincipalHeaderCodec.HEADER)).isFalse();
+    }
+
+    private String token(UUID userId, String secret) {
+        return Jwts.builder()
+                .setSubject(userId.toString())
+                .claim("username", "edge-user")
+                .claim("roles", "USER")
+                .setIssuer(properties.getIssuer())
+                .setIssuedAt(Date.from(Instant.now()))
+                .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(ensureBase64(secret))))
+                .compact();
+    }
+
+    private static String ensureBase64(String secret) {
+        try {
+            Decoders.BASE64.decode(secret);
+            return secret;
+        } catch (RuntimeException ignored) {
+            return Base64.getEncoder().encodeToString(secret.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.flexlease.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.security.FlexleasePrincipal;
+import com.flexlease.gateway.config.GatewayRateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.incrementAndGet();
+        return Mono.empty();
+    };
+    private final FlexleaseMetrics metrics = new FlexleaseMetrics(new SimpleMeterRegistry());
+
+    @Test
+    void rejectsBurstBeyondRouteCapacityAndRefillsOverTime() {
+        RateLimitFilter filter = filter(properties());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(send(filter, "/api/v1/notifications/logs", "10.0.0.1").getResponse().getStatusCode()).isNull();
+        }
+        MockServerWebExchange limited = send(filter, "/api/v1/notifications/logs", "10.0.0.1");
+
+        assertThat(forwarded).hasValue(3);
+        assertThat(limited.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(limited.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(limited.getResponse().getBodyAsString().block()).contains("4029");
+        assertThat(metrics.registry().get(FlexleaseMetrics.GATEWAY_RATE_LIMITED)
+                .tag("rule", "notifications").tag("client", "ip").counter().count()).isEqualTo(1);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        send(filter, "/api/v1/notifications/logs", "10.0.0.1");
+        assertThat(forwarded).hasValue(4);
+    }
+
+    @Test
+    void countsPerClientAndFallsBackToDefaultRule() {
+        RateLimitFilter filter = filter(properties());
+
+        for (int i = 0; i < 3; i++) {
+            send(filter, "/api/v1/notifications/logs", "10.0.0.1");
+        }
+        send(filter, "/api/v1/notifications/logs", "10.0.0.2");
+        send(filter, "/api/v1/products/1", "10.0.0.1");
+        send(filter, "/api/v1/products/1", "10.0.0.1");
+
+        assertThat(forwarded).hasValue(6);
+        assertThat(send(filter, "/api/v1/products/1", "10.0.0.1").getResponse().getStatusCode())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void authenticatedRequestsShareOneBucketAcrossAddresses() {
+        RateLimitFilter filter = filter(properties());
+        FlexleasePrincipal principal = new FlexleasePrincipal(UUID.randomUUID(), null, "poller", Set.of("USER"));
+
+        for (int i = 0; i < 4; i++) {
+            MockServerWebExchange exchange = exchange("/api/v1/notifications/logs", "10.0.1." + i);
+            exchange.getAttributes().put(EdgeAuthenticationFilter.PRINCIPAL_ATTRIBUTE, principal);
+            filter.filter(exchange, chain).block();
+        }
+
+        assertThat(forwarded).hasValue(3);
+        assertThat(metrics.registry().get(FlexleaseMetrics.GATEWAY_RATE_LIMITED)
+                .tag("client", "user").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void reclaimsIdleBucketsWhenOverLimit() {
+        GatewayRateLimitProperties properties = properties();
+        properties.setMaxBuckets(2);
+        RateLimitFilter filter = filter(properties);
+
+        send(filter, "/api/v1/products/1", "10.0.0.1");
+        send(filter, "/api/v1/products/1", "10.0.0.2");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        send(filter, "/api/v1/products/1", "10.0.0.3");
+
+        assertThat(filter.bucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    void newClientsShareOverflowBucketWhenSweepFreesNothing() {
+        GatewayRateLimitProperties properties = properties();
+        properties.setMaxBuckets(2);
+        RateLimitFilter filter = filter(properties);
+
+        for (int i = 0; i < 2; i++) {
+            send(filter, "/api/v1/products/1", "10.0.0.1");
+            send(filter, "/api/v1/products/1", "10.0.0.2");
+        }
+        // 一秒后两个桶各回满一半，清理无可回收；之后的新 IP 共用默认规则的溢出桶（容量 2）
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        for (int i = 3; i < 10; i++) {
+            send(filter, "/api/v1/products/1", "10.0.0." + i);
+        }
+
+        assertThat(filter.bucketCount()).isEqualTo(2);
+        assertThat(forwarded).hasValue(6);
+        assertThat(send(filter, "/api/v1/products/1", "10.0.0.1").getResponse().getStatusCode()).isNull();
+    }
+
+    private GatewayRateLimitProperties properties() {
+        GatewayRateLimitProperties properties = new GatewayRateLimitProperties();
+        properties.setDefaultCapacity(2);
+        properties.setDefaultRefillPerSecond(1);
+        GatewayRateLimitProperties.Rule notifications = new GatewayRateLimitProperties.Rule();
+        notifications.setName("notifications");
+        notifications.setPaths(List.of("/api/v1/notifications/**"));
+        notifications.setCapacity(3);
+        notifications.setRefillPerSecond(2);
+        properties.setRules(List.of(notifications));
+        return properties;
+    }
+
+    private RateLimitFilter filter(GatewayRateLimitProperties properties) {
+        return new RateLimitFilter(properties, metrics, new ObjectMapper(), clock::get);
+    }
+
+    private MockServerWebExchange send(RateLimitFilter filter, String path, String ip) {
+        MockServerWebExchange exchange = exchange(path, ip);
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+
+    private MockServerWebExchange exchange(String path, String ip) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path).header("X-Real-IP", ip));
+    }
+}
@@ -0,0 +1,127 @@
+package com.flexlease.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.security.FlexleasePrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class RequestCoalescingFilterTest {
+
+    private static final String BODY = "{\"code\":0,\"data\":{\"content\":[]}}";
+
+    private final FlexleaseMetrics metrics = new FlexleaseMetrics(new SimpleMeterRegistry());
+    private final RequestCoalescingFilter filter = new RequestCoalescingFilter(metrics, List.of("/api/v1/catalog/**"));
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void concurrentIdenticalCatalogReadsShareOneUpstreamCall() {
+        GatewayFilterChain slowUpstream = exchange -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(200)).then(Mono.defer(() -> respond(exchange.getResponse())));
+        };
+        List<MockServerWebExchange> exchanges = IntStream.range(0, 5)
+                .mapToObj(i -> authenticated(MockServerHttpRequest.get("/api/v1/catalog/products?page=1")))
+                .toList();
+
+        Mono.when(exchanges.stream().map(exchange -> filter.filter(exchange, slowUpstream)).toList()).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        for (MockServerWebExchange exchange : exchanges) {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        }
+        assertThat(metrics.registry().get(FlexleaseMetrics.GATEWAY_COALESCED).tag("role", "follower").counter().count())
+                .isEqualTo(4);
+        assertThat(filter.inFlightCount()).isZero();
+    }
+
+    @Test
+    void differentQueriesAndNonCatalogRoutesAreForwardedSeparately() {
+        GatewayFilterChain upstream = exchange -> {
+            upstreamCalls.incrementAndGet();
+            return respond(exchange.getResponse());
+        };
+
+        Mono.when(
+                filter.filter(authenticated(MockServerHttpRequest.get("/api/v1/catalog/products?page=1")), upstream),
+                filter.filter(authenticated(MockServerHttpRequest.get("/api/v1/catalog/products?page=2")), upstream),
+                filter.filter(authenticated(MockServerHttpRequest.get("/api/v1/orders")), upstream),
+                filter.filter(authenticated(MockServerHttpRequest.get("/api/v1/orders")), upstream)
+        ).block();
+
+        assertThat(upstreamCalls).hasValue(4);
+    }
+
+    @Test
+    void followersFallBackWhenLeaderFails() {
+        GatewayFilterChain failingOnce = exchange -> {
+            if (upstreamCalls.getAndIncrement() == 0) {
+                return Mono.delay(Duration.ofMillis(100)).then(Mono.error(new IllegalStateException("upstream down")));
+            }
+            return respond(exchange.getResponse());
+        };
+        MockServerWebExchange leader = authenticated(MockServerHttpRequest.get("/api/v1/catalog/products/1"));
+        MockServerWebExchange follower = authenticated(MockServerHttpRequest.get("/api/v1/catalog/products/1"));
+
+        Mono.when(filter.filter(leader, failingOnce).onErrorResume(ex -> Mono.empty()), filter.filter(follower, failingOnce)).block();
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(metrics.registry().get(FlexleaseMetrics.GATEWAY_COALESCED).tag("role", "fallback").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void responsesNotMarkedPublicAreNeverShared() {
+        GatewayFilterChain userScoped = exchange -> {
+            upstreamCalls.incrementAndGet();
+            exchange.getResponse().getHeaders().setCacheControl("private");
+            return Mono.delay(Duration.ofMillis(100)).then(Mono.defer(() -> respond(exchange.getResponse())));
+        };
+        String inquiries = "/api/v1/catalog/products/1/inquiries";
+
+        Mono.when(
+                filter.filter(authenticated(MockServerHttpRequest.get(inquiries)), userScoped),
+                filter.filter(authenticated(MockServerHttpRequest.get(inquiries)), userScoped),
+                filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/catalog/products/1")), userScoped)
+        ).block();
+
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(metrics.registry().get(FlexleaseMetrics.GATEWAY_COALESCED).tag("role", "fallback").counter().count())
+                .isEqualTo(1);
+    }
+
+    private Mono<Void> respond(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (!response.getHeaders().containsKey(HttpHeaders.CACHE_CONTROL)) {
+            response.getHeaders().setCacheControl("max-age=30, public");
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private MockServerWebExchange authenticated(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(EdgeAuthenticationFilter.PRINCIPAL_ATTRIBUTE,
+                new FlexleasePrincipal(UUID.randomUUID(), null, "catalog-user", Set.of("USER")));
+        return exchange;
+    }
+}
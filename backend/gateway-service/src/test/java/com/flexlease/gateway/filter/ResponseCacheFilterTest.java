@@ -0,0 +1,169 @@
+package com.flexlease.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.security.FlexleasePrincipal;
+import com.flexlease.common.security.PrincipalHeaderCodec;
+import com.flexlease.gateway.cache.CatalogResponseCache;
+import com.flexlease.gateway.config.GatewayResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+class ResponseCacheFilterTest {
+
+    private static final UUID PRODUCT_ID = UUID.randomUUID();
+    private static final String DETAIL = "/api/v1/catalog/products/" + PRODUCT_ID;
+    private static final String BODY = "{\"code\":0,\"data\":{\"name\":\"折叠自行车\"}}";
+    private static final String ETAG = "\"0a1b2c\"";
+    private static final String PUBLIC = "max-age=30, public, stale-while-revalidate=60";
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final AtomicReference<ClientRequest> revalidation = new AtomicReference<>();
+    private final FlexleaseMetrics metrics = new FlexleaseMetrics(new SimpleMeterRegistry());
+    private final CatalogResponseCache cache = new CatalogResponseCache(new GatewayResponseCacheProperties(), metrics);
+    private final WebClient revalidationClient = WebClient.builder()
+            .exchangeFunction(request -> {
+                revalidation.set(request);
+                return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED)
+                        .header(HttpHeaders.CACHE_CONTROL, PUBLIC)
+                        .build());
+            })
+            .build();
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(cache, revalidationClient, metrics,
+            new GatewayResponseCacheProperties(), clock::get);
+
+    @Test
+    void freshEntryIsServedWithoutUpstreamAndHonoursIfNoneMatch() {
+        GatewayFilterChain upstream = respondWith(PUBLIC);
+
+        MockServerWebExchange miss = authenticated(MockServerHttpRequest.get(DETAIL));
+        filter.filter(miss, upstream).block();
+        MockServerWebExchange hit = authenticated(MockServerHttpRequest.get(DETAIL));
+        filter.filter(hit, upstream).block();
+        MockServerWebExchange conditional = authenticated(MockServerHttpRequest.get(DETAIL).header(HttpHeaders.IF_NONE_MATCH, ETAG));
+        filter.filter(conditional, upstream).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(miss.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(hit.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(hit.getResponse().getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(hit.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(metrics.registry().get(FlexleaseMetrics.GATEWAY_CACHE_REQUESTS).tag("result", "hit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void staleEntryIsServedWhileRevalidatingInBackground() {
+        GatewayFilterChain upstream = respondWith(PUBLIC);
+        filter.filter(authenticated(MockServerHttpRequest.get(DETAIL)), upstream).block();
+
+        clock.addAndGet(45_000);
+        MockServerWebExchange stale = authenticated(MockServerHttpRequest.get(DETAIL)
+                .header(PrincipalHeaderCodec.HEADER, "signed-by-edge"));
+        filter.filter(stale, upstream).block();
+
+        assertThat(stale.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("STALE");
+        assertThat(stale.getResponse().getHeaders().getFirst(HttpHeaders.AGE)).isEqualTo("45");
+        assertThat(stale.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(revalidation.get().url().toString()).isEqualTo("http://product-service" + DETAIL);
+        assertThat(revalidation.get().headers().getIfNoneMatch()).containsExactly(ETAG);
+        assertThat(revalidation.get().headers().getFirst(PrincipalHeaderCodec.HEADER)).isEqualTo("signed-by-edge");
+        assertThat(metrics.registry().get(FlexleaseMetrics.GATEWAY_CACHE_REVALIDATIONS).tag("outcome", "not_modified").counter().count())
+                .isEqualTo(1);
+
+        MockServerWebExchange refreshed = authenticated(MockServerHttpRequest.get(DETAIL));
+        filter.filter(refreshed, upstream).block();
+        assertThat(refreshed.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+
+        clock.addAndGet(120_000);
+        filter.filter(authenticated(MockServerHttpRequest.get(DETAIL)), upstream).block();
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void privateResponsesAndAnonymousCallersBypassTheCache() {
+        GatewayFilterChain privateUpstream = respondWith("private, max-age=30");
+        filter.filter(authenticated(MockServerHttpRequest.get("/api/v1/catalog/products/" + PRODUCT_ID + "/inquiries")), privateUpstream).block();
+        filter.filter(authenticated(MockServerHttpRequest.get("/api/v1/catalog/products/" + PRODUCT_ID + "/inquiries")), privateUpstream).block();
+
+        GatewayFilterChain publicUpstream = respondWith(PUBLIC);
+        filter.filter(withRoute(MockServerWebExchange.from(MockServerHttpRequest.get(DETAIL))), publicUpstream).block();
+        filter.filter(withRoute(MockServerWebExchange.from(MockServerHttpRequest.get(DETAIL))), publicUpstream).block();
+
+        assertThat(upstreamCalls).hasValue(4);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void productChangeEvictsDetailAndListingsAndDiscardsInFlightResponses() {
+        GatewayFilterChain upstream = respondWith(PUBLIC);
+        filter.filter(authenticated(MockServerHttpRequest.get(DETAIL)), upstream).block();
+        filter.filter(authenticated(MockServerHttpRequest.get("/api/v1/catalog/products?page=1")), upstream).block();
+        filter.filter(authenticated(MockServerHttpRequest.get("/api/v1/catalog/products/" + UUID.randomUUID())), upstream).block();
+        assertThat(cache.size()).isEqualTo(3);
+
+        assertThat(cache.invalidateProduct(PRODUCT_ID)).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+
+        GatewayFilterChain changedMidFlight = exchange -> {
+            cache.invalidateProduct(UUID.randomUUID());
+            return respond(exchange.getResponse(), PUBLIC);
+        };
+        filter.filter(authenticated(MockServerHttpRequest.get(DETAIL)), changedMidFlight).block();
+        // 转发期间发生过失效，响应可能早于变更，不写入
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private GatewayFilterChain respondWith(String cacheControl) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            return respond(exchange.getResponse(), cacheControl);
+        };
+    }
+
+    private Mono<Void> respond(ServerHttpResponse response, String cacheControl) {
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setCacheControl(cacheControl);
+        response.getHeaders().setETag(ETAG);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private MockServerWebExchange authenticated(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = withRoute(MockServerWebExchange.from(request));
+        exchange.getAttributes().put(EdgeAuthenticationFilter.PRINCIPAL_ATTRIBUTE,
+                new FlexleasePrincipal(UUID.randomUUID(), null, "catalog-user", Set.of("USER")));
+        return exchange;
+    }
+
+    private MockServerWebExchange withRoute(MockServerWebExchange exchange) {
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id("product-service")
+                .uri("lb://product-service")
+                .predicate(ignored -> true)
+                .build());
+        return exchange;
+    }
+}
@@ -0,0 +1,113 @@
+package com.flexlease.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 压测数据：厂商、已审核上架的商品（单方案单 SKU）以及消费者账号。
+ *
+ * <p>全部通过对外接口创建（厂商建品 → 建方案/SKU → 提交审核 → 管理员通过），不计入压测统计。</p>
+ */
+final class CatalogFixture {
+
+    private static final String[] CATEGORIES = {"camera", "drone", "laptop", "audio", "outdoor"};
+    private static final String[] NAMES = {"便携相机", "航拍无人机", "轻薄笔记本", "降噪耳机", "露营套装"};
+
+    private final List<Product> products;
+    private final List<Customer> customers;
+
+    private CatalogFixture(List<Product> products, List<Customer> customers) {
+        this.products = products;
+        this.customers = customers;
+    }
+
+    static CatalogFixture seed(FlexleaseApi api, LoadTestOptions options) {
+        String adminToken = api.bearerToken(UUID.randomUUID(), null, "loadtest-admin", "ADMIN");
+        List<Vendor> vendors = new ArrayList<>();
+        List<Product> products = new ArrayList<>();
+        for (int v = 0; v < options.vendors(); v++) {
+            UUID vendorId = UUID.randomUUID();
+            UUID accountId = UUID.randomUUID();
+            Vendor vendor = new Vendor(vendorId, accountId, api.bearerToken(accountId, vendorId, "loadtest-vendor-" + v, "VENDOR"));
+            vendors.add(vendor);
+            for (int p = 0; p < options.productsPerVendor(); p++) {
+                products.add(createProduct(api, vendor, adminToken, options.stock(), v * options.productsPerVendor() + p));
+            }
+        }
+        List<Customer> customers = new ArrayList<>();
+        for (int u = 0; u < options.users(); u++) {
+            UUID userId = UUID.randomUUID();
+            customers.add(new Customer(userId, api.bearerToken(userId, null, "loadtest-user-" + u, "USER")));
+        }
+        System.out.printf("已准备 %d 个厂商、%d 个商品、%d 个消费者%n", vendors.size(), products.size(), customers.size());
+        return new CatalogFixture(products, customers);
+    }
+
+    private static Product createProduct(FlexleaseApi api, Vendor vendor, String adminToken, int stock, int index) {
+        String base = "/api/v1/vendors/" + vendor.id() + "/products";
+        int kind = index % CATEGORIES.length;
+        String name = NAMES[kind] + " LT-" + index;
+        JsonNode product = api.post(false, "product-service", "seed", base, vendor.token(), Map.of(
+                "name", name,
+                "categoryCode", CATEGORIES[kind],
+                "description", "压测商品 " + name));
+        String productId = product.path("id").asText();
+        BigDecimal deposit = BigDecimal.valueOf(300 + 50L * kind);
+        BigDecimal rent = BigDecimal.valueOf(59 + 20L * kind);
+        Map<String, Object> planRequest = new LinkedHashMap<>();
+        planRequest.put("planType", "STANDARD");
+        planRequest.put("termMonths", 12);
+        planRequest.put("depositAmount", deposit);
+        planRequest.put("rentAmountMonthly", rent);
+        planRequest.put("allowExtend", false);
+        JsonNode plan = api.post(false, "product-service", "seed", base + "/" + productId + "/rental-plans", vendor.token(), planRequest);
+        String planId = plan.path("id").asText();
+        JsonNode sku = api.post(false, "product-service", "seed",
+                base + "/" + productId + "/rental-plans/" + planId + "/skus", vendor.token(), Map.of(
+                        "skuCode", "LT-" + index,
+                        "attributes", Map.of("color", "黑色"),
+                        "stockTotal", stock,
+                        "stockAvailable", stock));
+        api.post(false, "product-service", "seed", base + "/" + productId + "/rental-plans/" + planId + "/activate", vendor.token(), null);
+        api.post(false, "product-service", "seed", base + "/" + productId + "/submit", vendor.token(), null);
+        api.post(false, "product-service", "seed", "/api/v1/admin/products/" + productId + "/approve", adminToken, Map.of("remark", "loadtest"));
+        return new Product(UUID.fromString(productId), vendor, UUID.fromString(planId), UUID.fromString(sku.path("id").asText()),
+                name, NAMES[kind], deposit, rent);
+    }
+
+    Product randomProduct() {
+        return products.get(ThreadLocalRandom.current().nextInt(products.size()));
+    }
+
+    Customer randomCustomer() {
+        return customers.get(ThreadLocalRandom.current().nextInt(customers.size()));
+    }
+
+    /**
+     * @param accountId 厂商登录账号的用户 ID（纠纷等接口以账号身份作为操作人）
+     */
+    record Vendor(UUID id, UUID accountId, String token) {
+    }
+
+    record Customer(UUID id, String token) {
+    }
+
+    /**
+     * @param keyword 用于全文检索的品类词
+     */
+    record Product(UUID id,
+                   Vendor vendor,
+                   UUID planId,
+                   UUID skuId,
+                   String name,
+                   String keyword,
+                   BigDecimal deposit,
+                   BigDecimal rent) {
+    }
+}
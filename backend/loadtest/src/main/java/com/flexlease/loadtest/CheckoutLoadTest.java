@@ -0,0 +1,179 @@
+package com.flexlease.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 端到端下单链路压测入口。
+ *
+ * <p>流程：拉起 user/product/order/payment/notification 五个服务与网关 → 通过接口准备商品与账号 →
+ * 按 {@code --rate} 以泊松过程发起旅程（每个旅程一个虚拟线程），先预热再计量 → 输出各接口的客户端延迟分位数、
+ * 服务端每请求 JDBC 语句数与网关目录缓存命中率。用法见 {@code docs/测试与质量策略.md}。</p>
+ */
+public final class CheckoutLoadTest {
+
+    private static final int MAX_LOGGED_FAILURES = 20;
+
+    private CheckoutLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LatencyRecorder recorder = new LatencyRecorder();
+        try (ServiceCluster cluster = new ServiceCluster(options)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(cluster::close));
+            cluster.start();
+            FlexleaseApi api = new FlexleaseApi(cluster, recorder, options.jwtSecret());
+            JourneyRunner runner = new JourneyRunner(api, CatalogFixture.seed(api, options));
+            Result result = drive(options, cluster, runner, recorder);
+            report(options, recorder, result);
+        }
+    }
+
+    private static Result drive(LoadTestOptions options,
+                                ServiceCluster cluster,
+                                JourneyRunner runner,
+                                LatencyRecorder recorder) throws IOException, InterruptedException {
+        List<Journey> weighted = new ArrayList<>();
+        options.mix().forEach((journey, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(journey);
+            }
+        });
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger loggedFailures = new AtomicInteger();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        DbStatementStats baseline = null;
+        GatewayCacheStats cacheBaseline = null;
+        System.out.printf("开始压测：%.1f 旅程/秒，预热 %d 秒，计量 %d 秒，旅程比例 %s%n",
+                options.rate(), options.warmup().toSeconds(), options.duration().toSeconds(), options.mix());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long next = start;
+            while (next < end) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                boolean measured = next >= measureFrom;
+                if (measured && baseline == null) {
+                    baseline = DbStatementStats.scrape(cluster);
+                    cacheBaseline = GatewayCacheStats.scrape(cluster);
+                }
+                Journey journey = weighted.get(ThreadLocalRandom.current().nextInt(weighted.size()));
+                executor.submit(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        runner.run(journey, measured);
+                        if (measured) {
+                            recorder.journeyFinished(journey, true);
+                        }
+                    } catch (RuntimeException ex) {
+                        if (measured) {
+                            recorder.journeyFinished(journey, false);
+                            if (loggedFailures.incrementAndGet() <= MAX_LOGGED_FAILURES) {
+                                System.err.printf("[%s] %s%n", journey.label(), ex.getMessage());
+                            }
+                        }
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+                // 泊松到达：指数分布的间隔，服务变慢时仍按计划发起请求
+                next += (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) / options.rate() * 1_000_000_000L);
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(2, TimeUnit.MINUTES)) {
+                System.err.println("仍有旅程未在 2 分钟内结束，强制停止");
+                executor.shutdownNow();
+            }
+        }
+        DbStatementStats after = DbStatementStats.scrape(cluster);
+        GatewayCacheStats cacheAfter = GatewayCacheStats.scrape(cluster);
+        return new Result(after.since(Optional.ofNullable(baseline).orElse(after)),
+                cacheAfter.since(Optional.ofNullable(cacheBaseline).orElse(cacheAfter)),
+                maxInFlight.get());
+    }
+
+    private static void report(LoadTestOptions options, LatencyRecorder recorder, Result result) throws IOException {
+        double seconds = options.duration().toMillis() / 1000.0;
+        Map<String, DbStatementStats.Row> statements = new LinkedHashMap<>();
+        result.statements().forEach(row -> statements.put(row.service() + " " + row.endpoint(), row));
+
+        System.out.println();
+        System.out.println("== 旅程 ==");
+        for (Journey journey : options.mix().keySet()) {
+            System.out.printf("%-10s 完成 %6d  失败 %6d%n", journey.label(), recorder.completed(journey), recorder.failed(journey));
+        }
+        System.out.printf("最大并发旅程数：%d%n", result.maxInFlight());
+
+        System.out.println();
+        System.out.println("== 接口（客户端延迟，毫秒；DB 为服务端每请求 JDBC 语句数） ==");
+        System.out.printf("%-22s %-58s %7s %5s %7s %8s %8s %8s %8s %8s %6s%n",
+                "service", "endpoint", "count", "err", "rps", "mean", "p50", "p90", "p99", "max", "DB");
+        List<LatencyRecorder.EndpointStats> endpoints = recorder.snapshot();
+        for (LatencyRecorder.EndpointStats stats : endpoints) {
+            DbStatementStats.Row db = statements.remove(stats.service() + " " + stats.endpoint());
+            System.out.printf("%-22s %-58s %7d %5d %7.1f %8.1f %8.1f %8.1f %8.1f %8.1f %6s%n",
+                    stats.service(), stats.endpoint(), stats.count(), stats.errors(), stats.count() / seconds,
+                    stats.meanMs(), stats.p50Ms(), stats.p90Ms(), stats.p99Ms(), stats.maxMs(),
+                    db == null ? "-" : "%.1f".formatted(db.statementsPerRequest()));
+        }
+
+        // 剩余的是只在服务之间调用的接口
+        if (!statements.isEmpty()) {
+            System.out.println();
+            System.out.println("== 服务间调用（服务端每请求 JDBC 语句数） ==");
+            for (DbStatementStats.Row row : statements.values()) {
+                System.out.printf("%-22s %-58s %7d %6.1f%n", row.service(), row.endpoint(), row.requests(), row.statementsPerRequest());
+            }
+        }
+
+        GatewayCacheStats.Summary cache = result.gatewayCache();
+        System.out.println();
+        System.out.printf("== 网关目录缓存（%s） ==%n", options.gatewayCache() ? "开启" : "关闭");
+        System.out.printf("查询 %d  命中 %d  过期仍可用 %d  304 %d  未命中 %d  命中率 %.1f%%%n",
+                cache.lookups(), cache.hits(), cache.stale(), cache.notModified(), cache.misses(), cache.hitRatio() * 100);
+        System.out.printf("合并 follower %d  省下的上游请求 %d%n", cache.coalescedFollowers(), cache.upstreamSaved());
+
+        if (options.report() != null) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("rate", options.rate());
+            json.put("durationSeconds", options.duration().toSeconds());
+            json.put("mix", options.mix());
+            Map<String, Object> journeys = new LinkedHashMap<>();
+            options.mix().keySet().forEach(journey -> journeys.put(journey.label(),
+                    Map.of("completed", recorder.completed(journey), "failed", recorder.failed(journey))));
+            json.put("journeys", journeys);
+            json.put("maxInFlight", result.maxInFlight());
+            json.put("endpoints", endpoints);
+            json.put("dbStatements", result.statements());
+            json.put("gatewayCache", cache);
+            if (options.report().getParent() != null) {
+                Files.createDirectories(options.report().getParent());
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.report().toFile(), json);
+            System.out.println();
+            System.out.println("JSON 报告：" + options.report().toAbsolutePath());
+        }
+    }
+
+    private record Result(List<DbStatementStats.Row> statements, GatewayCacheStats.Summary gatewayCache, int maxInFlight) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.flexlease.loadtest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 从各服务的 {@code flexlease_http_db_statements} 指标计算计量窗口内每个接口的平均 JDBC 语句数。
+ *
+ * <p>服务端按路由模板聚合，因此这里也包含被其他服务调用的内部接口（如库存预占、支付流水查询）。</p>
+ */
+final class DbStatementStats {
+
+    // 路由模板本身含花括号（如 {orderId}），标签段只能按最后一个右括号截取
+    private static final Pattern SAMPLE = Pattern.compile(
+            "^flexlease_http_db_statements_(count|sum)\\{(.*)}\\s+(\\S+)$");
+    private static final Pattern LABEL = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+
+    private final Map<Key, double[]> totals;
+
+    private DbStatementStats(Map<Key, double[]> totals) {
+        this.totals = totals;
+    }
+
+    static DbStatementStats scrape(ServiceCluster cluster) throws IOException, InterruptedException {
+        Map<Key, double[]> totals = new HashMap<>();
+        for (String service : ServiceCluster.SERVICES) {
+            for (String line : cluster.scrapeMetrics(service).split("\n")) {
+                Matcher matcher = SAMPLE.matcher(line);
+                if (!matcher.find()) {
+                    continue;
+                }
+                Map<String, String> labels = new HashMap<>();
+                Matcher label = LABEL.matcher(matcher.group(2));
+                while (label.find()) {
+                    labels.put(label.group(1), label.group(2));
+                }
+                Key key = new Key(service, labels.get("method") + " " + labels.get("uri"));
+                double[] value = totals.computeIfAbsent(key, ignored -> new double[2]);
+                value["count".equals(matcher.group(1)) ? 0 : 1] = Double.parseDouble(matcher.group(3));
+            }
+        }
+        return new DbStatementStats(totals);
+    }
+
+    /**
+     * 计算相对于 {@code baseline} 的增量，只保留窗口内有请求的接口。
+     */
+    List<Row> since(DbStatementStats baseline) {
+        List<Row> rows = new ArrayList<>();
+        totals.forEach((key, value) -> {
+            double[] before = baseline.totals.getOrDefault(key, new double[2]);
+            long requests = Math.round(value[0] - before[0]);
+            if (requests > 0) {
+                rows.add(new Row(key.service(), key.endpoint(), requests, (value[1] - before[1]) / requests));
+            }
+        });
+        rows.sort(Comparator.comparing(Row::service).thenComparing(Row::endpoint));
+        return rows;
+    }
+
+    private record Key(String service, String endpoint) {
+    }
+
+    record Row(String service, String endpoint, long requests, double statementsPerRequest) {
+    }
+}
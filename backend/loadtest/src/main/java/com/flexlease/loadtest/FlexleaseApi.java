@@ -0,0 +1,160 @@
+package com.flexlease.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+
+/**
+ * 调用各服务 REST 接口的薄封装：负责签发 JWT、序列化请求、校验 {@code ApiResponse} 并按接口记录耗时。
+ */
+final class FlexleaseApi {
+
+    private final ServiceCluster cluster;
+    private final LatencyRecorder recorder;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SecretKey signingKey;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    FlexleaseApi(ServiceCluster cluster, LatencyRecorder recorder, String jwtSecret) {
+        this.cluster = cluster;
+        this.recorder = recorder;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(ensureBase64(jwtSecret)));
+    }
+
+    /**
+     * 与 auth-service 的签发格式保持一致：subject 为用户 ID，角色以逗号分隔，厂商身份额外携带 {@code vendorId}。
+     */
+    String bearerToken(UUID userId, UUID vendorId, String username, String role) {
+        var builder = Jwts.builder()
+                .setSubject(userId.toString())
+                .claim("username", username)
+                .claim("roles", role)
+                .setIssuer("flexlease-auth-service")
+                .setIssuedAt(Date.from(Instant.now()))
+                .setExpiration(Date.from(Instant.now().plus(12, ChronoUnit.HOURS)));
+        if (vendorId != null) {
+            builder.claim("vendorId", vendorId.toString());
+        }
+        return "Bearer " + builder.signWith(signingKey).compact();
+    }
+
+    JsonNode get(boolean measured, String service, String label, String path, String token) {
+        return call(measured, service, label, "GET", path, token, null, null);
+    }
+
+    JsonNode post(boolean measured, String service, String label, String path, String token, Object body) {
+        return call(measured, service, label, "POST", path, token, body, null);
+    }
+
+    JsonNode post(boolean measured, String service, String label, String path, String token, Object body, String idempotencyKey) {
+        return call(measured, service, label, "POST", path, token, body, idempotencyKey);
+    }
+
+    /**
+     * @param label 接口模板（如 {@code /api/v1/orders/{orderId}/ship}），作为报告中的分组键
+     * @return {@code ApiResponse.data}
+     */
+    private JsonNode call(boolean measured,
+                          String service,
+                          String label,
+                          String method,
+                          String path,
+                          String token,
+                          Object body,
+                          String idempotencyKey) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(cluster.baseUrl(service) + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        if (idempotencyKey != null) {
+            builder.header("Idempotency-Key", idempotencyKey);
+        }
+        if (body == null) {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(toJson(body), StandardCharsets.UTF_8));
+        }
+        String endpoint = method + " " + label;
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException ex) {
+            recordFailure(measured, service, endpoint, start);
+            throw new LoadTestException(endpoint + " 请求失败：" + ex.getMessage(), ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new LoadTestException(endpoint + " 被中断", ex);
+        }
+        long elapsed = System.nanoTime() - start;
+        JsonNode payload = parse(response.body());
+        boolean success = response.statusCode() / 100 == 2 && payload != null && payload.path("code").asInt(-1) == 0;
+        if (measured) {
+            recorder.record(service, endpoint, elapsed, success);
+        }
+        if (!success) {
+            String message = payload == null ? response.body() : payload.path("message").asText();
+            throw new LoadTestException(endpoint + " 返回 " + response.statusCode() + "：" + message);
+        }
+        return payload.path("data");
+    }
+
+    private void recordFailure(boolean measured, String service, String endpoint, long start) {
+        if (measured) {
+            recorder.record(service, endpoint, System.nanoTime() - start, false);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("无法序列化请求体", ex);
+        }
+    }
+
+    private JsonNode parse(String body) {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 与 {@code JwtTokenVerifier} 相同的密钥解析规则：非 Base64 的明文密钥先做一次编码。
+     */
+    private static String ensureBase64(String secret) {
+        try {
+            Decoders.BASE64.decode(secret);
+            return secret;
+        } catch (RuntimeException ignored) {
+            return Base64.getEncoder().encodeToString(secret.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.flexlease.loadtest;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 从网关的 {@code flexlease_gateway_cache_requests_total} 与 {@code flexlease_gateway_coalesced_total}
+ * 计算计量窗口内目录缓存的命中率，以及缓存与请求合并共同省下的上游请求数。
+ */
+final class GatewayCacheStats {
+
+    private static final String GATEWAY = "gateway-service";
+    private static final Pattern SAMPLE = Pattern.compile(
+            "^flexlease_gateway_(cache_requests|coalesced)_total\\{(.*)}\\s+(\\S+)$");
+    private static final Pattern LABEL = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+
+    private final Map<String, Double> counters;
+
+    private GatewayCacheStats(Map<String, Double> counters) {
+        this.counters = counters;
+    }
+
+    static GatewayCacheStats scrape(ServiceCluster cluster) throws IOException, InterruptedException {
+        Map<String, Double> counters = new HashMap<>();
+        for (String line : cluster.scrapeMetrics(GATEWAY).split("\n")) {
+            Matcher matcher = SAMPLE.matcher(line);
+            if (!matcher.find()) {
+                continue;
+            }
+            Map<String, String> labels = new HashMap<>();
+            Matcher label = LABEL.matcher(matcher.group(2));
+            while (label.find()) {
+                labels.put(label.group(1), label.group(2));
+            }
+            String key = "cache_requests".equals(matcher.group(1))
+                    ? labels.get("result")
+                    : "coalesced_" + labels.get("role");
+            counters.merge(key, Double.parseDouble(matcher.group(3)), Double::sum);
+        }
+        return new GatewayCacheStats(counters);
+    }
+
+    Summary since(GatewayCacheStats baseline) {
+        long hits = delta(baseline, "hit");
+        long stale = delta(baseline, "stale");
+        long notModified = delta(baseline, "not_modified");
+        long misses = delta(baseline, "miss");
+        long followers = delta(baseline, "coalesced_follower");
+        long lookups = hits + stale + notModified + misses;
+        double hitRatio = lookups == 0 ? 0 : (double) (hits + stale + notModified) / lookups;
+        return new Summary(lookups, hits, stale, notModified, misses, followers, hitRatio, hits + stale + notModified + followers);
+    }
+
+    private long delta(GatewayCacheStats baseline, String key) {
+        return Math.round(counters.getOrDefault(key, 0.0) - baseline.counters.getOrDefault(key, 0.0));
+    }
+
+    /**
+     * @param upstreamSaved 缓存命中（含 stale 与 304）与合并 follower 之和，即未到达 product-service 的目录请求数
+     */
+    record Summary(long lookups,
+                   long hits,
+                   long stale,
+                   long notModified,
+                   long misses,
+                   long coalescedFollowers,
+                   double hitRatio,
+                   long upstreamSaved) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.flexlease.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 压测中的用户旅程；后一类旅程基本包含前一类的步骤，便于按比例调节写入压力。
+ */
+enum Journey {
+
+    /** 目录列表、全文检索、商品详情。 */
+    BROWSE,
+    /** 商品详情 + 订单试算。 */
+    PREVIEW,
+    /** 试算、下单（带幂等键）、发起支付并等待订单进入待发货。 */
+    CHECKOUT,
+    /** 下单支付后发货、确认收货、申请退租、厂商审批并完结退租（含押金退款）。 */
+    RETURN,
+    /** 下单支付后发货、确认收货，再由用户发起纠纷、厂商回应。 */
+    DISPUTE;
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static Journey fromName(String name) {
+        return Arrays.stream(values())
+                .filter(journey -> journey.label().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("未知旅程：" + name + "，可选 browse/preview/checkout/return/dispute"));
+    }
+}
@@ -0,0 +1,167 @@
+package com.flexlease.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 执行单个用户旅程。每一步都是一次真实的 REST 调用，任一步失败即中止该旅程并计为失败。
+ */
+final class JourneyRunner {
+
+    /** 目录读请求经网关转发，计入网关响应缓存的命中统计。 */
+    private static final String GATEWAY = "gateway-service";
+    private static final String ORDER = "order-service";
+    private static final String PAYMENT = "payment-service";
+
+    /** 支付成功后由 outbox 同步回调订单服务，通常首次查询即已更新；这里给出宽松上限。 */
+    private static final int PAYMENT_POLL_ATTEMPTS = 40;
+    private static final long PAYMENT_POLL_INTERVAL_MS = 50;
+
+    private final FlexleaseApi api;
+    private final CatalogFixture fixture;
+
+    JourneyRunner(FlexleaseApi api, CatalogFixture fixture) {
+        this.api = api;
+        this.fixture = fixture;
+    }
+
+    void run(Journey journey, boolean measured) {
+        Step step = new Step(measured, fixture.randomCustomer(), fixture.randomProduct());
+        switch (journey) {
+            case BROWSE -> browse(step);
+            case PREVIEW -> preview(step);
+            case CHECKOUT -> checkout(step);
+            case RETURN -> returnFlow(step);
+            case DISPUTE -> dispute(step);
+        }
+    }
+
+    private void browse(Step step) {
+        String token = step.customer.token();
+        api.get(step.measured, GATEWAY, "/api/v1/catalog/products", "/api/v1/catalog/products?page=1&size=20", token);
+        api.get(step.measured, GATEWAY, "/api/v1/catalog/products/search",
+                "/api/v1/catalog/products/search?page=1&size=20&keyword=" + URLEncoder.encode(step.product.keyword(), StandardCharsets.UTF_8),
+                token);
+        productDetail(step);
+    }
+
+    private void preview(Step step) {
+        productDetail(step);
+        api.post(step.measured, ORDER, "/api/v1/orders/preview", "/api/v1/orders/preview", step.customer.token(), Map.of(
+                "userId", step.customer.id(),
+                "vendorId", step.product.vendor().id(),
+                "planType", "STANDARD",
+                "items", List.of(orderItem(step.product))));
+    }
+
+    private UUID checkout(Step step) {
+        preview(step);
+        CatalogFixture.Customer customer = step.customer;
+        Map<String, Object> request = new HashMap<>();
+        request.put("userId", customer.id());
+        request.put("vendorId", step.product.vendor().id());
+        request.put("planType", "STANDARD");
+        request.put("items", List.of(orderItem(step.product)));
+        request.put("remark", "loadtest");
+        JsonNode order = api.post(step.measured, ORDER, "/api/v1/orders", "/api/v1/orders", customer.token(), request,
+                UUID.randomUUID().toString());
+        UUID orderId = UUID.fromString(order.path("id").asText());
+        api.post(step.measured, PAYMENT, "/api/v1/payments/{orderId}/init", "/api/v1/payments/" + orderId + "/init",
+                customer.token(), Map.of(
+                        "userId", customer.id(),
+                        "vendorId", step.product.vendor().id(),
+                        "scene", "RENT",
+                        "channel", "MOCK",
+                        "amount", order.path("totalAmount").decimalValue(),
+                        "description", "loadtest"),
+                UUID.randomUUID().toString());
+        awaitStatus(step, orderId, "AWAITING_SHIPMENT");
+        return orderId;
+    }
+
+    private UUID receive(Step step) {
+        UUID orderId = checkout(step);
+        CatalogFixture.Vendor vendor = step.product.vendor();
+        api.post(step.measured, ORDER, "/api/v1/orders/{orderId}/ship", "/api/v1/orders/" + orderId + "/ship", vendor.token(), Map.of(
+                "vendorId", vendor.id(),
+                "carrier", "顺丰速运",
+                "trackingNumber", "SF" + Math.abs(orderId.getMostSignificantBits() % 1_000_000_000L)));
+        api.post(step.measured, ORDER, "/api/v1/orders/{orderId}/confirm-receive", "/api/v1/orders/" + orderId + "/confirm-receive",
+                step.customer.token(), Map.of("actorId", step.customer.id()));
+        return orderId;
+    }
+
+    private void returnFlow(Step step) {
+        UUID orderId = receive(step);
+        CatalogFixture.Vendor vendor = step.product.vendor();
+        String path = "/api/v1/orders/" + orderId;
+        api.post(step.measured, ORDER, "/api/v1/orders/{orderId}/return", path + "/return", step.customer.token(), Map.of(
+                "userId", step.customer.id(),
+                "reason", "压测退租"));
+        api.post(step.measured, ORDER, "/api/v1/orders/{orderId}/return/approve", path + "/return/approve", vendor.token(), Map.of(
+                "vendorId", vendor.id(),
+                "approve", true));
+        api.post(step.measured, ORDER, "/api/v1/orders/{orderId}/return/complete", path + "/return/complete", vendor.token(), Map.of(
+                "vendorId", vendor.id(),
+                "remark", "压测完结"));
+    }
+
+    private void dispute(Step step) {
+        UUID orderId = receive(step);
+        CatalogFixture.Vendor vendor = step.product.vendor();
+        String path = "/api/v1/orders/" + orderId + "/disputes";
+        JsonNode dispute = api.post(step.measured, ORDER, "/api/v1/orders/{orderId}/disputes", path, step.customer.token(), Map.of(
+                "actorId", step.customer.id(),
+                "option", "PARTIAL_REFUND",
+                "reason", "压测纠纷：外观有划痕"));
+        api.post(step.measured, ORDER, "/api/v1/orders/{orderId}/disputes/{disputeId}/responses",
+                path + "/" + dispute.path("id").asText() + "/responses", vendor.token(), Map.of(
+                        "actorId", vendor.accountId(),
+                        "option", "PARTIAL_REFUND",
+                        "accept", false,
+                        "remark", "需进一步核实"));
+        api.get(step.measured, ORDER, "/api/v1/orders/{orderId}/disputes", path, step.customer.token());
+    }
+
+    private void productDetail(Step step) {
+        api.get(step.measured, GATEWAY, "/api/v1/catalog/products/{productId}",
+                "/api/v1/catalog/products/" + step.product.id(), step.customer.token());
+    }
+
+    private void awaitStatus(Step step, UUID orderId, String expected) {
+        for (int attempt = 0; attempt < PAYMENT_POLL_ATTEMPTS; attempt++) {
+            JsonNode order = api.get(step.measured, ORDER, "/api/v1/orders/{orderId}", "/api/v1/orders/" + orderId,
+                    step.customer.token());
+            if (expected.equals(order.path("status").asText())) {
+                return;
+            }
+            try {
+                Thread.sleep(PAYMENT_POLL_INTERVAL_MS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new LoadTestException("等待订单状态时被中断", ex);
+            }
+        }
+        throw new LoadTestException("订单 " + orderId + " 未在预期时间内进入 " + expected);
+    }
+
+    private static Map<String, Object> orderItem(CatalogFixture.Product product) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("productId", product.id());
+        item.put("skuId", product.skuId());
+        item.put("planId", product.planId());
+        item.put("productName", product.name());
+        item.put("quantity", 1);
+        item.put("unitRentAmount", product.rent());
+        item.put("unitDepositAmount", product.deposit());
+        return item;
+    }
+
+    private record Step(boolean measured, CatalogFixture.Customer customer, CatalogFixture.Product product) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.flexlease.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按接口记录客户端观测到的耗时（含网络与排队），并统计各类旅程的成败次数。
+ *
+ * <p>到达速率固定（开放模型），服务变慢时请求会堆积而不是少发，因此分位数不受协调遗漏影响。</p>
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+    private final Map<Journey, AtomicLong> completed = new EnumMap<>(Journey.class);
+    private final Map<Journey, AtomicLong> failed = new EnumMap<>(Journey.class);
+
+    LatencyRecorder() {
+        for (Journey journey : Journey.values()) {
+            completed.put(journey, new AtomicLong());
+            failed.put(journey, new AtomicLong());
+        }
+    }
+
+    void record(String service, String endpoint, long elapsedNanos, boolean success) {
+        endpoints.computeIfAbsent(endpoint, key -> new Samples(service)).add(elapsedNanos, success);
+    }
+
+    void journeyFinished(Journey journey, boolean success) {
+        (success ? completed : failed).get(journey).incrementAndGet();
+    }
+
+    long completed(Journey journey) {
+        return completed.get(journey).get();
+    }
+
+    long failed(Journey journey) {
+        return failed.get(journey).get();
+    }
+
+    /**
+     * 按服务、接口排序的汇总结果。
+     */
+    List<EndpointStats> snapshot() {
+        List<EndpointStats> stats = new ArrayList<>();
+        endpoints.forEach((endpoint, samples) -> stats.add(samples.summarize(endpoint)));
+        stats.sort(Comparator.comparing(EndpointStats::service).thenComparing(EndpointStats::endpoint));
+        return stats;
+    }
+
+    record EndpointStats(String service,
+                         String endpoint,
+                         int count,
+                         int errors,
+                         double meanMs,
+                         double p50Ms,
+                         double p90Ms,
+                         double p99Ms,
+                         double maxMs) {
+    }
+
+    private static final class Samples {
+
+        private final String service;
+        private long[] values = new long[1024];
+        private int size;
+        private int errors;
+
+        Samples(String service) {
+            this.service = service;
+        }
+
+        synchronized void add(long nanos, boolean success) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointStats summarize(String endpoint) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            double mean = size == 0 ? 0 : Arrays.stream(sorted).average().orElse(0);
+            return new EndpointStats(service, endpoint, size, errors,
+                    toMillis(mean),
+                    toMillis(percentile(sorted, 0.50)),
+                    toMillis(percentile(sorted, 0.90)),
+                    toMillis(percentile(sorted, 0.99)),
+                    toMillis(size == 0 ? 0 : sorted[size - 1]));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        private static double toMillis(double nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.flexlease.loadtest;
+
+/**
+ * 旅程中某一步失败（非 2xx 或 {@code ApiResponse.code != 0}），当前旅程随即中止。
+ */
+class LoadTestException extends RuntimeException {
+
+    LoadTestException(String message) {
+        super(message);
+    }
+
+    LoadTestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
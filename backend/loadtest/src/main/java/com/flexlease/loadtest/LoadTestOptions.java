@@ -0,0 +1,113 @@
+package com.flexlease.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 压测参数，命令行以 {@code --name=value} 形式传入，未提供时取默认值。
+ *
+ * @param rate           每秒到达的用户旅程数（开放模型，按泊松过程到达）
+ * @param warmup         预热时长，预热期间的旅程不计入报告
+ * @param duration       计量时长
+ * @param mix            各类旅程的权重
+ * @param vendors        厂商数量
+ * @param productsPerVendor 每个厂商上架的商品数
+ * @param users          消费者数量
+ * @param stock          每个 SKU 的初始库存
+ * @param basePort       服务端口起点，按 {@link ServiceCluster#SERVICES} 顺序递增
+ * @param launch         是否由压测进程拉起服务；为 {@code false} 时直接压测已在 {@code basePort} 起监听的服务
+ * @param servicesDir    服务可执行 jar 所在目录
+ * @param workDir        服务工作目录与日志目录
+ * @param serviceJvmArgs 服务 JVM 参数（空格分隔）
+ * @param report         JSON 报告输出路径，为空时只打印表格
+ * @param jwtSecret      与服务一致的 JWT 签名密钥
+ * @param gatewayCache   是否开启网关目录响应缓存，关闭后可对比上游请求数与延迟
+ */
+record LoadTestOptions(
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Map<Journey, Integer> mix,
+        int vendors,
+        int productsPerVendor,
+        int users,
+        int stock,
+        int basePort,
+        boolean launch,
+        Path servicesDir,
+        Path workDir,
+        List<String> serviceJvmArgs,
+        Path report,
+        String jwtSecret,
+        boolean gatewayCache
+) {
+
+    static final String DEFAULT_MIX = "browse=40,preview=20,checkout=20,return=15,dispute=5";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("参数格式应为 --name=value：" + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        Path jarDir = locateJarDir();
+        String jvmArgs = values.getOrDefault("service-jvm-args", "-Xms256m -Xmx512m");
+        String report = values.get("report");
+        return new LoadTestOptions(
+                Double.parseDouble(values.getOrDefault("rate", "5")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(values.getOrDefault("vendors", "3")),
+                Integer.parseInt(values.getOrDefault("products-per-vendor", "5")),
+                Integer.parseInt(values.getOrDefault("users", "200")),
+                Integer.parseInt(values.getOrDefault("stock", "100000")),
+                Integer.parseInt(values.getOrDefault("base-port", "19100")),
+                Boolean.parseBoolean(values.getOrDefault("launch", "true")),
+                Path.of(values.getOrDefault("services-dir", jarDir.resolve("services").toString())),
+                Path.of(values.getOrDefault("work-dir", jarDir.resolve("loadtest-work").toString())),
+                jvmArgs.isBlank() ? List.of() : List.of(jvmArgs.trim().split("\\s+")),
+                report == null || report.isBlank() ? null : Path.of(report),
+                values.getOrDefault("jwt-secret", "flexlease-default-secret-please-change"),
+                Boolean.parseBoolean(values.getOrDefault("gateway-cache", "true"))
+        );
+    }
+
+    static Map<Journey, Integer> parseMix(String raw) {
+        Map<Journey, Integer> mix = new EnumMap<>(Journey.class);
+        for (String part : raw.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 格式应为 name=weight：" + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Journey.fromName(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix 至少需要一个权重大于 0 的旅程");
+        }
+        return mix;
+    }
+
+    /**
+     * 默认目录取压测 jar 所在目录（即 {@code backend/loadtest/target}），构建时服务 jar 被复制到其下的 {@code services}。
+     */
+    static Path locateJarDir() {
+        try {
+            Path location = Path.of(LoadTestOptions.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            // jar 与 IDE 中的 target/classes 都位于 target 之下
+            return location.getParent();
+        } catch (Exception ex) {
+            return Path.of("backend", "loadtest", "target");
+        }
+    }
+}
@@ -0,0 +1,509 @@
+package com.flexlease.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javax.crypto.SecretKey;
+
+/**
+ * 通知中心接收方式压测：对比定时拉取 {@code /api/v1/notifications/logs} 与 SSE 推送下 notification-service 的
+ * 数据库负载与通知到达延迟。
+ *
+ * <p>每种方式各计量一段时间：{@code clients} 个在线客户端各对应一个接收方，生产者以 {@code rate} 条/秒
+ * 经 {@code /send} 写入通知并随机发给其中一个客户端。拉取方式下每个客户端按 {@code poll-interval} 请求一次列表
+ * （首次请求随机错开）；推送方式下每个客户端保持一条 SSE 连接，断开后携带 Last-Event-ID 重连。
+ * 数据库负载取服务端 {@code flexlease_http_db_statements} 中 {@code /logs} 与 {@code /stream} 两个接口的语句数，
+ * {@code /send} 的写入在两种方式下相同，不计入对比。服务以 {@code dev} profile（H2 内存库）单实例运行，消息关闭，
+ * 推送走本机分发。</p>
+ */
+public final class NotificationPushLoadTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final String LOGS_URI = "/api/v1/notifications/logs";
+    private static final String STREAM_URI = "/api/v1/notifications/stream";
+    private static final String SUBJECT_PREFIX = "push-loadtest-";
+    private static final long CONNECT_SPREAD_MS = 10_000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Pattern DB_STATEMENTS = Pattern.compile("^flexlease_http_db_statements_(count|sum)\\{(.*)}\\s+(\\S+)$");
+    private static final Pattern SUBSCRIBERS = Pattern.compile("^flexlease_notification_push_subscribers\\{.*}\\s+(\\S+)$");
+
+    private final NotificationPushOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SecretKey signingKey;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private NotificationPushLoadTest(NotificationPushOptions options) {
+        this.options = options;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(ensureBase64(options.jwtSecret())));
+    }
+
+    public static void main(String[] args) throws Exception {
+        NotificationPushOptions options = NotificationPushOptions.parse(args);
+        NotificationPushLoadTest test = new NotificationPushLoadTest(options);
+        Process service = options.launch() ? test.launch() : null;
+        if (service != null) {
+            // 压测进程被中断（如 Ctrl+C）时也停止服务进程
+            Runtime.getRuntime().addShutdownHook(new Thread(service::destroy));
+        }
+        try {
+            test.awaitReady(service);
+            List<Result> results = new ArrayList<>();
+            for (String mode : options.modes()) {
+                results.add(test.measure(mode));
+            }
+            test.report(results);
+        } finally {
+            if (service != null) {
+                service.destroy();
+                if (!service.waitFor(20, TimeUnit.SECONDS)) {
+                    service.destroyForcibly();
+                }
+            }
+        }
+    }
+
+    private Result measure(String mode) throws Exception {
+        System.out.printf("%n开始 %s：%d 个客户端，%.1f 条/秒，计量 %d 秒%n",
+                mode, options.clients(), options.rate(), options.duration().toSeconds());
+        List<UUID> recipients = new ArrayList<>();
+        for (int i = 0; i < options.clients(); i++) {
+            recipients.add(UUID.randomUUID());
+        }
+        Run run = new Run();
+        List<Thread> clients = new ArrayList<>();
+        for (UUID recipient : recipients) {
+            String token = bearerToken(recipient, "USER");
+            clients.add(Thread.ofVirtual().start("poll".equals(mode)
+                    ? () -> poll(run, token)
+                    : () -> stream(run, token)));
+        }
+        if ("push".equals(mode)) {
+            awaitSubscribers(options.clients());
+        }
+
+        Counters before = scrape();
+        long deadline = System.nanoTime() + options.duration().toNanos();
+        produce(run, recipients, deadline);
+        // 再等一个拉取周期，让拉取方式也有机会看到最后写入的通知
+        Thread.sleep("poll".equals(mode) ? options.pollInterval().toMillis() : 2_000);
+        Counters after = scrape();
+        run.running.set(false);
+        run.streams.forEach(Stream::close);
+        for (Thread client : clients) {
+            client.interrupt();
+        }
+
+        String uri = "poll".equals(mode) ? LOGS_URI : STREAM_URI;
+        long requests = Math.round(after.requests(uri) - before.requests(uri));
+        long statements = Math.round(after.statements(uri) - before.statements(uri));
+        List<Long> latencies = run.sortedLatencies();
+        Result result = new Result(mode, options.clients(), run.sent.get(), latencies.size(), requests, statements,
+                statements / (double) options.duration().toSeconds(),
+                percentile(latencies, 0.5), percentile(latencies, 0.95), percentile(latencies, 1.0),
+                run.failureCounts(), (long) after.subscribers());
+        System.out.printf("%s 完成：写入 %d，到达 %d，%s 请求 %d，JDBC 语句 %d%n",
+                mode, result.sent(), result.delivered(), uri, result.requests(), result.statements());
+        return result;
+    }
+
+    private void poll(Run run, String token) {
+        Set<String> seen = new HashSet<>();
+        try {
+            // 首次请求在一个周期内随机错开，避免所有客户端同时拉取
+            Thread.sleep(ThreadLocalRandom.current().nextLong(options.pollInterval().toMillis() + 1));
+            while (run.running.get()) {
+                HttpRequest request = HttpRequest.newBuilder(uri(LOGS_URI))
+                        .header("Authorization", token)
+                        .timeout(REQUEST_TIMEOUT)
+                        .GET()
+                        .build();
+                try {
+                    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                    if (response.statusCode() == 200) {
+                        for (JsonNode log : objectMapper.readTree(response.body()).path("data")) {
+                            run.received(seen, log.path("subject").asText());
+                        }
+                    } else {
+                        run.failed("poll " + response.statusCode());
+                    }
+                } catch (IOException ex) {
+                    run.failed("poll " + ex.getClass().getSimpleName());
+                }
+                Thread.sleep(options.pollInterval().toMillis());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void stream(Run run, String token) {
+        Set<String> seen = new HashSet<>();
+        String lastEventId = null;
+        try {
+            // 与拉取方式相同，首次建连在一段时间内随机错开，模拟用户陆续登录而非同时涌入
+            Thread.sleep(ThreadLocalRandom.current().nextLong(CONNECT_SPREAD_MS + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        while (run.running.get()) {
+            HttpRequest.Builder request = HttpRequest.newBuilder(streamUri())
+                    .header("Authorization", token)
+                    .header("Accept", "text/event-stream")
+                    // 对流式响应只限制到收到响应头为止
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET();
+            if (lastEventId != null) {
+                request.header("Last-Event-ID", lastEventId);
+            }
+            try {
+                HttpResponse<Stream<String>> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+                if (response.statusCode() != 200) {
+                    run.failed("stream " + response.statusCode());
+                    response.body().close();
+                    Thread.sleep(1_000);
+                    continue;
+                }
+                run.streams.add(response.body());
+                for (String line : (Iterable<String>) response.body()::iterator) {
+                    if (line.startsWith("id:")) {
+                        lastEventId = line.substring(3).trim();
+                    } else if (line.startsWith("data:")) {
+                        run.received(seen, objectMapper.readTree(line.substring(5)).path("subject").asText());
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException ex) {
+                if (run.running.get()) {
+                    run.failed("stream " + ex.getClass().getSimpleName());
+                }
+            }
+        }
+    }
+
+    private void produce(Run run, List<UUID> recipients, long deadline) throws InterruptedException {
+        String adminToken = bearerToken(UUID.randomUUID(), "ADMIN");
+        long intervalNanos = (long) (1_000_000_000L / options.rate());
+        long next = System.nanoTime();
+        List<Thread> senders = new ArrayList<>();
+        while (next < deadline) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            UUID recipient = recipients.get(ThreadLocalRandom.current().nextInt(recipients.size()));
+            String subject = SUBJECT_PREFIX + run.sent.incrementAndGet();
+            senders.add(Thread.ofVirtual().start(() -> send(run, adminToken, recipient, subject)));
+            next += intervalNanos;
+        }
+        for (Thread sender : senders) {
+            sender.join();
+        }
+    }
+
+    private void send(Run run, String adminToken, UUID recipient, String subject) {
+        Map<String, Object> body = Map.of(
+                "recipient", recipient.toString(),
+                "subject", subject,
+                "content", "通知推送压测",
+                "contextType", "LOADTEST");
+        try {
+            run.sentAt.put(subject, System.nanoTime());
+            HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/notifications/send"))
+                    .header("Authorization", adminToken)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                run.failed("send " + response.statusCode());
+            }
+        } catch (IOException ex) {
+            run.failed("send " + ex.getClass().getSimpleName());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitSubscribers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(180);
+        long connected = 0;
+        while (connected < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("180 秒内只建立了 " + connected + " 条推送连接");
+            }
+            Thread.sleep(1_000);
+            try {
+                connected = (long) scrape().subscribers();
+            } catch (IOException ex) {
+                // 建连高峰期指标请求可能排队超时，下一轮重试
+            }
+        }
+        System.out.printf("已建立 %d 条推送连接%n", connected);
+    }
+
+    private Process launch() throws IOException {
+        Path jar = options.servicesDir().resolve("notification-service.jar");
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("找不到服务 jar：" + jar + "，请先执行 mvn -Ploadtest -pl backend/loadtest -am package -DskipTests");
+        }
+        Path logDir = Files.createDirectories(options.workDir());
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options.serviceJvmArgs());
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--spring.profiles.active=dev");
+        command.add("--server.port=" + options.port());
+        command.add("--flexlease.notification.push.port=" + options.pushPort());
+        command.add("--eureka.client.enabled=false");
+        command.add("--security.jwt.secret=" + options.jwtSecret());
+        command.add("--security.jwt.internal-access-token=" + ServiceCluster.INTERNAL_TOKEN);
+        command.add("--flexlease.messaging.enabled=false");
+        command.add("--flexlease.redis.enabled=false");
+        command.add("--flexlease.metrics.db-statements.enabled=true");
+        command.add("--flexlease.notification.push.max-subscribers=" + Math.max(50_000, options.clients() + 100));
+        command.add("--management.tracing.enabled=false");
+        command.add("--management.health.rabbit.enabled=false");
+        command.add("--management.health.redis.enabled=false");
+        command.add("--spring.h2.console.enabled=false");
+        command.add("--spring.jpa.properties.hibernate.format_sql=false");
+        command.add("--logging.level.root=WARN");
+        Path log = logDir.resolve("notification-service.log");
+        System.out.printf("启动 notification-service（端口 %d，日志 %s）%n", options.port(), log);
+        return new ProcessBuilder(command)
+                .directory(logDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    private void awaitReady(Process service) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (true) {
+            try {
+                HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(uri("/actuator/info")).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ignored) {
+                // 尚未监听端口
+            }
+            if (service != null && !service.isAlive()) {
+                throw new IllegalStateException("notification-service 启动失败，退出码 " + service.exitValue() + "，详见日志");
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("notification-service 在 " + STARTUP_TIMEOUT.toSeconds() + " 秒内未就绪");
+            }
+            Thread.sleep(500);
+        }
+    }
+
+    private Counters scrape() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/actuator/prometheus"))
+                        .header(ServiceCluster.INTERNAL_TOKEN_HEADER, ServiceCluster.INTERNAL_TOKEN)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("指标接口返回 " + response.statusCode());
+        }
+        Map<String, double[]> statements = new ConcurrentHashMap<>();
+        double subscribers = 0;
+        for (String line : response.body().split("\n")) {
+            Matcher matcher = DB_STATEMENTS.matcher(line);
+            if (matcher.find()) {
+                for (String uri : List.of(LOGS_URI, STREAM_URI)) {
+                    if (matcher.group(2).contains("uri=\"" + uri + "\"")) {
+                        statements.computeIfAbsent(uri, key -> new double[2])
+                                ["count".equals(matcher.group(1)) ? 0 : 1] = Double.parseDouble(matcher.group(3));
+                    }
+                }
+                continue;
+            }
+            Matcher gauge = SUBSCRIBERS.matcher(line);
+            if (gauge.find()) {
+                subscribers = Double.parseDouble(gauge.group(1));
+            }
+        }
+        return new Counters(statements, subscribers);
+    }
+
+    private void report(List<Result> results) throws IOException {
+        System.out.println();
+        System.out.printf("== 通知接收方式对比（%d 个客户端，%.1f 条/秒，拉取间隔 %d 秒，计量 %d 秒） ==%n",
+                options.clients(), options.rate(), options.pollInterval().toSeconds(), options.duration().toSeconds());
+        System.out.printf("%-6s %8s %8s %10s %10s %10s %9s %9s %9s %8s%n",
+                "方式", "写入", "到达", "接口请求", "JDBC语句", "语句/秒", "p50(ms)", "p95(ms)", "max(ms)", "推送连接");
+        for (Result result : results) {
+            System.out.printf("%-6s %8d %8d %10d %10d %10.1f %9d %9d %9d %8d%n",
+                    result.mode(), result.sent(), result.delivered(), result.requests(), result.statements(),
+                    result.statementsPerSecond(), result.latencyP50Ms(), result.latencyP95Ms(), result.latencyMaxMs(),
+                    result.subscribers());
+        }
+        for (Result result : results) {
+            if (!result.failures().isEmpty()) {
+                System.out.printf("%s 失败：%s%n", result.mode(), result.failures());
+            }
+        }
+        if (options.report() != null) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("clients", options.clients());
+            json.put("rate", options.rate());
+            json.put("pollIntervalSeconds", options.pollInterval().toSeconds());
+            json.put("durationSeconds", options.duration().toSeconds());
+            json.put("results", results);
+            if (options.report().getParent() != null) {
+                Files.createDirectories(options.report().getParent());
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.report().toFile(), json);
+            System.out.println();
+            System.out.println("JSON 报告：" + options.report().toAbsolutePath());
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + options.port() + path);
+    }
+
+    private URI streamUri() {
+        int port = options.pushPort() > 0 ? options.pushPort() : options.port();
+        return URI.create("http://localhost:" + port + STREAM_URI);
+    }
+
+    private String bearerToken(UUID userId, String role) {
+        return "Bearer " + Jwts.builder()
+                .setSubject(userId.toString())
+                .claim("username", "push-" + role.toLowerCase())
+                .claim("roles", role)
+                .setIssuer("flexlease-auth-service")
+                .setIssuedAt(Date.from(Instant.now()))
+                .setExpiration(Date.from(Instant.now().plus(12, ChronoUnit.HOURS)))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    private static long percentile(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    /**
+     * 与 {@code JwtTokenVerifier} 相同的密钥解析规则：非 Base64 的明文密钥先做一次编码。
+     */
+    private static String ensureBase64(String secret) {
+        try {
+            Decoders.BASE64.decode(secret);
+            return secret;
+        } catch (RuntimeException ignored) {
+            return Base64.getEncoder().encodeToString(secret.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 一种接收方式的计量状态：写入时间按通知标题登记，客户端首次看到某条通知时记录到达延迟。
+     */
+    private static final class Run {
+
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final AtomicLong sent = new AtomicLong();
+        private final Map<String, AtomicLong> failures = new ConcurrentHashMap<>();
+        private final Map<String, Long> sentAt = new ConcurrentHashMap<>();
+        private final List<Long> latenciesMs = Collections.synchronizedList(new ArrayList<>());
+        private final List<Stream<String>> streams = Collections.synchronizedList(new ArrayList<>());
+
+        void received(Set<String> seen, String subject) {
+            if (!subject.startsWith(SUBJECT_PREFIX) || !seen.add(subject)) {
+                return;
+            }
+            Long start = sentAt.get(subject);
+            if (start != null) {
+                latenciesMs.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        }
+
+        void failed(String reason) {
+            failures.computeIfAbsent(reason, key -> new AtomicLong()).incrementAndGet();
+        }
+
+        Map<String, Long> failureCounts() {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            failures.forEach((reason, count) -> counts.put(reason, count.get()));
+            return counts;
+        }
+
+        List<Long> sortedLatencies() {
+            synchronized (latenciesMs) {
+                List<Long> copy = new ArrayList<>(latenciesMs);
+                Collections.sort(copy);
+                return copy;
+            }
+        }
+    }
+
+    private record Counters(Map<String, double[]> statements, double subscribers) {
+
+        double requests(String uri) {
+            return statements.getOrDefault(uri, new double[2])[0];
+        }
+
+        double statements(String uri) {
+            return statements.getOrDefault(uri, new double[2])[1];
+        }
+    }
+
+    record Result(String mode,
+                  int clients,
+                  long sent,
+                  long delivered,
+                  long requests,
+                  long statements,
+                  double statementsPerSecond,
+                  long latencyP50Ms,
+                  long latencyP95Ms,
+                  long latencyMaxMs,
+                  Map<String, Long> failures,
+                  long subscribers) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.flexlease.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 通知推送压测参数，命令行以 {@code --name=value} 形式传入，未提供时取默认值。
+ *
+ * @param modes          依次执行的接收方式：{@code poll} 定时拉取 {@code /logs}，{@code push} 保持 SSE 连接
+ * @param clients        在线客户端数，每个客户端对应一个接收方
+ * @param rate           每秒写入的通知数，随机发给在线客户端
+ * @param pollInterval   {@code poll} 方式下每个客户端的拉取间隔
+ * @param duration       每种方式的计量时长
+ * @param port           notification-service 监听端口
+ * @param pushPort       推送专用端口（小套接字缓冲），为 0 时推送连接也走 {@code port}
+ * @param launch         是否由压测进程拉起服务；为 false 时复用同端口上已运行的实例
+ * @param servicesDir    服务可执行 jar 所在目录
+ * @param workDir        服务日志目录
+ * @param serviceJvmArgs 服务 JVM 参数（空格分隔）
+ * @param report         JSON 报告输出路径，为空时只打印表格
+ * @param jwtSecret      与服务一致的 JWT 密钥
+ */
+record NotificationPushOptions(
+        List<String> modes,
+        int clients,
+        double rate,
+        Duration pollInterval,
+        Duration duration,
+        int port,
+        int pushPort,
+        boolean launch,
+        Path servicesDir,
+        Path workDir,
+        List<String> serviceJvmArgs,
+        Path report,
+        String jwtSecret
+) {
+
+    static NotificationPushOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("参数格式应为 --name=value：" + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        List<String> modes = List.of(values.getOrDefault("modes", "poll,push").split("\\s*,\\s*"));
+        for (String mode : modes) {
+            if (!"poll".equals(mode) && !"push".equals(mode)) {
+                throw new IllegalArgumentException("未知接收方式：" + mode + "，可选 poll、push");
+            }
+        }
+        int clients = Integer.parseInt(values.getOrDefault("clients", "2000"));
+        if (clients < 1) {
+            throw new IllegalArgumentException("clients 至少为 1");
+        }
+        Path jarDir = LoadTestOptions.locateJarDir();
+        String jvmArgs = values.getOrDefault("service-jvm-args", "-Xms256m -Xmx512m");
+        String report = values.get("report");
+        int port = Integer.parseInt(values.getOrDefault("port", "19300"));
+        return new NotificationPushOptions(
+                modes,
+                clients,
+                Double.parseDouble(values.getOrDefault("rate", "20")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("poll-interval", "15"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                port,
+                Integer.parseInt(values.getOrDefault("push-port", String.valueOf(port + 1))),
+                Boolean.parseBoolean(values.getOrDefault("launch", "true")),
+                Path.of(values.getOrDefault("services-dir", jarDir.resolve("services").toString())),
+                Path.of(values.getOrDefault("work-dir", jarDir.resolve("push-work").toString())),
+                jvmArgs.isBlank() ? List.of() : List.of(jvmArgs.trim().split("\\s+")),
+                report == null || report.isBlank() ? null : Path.of(report),
+                values.getOrDefault("jwt-secret", "flexlease-default-secret-please-change")
+        );
+    }
+}
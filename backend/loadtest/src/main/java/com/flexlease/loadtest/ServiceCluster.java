@@ -0,0 +1,182 @@
+package com.flexlease.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 以本地进程方式拉起被压测的服务。
+ *
+ * <p>各服务使用 {@code dev} profile（H2 内存库）、关闭注册中心，并通过 Spring Cloud 的 simple discovery
+ * 把服务名静态映射到本机端口，服务间仍走原有的 {@code @LoadBalanced RestTemplate}。消息关闭
+ * （{@code flexlease.messaging.enabled=false}），各服务走已有的降级路径：支付成功由 outbox 直接调用订单服务内部接口，
+ * 订单事件只写业务回放日志。取证数量要求置零，发货/收货无需上传文件。</p>
+ *
+ * <p>目录读请求经由 gateway-service 转发，以便统计网关响应缓存的命中率；消息关闭时网关缓存只按 {@code max-age} 过期。
+ * 网关限流在压测中关闭，避免少量压测账号被按用户限流。</p>
+ */
+final class ServiceCluster implements AutoCloseable {
+
+    static final List<String> SERVICES = List.of(
+            "user-service",
+            "product-service",
+            "order-service",
+            "payment-service",
+            "notification-service",
+            "gateway-service"
+    );
+
+    /**
+     * 启动服务时指定的内部令牌；指标端点需要鉴权，抓取时以 {@code X-Internal-Token} 携带。
+     */
+    static final String INTERNAL_TOKEN = "flexlease-loadtest-internal-token";
+    static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(4);
+
+    private final LoadTestOptions options;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final Map<String, Process> processes = new LinkedHashMap<>();
+
+    ServiceCluster(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    String baseUrl(String service) {
+        return "http://localhost:" + port(service);
+    }
+
+    int port(String service) {
+        int index = SERVICES.indexOf(service);
+        if (index < 0) {
+            throw new IllegalArgumentException("未知服务：" + service);
+        }
+        return options.basePort() + index;
+    }
+
+    void start() throws IOException, InterruptedException {
+        if (!options.launch()) {
+            awaitReady();
+            return;
+        }
+        Path logDir = Files.createDirectories(options.workDir().resolve("logs"));
+        for (String service : SERVICES) {
+            Path jar = options.servicesDir().resolve(service + ".jar");
+            if (!Files.isRegularFile(jar)) {
+                throw new IllegalStateException("找不到服务 jar：" + jar + "，请先执行 mvn -Ploadtest -pl backend/loadtest -am package -DskipTests");
+            }
+            Path serviceDir = Files.createDirectories(options.workDir().resolve(service));
+            ProcessBuilder builder = new ProcessBuilder(command(service, jar))
+                    .directory(serviceDir.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(logDir.resolve(service + ".log").toFile());
+            processes.put(service, builder.start());
+            System.out.printf("启动 %s（端口 %d，日志 %s）%n", service, port(service), logDir.resolve(service + ".log"));
+        }
+        awaitReady();
+    }
+
+    private List<String> command(String service, Path jar) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options.serviceJvmArgs());
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--spring.profiles.active=dev");
+        command.add("--server.port=" + port(service));
+        command.add("--eureka.client.enabled=false");
+        for (String target : SERVICES) {
+            command.add("--spring.cloud.discovery.client.simple.instances." + target + "[0].uri=" + baseUrl(target));
+        }
+        command.add("--security.jwt.secret=" + options.jwtSecret());
+        command.add("--security.jwt.internal-access-token=" + INTERNAL_TOKEN);
+        command.add("--flexlease.messaging.enabled=false");
+        command.add("--flexlease.redis.enabled=false");
+        command.add("--flexlease.metrics.db-statements.enabled=true");
+        command.add("--management.tracing.enabled=false");
+        command.add("--management.health.rabbit.enabled=false");
+        command.add("--management.health.redis.enabled=false");
+        command.add("--spring.h2.console.enabled=false");
+        command.add("--spring.jpa.properties.hibernate.format_sql=false");
+        command.add("--logging.level.root=WARN");
+        command.add("--flexlease.gateway.rate-limit.enabled=false");
+        command.add("--flexlease.gateway.response-cache.enabled=" + options.gatewayCache());
+        for (String stage : List.of("shipment", "receive", "return")) {
+            command.add("--flexlease.order.proof-policy." + stage + "-photo-required=0");
+            command.add("--flexlease.order.proof-policy." + stage + "-video-required=0");
+        }
+        return command;
+    }
+
+    private void awaitReady() throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        for (String service : SERVICES) {
+            while (!isReady(service)) {
+                Process process = processes.get(service);
+                if (process != null && !process.isAlive()) {
+                    throw new IllegalStateException(service + " 启动失败，退出码 " + process.exitValue() + "，详见日志");
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException(service + " 在 " + STARTUP_TIMEOUT.toSeconds() + " 秒内未就绪");
+                }
+                Thread.sleep(500);
+            }
+            System.out.printf("%s 已就绪%n", service);
+        }
+    }
+
+    private boolean isReady(String service) throws InterruptedException {
+        try {
+            HttpResponse<Void> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(baseUrl(service) + "/actuator/info")).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 200;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * 读取服务的 Prometheus 指标文本，用于汇总各接口的 JDBC 语句数。
+     */
+    String scrapeMetrics(String service) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl(service) + "/actuator/prometheus"))
+                        .header(INTERNAL_TOKEN_HEADER, INTERNAL_TOKEN)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException(service + " 指标接口返回 " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    @Override
+    public void close() {
+        processes.values().forEach(Process::destroy);
+        for (Map.Entry<String, Process> entry : processes.entrySet()) {
+            try {
+                if (!entry.getValue().waitFor(20, TimeUnit.SECONDS)) {
+                    entry.getValue().destroyForcibly();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                entry.getValue().destroyForcibly();
+            }
+        }
+        processes.clear();
+    }
+}
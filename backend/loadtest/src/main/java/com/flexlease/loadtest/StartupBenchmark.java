@@ -0,0 +1,348 @@
+package com.flexlease.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipFile;
+
+/**
+ * 服务冷启动基准：对比普通 jar、AppCDS、Spring AOT 以及两者叠加时的就绪耗时与内存占用。
+ *
+ * <p>服务 jar 需以 {@code -Paot} 构建才包含 AOT 生成的类（{@code mvn -Paot,loadtest -pl backend/loadtest -am package -DskipTests}），
+ * 否则只对比 {@code jvm} 与 {@code cds}。AppCDS 归档由本进程用同一个 JDK 现场生成：先解包 jar，再做一次
+ * {@code spring.context.exit=onRefresh} 的训练启动。每次启动使用相同的 JVM 参数与 {@code dev} profile（H2 内存库），
+ * 从拉起进程到 {@code /actuator/info} 返回 200 记为就绪耗时，随后读取进程 RSS 与 JVM 堆/非堆用量。
+ * RabbitMQ、注册中心不需要真实可用：AOT 在构建期固化了这些开关，为保证各方式加载同样的 Bean，这里不做关闭。</p>
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final Pattern JVM_MEMORY = Pattern.compile("^jvm_memory_used_bytes\\{.*area=\"(heap|nonheap)\".*}\\s+(\\S+)$");
+    private static final Pattern VM_RSS = Pattern.compile("^VmRSS:\\s+(\\d+)\\s+kB", Pattern.MULTILINE);
+
+    private final StartupOptions options;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private StartupBenchmark(StartupOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupOptions options = StartupOptions.parse(args);
+        StartupBenchmark benchmark = new StartupBenchmark(options);
+        List<Result> results = new ArrayList<>();
+        for (String service : options.services()) {
+            results.addAll(benchmark.measure(service));
+        }
+        report(options, results);
+    }
+
+    private List<Result> measure(String service) throws IOException, InterruptedException {
+        Path jar = options.servicesDir().resolve(service + ".jar");
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("找不到服务 jar：" + jar + "，请先执行 mvn -Paot,loadtest -pl backend/loadtest -am package -DskipTests");
+        }
+        Path serviceDir = Files.createDirectories(options.workDir().resolve(service));
+        boolean aotAvailable = containsAotClasses(jar);
+        List<Mode> modes = new ArrayList<>();
+        for (Mode mode : options.modes()) {
+            if (mode.aot && !aotAvailable) {
+                System.out.printf("%s 的 jar 不含 AOT 生成的类（未以 -Paot 构建），跳过 %s%n", service, mode.label);
+            } else {
+                modes.add(mode);
+            }
+        }
+        Map<Mode, Launch> launches = new LinkedHashMap<>();
+        for (Mode mode : modes) {
+            launches.put(mode, prepare(service, jar, serviceDir, mode));
+        }
+
+        Map<Mode, List<Sample>> samples = new LinkedHashMap<>();
+        // 各方式交替启动，避免机器负载随时间变化只影响其中一种
+        for (int run = 1; run <= options.runs(); run++) {
+            for (Mode mode : modes) {
+                Sample sample = start(service, launches.get(mode), serviceDir.resolve("%s-%d.log".formatted(mode.label, run)));
+                samples.computeIfAbsent(mode, key -> new ArrayList<>()).add(sample);
+                System.out.printf("%s %-8s 第 %d 次：就绪 %d ms，RSS %s%n",
+                        service, mode.label, run, sample.readyMillis(), megabytes(sample.rssBytes()));
+            }
+        }
+        List<Result> results = new ArrayList<>();
+        samples.forEach((mode, list) -> results.add(Result.of(service, mode, list)));
+        return results;
+    }
+
+    /**
+     * 需要 AppCDS 的方式先解包 jar 并做训练启动；AOT 与非 AOT 加载的类不同，各自生成归档。
+     */
+    private Launch prepare(String service, Path jar, Path serviceDir, Mode mode) throws IOException, InterruptedException {
+        if (!mode.cds) {
+            return new Launch(mode, jar, null);
+        }
+        Path extracted = serviceDir.resolve("app");
+        if (!Files.isRegularFile(extracted.resolve(jar.getFileName()))) {
+            run(List.of(java(), "-Djarmode=tools", "-jar", jar.toAbsolutePath().toString(),
+                    "extract", "--destination", extracted.toAbsolutePath().toString(), "--force"),
+                    serviceDir, serviceDir.resolve("extract.log"));
+        }
+        Path archive = serviceDir.resolve(mode.label + ".jsa").toAbsolutePath();
+        Files.deleteIfExists(archive);
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        command.addAll(options.serviceJvmArgs());
+        command.add("-XX:ArchiveClassesAtExit=" + archive);
+        command.add("-Xlog:cds=error");
+        command.add("-Dspring.context.exit=onRefresh");
+        if (mode.aot) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.add("-jar");
+        command.add(extracted.resolve(jar.getFileName()).toAbsolutePath().toString());
+        command.addAll(applicationArgs());
+        System.out.printf("生成 %s 的 AppCDS 归档（%s）%n", service, mode.label);
+        run(command, serviceDir, serviceDir.resolve(mode.label + "-training.log"));
+        if (!Files.isRegularFile(archive)) {
+            throw new IllegalStateException(service + " 训练启动未生成归档，详见 " + serviceDir.resolve(mode.label + "-training.log"));
+        }
+        return new Launch(mode, extracted.resolve(jar.getFileName()), archive);
+    }
+
+    private Sample start(String service, Launch launch, Path log) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        command.addAll(options.serviceJvmArgs());
+        if (launch.archive() != null) {
+            command.add("-XX:SharedArchiveFile=" + launch.archive());
+            command.add("-Xlog:cds=error");
+        }
+        if (launch.mode().aot) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.add("-jar");
+        command.add(launch.jar().toAbsolutePath().toString());
+        command.addAll(applicationArgs());
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(log.getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = startedAt + STARTUP_TIMEOUT.toNanos();
+            while (!isReady()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(service + " 启动失败，退出码 " + process.exitValue() + "，详见 " + log);
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException(service + " 在 " + STARTUP_TIMEOUT.toSeconds() + " 秒内未就绪，详见 " + log);
+                }
+                Thread.sleep(20);
+            }
+            long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            long[] jvmMemory = jvmMemory();
+            return new Sample(readyMillis, rss(process.pid()), jvmMemory[0], jvmMemory[1]);
+        } finally {
+            stop(process);
+        }
+    }
+
+    private List<String> applicationArgs() {
+        return List.of(
+                "--server.port=" + options.port(),
+                "--spring.profiles.active=dev",
+                "--security.jwt.internal-access-token=" + ServiceCluster.INTERNAL_TOKEN,
+                // 端口 1 立即拒绝连接，不依赖 registry-service 的域名解析
+                "--eureka.client.service-url.defaultZone=http://127.0.0.1:1/eureka/",
+                "--logging.level.root=WARN"
+        );
+    }
+
+    private boolean isReady() throws InterruptedException {
+        try {
+            HttpResponse<Void> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + options.port() + "/actuator/info")).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 200;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * 从 {@code /actuator/prometheus} 汇总 JVM 堆与非堆（元空间、代码缓存等）当前用量。
+     */
+    private long[] jvmMemory() throws InterruptedException {
+        long[] used = {-1, -1};
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + options.port() + "/actuator/prometheus"))
+                            .header(ServiceCluster.INTERNAL_TOKEN_HEADER, ServiceCluster.INTERNAL_TOKEN)
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return used;
+            }
+            used[0] = 0;
+            used[1] = 0;
+            for (String line : response.body().split("\n")) {
+                Matcher matcher = JVM_MEMORY.matcher(line);
+                if (matcher.find()) {
+                    used["heap".equals(matcher.group(1)) ? 0 : 1] += (long) Double.parseDouble(matcher.group(2));
+                }
+            }
+        } catch (IOException ex) {
+            // 指标只用于参考，拿不到时报告中显示为 "-"
+        }
+        return used;
+    }
+
+    /**
+     * 进程常驻内存，只在 Linux 上可读（{@code /proc/<pid>/status}），其他平台返回 -1。
+     */
+    private static long rss(long pid) {
+        try {
+            Matcher matcher = VM_RSS.matcher(Files.readString(Path.of("/proc", Long.toString(pid), "status")));
+            return matcher.find() ? Long.parseLong(matcher.group(1)) * 1024 : -1;
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(20, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            process.waitFor(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void run(List<String> command, Path directory, Path log) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        if (!process.waitFor(STARTUP_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("命令超时：" + String.join(" ", command) + "，详见 " + log);
+        }
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException("命令失败（退出码 " + process.exitValue() + "）：" + String.join(" ", command) + "，详见 " + log);
+        }
+    }
+
+    private static boolean containsAotClasses(Path jar) throws IOException {
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            return zip.stream().anyMatch(entry -> entry.getName().startsWith("BOOT-INF/classes/")
+                    && entry.getName().endsWith("__ApplicationContextInitializer.class"));
+        }
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static String megabytes(long bytes) {
+        return bytes < 0 ? "-" : "%.0f MB".formatted(bytes / 1024.0 / 1024.0);
+    }
+
+    private static void report(StartupOptions options, List<Result> results) throws IOException {
+        System.out.println();
+        System.out.printf("== 启动耗时与内存（%d 次取中位数，JVM 参数 %s） ==%n", options.runs(), options.serviceJvmArgs());
+        System.out.printf("%-22s %-8s %9s %9s %9s %8s %10s %10s %10s%n",
+                "service", "mode", "ready ms", "min", "max", "vs jvm", "RSS", "heap", "nonheap");
+        Map<String, Long> baseline = new LinkedHashMap<>();
+        results.stream()
+                .filter(result -> Mode.JVM.label.equals(result.mode()))
+                .forEach(result -> baseline.put(result.service(), result.readyMillis()));
+        for (Result result : results) {
+            Long jvm = baseline.get(result.service());
+            System.out.printf("%-22s %-8s %9d %9d %9d %8s %10s %10s %10s%n",
+                    result.service(), result.mode(), result.readyMillis(), result.minReadyMillis(), result.maxReadyMillis(),
+                    jvm == null ? "-" : "%.0f%%".formatted(result.readyMillis() * 100.0 / jvm),
+                    megabytes(result.rssBytes()), megabytes(result.heapBytes()), megabytes(result.nonHeapBytes()));
+        }
+        if (options.report() != null) {
+            if (options.report().getParent() != null) {
+                Files.createDirectories(options.report().getParent());
+            }
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("runs", options.runs());
+            json.put("serviceJvmArgs", options.serviceJvmArgs());
+            json.put("results", results);
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.report().toFile(), json);
+            System.out.println();
+            System.out.println("JSON 报告：" + options.report().toAbsolutePath());
+        }
+    }
+
+    enum Mode {
+
+        /** 普通可执行 jar。 */
+        JVM("jvm", false, false),
+        /** 解包后的 classpath + AppCDS 归档。 */
+        CDS("cds", true, false),
+        /** 可执行 jar + {@code -Dspring.aot.enabled=true}。 */
+        AOT("aot", false, true),
+        /** 解包后的 classpath + AppCDS 归档 + AOT。 */
+        AOT_CDS("aot-cds", true, true);
+
+        private final String label;
+        private final boolean cds;
+        private final boolean aot;
+
+        Mode(String label, boolean cds, boolean aot) {
+            this.label = label;
+            this.cds = cds;
+            this.aot = aot;
+        }
+
+        static Mode fromName(String name) {
+            return Arrays.stream(values())
+                    .filter(mode -> mode.label.equalsIgnoreCase(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("未知启动方式：" + name + "，可选 jvm/cds/aot/aot-cds"));
+        }
+    }
+
+    private record Launch(Mode mode, Path jar, Path archive) {
+    }
+
+    private record Sample(long readyMillis, long rssBytes, long heapBytes, long nonHeapBytes) {
+    }
+
+    record Result(String service, String mode, long readyMillis, long minReadyMillis, long maxReadyMillis,
+                  long rssBytes, long heapBytes, long nonHeapBytes) {
+
+        static Result of(String service, Mode mode, List<Sample> samples) {
+            long[] ready = samples.stream().mapToLong(Sample::readyMillis).sorted().toArray();
+            return new Result(service, mode.label, median(ready), ready[0], ready[ready.length - 1],
+                    median(samples.stream().mapToLong(Sample::rssBytes).sorted().toArray()),
+                    median(samples.stream().mapToLong(Sample::heapBytes).sorted().toArray()),
+                    median(samples.stream().mapToLong(Sample::nonHeapBytes).sorted().toArray()));
+        }
+
+        private static long median(long[] sorted) {
+            return sorted[sorted.length / 2];
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.flexlease.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 启动基准参数，命令行以 {@code --name=value} 形式传入，未提供时取默认值。
+ *
+ * @param services       参与对比的服务（逗号分隔），jar 取自 {@code servicesDir/<service>.jar}
+ * @param modes          启动方式
+ * @param runs           每个服务每种方式的启动次数，报告取中位数
+ * @param port           服务监听端口，各次启动依次复用
+ * @param servicesDir    服务可执行 jar 所在目录
+ * @param workDir        解包目录、AppCDS 归档与日志目录
+ * @param serviceJvmArgs 服务 JVM 参数（空格分隔），所有方式相同
+ * @param report         JSON 报告输出路径，为空时只打印表格
+ */
+record StartupOptions(
+        List<String> services,
+        List<StartupBenchmark.Mode> modes,
+        int runs,
+        int port,
+        Path servicesDir,
+        Path workDir,
+        List<String> serviceJvmArgs,
+        Path report
+) {
+
+    static final String DEFAULT_SERVICES =
+            "auth-service,user-service,product-service,order-service,payment-service,notification-service,gateway-service";
+
+    static StartupOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("参数格式应为 --name=value：" + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        Path jarDir = LoadTestOptions.locateJarDir();
+        String jvmArgs = values.getOrDefault("service-jvm-args", "-Xmx512m");
+        String report = values.get("report");
+        List<StartupBenchmark.Mode> modes = new ArrayList<>();
+        for (String mode : values.getOrDefault("modes", "jvm,cds,aot,aot-cds").split(",")) {
+            modes.add(StartupBenchmark.Mode.fromName(mode.trim()));
+        }
+        int runs = Integer.parseInt(values.getOrDefault("runs", "3"));
+        if (runs < 1) {
+            throw new IllegalArgumentException("runs 至少为 1");
+        }
+        return new StartupOptions(
+                List.of(values.getOrDefault("services", DEFAULT_SERVICES).split("\\s*,\\s*")),
+                List.copyOf(modes),
+                runs,
+                Integer.parseInt(values.getOrDefault("port", "19200")),
+                Path.of(values.getOrDefault("services-dir", jarDir.resolve("services").toString())),
+                Path.of(values.getOrDefault("work-dir", jarDir.resolve("startup-work").toString())),
+                jvmArgs.isBlank() ? List.of() : List.of(jvmArgs.trim().split("\\s+")),
+                report == null || report.isBlank() ? null : Path.of(report)
+        );
+    }
+}
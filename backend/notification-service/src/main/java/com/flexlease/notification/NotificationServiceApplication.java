@@ -1,14 +1,21 @@
 package com.flexlease.notification;
 
+import com.flexlease.notification.config.NotificationDigestProperties;
+import com.flexlease.notification.config.NotificationPushProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 通知服务启动类。
  * <p>
  * 当前通知服务仅保留“站内信”能力：提供通知模板、发送记录查询，并订阅订单事件推送提醒。
+ * 新写入的站内信通过 SSE 推送给在线的接收方，突发的同类通知先在合并窗口内缓冲再汇总写入。
  */
 @SpringBootApplication(scanBasePackages = "com.flexlease")
+@EnableScheduling
+@EnableConfigurationProperties({NotificationPushProperties.class, NotificationDigestProperties.class})
 public class NotificationServiceApplication {
 
     public static void main(String[] args) {
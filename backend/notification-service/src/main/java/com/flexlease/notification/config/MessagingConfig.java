@@ -1,13 +1,14 @@
 package com.flexlease.notification.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.codec.InternalCodec;
+import com.flexlease.common.codec.InternalMessageConverter;
 import com.flexlease.common.messaging.MessagingConstants;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -24,8 +25,8 @@ import org.springframework.context.annotation.Configuration;
 public class MessagingConfig {
 
     @Bean
-    public MessageConverter jacksonMessageConverter(ObjectMapper objectMapper) {
-        return new Jackson2JsonMessageConverter(objectMapper);
+    public MessageConverter internalMessageConverter(ObjectMapper objectMapper, InternalCodec codec) {
+        return new InternalMessageConverter(objectMapper, codec);
     }
 
     @Bean
@@ -0,0 +1,88 @@
+package com.flexlease.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 通知合并配置：只作用于请求中声明 {@code digest=true} 的通知。
+ */
+@ConfigurationProperties(prefix = "flexlease.notification.digest")
+public class NotificationDigestProperties {
+
+    /**
+     * 是否启用合并；关闭后可合并的通知也立即写入。
+     */
+    private boolean enabled = true;
+
+    /**
+     * 合并窗口（毫秒），从同类通知第一次到达起计算，窗口结束时写入一条汇总日志。
+     */
+    private long windowMs = 30_000L;
+
+    /**
+     * 检查到期窗口的间隔（毫秒），决定汇总日志相对窗口结束的最大延迟。
+     */
+    private long flushIntervalMs = 1_000L;
+
+    /**
+     * 单实例同时缓冲的合并键上限，超出时新的合并键不再缓冲而是直接写入。
+     */
+    private int maxPendingKeys = 10_000;
+
+    /**
+     * 每条汇总保留的通知内容条数，超出时丢弃最早的内容，只保留计数。
+     */
+    private int maxItemsPerDigest = 20;
+
+    /**
+     * 汇总写入的最大尝试次数；失败后在下一个窗口结束时重试，用尽后丢弃并告警。
+     */
+    private int maxWriteAttempts = 3;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public int getMaxPendingKeys() {
+        return maxPendingKeys;
+    }
+
+    public void setMaxPendingKeys(int maxPendingKeys) {
+        this.maxPendingKeys = maxPendingKeys;
+    }
+
+    public int getMaxItemsPerDigest() {
+        return maxItemsPerDigest;
+    }
+
+    public void setMaxItemsPerDigest(int maxItemsPerDigest) {
+        this.maxItemsPerDigest = maxItemsPerDigest;
+    }
+
+    public int getMaxWriteAttempts() {
+        return maxWriteAttempts;
+    }
+
+    public void setMaxWriteAttempts(int maxWriteAttempts) {
+        this.maxWriteAttempts = maxWriteAttempts;
+    }
+}
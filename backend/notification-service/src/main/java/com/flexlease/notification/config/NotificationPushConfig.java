@@ -0,0 +1,37 @@
+package com.flexlease.notification.config;
+
+import org.apache.catalina.connector.Connector;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 推送连接的 Tomcat 调优。
+ * <p>
+ * SSE 连接长期占用 Tomcat 的连接对象，每条连接的读写缓冲常驻堆内（默认各 8KB，且读缓冲还会叠加到请求头缓冲上），
+ * 是连接数上到数万时的主要内存开销。缓冲大小按连接器生效，无法只对单个接口调整，因此配置
+ * {@code flexlease.notification.push.port} 后另开一个推送专用连接器，按 {@code socket-buffer-bytes} 缩小缓冲，
+ * 并由 {@link NotificationPushPortFilter} 限制该端口只承载推送接口；主端口上的其他接口保持 Tomcat 默认缓冲。
+ */
+@Configuration(proxyBeanMethods = false)
+public class NotificationPushConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> pushConnectorCustomizer(NotificationPushProperties properties,
+                                                                                             ServerProperties serverProperties) {
+        return factory -> {
+            if (properties.getPort() <= 0) {
+                return;
+            }
+            String bufferSize = String.valueOf(properties.getSocketBufferBytes());
+            Connector connector = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+            connector.setPort(properties.getPort());
+            connector.setProperty("maxConnections", String.valueOf(serverProperties.getTomcat().getMaxConnections()));
+            connector.setProperty("socket.appReadBufSize", bufferSize);
+            connector.setProperty("socket.appWriteBufSize", bufferSize);
+            factory.addAdditionalTomcatConnectors(connector);
+        };
+    }
+}
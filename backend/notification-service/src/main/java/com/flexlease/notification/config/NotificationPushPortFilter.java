@@ -0,0 +1,45 @@
+package com.flexlease.notification.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 推送专用端口只承载 {@value #STREAM_PATH}，其余请求返回 404，避免普通接口落到小缓冲的连接器上。
+ * 未配置 {@code flexlease.notification.push.port} 时不做任何限制。
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class NotificationPushPortFilter extends OncePerRequestFilter {
+
+    static final String STREAM_PATH = "/api/v1/notifications/stream";
+
+    private final NotificationPushProperties properties;
+
+    public NotificationPushPortFilter(NotificationPushProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return properties.getPort() <= 0 || request.getLocalPort() != properties.getPort();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!STREAM_PATH.equals(request.getRequestURI())) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,114 @@
+package com.flexlease.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 通知推送（SSE）配置。
+ */
+@ConfigurationProperties(prefix = "flexlease.notification.push")
+public class NotificationPushProperties {
+
+    /**
+     * 是否开放 {@code /api/v1/notifications/stream}；关闭后前端回退为拉取。
+     */
+    private boolean enabled = true;
+
+    /**
+     * 单个连接的最长保持时间（毫秒），到期由服务端正常结束，客户端携带 Last-Event-ID 重连。
+     */
+    private long timeoutMs = 1_800_000L;
+
+    /**
+     * 心跳注释行的发送间隔（毫秒），用于保活中间代理并及时发现已断开的连接。
+     */
+    private long heartbeatMs = 25_000L;
+
+    /**
+     * 重连时最多补发的通知条数，超出时下发 {@code reset} 事件由客户端整体刷新。
+     */
+    private int replayLimit = 100;
+
+    /**
+     * 单个连接待发送事件的上限，慢客户端积压超过该值时断开连接，由客户端重连补发。
+     */
+    private int sendQueueCapacity = 64;
+
+    /**
+     * 单实例允许的最大连接数，超出时返回 503，客户端回退为拉取。
+     */
+    private int maxSubscribers = 50_000;
+
+    /**
+     * 推送专用端口，大于 0 时另开一个只承载推送接口的 Tomcat 连接器；为 0 时推送与其他接口共用主端口。
+     */
+    private int port;
+
+    /**
+     * 推送专用连接器上每条连接的套接字读写缓冲大小（字节），见 {@link NotificationPushConfig}；主端口不受影响。
+     */
+    private int socketBufferBytes = 2048;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public void setTimeoutMs(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    public long getHeartbeatMs() {
+        return heartbeatMs;
+    }
+
+    public void setHeartbeatMs(long heartbeatMs) {
+        this.heartbeatMs = heartbeatMs;
+    }
+
+    public int getReplayLimit() {
+        return replayLimit;
+    }
+
+    public void setReplayLimit(int replayLimit) {
+        this.replayLimit = replayLimit;
+    }
+
+    public int getSendQueueCapacity() {
+        return sendQueueCapacity;
+    }
+
+    public void setSendQueueCapacity(int sendQueueCapacity) {
+        this.sendQueueCapacity = sendQueueCapacity;
+    }
+
+    public int getMaxSubscribers() {
+        return maxSubscribers;
+    }
+
+    public void setMaxSubscribers(int maxSubscribers) {
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public int getSocketBufferBytes() {
+        return socketBufferBytes;
+    }
+
+    public void setSocketBufferBytes(int socketBufferBytes) {
+        this.socketBufferBytes = socketBufferBytes;
+    }
+}
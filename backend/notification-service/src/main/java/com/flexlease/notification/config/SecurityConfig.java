@@ -3,6 +3,7 @@ package com.flexlease.notification.config;
 import com.flexlease.common.security.JwtAuthProperties;
 import com.flexlease.common.security.JwtAuthenticationFilter;
 import com.flexlease.common.security.JwtTokenVerifier;
+import jakarta.servlet.DispatcherType;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,6 +41,8 @@ public class SecurityConfig {
         http.csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 推送在异步分派中写出，请求已在首次分派时完成鉴权
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(properties.getPermitAll().toArray(String[]::new)).permitAll()
                         .anyRequest().authenticated())
                 .addFilterBefore(authenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -7,18 +7,25 @@ import com.flexlease.common.notification.NotificationSendRequest;
 import com.flexlease.common.security.FlexleasePrincipal;
 import com.flexlease.common.security.SecurityUtils;
 import com.flexlease.notification.domain.NotificationStatus;
+import com.flexlease.notification.dto.NotificationInboxPageResponse;
 import com.flexlease.notification.dto.NotificationLogResponse;
 import com.flexlease.notification.dto.NotificationTemplateResponse;
+import com.flexlease.notification.dto.NotificationUnreadResponse;
+import com.flexlease.notification.service.NotificationInboxService;
+import com.flexlease.notification.service.NotificationPushService;
 import com.flexlease.notification.service.NotificationService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Locale;
+import java.util.UUID;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 通知 API（站内信）。
@@ -27,6 +34,7 @@ import org.springframework.web.bind.annotation.RestController;
  * <ul>
  *   <li>发送通知仅允许 ADMIN/INTERNAL（避免前端或普通用户滥发）。</li>
  *   <li>查询日志时会基于当前 JWT 角色做可见性收敛：用户只能看自己的 userId，厂商只能看自己的 vendorId。</li>
+ *   <li>推送连接（SSE）与收件箱（游标分页、未读数、标记已读）遵循同样的收敛规则；ADMIN/INTERNAL 需显式指定 recipient。</li>
  * </ul>
  */
 @RestController
@@ -34,9 +42,15 @@ import org.springframework.web.bind.annotation.RestController;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationPushService pushService;
+    private final NotificationInboxService inboxService;
 
-    public NotificationController(NotificationService notificationService) {
+    public NotificationController(NotificationService notificationService,
+                                  NotificationPushService pushService,
+                                  NotificationInboxService inboxService) {
         this.notificationService = notificationService;
+        this.pushService = pushService;
+        this.inboxService = inboxService;
     }
 
     @PostMapping("/send")
@@ -87,6 +101,47 @@ public class NotificationController {
         return ApiResponse.success(notificationService.listLogs(statusEnum, userRecipient, contextType));
     }
 
+    /**
+     * 订阅新通知推送（text/event-stream）。断线重连时浏览器 EventSource 会自动带上 {@code Last-Event-ID}，
+     * 不便设置请求头的客户端也可以通过 {@code lastEventId} 参数传入。
+     */
+    @GetMapping("/stream")
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                             @RequestParam(required = false) String lastEventId,
+                             @RequestParam(required = false) String recipient) {
+        String resumeFrom = lastEventIdHeader != null && !lastEventIdHeader.isBlank() ? lastEventIdHeader : lastEventId;
+        String target = resolveRecipient(recipient, "请指定要订阅的接收方", "禁止订阅其他接收方的通知");
+        return pushService.subscribe(target, resumeFrom);
+    }
+
+    /**
+     * 收件箱游标分页：{@code before} 为上一页最后一条通知的 ID，省略时返回最新一页。
+     */
+    @GetMapping("/inbox")
+    public ApiResponse<NotificationInboxPageResponse> inbox(@RequestParam(required = false) String recipient,
+                                                            @RequestParam(required = false) String contextType,
+                                                            @RequestParam(required = false) UUID before,
+                                                            @RequestParam(required = false) Integer size) {
+        String target = resolveRecipient(recipient, "请指定要查看的接收方", "禁止查看其他接收方的通知");
+        return ApiResponse.success(inboxService.listInbox(target, contextType, before, size));
+    }
+
+    @GetMapping("/inbox/unread")
+    public ApiResponse<NotificationUnreadResponse> unread(@RequestParam(required = false) String recipient) {
+        String target = resolveRecipient(recipient, "请指定要查看的接收方", "禁止查看其他接收方的通知");
+        return ApiResponse.success(inboxService.unread(target));
+    }
+
+    /**
+     * 标记已读：{@code upTo} 为已读到的通知 ID，省略时标记到最新一条。
+     */
+    @PostMapping("/inbox/read")
+    public ApiResponse<NotificationUnreadResponse> markRead(@RequestParam(required = false) String recipient,
+                                                            @RequestParam(required = false) UUID upTo) {
+        String target = resolveRecipient(recipient, "请指定要标记的接收方", "禁止标记其他接收方的通知");
+        return ApiResponse.success(inboxService.markRead(target, upTo));
+    }
+
     @GetMapping("/templates")
     public ApiResponse<List<NotificationTemplateResponse>> templates() {
         FlexleasePrincipal principal = SecurityUtils.requirePrincipal();
@@ -95,4 +150,35 @@ public class NotificationController {
         }
         return ApiResponse.success(notificationService.listTemplates());
     }
+
+    /**
+     * 解析推送/收件箱操作的接收方：ADMIN/INTERNAL 必须显式指定，厂商为 vendorId，其余为 userId。
+     */
+    private String resolveRecipient(String recipient, String missingMessage, String forbiddenMessage) {
+        FlexleasePrincipal principal = SecurityUtils.requirePrincipal();
+        String normalizedRecipient = recipient != null && !recipient.isBlank() ? recipient : null;
+        if (principal.hasRole("ADMIN") || principal.hasRole("INTERNAL")) {
+            if (normalizedRecipient == null) {
+                throw new BusinessException(ErrorCode.VALIDATION_ERROR, missingMessage);
+            }
+            return normalizedRecipient;
+        }
+
+        String ownRecipient;
+        if (principal.hasRole("VENDOR")) {
+            if (principal.vendorId() == null) {
+                throw new BusinessException(ErrorCode.UNAUTHORIZED, "当前身份缺少厂商标识");
+            }
+            ownRecipient = principal.vendorId().toString();
+        } else {
+            if (principal.userId() == null) {
+                throw new BusinessException(ErrorCode.UNAUTHORIZED, "当前身份缺少用户标识");
+            }
+            ownRecipient = principal.userId().toString();
+        }
+        if (normalizedRecipient != null && !normalizedRecipient.equals(ownRecipient)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, forbiddenMessage);
+        }
+        return ownRecipient;
+    }
 }
@@ -0,0 +1,58 @@
+package com.flexlease.notification.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+
+/**
+ * 接收方的收件箱阅读状态：每个接收方一行，维护已读标记与未读计数。
+ * <p>
+ * 写入时间不晚于 {@code lastReadAt} 的通知视为已读，客户端据此标注列表中的已读/未读。
+ */
+@Entity
+@Table(name = "notification_inbox_state", schema = "notification")
+public class NotificationInboxState {
+
+    @Id
+    @Column(name = "recipient", nullable = false, length = 100)
+    private String recipient;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
+    @Column(name = "last_read_at")
+    private OffsetDateTime lastReadAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    protected NotificationInboxState() {
+        // JPA 需要无参构造
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = OffsetDateTime.now();
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public int getUnreadCount() {
+        return unreadCount;
+    }
+
+    public OffsetDateTime getLastReadAt() {
+        return lastReadAt;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -61,14 +61,15 @@ public class NotificationLog {
         // JPA 需要无参构造
     }
 
-    private NotificationLog(String templateCode,
+    private NotificationLog(UUID id,
+                             String templateCode,
                              String recipient,
                              String subject,
                              String content,
                              String payload,
                              String contextType,
                              String contextReference) {
-        this.id = UUID.randomUUID();
+        this.id = id;
         this.templateCode = templateCode;
         this.recipient = recipient;
         this.subject = subject;
@@ -86,7 +87,21 @@ public class NotificationLog {
                                          String payload,
                                          String contextType,
                                          String contextReference) {
-        return new NotificationLog(templateCode, recipient, subject, content, payload, contextType, contextReference);
+        return draft(UUID.randomUUID(), templateCode, recipient, subject, content, payload, contextType, contextReference);
+    }
+
+    /**
+     * 以预先分配的 ID 创建日志；合并通知在缓冲期间已把该 ID 返回给调用方。
+     */
+    public static NotificationLog draft(UUID id,
+                                         String templateCode,
+                                         String recipient,
+                                         String subject,
+                                         String content,
+                                         String payload,
+                                         String contextType,
+                                         String contextReference) {
+        return new NotificationLog(id, templateCode, recipient, subject, content, payload, contextType, contextReference);
     }
 
     @PrePersist
@@ -0,0 +1,20 @@
+package com.flexlease.notification.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 收件箱游标分页响应。
+ * <p>
+ * {@code content} 按时间倒序；{@code nextCursor} 为本页最早一条通知的 ID，作为下一次 {@code before} 参数加载更早的通知，
+ * 没有更多时为空。写入时间不晚于 {@code lastReadAt} 的通知为已读。
+ */
+public record NotificationInboxPageResponse(
+        List<NotificationLogResponse> content,
+        UUID nextCursor,
+        boolean hasMore,
+        int unreadCount,
+        OffsetDateTime lastReadAt
+) {
+}
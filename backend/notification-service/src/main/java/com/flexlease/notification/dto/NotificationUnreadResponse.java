@@ -0,0 +1,13 @@
+package com.flexlease.notification.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 接收方未读数与已读标记。
+ */
+public record NotificationUnreadResponse(
+        String recipient,
+        int unreadCount,
+        OffsetDateTime lastReadAt
+) {
+}
@@ -0,0 +1,50 @@
+package com.flexlease.notification.repository;
+
+import com.flexlease.notification.domain.NotificationInboxState;
+import java.time.OffsetDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 收件箱阅读状态仓库：未读计数通过原子 update 维护，不读取-改写实体。
+ */
+public interface NotificationInboxStateRepository extends JpaRepository<NotificationInboxState, String> {
+
+    /**
+     * 创建空的阅读状态；已存在时抛出主键冲突，不会覆盖已有计数。
+     */
+    @Modifying
+    @Query(value = """
+            insert into notification.notification_inbox_state (recipient, unread_count, updated_at)
+            values (:recipient, 0, :now)
+            """, nativeQuery = true)
+    int insertEmpty(@Param("recipient") String recipient, @Param("now") OffsetDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update NotificationInboxState s
+               set s.unreadCount = s.unreadCount + 1,
+                   s.updatedAt = :now
+             where s.recipient = :recipient
+            """)
+    int incrementUnread(@Param("recipient") String recipient, @Param("now") OffsetDateTime now);
+
+    /**
+     * 推进已读标记并写入重算后的未读数；标记只前进不后退，{@code readUpTo} 早于当前标记时不更新。
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update NotificationInboxState s
+               set s.lastReadAt = :readUpTo,
+                   s.unreadCount = :unreadCount,
+                   s.updatedAt = :now
+             where s.recipient = :recipient
+               and (s.lastReadAt is null or s.lastReadAt < :readUpTo)
+            """)
+    int markRead(@Param("recipient") String recipient,
+                 @Param("readUpTo") OffsetDateTime readUpTo,
+                 @Param("unreadCount") int unreadCount,
+                 @Param("now") OffsetDateTime now);
+}
@@ -2,7 +2,9 @@ package com.flexlease.notification.repository;
 
 import com.flexlease.notification.domain.NotificationLog;
 import com.flexlease.notification.domain.NotificationStatus;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,18 +13,91 @@ import org.springframework.data.repository.query.Param;
 
 /**
  * 通知日志仓库。
+ * <p>
+ * 每种筛选组合各用一条查询，不使用 {@code (:x is null or ...)} 形式的可选条件，使执行计划能直接沿
+ * {@code (recipient, created_at DESC, id DESC)} 等复合索引按序读取前 N 行；收件箱按 (created_at, id) 游标倒序翻页，
+ * 单页开销与接收方的历史通知总量无关。
  */
 public interface NotificationLogRepository extends JpaRepository<NotificationLog, UUID> {
 
     @Query("""
             select log from NotificationLog log
-            where (:recipient is null or log.recipient = :recipient)
-                and (:status is null or log.status = :status)
-                and (:contextType is null or log.contextType = :contextType)
-            order by log.createdAt desc
+            where log.recipient = :recipient
+            order by log.createdAt desc, log.id desc
             """)
-    List<NotificationLog> findLatest(@Param("recipient") String recipient,
-                                     @Param("status") NotificationStatus status,
-                                     @Param("contextType") String contextType,
-                                     Pageable pageable);
+    List<NotificationLog> findInbox(@Param("recipient") String recipient, Pageable pageable);
+
+    @Query("""
+            select log from NotificationLog log
+            where log.recipient = :recipient
+              and (log.createdAt < :createdAt or (log.createdAt = :createdAt and log.id < :id))
+            order by log.createdAt desc, log.id desc
+            """)
+    List<NotificationLog> findInboxBefore(@Param("recipient") String recipient,
+                                          @Param("createdAt") OffsetDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Pageable pageable);
+
+    @Query("""
+            select log from NotificationLog log
+            where log.recipient = :recipient and log.contextType = :contextType
+            order by log.createdAt desc, log.id desc
+            """)
+    List<NotificationLog> findInboxByContextType(@Param("recipient") String recipient,
+                                                 @Param("contextType") String contextType,
+                                                 Pageable pageable);
+
+    @Query("""
+            select log from NotificationLog log
+            where log.recipient = :recipient and log.contextType = :contextType
+              and (log.createdAt < :createdAt or (log.createdAt = :createdAt and log.id < :id))
+            order by log.createdAt desc, log.id desc
+            """)
+    List<NotificationLog> findInboxByContextTypeBefore(@Param("recipient") String recipient,
+                                                       @Param("contextType") String contextType,
+                                                       @Param("createdAt") OffsetDateTime createdAt,
+                                                       @Param("id") UUID id,
+                                                       Pageable pageable);
+
+    List<NotificationLog> findByRecipientAndStatusOrderByCreatedAtDescIdDesc(String recipient,
+                                                                             NotificationStatus status,
+                                                                             Pageable pageable);
+
+    List<NotificationLog> findByRecipientAndStatusAndContextTypeOrderByCreatedAtDescIdDesc(String recipient,
+                                                                                           NotificationStatus status,
+                                                                                           String contextType,
+                                                                                           Pageable pageable);
+
+    /*
+     * 以下为管理员/内部不指定接收方时的全局视图。
+     */
+
+    List<NotificationLog> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    List<NotificationLog> findByStatusOrderByCreatedAtDescIdDesc(NotificationStatus status, Pageable pageable);
+
+    List<NotificationLog> findByContextTypeOrderByCreatedAtDescIdDesc(String contextType, Pageable pageable);
+
+    List<NotificationLog> findByStatusAndContextTypeOrderByCreatedAtDescIdDesc(NotificationStatus status,
+                                                                               String contextType,
+                                                                               Pageable pageable);
+
+    /**
+     * 已读标记之后的通知数，沿 {@code (recipient, created_at)} 索引做范围计数，开销与未读数成正比。
+     */
+    long countByRecipientAndCreatedAtAfter(String recipient, OffsetDateTime createdAt);
+
+    Optional<NotificationLog> findByIdAndRecipient(UUID id, String recipient);
+
+    @Query("""
+            select log from NotificationLog log
+            where log.recipient = :recipient
+                and log.createdAt >= :since
+                and log.id <> :lastId
+            order by log.createdAt asc
+            """)
+    List<NotificationLog> findSince(@Param("recipient") String recipient,
+                                    @Param("since") OffsetDateTime since,
+                                    @Param("lastId") UUID lastId,
+                                    Pageable pageable);
 }
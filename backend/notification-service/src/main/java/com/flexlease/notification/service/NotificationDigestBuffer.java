@@ -0,0 +1,230 @@
+package com.flexlease.notification.service;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.notification.config.NotificationDigestProperties;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * 可合并通知的缓冲区。
+ * <p>
+ * 同一（接收方、contextType、contextReference、模板）的通知在合并窗口内合并计数，并保留最近
+ * {@code max-items-per-digest} 条的内容，窗口从该合并键第一次到达起计算。窗口长度固定，合并键按首次到达顺序排列即为到期顺序，
+ * 因此用插入有序的 {@link LinkedHashMap} 从头部取出到期项即可，不需要逐项扫描；写入失败重新入队的汇总同样等待一个完整窗口，
+ * 不破坏这一顺序。
+ * <p>
+ * 调用方先用 {@link #preview} 取得汇总 ID，事务提交后再 {@link #offer} 入缓冲，回滚的通知不会被写出。
+ * 缓冲只在本实例内存中：同一合并键落到不同实例时各自汇总，实例异常退出会丢失窗口内尚未写入的通知
+ * （正常停机时由 {@link NotificationDigestScheduler} 全部写出）。
+ */
+@Component
+public class NotificationDigestBuffer {
+
+    static final String RESULT_BUFFERED = "buffered";
+    static final String RESULT_MERGED = "merged";
+    static final String RESULT_BYPASSED = "bypassed";
+    static final String RESULT_RETRIED = "retried";
+    static final String RESULT_DROPPED = "dropped";
+
+    private final LinkedHashMap<DigestKey, Slot> pending = new LinkedHashMap<>();
+    private final NotificationDigestProperties properties;
+    private final FlexleaseMetrics metrics;
+
+    public NotificationDigestBuffer(NotificationDigestProperties properties, FlexleaseMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 预估一条可合并通知所在的汇总：已有同类汇总时返回其 ID 与合并后的条数，否则分配新的汇总 ID。
+     *
+     * @return 汇总快照（ID 即窗口结束后写入的日志 ID）；未启用或缓冲已满时返回空，由调用方直接写入
+     */
+    public Optional<PendingDigest> preview(DigestItem item) {
+        if (!properties.isEnabled() || properties.getWindowMs() <= 0) {
+            return Optional.empty();
+        }
+        PendingDigest snapshot;
+        synchronized (this) {
+            Slot slot = pending.get(DigestKey.of(item));
+            if (slot != null) {
+                snapshot = new PendingDigest(slot.id, slot.firstReceivedAt, slot.count + 1);
+            } else if (pending.size() >= properties.getMaxPendingKeys()) {
+                snapshot = null;
+            } else {
+                snapshot = new PendingDigest(UUID.randomUUID(), OffsetDateTime.now(), 1);
+            }
+        }
+        if (snapshot == null) {
+            metrics.notificationDigested(RESULT_BYPASSED);
+        }
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * 缓冲一条可合并通知；同类汇总不存在时以 {@code digestId}（来自 {@link #preview}）开启新窗口。
+     * <p>
+     * 预估与入缓冲之间窗口可能恰好结束或已被其他请求开启，此时通知并入当时存在的汇总，
+     * 预估返回的 ID 可能与最终日志不同；合并键上限在这一步不再检查，最多短暂超出并发请求数。
+     */
+    public void offer(DigestItem item, long nowMs, UUID digestId) {
+        DigestKey key = DigestKey.of(item);
+        String result;
+        synchronized (this) {
+            Slot slot = pending.get(key);
+            if (slot != null) {
+                slot.add(item, properties.getMaxItemsPerDigest());
+                result = RESULT_MERGED;
+            } else {
+                pending.put(key, new Slot(digestId, item, nowMs + properties.getWindowMs()));
+                result = RESULT_BUFFERED;
+            }
+        }
+        metrics.notificationDigested(result);
+    }
+
+    /**
+     * 写入失败的汇总重新入队，下一个窗口结束时再写；累计失败 {@code max-write-attempts} 次后不再入队。
+     *
+     * @return 是否已重新入队
+     */
+    public boolean retry(Digest digest, long nowMs) {
+        int attempts = digest.attempts() + 1;
+        if (attempts >= properties.getMaxWriteAttempts()) {
+            return false;
+        }
+        synchronized (this) {
+            pending.put(DigestKey.retryOf(digest), new Slot(digest, attempts, nowMs + properties.getWindowMs()));
+        }
+        metrics.notificationDigested(RESULT_RETRIED);
+        return true;
+    }
+
+    /**
+     * 取出窗口已结束的汇总。
+     */
+    public List<Digest> drainDue(long nowMs) {
+        List<Digest> due = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Slot> iterator = pending.values().iterator();
+            while (iterator.hasNext()) {
+                Slot slot = iterator.next();
+                if (slot.dueAtMs > nowMs) {
+                    break;
+                }
+                iterator.remove();
+                due.add(slot.toDigest());
+            }
+        }
+        return due;
+    }
+
+    /**
+     * 取出全部汇总（停机时使用），不论窗口是否结束。
+     */
+    public List<Digest> drainAll() {
+        synchronized (this) {
+            List<Digest> all = pending.values().stream().map(Slot::toDigest).toList();
+            pending.clear();
+            return all;
+        }
+    }
+
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 一条已渲染、待写入的通知。
+     */
+    public record DigestItem(String templateCode,
+                             String recipient,
+                             String subject,
+                             String content,
+                             Map<String, Object> variables,
+                             String contextType,
+                             String contextReference) {
+    }
+
+    /**
+     * 缓冲中的汇总快照，{@code count} 为截至本次已合并的通知数。
+     */
+    public record PendingDigest(UUID id, OffsetDateTime firstReceivedAt, int count) {
+    }
+
+    /**
+     * 窗口结束后待写入的汇总：{@code items} 按到达顺序保留最近的若干条通知，{@code count} 为合并的总条数，
+     * {@code attempts} 为此前写入失败的次数。
+     */
+    public record Digest(UUID id, List<DigestItem> items, int count, OffsetDateTime firstReceivedAt, int attempts) {
+
+        public DigestItem latest() {
+            return items.getLast();
+        }
+    }
+
+    /**
+     * 合并键；自定义内容的通知没有模板编码，以标题代替。重新入队的汇总带上自身 ID，不与新到达的同类通知合并。
+     */
+    private record DigestKey(String recipient, String contextType, String contextReference, String template, UUID retryOf) {
+
+        static DigestKey of(DigestItem item) {
+            String template = item.templateCode() != null ? item.templateCode() : "subject:" + item.subject();
+            return new DigestKey(item.recipient(), item.contextType(), item.contextReference(), template, null);
+        }
+
+        static DigestKey retryOf(Digest digest) {
+            DigestKey key = of(digest.latest());
+            return new DigestKey(key.recipient(), key.contextType(), key.contextReference(), key.template(), digest.id());
+        }
+    }
+
+    private static final class Slot {
+
+        private final UUID id;
+        private final OffsetDateTime firstReceivedAt;
+        private final long dueAtMs;
+        private final ArrayDeque<DigestItem> items;
+        private final int attempts;
+        private int count;
+
+        private Slot(UUID id, DigestItem item, long dueAtMs) {
+            this.id = id;
+            this.firstReceivedAt = OffsetDateTime.now();
+            this.dueAtMs = dueAtMs;
+            this.items = new ArrayDeque<>();
+            this.items.add(item);
+            this.attempts = 0;
+            this.count = 1;
+        }
+
+        private Slot(Digest digest, int attempts, long dueAtMs) {
+            this.id = digest.id();
+            this.firstReceivedAt = digest.firstReceivedAt();
+            this.dueAtMs = dueAtMs;
+            this.items = new ArrayDeque<>(digest.items());
+            this.attempts = attempts;
+            this.count = digest.count();
+        }
+
+        private void add(DigestItem item, int maxItems) {
+            items.addLast(item);
+            while (items.size() > Math.max(1, maxItems)) {
+                items.removeFirst();
+            }
+            count++;
+        }
+
+        private Digest toDigest() {
+            return new Digest(id, List.copyOf(items), count, firstReceivedAt, attempts);
+        }
+    }
+}
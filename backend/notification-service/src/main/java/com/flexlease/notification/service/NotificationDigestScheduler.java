@@ -0,0 +1,60 @@
+package com.flexlease.notification.service;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 定期把合并窗口已结束的汇总写入通知日志；停机时写出全部缓冲，避免正常发布丢失通知。
+ * <p>
+ * 写入失败的汇总重新放回缓冲，下一个窗口结束时再写；尝试次数用尽或停机时仍失败则丢弃，
+ * 记 {@code flexlease.notification.digest{result=dropped}} 并输出错误日志。
+ */
+@Component
+public class NotificationDigestScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationDigestScheduler.class);
+
+    private final NotificationDigestBuffer buffer;
+    private final NotificationService notificationService;
+    private final FlexleaseMetrics metrics;
+
+    public NotificationDigestScheduler(NotificationDigestBuffer buffer,
+                                       NotificationService notificationService,
+                                       FlexleaseMetrics metrics) {
+        this.buffer = buffer;
+        this.notificationService = notificationService;
+        this.metrics = metrics;
+    }
+
+    @Scheduled(fixedDelayString = "${flexlease.notification.digest.flush-interval-ms:1000}")
+    public void flushDue() {
+        write(buffer.drainDue(System.currentTimeMillis()), true);
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        write(buffer.drainAll(), false);
+    }
+
+    private void write(List<NotificationDigestBuffer.Digest> digests, boolean retryable) {
+        for (NotificationDigestBuffer.Digest digest : digests) {
+            try {
+                notificationService.writeDigest(digest);
+            } catch (RuntimeException ex) {
+                if (retryable && buffer.retry(digest, System.currentTimeMillis())) {
+                    LOG.warn("Failed to write notification digest {} for recipient {}, retrying after next window: {}",
+                            digest.id(), digest.latest().recipient(), ex.getMessage());
+                } else {
+                    metrics.notificationDigested(NotificationDigestBuffer.RESULT_DROPPED);
+                    LOG.error("Dropped notification digest {} for recipient {} ({} notifications) after {} attempts",
+                            digest.id(), digest.latest().recipient(), digest.count(), digest.attempts() + 1, ex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.flexlease.notification.service;
+
+import com.flexlease.common.exception.BusinessException;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.notification.domain.NotificationInboxState;
+import com.flexlease.notification.domain.NotificationLog;
+import com.flexlease.notification.dto.NotificationInboxPageResponse;
+import com.flexlease.notification.dto.NotificationLogResponse;
+import com.flexlease.notification.dto.NotificationUnreadResponse;
+import com.flexlease.notification.repository.NotificationInboxStateRepository;
+import com.flexlease.notification.repository.NotificationLogRepository;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 收件箱：按接收方游标分页读取通知，并维护已读标记与未读计数。
+ * <p>
+ * 未读数在写入通知时原子递增，读取时只查一行阅读状态；标记已读时把标记推进到指定通知（默认最新一条）的写入时间，
+ * 并按标记之后的通知数重算未读数，偶发的并发计数偏差会在下一次标记已读时纠正。
+ */
+@Service
+public class NotificationInboxService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationLogRepository logRepository;
+    private final NotificationInboxStateRepository stateRepository;
+    private final TransactionTemplate stateCreation;
+
+    public NotificationInboxService(NotificationLogRepository logRepository,
+                                    NotificationInboxStateRepository stateRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.logRepository = logRepository;
+        this.stateRepository = stateRepository;
+        this.stateCreation = new TransactionTemplate(transactionManager);
+        this.stateCreation.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 为新写入的通知递增接收方未读数，须在写入通知的事务内调用。
+     */
+    @Transactional
+    public void recordDelivered(String recipient) {
+        OffsetDateTime now = OffsetDateTime.now();
+        if (stateRepository.incrementUnread(recipient, now) > 0) {
+            return;
+        }
+        // 阅读状态在接收方首次收到通知时按需创建：独立事务提交，并发创建时主键冲突的一方直接复用已有行
+        try {
+            stateCreation.executeWithoutResult(status -> stateRepository.insertEmpty(recipient, now));
+        } catch (DataIntegrityViolationException ignored) {
+            // 已由并发请求创建
+        }
+        stateRepository.incrementUnread(recipient, now);
+    }
+
+    @Transactional(readOnly = true)
+    public NotificationInboxPageResponse listInbox(String recipient, String contextType, UUID before, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        String normalizedContextType = contextType == null || contextType.isBlank()
+                ? null
+                : contextType.trim().toUpperCase(Locale.ROOT);
+        List<NotificationLog> rows;
+        if (before == null) {
+            rows = normalizedContextType == null
+                    ? logRepository.findInbox(recipient, page)
+                    : logRepository.findInboxByContextType(recipient, normalizedContextType, page);
+        } else {
+            NotificationLog cursor = logRepository.findByIdAndRecipient(before, recipient)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.VALIDATION_ERROR, "通知游标无效"));
+            rows = normalizedContextType == null
+                    ? logRepository.findInboxBefore(recipient, cursor.getCreatedAt(), cursor.getId(), page)
+                    : logRepository.findInboxByContextTypeBefore(
+                            recipient, normalizedContextType, cursor.getCreatedAt(), cursor.getId(), page);
+        }
+        boolean hasMore = rows.size() > pageSize;
+        List<NotificationLog> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        UUID nextCursor = hasMore ? pageRows.get(pageRows.size() - 1).getId() : null;
+        Optional<NotificationInboxState> state = stateRepository.findById(recipient);
+        return new NotificationInboxPageResponse(
+                pageRows.stream().map(NotificationService::toResponse).toList(),
+                nextCursor,
+                hasMore,
+                state.map(NotificationInboxState::getUnreadCount).orElse(0),
+                state.map(NotificationInboxState::getLastReadAt).orElse(null)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public NotificationUnreadResponse unread(String recipient) {
+        return stateRepository.findById(recipient)
+                .map(state -> new NotificationUnreadResponse(recipient, state.getUnreadCount(), state.getLastReadAt()))
+                .orElseGet(() -> new NotificationUnreadResponse(recipient, 0, null));
+    }
+
+    /**
+     * 把已读标记推进到 {@code upTo}（省略时为最新一条通知）；标记只前进，早于当前标记的请求不生效。
+     */
+    @Transactional
+    public NotificationUnreadResponse markRead(String recipient, UUID upTo) {
+        Optional<NotificationLog> target = upTo == null
+                ? logRepository.findInbox(recipient, PageRequest.of(0, 1)).stream().findFirst()
+                : Optional.of(logRepository.findByIdAndRecipient(upTo, recipient)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.VALIDATION_ERROR, "通知不存在或不属于当前接收方")));
+        target.ifPresent(log -> {
+            OffsetDateTime readUpTo = log.getCreatedAt();
+            int unread = Math.toIntExact(logRepository.countByRecipientAndCreatedAtAfter(recipient, readUpTo));
+            stateRepository.markRead(recipient, readUpTo, unread, OffsetDateTime.now());
+        });
+        return unread(recipient);
+    }
+}
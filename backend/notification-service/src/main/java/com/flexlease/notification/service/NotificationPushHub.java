@@ -0,0 +1,282 @@
+package com.flexlease.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.exception.BusinessException;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.notification.config.NotificationPushProperties;
+import com.flexlease.notification.dto.NotificationLogResponse;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 本实例上的通知推送连接表。
+ * <p>
+ * 连接按接收方分组，SSE 连接处于 Servlet 异步模式，空闲时不占用请求线程。每个连接有独立的有界发送队列，
+ * 由虚拟线程串行写出，一个写不动的客户端只会积压自己的队列；积压超过 {@code send-queue-capacity} 时结束该连接，
+ * 客户端携带 Last-Event-ID 重连后由 {@link NotificationPushService} 补发。一条通知只序列化一次，
+ * 再分发给该接收方的全部连接。
+ */
+@Component
+public class NotificationPushHub {
+
+    static final String EVENT_NOTIFICATION = "notification";
+    static final String EVENT_RESET = "reset";
+    static final String OUTCOME_DELIVERED = "delivered";
+    static final String OUTCOME_DROPPED = "dropped";
+    static final String OUTCOME_REJECTED = "rejected";
+
+    /** 建议客户端断线后的重连间隔。 */
+    private static final long RECONNECT_MS = 3_000L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationPushHub.class);
+
+    private final ConcurrentHashMap<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final NotificationPushProperties properties;
+    private final ObjectMapper objectMapper;
+    private final FlexleaseMetrics metrics;
+
+    public NotificationPushHub(NotificationPushProperties properties,
+                               ObjectMapper objectMapper,
+                               FlexleaseMetrics metrics) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        metrics.notificationPushGauge(subscriberCount::get);
+    }
+
+    /**
+     * 登记一个连接。连接先处于暂停状态，期间到达的通知只入队，待 {@link Subscription#start(List)} 放入补发内容后再开始写出。
+     */
+    Subscription register(String recipient) {
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            metrics.notificationPushed(OUTCOME_REJECTED);
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "推送连接数已达上限，请稍后重试");
+        }
+        SseEmitter emitter = new SseEmitter(properties.getTimeoutMs());
+        Subscription subscription = new Subscription(recipient, emitter);
+        subscriptions.compute(recipient, (key, current) -> {
+            Set<Subscription> target = current == null ? ConcurrentHashMap.newKeySet() : current;
+            target.add(subscription);
+            return target;
+        });
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onError(ex -> remove(subscription));
+        // 到期后正常结束，客户端按 retry 间隔重连
+        emitter.onTimeout(emitter::complete);
+        return subscription;
+    }
+
+    /**
+     * 把一条新通知分发给接收方在本实例上的全部连接；接收方不在线时直接返回。
+     */
+    public void deliver(NotificationLogResponse log) {
+        Set<Subscription> targets = subscriptions.get(log.recipient());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        PushEvent event = notificationEvent(log);
+        targets.forEach(subscription -> subscription.enqueue(event));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    PushEvent notificationEvent(NotificationLogResponse log) {
+        try {
+            return new PushEvent(log.id().toString(), EVENT_NOTIFICATION, objectMapper.writeValueAsString(log));
+        } catch (JsonProcessingException ex) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "通知推送序列化失败");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${flexlease.notification.push.heartbeat-ms:25000}",
+            initialDelayString = "${flexlease.notification.push.heartbeat-ms:25000}")
+    void heartbeat() {
+        PushEvent ping = PushEvent.comment("ping");
+        subscriptions.values().forEach(targets -> targets.forEach(subscription -> subscription.heartbeat(ping)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscriptions.values().forEach(targets -> targets.forEach(Subscription::complete));
+        sender.shutdown();
+    }
+
+    void remove(Subscription subscription) {
+        if (!subscription.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscriptions.computeIfPresent(subscription.recipient, (key, current) -> {
+            current.remove(subscription);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    /**
+     * 待写出的 SSE 事件；{@code name} 为空表示注释行（心跳）。
+     */
+    record PushEvent(String id, String name, String data) {
+
+        static PushEvent comment(String text) {
+            return new PushEvent(null, null, text);
+        }
+
+        static PushEvent reset(String reason) {
+            return new PushEvent(null, EVENT_RESET, reason);
+        }
+
+        SseEmitter.SseEventBuilder toBuilder() {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().reconnectTime(RECONNECT_MS);
+            if (name == null) {
+                return builder.comment(data);
+            }
+            if (id != null) {
+                builder.id(id);
+            }
+            return builder.name(name).data(data);
+        }
+    }
+
+    /**
+     * 单个 SSE 连接及其发送队列。
+     */
+    final class Subscription {
+
+        private final String recipient;
+        private final SseEmitter emitter;
+        private final ArrayDeque<PushEvent> queue = new ArrayDeque<>();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private Set<String> replayedIds = Set.of();
+        private boolean started;
+        private boolean draining;
+
+        private Subscription(String recipient, SseEmitter emitter) {
+            this.recipient = recipient;
+            this.emitter = emitter;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        /**
+         * 放入补发事件并开始写出：补发内容排在暂停期间入队的实时事件之前，两者重复的通知只保留补发的一份。
+         */
+        void start(List<PushEvent> replay) {
+            synchronized (this) {
+                Set<String> ids = new HashSet<>();
+                replay.forEach(event -> {
+                    if (event.id() != null) {
+                        ids.add(event.id());
+                    }
+                });
+                replayedIds = ids;
+                queue.removeIf(event -> event.id() != null && ids.contains(event.id()));
+                for (int i = replay.size() - 1; i >= 0; i--) {
+                    queue.addFirst(replay.get(i));
+                }
+                queue.addFirst(PushEvent.comment("ready"));
+                started = true;
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            sender.execute(this::drain);
+        }
+
+        void enqueue(PushEvent event) {
+            boolean schedule = false;
+            boolean overflow = false;
+            synchronized (this) {
+                if (closed.get() || (event.id() != null && replayedIds.contains(event.id()))) {
+                    return;
+                }
+                if (queue.size() >= properties.getSendQueueCapacity()) {
+                    queue.clear();
+                    overflow = true;
+                } else {
+                    queue.add(event);
+                    if (started && !draining) {
+                        draining = true;
+                        schedule = true;
+                    }
+                }
+            }
+            if (overflow) {
+                metrics.notificationPushed(OUTCOME_DROPPED);
+                LOG.debug("Push queue of recipient {} overflowed, closing the stream", recipient);
+                remove(this);
+                complete();
+            } else if (schedule) {
+                sender.execute(this::drain);
+            }
+        }
+
+        /**
+         * 结束连接；客户端已断开但服务端尚未感知时响应对象可能已被容器回收，此时忽略。
+         */
+        void complete() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ex) {
+                LOG.debug("Push stream of recipient {} already closed: {}", recipient, ex.getMessage());
+            }
+        }
+
+        void heartbeat(PushEvent ping) {
+            synchronized (this) {
+                if (!started || !queue.isEmpty()) {
+                    return;
+                }
+            }
+            enqueue(ping);
+        }
+
+        private void drain() {
+            while (true) {
+                PushEvent event;
+                synchronized (this) {
+                    event = queue.poll();
+                    if (event == null || closed.get()) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(event.toBuilder());
+                    if (event.id() != null) {
+                        metrics.notificationPushed(OUTCOME_DELIVERED);
+                    }
+                } catch (IOException | IllegalStateException ex) {
+                    // 客户端已断开（含 AsyncRequestNotUsableException）：容器随后回调 onError 结束异步请求，
+                    // 这里只摘除连接避免继续入队；不再主动 complete，以免与容器的错误分派重复分派同一请求
+                    LOG.debug("Push stream of recipient {} disconnected: {}", recipient, ex.getMessage());
+                    remove(this);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.flexlease.notification.service;
+
+import com.flexlease.common.messaging.MessagingConstants;
+import com.flexlease.notification.dto.NotificationLogResponse;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 新通知广播监听器：推送给连接在本实例上的接收方。
+ * <p>
+ * 每个实例使用独占的匿名队列绑定 {@code notification.events}，实例下线时队列随之删除。
+ */
+@Component
+@ConditionalOnProperty(prefix = "flexlease.messaging", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationPushListener {
+
+    private final NotificationPushHub hub;
+
+    public NotificationPushListener(NotificationPushHub hub) {
+        this.hub = hub;
+    }
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(exclusive = "true", autoDelete = "true"),
+            exchange = @Exchange(value = MessagingConstants.NOTIFICATION_EVENTS_EXCHANGE, type = ExchangeTypes.TOPIC),
+            key = MessagingConstants.NOTIFICATION_CREATED_ROUTING_KEY
+    ))
+    public void onNotificationCreated(NotificationLogResponse log) {
+        hub.deliver(log);
+    }
+}
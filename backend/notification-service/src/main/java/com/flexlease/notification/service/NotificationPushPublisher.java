@@ -0,0 +1,72 @@
+package com.flexlease.notification.service;
+
+import com.flexlease.common.messaging.MessagingConstants;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.notification.dto.NotificationLogResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 新通知的推送分发：事务提交后广播到 {@code notification.events}，由每个实例的
+ * {@link NotificationPushListener} 推给本机连接；接收方可能连在任意一个实例上。
+ * <p>
+ * 未启用消息或发送失败时只推给本实例的连接，其余实例上的客户端在下次重连补发时拿到。
+ */
+@Component
+public class NotificationPushPublisher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationPushPublisher.class);
+
+    private final ObjectProvider<RabbitTemplate> rabbitTemplateProvider;
+    private final NotificationPushHub hub;
+    private final boolean messagingEnabled;
+    private final FlexleaseMetrics metrics;
+
+    public NotificationPushPublisher(ObjectProvider<RabbitTemplate> rabbitTemplateProvider,
+                                     NotificationPushHub hub,
+                                     @Value("${flexlease.messaging.enabled:true}") boolean messagingEnabled,
+                                     FlexleaseMetrics metrics) {
+        this.rabbitTemplateProvider = rabbitTemplateProvider;
+        this.hub = hub;
+        this.messagingEnabled = messagingEnabled;
+        this.metrics = metrics;
+    }
+
+    public void publishCreated(NotificationLogResponse log) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(log);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(log);
+            }
+        });
+    }
+
+    private void dispatch(NotificationLogResponse log) {
+        RabbitTemplate rabbitTemplate = messagingEnabled ? rabbitTemplateProvider.getIfAvailable() : null;
+        if (rabbitTemplate == null) {
+            hub.deliver(log);
+            return;
+        }
+        try {
+            rabbitTemplate.convertAndSend(MessagingConstants.NOTIFICATION_EVENTS_EXCHANGE,
+                    MessagingConstants.NOTIFICATION_CREATED_ROUTING_KEY,
+                    log);
+            metrics.messagePublished(MessagingConstants.NOTIFICATION_EVENTS_EXCHANGE, true);
+        } catch (AmqpException ex) {
+            metrics.messagePublished(MessagingConstants.NOTIFICATION_EVENTS_EXCHANGE, false);
+            LOG.warn("Failed to broadcast notification {}, pushing to local subscribers only: {}", log.id(), ex.getMessage());
+            hub.deliver(log);
+        }
+    }
+}
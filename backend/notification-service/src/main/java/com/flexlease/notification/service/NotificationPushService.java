@@ -0,0 +1,76 @@
+package com.flexlease.notification.service;
+
+import com.flexlease.common.exception.BusinessException;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.notification.config.NotificationPushProperties;
+import com.flexlease.notification.dto.NotificationLogResponse;
+import com.flexlease.notification.service.NotificationPushHub.PushEvent;
+import com.flexlease.notification.service.NotificationPushHub.Subscription;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 通知推送订阅：建立 SSE 连接，并按 Last-Event-ID 补发断线期间错过的通知。
+ * <p>
+ * 先登记连接再查询补发内容，查询期间写入的通知会进入连接的发送队列，不会遗漏；补发与实时推送可能重复同一条通知，
+ * 连接内按通知 ID 去重，跨连接的重复由客户端按 ID 去重。无法补发（ID 不属于该接收方或错过的条数超过
+ * {@code replay-limit}）时下发 {@code reset} 事件，客户端改为重新拉取列表。
+ */
+@Service
+public class NotificationPushService {
+
+    static final String RESET_UNKNOWN_EVENT = "unknown-last-event-id";
+    static final String RESET_REPLAY_LIMIT = "replay-limit-exceeded";
+
+    private final NotificationPushHub hub;
+    private final NotificationService notificationService;
+    private final NotificationPushProperties properties;
+
+    public NotificationPushService(NotificationPushHub hub,
+                                   NotificationService notificationService,
+                                   NotificationPushProperties properties) {
+        this.hub = hub;
+        this.notificationService = notificationService;
+        this.properties = properties;
+    }
+
+    public SseEmitter subscribe(String recipient, String lastEventId) {
+        if (!properties.isEnabled()) {
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "通知推送未开启");
+        }
+        Subscription subscription = hub.register(recipient);
+        List<PushEvent> replay;
+        try {
+            replay = replay(recipient, lastEventId);
+        } catch (RuntimeException ex) {
+            hub.remove(subscription);
+            throw ex;
+        }
+        subscription.start(replay);
+        return subscription.emitter();
+    }
+
+    private List<PushEvent> replay(String recipient, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        UUID lastId;
+        try {
+            lastId = UUID.fromString(lastEventId.trim());
+        } catch (IllegalArgumentException ex) {
+            return List.of(PushEvent.reset(RESET_UNKNOWN_EVENT));
+        }
+        int limit = properties.getReplayLimit();
+        Optional<List<NotificationLogResponse>> missed = notificationService.listSince(recipient, lastId, limit + 1);
+        if (missed.isEmpty()) {
+            return List.of(PushEvent.reset(RESET_UNKNOWN_EVENT));
+        }
+        if (missed.get().size() > limit) {
+            return List.of(PushEvent.reset(RESET_REPLAY_LIMIT));
+        }
+        return missed.get().stream().map(hub::notificationEvent).toList();
+    }
+}
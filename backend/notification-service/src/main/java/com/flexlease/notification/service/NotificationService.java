@@ -14,38 +14,56 @@ import com.flexlease.notification.dto.NotificationLogResponse;
 import com.flexlease.notification.dto.NotificationTemplateResponse;
 import com.flexlease.notification.repository.NotificationLogRepository;
 import com.flexlease.notification.repository.NotificationTemplateRepository;
-import jakarta.transaction.Transactional;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.UUID;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 通知核心服务：负责模板渲染、写入发送日志，并提供“通知中心”查询能力。
  * <p>
- * 说明：当前通知仅实现站内信，因此发送逻辑会直接落库并标记为 SENT。
+ * 说明：当前通知仅实现站内信，因此发送逻辑会直接落库并标记为 SENT。声明 {@code digest} 的通知先进入
+ * {@link NotificationDigestBuffer}（事务提交后入缓冲），合并窗口结束后由 {@link NotificationDigestScheduler} 汇总写入。
  */
 @Service
 @Transactional
 public class NotificationService {
 
+    private static final int MAX_SUBJECT_LENGTH = 200;
+    private static final PageRequest LATEST_PAGE = PageRequest.of(0, 50);
+
     private final NotificationTemplateRepository templateRepository;
     private final NotificationTemplateProvider templateProvider;
     private final NotificationLogRepository logRepository;
     private final ObjectMapper objectMapper;
+    private final NotificationPushPublisher pushPublisher;
+    private final NotificationDigestBuffer digestBuffer;
+    private final NotificationInboxService inboxService;
 
     public NotificationService(NotificationTemplateRepository templateRepository,
                                NotificationLogRepository logRepository,
                                ObjectMapper objectMapper,
-                               NotificationTemplateProvider templateProvider) {
+                               NotificationTemplateProvider templateProvider,
+                               NotificationPushPublisher pushPublisher,
+                               NotificationDigestBuffer digestBuffer,
+                               NotificationInboxService inboxService) {
         this.templateRepository = templateRepository;
         this.logRepository = logRepository;
         this.objectMapper = objectMapper;
         this.templateProvider = templateProvider;
+        this.pushPublisher = pushPublisher;
+        this.digestBuffer = digestBuffer;
+        this.inboxService = inboxService;
     }
 
     public NotificationLogResponse sendNotification(NotificationSendRequest request) {
@@ -65,29 +83,103 @@ public class NotificationService {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR, "通知内容不能为空");
         }
 
-        String payload = serializePayload(Optional.ofNullable(request.variables()).orElse(Collections.emptyMap()));
+        String templateCode = template != null ? template.getCode() : null;
+        Map<String, Object> variables = Optional.ofNullable(request.variables()).orElse(Collections.emptyMap());
+        String contextType = normalizeContextType(request.contextType());
+        String contextReference = normalizeContextReference(request.contextReference());
+
+        if (request.digest()) {
+            NotificationDigestBuffer.DigestItem item = new NotificationDigestBuffer.DigestItem(
+                    templateCode, request.recipient(), subject, content, variables, contextType, contextReference);
+            Optional<NotificationDigestBuffer.PendingDigest> pending = digestBuffer.preview(item);
+            if (pending.isPresent()) {
+                bufferAfterCommit(item, pending.get().id());
+                return toPendingResponse(item, pending.get());
+            }
+        }
 
-        NotificationLog log = NotificationLog.draft(
-                template != null ? template.getCode() : null,
+        return persist(NotificationLog.draft(
+                templateCode,
                 request.recipient(),
                 subject,
                 content,
-            payload,
-            normalizeContextType(request.contextType()),
-            normalizeContextReference(request.contextReference())
-        );
+                serializePayload(variables),
+                contextType,
+                contextReference
+        ));
+    }
 
-        log.markSent();
+    /**
+     * 事务提交后再放入合并缓冲，调用方事务回滚时不会留下待写出的通知。
+     */
+    private void bufferAfterCommit(NotificationDigestBuffer.DigestItem item, UUID digestId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            digestBuffer.offer(item, System.currentTimeMillis(), digestId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                digestBuffer.offer(item, System.currentTimeMillis(), digestId);
+            }
+        });
+    }
+
+    /**
+     * 写入一条合并窗口已结束的汇总通知：标题与载荷取窗口内最新一条，合并多条时标题附带条数、
+     * 内容按到达顺序逐行列出保留的各条通知，载荷额外记录 {@code digestCount}。只合并了一条时与直接发送的日志相同。
+     */
+    public NotificationLogResponse writeDigest(NotificationDigestBuffer.Digest digest) {
+        NotificationDigestBuffer.DigestItem latest = digest.latest();
+        String subject = latest.subject();
+        String content = latest.content();
+        Map<String, Object> variables = latest.variables();
+        if (digest.count() > 1) {
+            String suffix = "（共 " + digest.count() + " 条）";
+            subject = subject.length() + suffix.length() > MAX_SUBJECT_LENGTH
+                    ? subject.substring(0, MAX_SUBJECT_LENGTH - suffix.length()) + suffix
+                    : subject + suffix;
+            variables = new LinkedHashMap<>(variables);
+            variables.put("digestCount", digest.count());
+            content = digestContent(digest);
+        }
+        return persist(NotificationLog.draft(
+                digest.id(),
+                latest.templateCode(),
+                latest.recipient(),
+                subject,
+                content,
+                serializePayload(variables),
+                latest.contextType(),
+                latest.contextReference()
+        ));
+    }
+
+    private static String digestContent(NotificationDigestBuffer.Digest digest) {
+        StringJoiner joiner = new StringJoiner("\n");
+        int omitted = digest.count() - digest.items().size();
+        if (omitted > 0) {
+            joiner.add("（更早的 " + omitted + " 条已省略）");
+        }
+        digest.items().forEach(item -> joiner.add(item.content()));
+        return joiner.toString();
+    }
 
+    private NotificationLogResponse persist(NotificationLog log) {
+        log.markSent();
         NotificationLog saved = logRepository.save(log);
-        return toResponse(saved);
+        inboxService.recordDelivered(saved.getRecipient());
+        NotificationLogResponse response = toResponse(saved);
+        pushPublisher.publishCreated(response);
+        return response;
     }
 
-    @Transactional(Transactional.TxType.SUPPORTS)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<NotificationLogResponse> listLogs(NotificationStatus status, String recipient) {
         return listLogs(status, recipient, null);
     }
 
+    @Transactional(readOnly = true)
     public List<NotificationLogResponse> listLogs(NotificationStatus status, String recipient, String contextType) {
         FlexleasePrincipal principal = SecurityUtils.requirePrincipal();
         boolean hasGlobalAccess = principal.hasRole("ADMIN") || principal.hasRole("INTERNAL");
@@ -118,16 +210,55 @@ public class NotificationService {
             }
         }
 
-        List<NotificationLog> logs = logRepository.findLatest(
-                normalizedRecipient,
-                status,
-                normalizedContextType,
-                PageRequest.of(0, 50)
-        );
-        return logs.stream().map(this::toResponse).toList();
+        List<NotificationLog> logs = normalizedRecipient != null
+                ? findRecipientLogs(normalizedRecipient, status, normalizedContextType)
+                : findGlobalLogs(status, normalizedContextType);
+        return logs.stream().map(NotificationService::toResponse).toList();
+    }
+
+    /**
+     * 按筛选组合选择专用查询，避免可选条件让执行计划放弃 {@code (recipient, created_at)} 复合索引。
+     */
+    private List<NotificationLog> findRecipientLogs(String recipient, NotificationStatus status, String contextType) {
+        if (status == null) {
+            return contextType == null
+                    ? logRepository.findInbox(recipient, LATEST_PAGE)
+                    : logRepository.findInboxByContextType(recipient, contextType, LATEST_PAGE);
+        }
+        return contextType == null
+                ? logRepository.findByRecipientAndStatusOrderByCreatedAtDescIdDesc(recipient, status, LATEST_PAGE)
+                : logRepository.findByRecipientAndStatusAndContextTypeOrderByCreatedAtDescIdDesc(
+                        recipient, status, contextType, LATEST_PAGE);
+    }
+
+    private List<NotificationLog> findGlobalLogs(NotificationStatus status, String contextType) {
+        if (status == null) {
+            return contextType == null
+                    ? logRepository.findAllByOrderByCreatedAtDescIdDesc(LATEST_PAGE)
+                    : logRepository.findByContextTypeOrderByCreatedAtDescIdDesc(contextType, LATEST_PAGE);
+        }
+        return contextType == null
+                ? logRepository.findByStatusOrderByCreatedAtDescIdDesc(status, LATEST_PAGE)
+                : logRepository.findByStatusAndContextTypeOrderByCreatedAtDescIdDesc(status, contextType, LATEST_PAGE);
+    }
+
+    /**
+     * 查询接收方在 {@code lastId} 之后写入的通知（按时间正序），供推送连接断线重连时补发。
+     * <p>
+     * 与 {@code lastId} 同一时间戳的其他通知也会返回，可能与客户端已收到的重复，由客户端按 ID 去重。
+     *
+     * @return {@code lastId} 不存在或不属于该接收方时返回空
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<NotificationLogResponse>> listSince(String recipient, UUID lastId, int limit) {
+        return logRepository.findByIdAndRecipient(lastId, recipient)
+                .map(last -> logRepository.findSince(recipient, last.getCreatedAt(), lastId, PageRequest.of(0, limit))
+                        .stream()
+                        .map(NotificationService::toResponse)
+                        .toList());
     }
 
-    @Transactional(Transactional.TxType.SUPPORTS)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<NotificationTemplateResponse> listTemplates() {
         return templateRepository.findAll().stream()
                 .sorted((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()))
@@ -157,7 +288,10 @@ public class NotificationService {
         return render(base, request.variables());
     }
 
-    private String render(String source, Map<String, Object> variables) {
+    /**
+     * 以变量替换模板中的 {@code {{key}}} 占位符；包内可见，供基准测试直接调用。
+     */
+    static String render(String source, Map<String, Object> variables) {
         if (source == null) {
             return null;
         }
@@ -183,7 +317,27 @@ public class NotificationService {
         }
     }
 
-    private NotificationLogResponse toResponse(NotificationLog log) {
+    /**
+     * 仍在合并窗口内的通知：返回的 ID 即汇总日志的 ID，状态为 PENDING。
+     */
+    private NotificationLogResponse toPendingResponse(NotificationDigestBuffer.DigestItem item,
+                                                      NotificationDigestBuffer.PendingDigest pending) {
+        return new NotificationLogResponse(
+                pending.id(),
+                item.templateCode(),
+                item.recipient(),
+                item.subject(),
+                item.content(),
+                NotificationStatus.PENDING,
+                null,
+                item.contextType(),
+                item.contextReference(),
+                null,
+                pending.firstReceivedAt()
+        );
+    }
+
+    static NotificationLogResponse toResponse(NotificationLog log) {
         return new NotificationLogResponse(
                 log.getId(),
                 log.getTemplateCode(),
@@ -0,0 +1,30 @@
+-- 收件箱按接收方倒序游标翻页：(recipient, created_at DESC, id DESC) 同时覆盖过滤与排序，
+-- 原 recipient 单列索引是其前缀，一并删除
+CREATE INDEX IF NOT EXISTS idx_notification_log_recipient_created
+    ON notification.notification_log (recipient, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS notification.idx_notification_log_recipient;
+
+-- 按业务场景筛选收件箱（公告、纠纷、信用等）；原 (context_type, recipient, status) 无法提供排序
+CREATE INDEX IF NOT EXISTS idx_notification_log_recipient_context_created
+    ON notification.notification_log (recipient, context_type, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS notification.idx_notification_log_context;
+
+-- 管理员全局视图按时间倒序
+CREATE INDEX IF NOT EXISTS idx_notification_log_created
+    ON notification.notification_log (created_at DESC, id DESC);
+
+-- 接收方阅读状态：created_at 不晚于 last_read_at 的通知视为已读，unread_count 在写入通知时递增、标记已读时重算
+CREATE TABLE IF NOT EXISTS notification.notification_inbox_state (
+    recipient VARCHAR(100) PRIMARY KEY,
+    unread_count INT NOT NULL DEFAULT 0,
+    last_read_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- 上线前的历史通知视为已读
+INSERT INTO notification.notification_inbox_state (recipient, unread_count, last_read_at, updated_at)
+SELECT recipient, 0, MAX(created_at), CURRENT_TIMESTAMP
+FROM notification.notification_log
+GROUP BY recipient;
@@ -0,0 +1,6 @@
+-- 审计表增加链路追踪 trace id（W3C 32 位十六进制），各服务共用同一套审计表，语句需幂等
+ALTER TABLE audit.api_audit_log ADD COLUMN IF NOT EXISTS trace_id VARCHAR(32);
+ALTER TABLE audit.business_replay_log ADD COLUMN IF NOT EXISTS trace_id VARCHAR(32);
+
+CREATE INDEX IF NOT EXISTS idx_api_audit_log_trace_id ON audit.api_audit_log (trace_id);
+CREATE INDEX IF NOT EXISTS idx_business_replay_log_trace_id ON audit.business_replay_log (trace_id);
@@ -0,0 +1,74 @@
+package com.flexlease.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.notification.config.NotificationDigestProperties;
+import com.flexlease.notification.service.NotificationDigestBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class NotificationDigestBufferTest {
+
+    private static final long WINDOW_MS = 30_000L;
+
+    private final FlexleaseMetrics metrics = new FlexleaseMetrics(new SimpleMeterRegistry());
+
+    @Test
+    void keepsLatestItemsAndTotalCount() {
+        NotificationDigestBuffer buffer = buffer(2, 3);
+        UUID digestId = buffer.preview(message("第一条")).orElseThrow().id();
+        buffer.offer(message("第一条"), 0, digestId);
+        assertThat(buffer.preview(message("第二条")).orElseThrow().id()).isEqualTo(digestId);
+        buffer.offer(message("第二条"), 1, UUID.randomUUID());
+        buffer.offer(message("第三条"), 2, UUID.randomUUID());
+
+        List<NotificationDigestBuffer.Digest> digests = buffer.drainAll();
+
+        assertThat(digests).singleElement().satisfies(digest -> {
+            assertThat(digest.id()).isEqualTo(digestId);
+            assertThat(digest.count()).isEqualTo(3);
+            assertThat(digest.items()).extracting(NotificationDigestBuffer.DigestItem::content)
+                    .containsExactly("第二条", "第三条");
+        });
+    }
+
+    @Test
+    void failedDigestIsRetriedAfterNextWindowUntilAttemptsRunOut() {
+        NotificationDigestBuffer buffer = buffer(20, 2);
+        buffer.offer(message("第一条"), 0, UUID.randomUUID());
+        NotificationDigestBuffer.Digest failed = buffer.drainDue(WINDOW_MS).getFirst();
+
+        assertThat(buffer.retry(failed, WINDOW_MS)).isTrue();
+        buffer.offer(message("窗口结束后的新留言"), WINDOW_MS, UUID.randomUUID());
+        assertThat(buffer.drainDue(WINDOW_MS)).isEmpty();
+
+        List<NotificationDigestBuffer.Digest> due = buffer.drainDue(2 * WINDOW_MS);
+        assertThat(due).hasSize(2);
+        NotificationDigestBuffer.Digest retried = due.getFirst();
+        assertThat(retried.id()).isEqualTo(failed.id());
+        assertThat(retried.attempts()).isEqualTo(1);
+        assertThat(retried.latest().content()).isEqualTo("第一条");
+        assertThat(due.get(1).id()).isNotEqualTo(failed.id());
+
+        assertThat(buffer.retry(retried, 2 * WINDOW_MS)).isFalse();
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(metrics.registry().get(FlexleaseMetrics.NOTIFICATION_DIGEST).tag("result", "retried").counter().count())
+                .isEqualTo(1);
+    }
+
+    private NotificationDigestBuffer buffer(int maxItems, int maxWriteAttempts) {
+        NotificationDigestProperties properties = new NotificationDigestProperties();
+        properties.setWindowMs(WINDOW_MS);
+        properties.setMaxItemsPerDigest(maxItems);
+        properties.setMaxWriteAttempts(maxWriteAttempts);
+        return new NotificationDigestBuffer(properties, metrics);
+    }
+
+    private static NotificationDigestBuffer.DigestItem message(String content) {
+        return new NotificationDigestBuffer.DigestItem(null, "recipient", "收到用户留言", content, Map.of(), "ORDER", "order-1");
+    }
+}
@@ -0,0 +1,91 @@
+package com.flexlease.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flexlease.common.notification.NotificationSendRequest;
+import com.flexlease.notification.dto.NotificationInboxPageResponse;
+import com.flexlease.notification.dto.NotificationLogResponse;
+import com.flexlease.notification.service.NotificationInboxService;
+import com.flexlease.notification.service.NotificationService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class NotificationInboxIntegrationTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationInboxService inboxService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pagesInboxByCursorAndMaintainsUnreadCount() {
+        String recipient = UUID.randomUUID().toString();
+        List<NotificationLogResponse> sent = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            sent.add(send(recipient, "通知" + i, i % 2 == 0 ? "ORDER" : null));
+        }
+        send(UUID.randomUUID().toString(), "他人通知", null);
+
+        assertThat(inboxService.unread(recipient).unreadCount()).isEqualTo(5);
+
+        List<NotificationLogResponse> paged = new ArrayList<>();
+        NotificationInboxPageResponse page = inboxService.listInbox(recipient, null, null, 2);
+        paged.addAll(page.content());
+        while (page.hasMore()) {
+            page = inboxService.listInbox(recipient, null, page.nextCursor(), 2);
+            paged.addAll(page.content());
+        }
+        assertThat(paged).extracting(NotificationLogResponse::id)
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(sent.stream().map(NotificationLogResponse::id).toList());
+        assertThat(paged).isSortedAccordingTo(
+                Comparator.comparing(NotificationLogResponse::createdAt).reversed());
+        assertThat(inboxService.listInbox(recipient, "order", null, 10).content())
+                .hasSize(3)
+                .allMatch(log -> "ORDER".equals(log.contextType()));
+
+        // 标记到最早的两条之后，剩余三条未读；不带参数时标记到最新一条
+        NotificationLogResponse readUpTo = paged.get(3);
+        var partial = inboxService.markRead(recipient, readUpTo.id());
+        assertThat(partial.unreadCount()).isEqualTo(3);
+        assertThat(partial.lastReadAt()).isEqualTo(readUpTo.createdAt());
+        assertThat(inboxService.markRead(recipient, paged.get(4).id()).unreadCount())
+                .as("已读标记不后退")
+                .isEqualTo(3);
+        assertThat(inboxService.markRead(recipient, null).unreadCount()).isZero();
+
+        send(recipient, "新通知", null);
+        var unread = inboxService.unread(recipient);
+        assertThat(unread.unreadCount()).isEqualTo(1);
+        assertThat(inboxService.listInbox(recipient, null, null, 1).unreadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void inboxQueryUsesRecipientCreatedIndex() {
+        String plan = jdbcTemplate.queryForObject("""
+                explain select * from notification.notification_log
+                where recipient = 'r-1'
+                order by created_at desc, id desc
+                limit 21
+                """, String.class);
+
+        assertThat(plan).containsIgnoringCase("idx_notification_log_recipient_created");
+    }
+
+    private NotificationLogResponse send(String recipient, String subject, String contextType) {
+        return notificationService.sendNotification(new NotificationSendRequest(
+                null, recipient, subject, subject + "正文", Map.of(), contextType, null));
+    }
+}
@@ -0,0 +1,207 @@
+package com.flexlease.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flexlease.common.notification.NotificationSendRequest;
+import com.flexlease.notification.dto.NotificationLogResponse;
+import com.flexlease.notification.service.NotificationService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class NotificationPushIntegrationTest {
+
+    private static final int PUSH_PORT = freePort();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void pushPort(DynamicPropertyRegistry registry) {
+        registry.add("flexlease.notification.push.port", () -> PUSH_PORT);
+    }
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Test
+    void pushesNewNotificationsAndReplaysAfterReconnect() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String token = token(userId, "push-user", "USER");
+
+        EventStream first = connect(token, null);
+        first.awaitReady();
+        NotificationLogResponse live = send(userId, "实时通知");
+        List<String> event = first.nextEvent();
+        assertThat(event).contains("id:" + live.id(), "event:notification");
+        assertThat(event.stream().filter(line -> line.startsWith("data:")).findFirst().orElseThrow()).contains("实时通知");
+        first.close();
+
+        // 断线期间写入的通知在重连时按写入顺序补发
+        NotificationLogResponse missedA = send(userId, "离线通知A");
+        NotificationLogResponse missedB = send(userId, "离线通知B");
+        EventStream resumed = connect(token, live.id().toString());
+        resumed.awaitReady();
+        assertThat(resumed.nextEvent()).contains("id:" + missedA.id());
+        assertThat(resumed.nextEvent()).contains("id:" + missedB.id());
+        resumed.close();
+
+        // 其他接收方的通知 ID 不能作为补发起点
+        NotificationLogResponse foreign = send(UUID.randomUUID(), "他人通知");
+        EventStream reset = connect(token, foreign.id().toString());
+        reset.awaitReady();
+        assertThat(reset.nextEvent()).contains("event:reset");
+        reset.close();
+    }
+
+    @Test
+    void rejectsSubscribingToOtherRecipients() throws Exception {
+        String token = token(UUID.randomUUID(), "push-user", "USER");
+        HttpRequest request = HttpRequest.newBuilder(streamUri("?recipient=" + UUID.randomUUID()))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(400);
+        assertThat(response.body()).contains("禁止订阅其他接收方的通知");
+    }
+
+    @Test
+    void dedicatedPushPortOnlyServesStream() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String token = token(userId, "push-user", "USER");
+
+        EventStream stream = connect(URI.create("http://localhost:" + PUSH_PORT + "/api/v1/notifications/stream"), token, null);
+        stream.awaitReady();
+        NotificationLogResponse live = send(userId, "推送端口通知");
+        assertThat(stream.nextEvent()).contains("id:" + live.id());
+        stream.close();
+
+        HttpRequest logs = HttpRequest.newBuilder(URI.create("http://localhost:" + PUSH_PORT + "/api/v1/notifications/logs"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        assertThat(client.send(logs, HttpResponse.BodyHandlers.discarding()).statusCode()).isEqualTo(404);
+    }
+
+    private NotificationLogResponse send(UUID recipient, String subject) {
+        return notificationService.sendNotification(new NotificationSendRequest(
+                null, recipient.toString(), subject, subject + "正文", Map.of()));
+    }
+
+    private EventStream connect(String token, String lastEventId) throws Exception {
+        return connect(streamUri(""), token, lastEventId);
+    }
+
+    private EventStream connect(URI uri, String token, String lastEventId) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream")
+                .GET();
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith("text/event-stream"));
+        return new EventStream(response.body());
+    }
+
+    private URI streamUri(String query) {
+        return URI.create("http://localhost:" + port + "/api/v1/notifications/stream" + query);
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String token(UUID userId, String username, String role) {
+        String secret = Base64.getEncoder().encodeToString("flexlease-default-secret-please-change".getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .setSubject(userId.toString())
+                .claim("username", username)
+                .claim("roles", role)
+                .setIssuer("flexlease-auth-service")
+                .setIssuedAt(Date.from(Instant.now()))
+                .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret)))
+                .compact();
+    }
+
+    /**
+     * 在后台线程逐行读取 SSE 响应，按空行切分事件。
+     */
+    private static final class EventStream {
+
+        private final Stream<String> body;
+        private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+
+        EventStream(Stream<String> body) {
+            this.body = body;
+            Thread.ofVirtual().start(() -> {
+                try {
+                    body.forEach(lines::add);
+                } catch (RuntimeException ignored) {
+                    // 连接关闭
+                }
+            });
+        }
+
+        void awaitReady() throws InterruptedException {
+            List<String> event = nextEvent();
+            assertThat(event).anyMatch(line -> line.startsWith(":ready"));
+        }
+
+        List<String> nextEvent() throws InterruptedException {
+            List<String> block = new ArrayList<>();
+            while (true) {
+                String line = lines.poll(10, TimeUnit.SECONDS);
+                assertThat(line).as("SSE 事件超时").isNotNull();
+                if (line.isEmpty()) {
+                    if (!block.isEmpty()) {
+                        return block;
+                    }
+                    continue;
+                }
+                block.add(line);
+            }
+        }
+
+        void close() {
+            body.close();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.flexlease.common.security.FlexleasePrincipal;
 import com.flexlease.notification.domain.NotificationStatus;
 import com.flexlease.notification.repository.NotificationLogRepository;
 import com.flexlease.notification.repository.NotificationTemplateRepository;
+import com.flexlease.notification.service.NotificationDigestScheduler;
 import com.flexlease.notification.service.NotificationService;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,9 +19,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @SpringBootTest
 @Transactional
@@ -35,6 +40,12 @@ class NotificationServiceIntegrationTest {
     @Autowired
     private NotificationTemplateRepository notificationTemplateRepository;
 
+    @Autowired
+    private NotificationDigestScheduler digestScheduler;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @BeforeEach
     void setUp() {
         assertThat(notificationTemplateRepository.findByCode("ORDER_SHIPPED")).isPresent();
@@ -142,6 +153,70 @@ class NotificationServiceIntegrationTest {
         }
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldDigestBurstOfSimilarNotifications() {
+        String recipient = UUID.randomUUID().toString();
+        String orderId = UUID.randomUUID().toString();
+
+        var first = notificationService.sendNotification(conversationMessage(recipient, orderId, "第一条留言"));
+        var second = notificationService.sendNotification(conversationMessage(recipient, orderId, "第二条留言"));
+        var third = notificationService.sendNotification(conversationMessage(recipient, orderId, "第三条留言"));
+        var otherOrder = notificationService.sendNotification(
+                conversationMessage(recipient, UUID.randomUUID().toString(), "另一订单留言"));
+
+        assertThat(first.status()).isEqualTo(NotificationStatus.PENDING);
+        assertThat(second.id()).isEqualTo(first.id());
+        assertThat(third.id()).isEqualTo(first.id());
+        assertThat(otherOrder.id()).isNotEqualTo(first.id());
+        assertThat(notificationLogRepository.findById(first.id())).isEmpty();
+
+        digestScheduler.flushAll();
+
+        assertThat(notificationLogRepository.findInbox(recipient, PageRequest.of(0, 10))).hasSize(2);
+        var digest = notificationLogRepository.findById(first.id()).orElseThrow();
+        assertThat(digest.getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(digest.getSubject()).isEqualTo("收到用户留言（共 3 条）");
+        assertThat(digest.getContent()).isEqualTo("第一条留言\n第二条留言\n第三条留言");
+        assertThat(digest.getContextReference()).isEqualTo(orderId);
+        assertThat(digest.getPayload()).contains("\"digestCount\":3");
+        assertThat(notificationLogRepository.findById(otherOrder.id()))
+                .hasValueSatisfying(log -> assertThat(log.getSubject()).isEqualTo("收到用户留言"));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldNotBufferDigestOfRolledBackTransaction() {
+        String recipient = UUID.randomUUID().toString();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        var pending = transactionTemplate.execute(status -> {
+            var response = notificationService.sendNotification(
+                    conversationMessage(recipient, UUID.randomUUID().toString(), "回滚的留言"));
+            status.setRollbackOnly();
+            return response;
+        });
+        assertThat(pending.status()).isEqualTo(NotificationStatus.PENDING);
+
+        digestScheduler.flushAll();
+
+        assertThat(notificationLogRepository.findById(pending.id())).isEmpty();
+        assertThat(notificationLogRepository.findInbox(recipient, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    private static NotificationSendRequest conversationMessage(String recipient, String orderId, String content) {
+        return new NotificationSendRequest(
+                null,
+                recipient,
+                "收到用户留言",
+                content,
+                Map.of("orderNo", "ORD-DIGEST"),
+                "ORDER",
+                orderId,
+                true
+        );
+    }
+
     private SecurityContextHandle withPrincipal(UUID userId, UUID vendorId, String username, Set<String> roles) {
         FlexleasePrincipal principal = new FlexleasePrincipal(userId, vendorId, username, roles);
         SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null));
@@ -1,7 +1,5 @@
 package com.flexlease.order.client;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flexlease.common.dto.ApiResponse;
 import com.flexlease.common.exception.BusinessException;
 import com.flexlease.common.exception.ErrorCode;
@@ -21,7 +19,8 @@ import org.springframework.web.client.RestTemplate;
 /**
  * 库存预占/释放客户端：调用 product-service 的内部库存接口。
  * <p>
- * 该接口属于内部互信调用，需携带 {@code X-Internal-Token}；出错时会尝试解析统一 {@code ApiResponse} 以保留更准确的错误信息。
+ * 该接口属于内部互信调用，需携带 {@code X-Internal-Token}；出错时会尝试解析统一 {@code ApiResponse} 以保留更准确的错误信息
+ * （错误体与正常响应一样按 {@code Content-Type} 选择转换器解码，可能是 Smile 也可能是 JSON）。
  */
 @Component
 public class InventoryReservationClient {
@@ -30,20 +29,20 @@ public class InventoryReservationClient {
     private static final ParameterizedTypeReference<ApiResponse<Void>> RESPONSE_TYPE =
             new ParameterizedTypeReference<>() {
             };
+    private static final ParameterizedTypeReference<ApiResponse<Object>> ERROR_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
 
     private final RestTemplate restTemplate;
     private final String baseUrl;
     private final String internalToken;
-    private final ObjectMapper objectMapper;
 
     public InventoryReservationClient(RestTemplate restTemplate,
                                       ProductServiceProperties properties,
-                                      @Value("${security.jwt.internal-access-token}") String internalToken,
-                                      ObjectMapper objectMapper) {
+                                      @Value("${security.jwt.internal-access-token}") String internalToken) {
         this.restTemplate = restTemplate;
         this.baseUrl = properties.getBaseUrl();
         this.internalToken = internalToken;
-        this.objectMapper = objectMapper;
     }
 
     public void reserve(UUID referenceId, List<InventoryCommand> commands) {
@@ -87,7 +86,7 @@ public class InventoryReservationClient {
                 throw new BusinessException(ErrorCode.INTERNAL_ERROR, body.message());
             }
         } catch (HttpStatusCodeException ex) {
-            ApiResponse<?> errorBody = parseErrorResponse(ex.getResponseBodyAsString());
+            ApiResponse<?> errorBody = parseErrorResponse(ex);
             ErrorCode fallback = ex.getStatusCode().is4xxClientError()
                     ? ErrorCode.VALIDATION_ERROR
                     : ErrorCode.INTERNAL_ERROR;
@@ -99,13 +98,12 @@ public class InventoryReservationClient {
         }
     }
 
-    private ApiResponse<?> parseErrorResponse(String rawBody) {
-        if (rawBody == null || rawBody.isBlank()) {
+    private ApiResponse<?> parseErrorResponse(HttpStatusCodeException ex) {
+        if (ex.getResponseBodyAsByteArray().length == 0) {
             return null;
         }
         try {
-            return objectMapper.readValue(rawBody, new TypeReference<ApiResponse<Object>>() {
-            });
+            return ex.getResponseBodyAs(ERROR_TYPE);
         } catch (Exception ignored) {
             return null;
         }
@@ -128,10 +126,7 @@ public class InventoryReservationClient {
         if (errorBody != null && errorBody.message() != null && !errorBody.message().isBlank()) {
             return errorBody.message();
         }
-        String responseBody = ex.getResponseBodyAsString();
-        if (responseBody != null && !responseBody.isBlank()) {
-            return responseBody;
-        }
+        // 原始响应体可能是 Smile 二进制，不能直接作为提示文案
         return ex.getStatusText();
     }
 
@@ -12,7 +12,6 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -78,7 +77,6 @@ public class PaymentClient {
         }
         try {
             HttpHeaders headers = buildInternalHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
             ResponseEntity<ApiResponse<RefundTransactionRecord>> response = restTemplate.exchange(
                     baseUrl + "/internal/payments/{transactionId}/refund",
                     HttpMethod.POST,
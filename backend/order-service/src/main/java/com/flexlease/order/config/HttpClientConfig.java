@@ -1,5 +1,6 @@
 package com.flexlease.order.config;
 
+import com.flexlease.common.codec.InternalCodec;
 import java.time.Duration;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
@@ -11,7 +12,7 @@ import org.springframework.web.client.RestTemplate;
 /**
  * HTTP 客户端配置。
  * <ul>
- *   <li>{@code loadBalancedRestTemplate}：用于服务间调用，支持通过服务名走注册发现。</li>
+ *   <li>{@code loadBalancedRestTemplate}：用于服务间调用，支持通过服务名走注册发现，优先以 Smile 二进制编码收发。</li>
  *   <li>{@code externalRestTemplate}：用于外部 LLM 调用（可配置超时）。</li>
  * </ul>
  */
@@ -21,8 +22,8 @@ public class HttpClientConfig {
     @Bean
     @LoadBalanced
     @Primary
-    RestTemplate loadBalancedRestTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    RestTemplate loadBalancedRestTemplate(RestTemplateBuilder builder, InternalCodec codec) {
+        return codec.preferBinary(builder.build());
     }
 
     @Bean(name = "externalRestTemplate")
@@ -1,20 +1,30 @@
 package com.flexlease.order.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.codec.InternalCodec;
+import com.flexlease.common.codec.InternalMessageConverter;
 import com.flexlease.common.messaging.MessagingConstants;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * RabbitMQ 发布端配置（订单事件）。
+ * RabbitMQ 配置。
  * <p>
- * 订单服务负责把关键状态变更发布到 {@code order.events} 交换机，供 notification-service 等订阅者消费。
+ * 订单服务负责把关键状态变更发布到 {@code order.events} 交换机，供 notification-service 等订阅者消费；
+ * 同时绑定 {@code payment.events} 的订单队列，按批消费支付成功事件。
  */
 @Configuration
 @ConditionalOnProperty(prefix = "flexlease.messaging", name = "enabled", havingValue = "true", matchIfMissing = true)
@@ -26,14 +36,73 @@ public class MessagingConfig {
     }
 
     @Bean
-    public MessageConverter jacksonMessageConverter(ObjectMapper objectMapper) {
-        return new Jackson2JsonMessageConverter(objectMapper);
+    public MessageConverter internalMessageConverter(ObjectMapper objectMapper, InternalCodec codec) {
+        return new InternalMessageConverter(objectMapper, codec);
     }
 
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(messageConverter);
+        // 发送时把当前链路上下文写入消息头（traceparent），消费端据此接续同一条 trace
+        template.setObservationEnabled(true);
         return template;
     }
+
+    @Bean
+    public TopicExchange paymentEventsExchange() {
+        return new TopicExchange(MessagingConstants.PAYMENT_EVENTS_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public Queue paymentEventsQueue() {
+        return new Queue(MessagingConstants.PAYMENT_EVENTS_ORDER_QUEUE, true);
+    }
+
+    @Bean
+    public Queue paymentEventsParkingQueue() {
+        return new Queue(MessagingConstants.PAYMENT_EVENTS_ORDER_PARKING_QUEUE, true);
+    }
+
+    /**
+     * 支付事件延迟重试队列：无消费者，消息按队列 TTL 到期后经默认交换机死信回订单支付事件队列。
+     */
+    @Bean
+    public Declarables paymentEventsRetryQueues(PaymentEventRetryPolicy retryPolicy) {
+        return new Declarables(retryPolicy.delays().stream()
+                .map(delay -> QueueBuilder.durable(MessagingConstants.PAYMENT_EVENTS_ORDER_RETRY_QUEUE_PREFIX + delay)
+                        .ttl(Math.toIntExact(delay))
+                        .deadLetterExchange("")
+                        .deadLetterRoutingKey(MessagingConstants.PAYMENT_EVENTS_ORDER_QUEUE)
+                        .build())
+                .toList());
+    }
+
+    @Bean
+    public Binding paymentEventsBinding(Queue paymentEventsQueue, TopicExchange paymentEventsExchange) {
+        return BindingBuilder.bind(paymentEventsQueue)
+                .to(paymentEventsExchange)
+                .with(MessagingConstants.PAYMENT_SUCCEEDED_ROUTING_KEY);
+    }
+
+    /**
+     * 支付事件批量消费容器：攒满 {@code batch-size} 条或等待 {@code receive-timeout-ms} 后整体交给监听器。
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory paymentEventsContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            @Value("${flexlease.messaging.payment-events.batch-size:50}") int batchSize,
+            @Value("${flexlease.messaging.payment-events.receive-timeout-ms:200}") long receiveTimeoutMs) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        return factory;
+    }
 }
@@ -11,7 +11,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class OrderMaintenanceProperties {
 
     private long pendingPaymentExpireMinutes = 30;
-    private long scanIntervalMs = 60_000;
+    private long scanIntervalMs = 900_000;
 
     public long getPendingPaymentExpireMinutes() {
         return pendingPaymentExpireMinutes;
@@ -18,7 +18,7 @@ public class OrderSurveyProperties {
     /**
      * 调度执行间隔（毫秒）。
      */
-    private long scanIntervalMs = 600_000L;
+    private long scanIntervalMs = 3_600_000L;
 
     public int getReminderDelayHours() {
         return reminderDelayHours;
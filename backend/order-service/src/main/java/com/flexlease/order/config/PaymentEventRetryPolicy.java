@@ -0,0 +1,62 @@
+package com.flexlease.order.config;
+
+import com.flexlease.common.messaging.MessagingConstants;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 支付事件消费失败后的重试节奏。
+ * <p>
+ * 第 n 次失败后等待 {@code retry-initial-delay-ms × 2^(n-1)}（不超过 {@code retry-max-delay-ms}）再重新处理，
+ * 每档延迟对应一个带 TTL 的延迟队列，到期后死信回 {@value MessagingConstants#PAYMENT_EVENTS_ORDER_QUEUE}；
+ * 累计失败 {@code max-attempts} 次后转入停放队列。队列名带上延迟毫秒数，调整延迟时声明新队列而不与已有队列的 TTL 冲突。
+ */
+@Component
+@ConditionalOnProperty(prefix = "flexlease.messaging", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentEventRetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialDelayMs;
+    private final long maxDelayMs;
+
+    public PaymentEventRetryPolicy(@Value("${flexlease.messaging.payment-events.max-attempts:8}") int maxAttempts,
+                                   @Value("${flexlease.messaging.payment-events.retry-initial-delay-ms:5000}") long initialDelayMs,
+                                   @Value("${flexlease.messaging.payment-events.retry-max-delay-ms:300000}") long maxDelayMs) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialDelayMs = Math.max(1, initialDelayMs);
+        this.maxDelayMs = Math.max(this.initialDelayMs, maxDelayMs);
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * 第 {@code attempts} 次失败后的等待时长。
+     */
+    public long delayMs(int attempts) {
+        long delay = initialDelayMs;
+        for (int i = 1; i < attempts && delay < maxDelayMs; i++) {
+            delay *= 2;
+        }
+        return Math.min(delay, maxDelayMs);
+    }
+
+    public String retryQueue(int attempts) {
+        return MessagingConstants.PAYMENT_EVENTS_ORDER_RETRY_QUEUE_PREFIX + delayMs(attempts);
+    }
+
+    /**
+     * 需要声明的全部延迟档位（毫秒，已去重）。
+     */
+    public Set<Long> delays() {
+        Set<Long> delays = new LinkedHashSet<>();
+        for (int attempts = 1; attempts < maxAttempts; attempts++) {
+            delays.add(delayMs(attempts));
+        }
+        return delays;
+    }
+}
@@ -3,6 +3,7 @@ package com.flexlease.order.config;
 import com.flexlease.common.security.JwtAuthProperties;
 import com.flexlease.common.security.JwtAuthenticationFilter;
 import com.flexlease.common.security.JwtTokenVerifier;
+import com.flexlease.common.security.JwtVerificationWarmupTask;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,6 +23,11 @@ public class SecurityConfig {
         return new JwtTokenVerifier(properties);
     }
 
+    @Bean
+    public JwtVerificationWarmupTask jwtVerificationWarmupTask(JwtTokenVerifier verifier, JwtAuthProperties properties) {
+        return new JwtVerificationWarmupTask(verifier, properties);
+    }
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenVerifier verifier,
                                                             JwtAuthProperties properties) {
@@ -7,8 +7,8 @@ import com.flexlease.common.security.SecurityUtils;
 import com.flexlease.order.domain.OrderStatus;
 import com.flexlease.order.dto.OrderForceCloseRequest;
 import com.flexlease.order.dto.PagedResponse;
-import com.flexlease.order.dto.RentalOrderResponse;
 import com.flexlease.order.dto.RentalOrderSummaryResponse;
+import com.flexlease.order.service.OrderView;
 import com.flexlease.order.service.RentalOrderService;
 import jakarta.validation.Valid;
 import java.util.Locale;
@@ -55,16 +55,18 @@ public class AdminOrderController {
     }
 
     @GetMapping("/{orderId}")
-    public ApiResponse<RentalOrderResponse> getOrder(@PathVariable UUID orderId) {
+    public ApiResponse<?> getOrder(@PathVariable UUID orderId,
+                                   @RequestParam(required = false) String view) {
         SecurityUtils.requireAnyRole("ADMIN", "ARBITRATOR", "REVIEW_PANEL");
-        return ApiResponse.success(rentalOrderService.getOrder(orderId));
+        return ApiResponse.success(rentalOrderService.getOrder(orderId, OrderView.parse(view)));
     }
 
     @PostMapping("/{orderId}/force-close")
-    public ApiResponse<RentalOrderResponse> forceClose(@PathVariable UUID orderId,
-                                                       @Valid @RequestBody OrderForceCloseRequest request) {
+    public ApiResponse<?> forceClose(@PathVariable UUID orderId,
+                                     @Valid @RequestBody OrderForceCloseRequest request,
+                                     @RequestParam(required = false) String view) {
         SecurityUtils.requireRole("ADMIN");
-        return ApiResponse.success(rentalOrderService.forceClose(orderId, request.reason()));
+        return ApiResponse.success(rentalOrderService.forceClose(orderId, request.reason(), OrderView.parse(view)));
     }
 
     private UUID parseUuid(String raw, String fieldName) {
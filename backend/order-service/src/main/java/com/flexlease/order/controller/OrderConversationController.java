@@ -0,0 +1,56 @@
+package com.flexlease.order.controller;
+
+import com.flexlease.common.dto.ApiResponse;
+import com.flexlease.order.dto.OrderConversationUnreadResponse;
+import com.flexlease.order.dto.OrderMessagePageResponse;
+import com.flexlease.order.dto.OrderMessageRequest;
+import com.flexlease.order.dto.OrderMessageResponse;
+import com.flexlease.order.service.OrderConversationService;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 订单沟通接口：游标分页拉取消息、发送消息与标记已读。
+ * <p>
+ * {@code before} 为上一页最早一条消息的 ID，省略时返回最新一页；每页内消息按时间正序排列。
+ */
+@RestController
+@RequestMapping("/api/v1/orders/{orderId}/messages")
+public class OrderConversationController {
+
+    private final OrderConversationService orderConversationService;
+
+    public OrderConversationController(OrderConversationService orderConversationService) {
+        this.orderConversationService = orderConversationService;
+    }
+
+    @GetMapping
+    public ApiResponse<OrderMessagePageResponse> list(@PathVariable UUID orderId,
+                                                      @RequestParam(required = false) UUID before,
+                                                      @RequestParam(required = false) Integer size) {
+        return ApiResponse.success(orderConversationService.listMessages(orderId, before, size));
+    }
+
+    @PostMapping
+    public ApiResponse<OrderMessageResponse> post(@PathVariable UUID orderId,
+                                                  @Valid @RequestBody OrderMessageRequest request) {
+        return ApiResponse.success(orderConversationService.postMessage(orderId, request));
+    }
+
+    @GetMapping("/unread")
+    public ApiResponse<OrderConversationUnreadResponse> unread(@PathVariable UUID orderId) {
+        return ApiResponse.success(orderConversationService.unread(orderId));
+    }
+
+    @PostMapping("/read")
+    public ApiResponse<OrderConversationUnreadResponse> markRead(@PathVariable UUID orderId) {
+        return ApiResponse.success(orderConversationService.markRead(orderId));
+    }
+}
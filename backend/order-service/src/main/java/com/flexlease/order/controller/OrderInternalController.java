@@ -3,7 +3,7 @@ package com.flexlease.order.controller;
 import com.flexlease.common.dto.ApiResponse;
 import com.flexlease.common.security.SecurityUtils;
 import com.flexlease.order.dto.PaymentSuccessNotificationRequest;
-import com.flexlease.order.dto.RentalOrderResponse;
+import com.flexlease.order.service.OrderView;
 import com.flexlease.order.service.RentalOrderService;
 import jakarta.validation.Valid;
 import java.util.UUID;
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -29,9 +30,10 @@ public class OrderInternalController {
     }
 
     @PostMapping("/{orderId}/payment-success")
-    public ApiResponse<RentalOrderResponse> paymentSucceeded(@PathVariable UUID orderId,
-                                                              @Valid @RequestBody PaymentSuccessNotificationRequest request) {
+    public ApiResponse<?> paymentSucceeded(@PathVariable UUID orderId,
+                                           @Valid @RequestBody PaymentSuccessNotificationRequest request,
+                                           @RequestParam(required = false) String view) {
         SecurityUtils.requireRole("INTERNAL");
-        return ApiResponse.success(rentalOrderService.handlePaymentSuccess(orderId, request.transactionId()));
+        return ApiResponse.success(rentalOrderService.handlePaymentSuccess(orderId, request.transactionId(), OrderView.parse(view)));
     }
 }
@@ -17,7 +17,6 @@ import com.flexlease.order.dto.OrderContractSignRequest;
 import com.flexlease.order.dto.OrderExtensionApplyRequest;
 import com.flexlease.order.dto.OrderExtensionDecisionRequest;
 import com.flexlease.order.dto.OrderInspectionRequest;
-import com.flexlease.order.dto.OrderMessageRequest;
 import com.flexlease.order.dto.OrderPaymentRequest;
 import com.flexlease.order.dto.OrderPreviewRequest;
 import com.flexlease.order.dto.OrderPreviewResponse;
@@ -29,6 +28,7 @@ import com.flexlease.order.dto.PagedResponse;
 import com.flexlease.order.dto.RentalOrderResponse;
 import com.flexlease.order.dto.RentalOrderSummaryResponse;
 import com.flexlease.order.service.OrderContractService;
+import com.flexlease.order.service.OrderView;
 import com.flexlease.order.service.RentalOrderService;
 import jakarta.validation.Valid;
 import java.time.Duration;
@@ -49,6 +49,7 @@ import org.springframework.web.bind.annotation.RestController;
  * 用户/厂商侧订单接口。
  * <p>
  * 约定：创建订单支持 Idempotency-Key（避免前端重复提交导致重复下单），并在 Service 层做更细的角色与归属校验。
+ * 订单详情与各状态流转接口支持 {@code view=status|summary|full}（默认 full），见 {@link OrderView}。
  */
 @RestController
 @RequestMapping("/api/v1/orders")
@@ -142,8 +143,9 @@ public class RentalOrderController {
     }
 
     @GetMapping("/{orderId}")
-    public ApiResponse<RentalOrderResponse> getOrder(@PathVariable UUID orderId) {
-        return ApiResponse.success(rentalOrderService.getOrder(orderId));
+    public ApiResponse<?> getOrder(@PathVariable UUID orderId,
+                                   @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.getOrder(orderId, OrderView.parse(view)));
     }
 
     @GetMapping("/{orderId}/contract")
@@ -158,80 +160,86 @@ public class RentalOrderController {
     }
 
     @PostMapping("/{orderId}/pay")
-    public ApiResponse<RentalOrderResponse> confirmPayment(@PathVariable UUID orderId,
-                                                           @Valid @RequestBody OrderPaymentRequest request) {
-        return ApiResponse.success(rentalOrderService.confirmPayment(orderId, request));
+    public ApiResponse<?> confirmPayment(@PathVariable UUID orderId,
+                                         @Valid @RequestBody OrderPaymentRequest request,
+                                         @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.confirmPayment(orderId, request, OrderView.parse(view)));
     }
 
     @PostMapping("/{orderId}/cancel")
-    public ApiResponse<RentalOrderResponse> cancel(@PathVariable UUID orderId,
-                                                   @Valid @RequestBody OrderCancelRequest request) {
-        return ApiResponse.success(rentalOrderService.cancelOrder(orderId, request));
+    public ApiResponse<?> cancel(@PathVariable UUID orderId,
+                                 @Valid @RequestBody OrderCancelRequest request,
+                                 @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.cancelOrder(orderId, request, OrderView.parse(view)));
     }
 
     @PostMapping("/{orderId}/ship")
-    public ApiResponse<RentalOrderResponse> ship(@PathVariable UUID orderId,
-                                                 @Valid @RequestBody OrderShipmentRequest request) {
-        return ApiResponse.success(rentalOrderService.shipOrder(orderId, request));
+    public ApiResponse<?> ship(@PathVariable UUID orderId,
+                               @Valid @RequestBody OrderShipmentRequest request,
+                               @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.shipOrder(orderId, request, OrderView.parse(view)));
     }
 
     @PostMapping("/{orderId}/confirm-receive")
-    public ApiResponse<RentalOrderResponse> confirmReceive(@PathVariable UUID orderId,
-                                                           @Valid @RequestBody OrderActorRequest request) {
-        return ApiResponse.success(rentalOrderService.confirmReceive(orderId, request));
+    public ApiResponse<?> confirmReceive(@PathVariable UUID orderId,
+                                         @Valid @RequestBody OrderActorRequest request,
+                                         @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.confirmReceive(orderId, request, OrderView.parse(view)));
     }
 
     @PostMapping("/{orderId}/inspection/request")
-    public ApiResponse<RentalOrderResponse> requestInspection(@PathVariable UUID orderId,
-                                                              @Valid @RequestBody OrderInspectionRequest request) {
-        return ApiResponse.success(rentalOrderService.requestInspection(orderId, request));
-    }
-
-    @PostMapping("/{orderId}/messages")
-    public ApiResponse<RentalOrderResponse> postMessage(@PathVariable UUID orderId,
-                                                        @Valid @RequestBody OrderMessageRequest request) {
-        return ApiResponse.success(rentalOrderService.postConversationMessage(orderId, request));
+    public ApiResponse<?> requestInspection(@PathVariable UUID orderId,
+                                            @Valid @RequestBody OrderInspectionRequest request,
+                                            @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.requestInspection(orderId, request, OrderView.parse(view)));
     }
 
     @PostMapping("/{orderId}/extend")
-    public ApiResponse<RentalOrderResponse> applyExtension(@PathVariable UUID orderId,
-                                                           @Valid @RequestBody OrderExtensionApplyRequest request) {
-        return ApiResponse.success(rentalOrderService.applyExtension(orderId, request));
+    public ApiResponse<?> applyExtension(@PathVariable UUID orderId,
+                                         @Valid @RequestBody OrderExtensionApplyRequest request,
+                                         @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.applyExtension(orderId, request, OrderView.parse(view)));
     }
 
     @PostMapping("/{orderId}/extend/approve")
-    public ApiResponse<RentalOrderResponse> decideExtension(@PathVariable UUID orderId,
-                                                            @Valid @RequestBody OrderExtensionDecisionRequest request) {
-        return ApiResponse.success(rentalOrderService.decideExtension(orderId, request));
+    public ApiResponse<?> decideExtension(@PathVariable UUID orderId,
+                                          @Valid @RequestBody OrderExtensionDecisionRequest request,
+                                          @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.decideExtension(orderId, request, OrderView.parse(view)));
     }
 
     @PostMapping("/{orderId}/return")
-    public ApiResponse<RentalOrderResponse> applyReturn(@PathVariable UUID orderId,
-                                                        @Valid @RequestBody OrderReturnApplyRequest request) {
-        return ApiResponse.success(rentalOrderService.applyReturn(orderId, request));
+    public ApiResponse<?> applyReturn(@PathVariable UUID orderId,
+                                      @Valid @RequestBody OrderReturnApplyRequest request,
+                                      @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.applyReturn(orderId, request, OrderView.parse(view)));
     }
 
     @PostMapping("/{orderId}/return/approve")
-    public ApiResponse<RentalOrderResponse> decideReturn(@PathVariable UUID orderId,
-                                                         @Valid @RequestBody OrderReturnDecisionRequest request) {
-        return ApiResponse.success(rentalOrderService.decideReturn(orderId, request));
+    public ApiResponse<?> decideReturn(@PathVariable UUID orderId,
+                                       @Valid @RequestBody OrderReturnDecisionRequest request,
+                                       @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.decideReturn(orderId, request, OrderView.parse(view)));
     }
 
     @PostMapping("/{orderId}/return/complete")
-    public ApiResponse<RentalOrderResponse> completeReturn(@PathVariable UUID orderId,
-                                                           @Valid @RequestBody OrderReturnCompleteRequest request) {
-        return ApiResponse.success(rentalOrderService.completeReturn(orderId, request));
+    public ApiResponse<?> completeReturn(@PathVariable UUID orderId,
+                                         @Valid @RequestBody OrderReturnCompleteRequest request,
+                                         @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.completeReturn(orderId, request, OrderView.parse(view)));
     }
 
     @PostMapping("/{orderId}/buyout")
-    public ApiResponse<RentalOrderResponse> applyBuyout(@PathVariable UUID orderId,
-                                                        @Valid @RequestBody OrderBuyoutApplyRequest request) {
-        return ApiResponse.success(rentalOrderService.applyBuyout(orderId, request));
+    public ApiResponse<?> applyBuyout(@PathVariable UUID orderId,
+                                      @Valid @RequestBody OrderBuyoutApplyRequest request,
+                                      @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.applyBuyout(orderId, request, OrderView.parse(view)));
     }
 
     @PostMapping("/{orderId}/buyout/confirm")
-    public ApiResponse<RentalOrderResponse> decideBuyout(@PathVariable UUID orderId,
-                                                         @Valid @RequestBody OrderBuyoutDecisionRequest request) {
-        return ApiResponse.success(rentalOrderService.decideBuyout(orderId, request));
+    public ApiResponse<?> decideBuyout(@PathVariable UUID orderId,
+                                       @Valid @RequestBody OrderBuyoutDecisionRequest request,
+                                       @RequestParam(required = false) String view) {
+        return ApiResponse.success(rentalOrderService.decideBuyout(orderId, request, OrderView.parse(view)));
     }
 }
@@ -0,0 +1,74 @@
+package com.flexlease.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 订单沟通参与方的阅读状态：每个订单的用户/厂商各一行，维护未读计数与最近已读时间。
+ */
+@Entity
+@Table(name = "order_conversation_state", schema = "order")
+public class OrderConversationState {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "participant_role", nullable = false, length = 20)
+    private OrderActorRole participantRole;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
+    @Column(name = "last_read_at")
+    private OffsetDateTime lastReadAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    protected OrderConversationState() {
+        // JPA 需要无参构造
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = OffsetDateTime.now();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderActorRole getParticipantRole() {
+        return participantRole;
+    }
+
+    public int getUnreadCount() {
+        return unreadCount;
+    }
+
+    public OffsetDateTime getLastReadAt() {
+        return lastReadAt;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
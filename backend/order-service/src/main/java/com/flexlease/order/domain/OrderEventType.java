@@ -8,6 +8,7 @@ package com.flexlease.order.domain;
  *   <li>订单时间线展示（order_event）</li>
  *   <li>消息总线事件（order.events，供 notification-service 等订阅）</li>
  * </ul>
+ * 枚举序号同时作为 {@code rental_order.event_type_mask} 的位序，新增类型只能追加在末尾（最多 63 种，最高位为符号位不使用）。
  */
 public enum OrderEventType {
     ORDER_CREATED,
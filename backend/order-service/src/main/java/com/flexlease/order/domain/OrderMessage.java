@@ -0,0 +1,89 @@
+package com.flexlease.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 订单沟通消息。
+ * <p>
+ * 独立于订单聚合存储（仅按 order_id 关联），追加消息不需要加载或更新 {@link RentalOrder}。
+ */
+@Entity
+@Table(name = "order_message", schema = "order")
+public class OrderMessage {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "sender_id", nullable = false)
+    private UUID senderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sender_role", length = 20)
+    private OrderActorRole senderRole;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    protected OrderMessage() {
+        // JPA 需要无参构造
+    }
+
+    private OrderMessage(UUID orderId, UUID senderId, OrderActorRole senderRole, String content) {
+        this.id = UUID.randomUUID();
+        this.orderId = orderId;
+        this.senderId = senderId;
+        this.senderRole = senderRole;
+        this.content = content;
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    public static OrderMessage create(UUID orderId, UUID senderId, OrderActorRole senderRole, String content) {
+        return new OrderMessage(orderId, senderId, senderRole, content);
+    }
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = OffsetDateTime.now();
+        }
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public UUID getSenderId() {
+        return senderId;
+    }
+
+    public OrderActorRole getSenderRole() {
+        return senderRole;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,52 @@
+package com.flexlease.order.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 已入账的补款流水（买断、续租、赔偿等首付之外的支付），用于支付成功事件的幂等处理。
+ */
+@Entity
+@Table(name = "order_payment_receipt", schema = "order")
+public class OrderPaymentReceipt {
+
+    @Id
+    @Column(name = "transaction_id", nullable = false)
+    private UUID transactionId;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "recorded_at", nullable = false)
+    private OffsetDateTime recordedAt;
+
+    protected OrderPaymentReceipt() {
+        // JPA 需要无参构造
+    }
+
+    private OrderPaymentReceipt(UUID transactionId, UUID orderId) {
+        this.transactionId = transactionId;
+        this.orderId = orderId;
+        this.recordedAt = OffsetDateTime.now();
+    }
+
+    public static OrderPaymentReceipt record(UUID transactionId, UUID orderId) {
+        return new OrderPaymentReceipt(transactionId, orderId);
+    }
+
+    public UUID getTransactionId() {
+        return transactionId;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OffsetDateTime getRecordedAt() {
+        return recordedAt;
+    }
+}
@@ -92,6 +92,16 @@ public class RentalOrder {
     @Column(name = "customer_remark")
     private String customerRemark;
 
+    /**
+     * 已发生事件类型的位图（按 {@link OrderEventType#ordinal()} 置位），用于 O(1) 判断某类事件是否发生过，
+     * 避免为此加载整条时间线。
+     * <p>
+     * 只随新订单插入写入；已有订单的置位由 {@code RentalOrderRepository#markEventType} 原子完成，
+     * 不参与整行更新，未加锁加载订单的追加事件路径不会覆盖其他事务的状态变更。
+     */
+    @Column(name = "event_type_mask", nullable = false, updatable = false)
+    private long eventTypeMask;
+
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
@@ -328,6 +338,13 @@ public class RentalOrder {
     public void addEvent(OrderEvent event) {
         event.setOrder(this);
         events.add(event);
+        if (event.getEventType() != null) {
+            eventTypeMask |= 1L << event.getEventType().ordinal();
+        }
+    }
+
+    public boolean hasEvent(OrderEventType eventType) {
+        return (eventTypeMask & (1L << eventType.ordinal())) != 0;
     }
 
     public void addExtensionRequest(OrderExtensionRequest request) {
@@ -0,0 +1,12 @@
+package com.flexlease.order.dto;
+
+import java.util.UUID;
+
+/**
+ * OrderConversationUnreadResponse 响应 DTO。
+ */
+public record OrderConversationUnreadResponse(
+        UUID orderId,
+        int unreadCount
+) {
+}
@@ -0,0 +1,18 @@
+package com.flexlease.order.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 订单沟通消息游标分页响应。
+ * <p>
+ * {@code content} 按时间正序；{@code nextCursor} 为本页最早一条消息 ID，作为下一次 {@code before} 参数加载更早的消息，
+ * 没有更多时为空。{@code unreadCount} 为当前参与方的未读数。
+ */
+public record OrderMessagePageResponse(
+        List<OrderMessageResponse> content,
+        UUID nextCursor,
+        boolean hasMore,
+        int unreadCount
+) {
+}
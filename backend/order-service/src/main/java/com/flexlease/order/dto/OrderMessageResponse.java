@@ -0,0 +1,18 @@
+package com.flexlease.order.dto;
+
+import com.flexlease.order.domain.OrderActorRole;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * OrderMessageResponse 响应 DTO。
+ */
+public record OrderMessageResponse(
+        UUID id,
+        UUID orderId,
+        UUID senderId,
+        OrderActorRole actorRole,
+        String content,
+        OffsetDateTime createdAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.flexlease.order.dto;
+
+import com.flexlease.order.domain.OrderStatus;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 订单状态视图（{@code view=status}）：状态流转接口只需要确认新状态时使用。
+ */
+public record OrderStatusResponse(
+        UUID id,
+        String orderNo,
+        OrderStatus status,
+        OffsetDateTime updatedAt
+) {
+}
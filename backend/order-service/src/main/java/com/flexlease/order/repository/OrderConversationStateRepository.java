@@ -0,0 +1,60 @@
+package com.flexlease.order.repository;
+
+import com.flexlease.order.domain.OrderActorRole;
+import com.flexlease.order.domain.OrderConversationState;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 订单沟通阅读状态仓库：未读计数通过原子 update 维护，不读取-改写实体。
+ */
+public interface OrderConversationStateRepository extends JpaRepository<OrderConversationState, UUID> {
+
+    Optional<OrderConversationState> findByOrderIdAndParticipantRole(UUID orderId, OrderActorRole participantRole);
+
+    List<OrderConversationState> findByOrderId(UUID orderId);
+
+    /**
+     * 按需创建空的阅读状态；并发请求已创建同一行时不做任何修改，也不会使当前事务失败。
+     */
+    @Modifying
+    @Query(value = """
+            insert into "order".order_conversation_state (id, order_id, participant_role, unread_count, updated_at)
+            values (:id, :orderId, :role, 0, :now)
+            on conflict do nothing
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("orderId") UUID orderId,
+                       @Param("role") String role,
+                       @Param("now") OffsetDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update OrderConversationState s
+               set s.unreadCount = s.unreadCount + 1,
+                   s.updatedAt = :now
+             where s.orderId = :orderId and s.participantRole in :roles
+            """)
+    int incrementUnread(@Param("orderId") UUID orderId,
+                        @Param("roles") Collection<OrderActorRole> roles,
+                        @Param("now") OffsetDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update OrderConversationState s
+               set s.unreadCount = 0,
+                   s.lastReadAt = :now,
+                   s.updatedAt = :now
+             where s.orderId = :orderId and s.participantRole = :role
+            """)
+    int markRead(@Param("orderId") UUID orderId,
+                 @Param("role") OrderActorRole role,
+                 @Param("now") OffsetDateTime now);
+}
@@ -3,8 +3,10 @@ package com.flexlease.order.repository;
 import com.flexlease.order.domain.OrderEvent;
 import com.flexlease.order.domain.OrderEventType;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,7 +14,8 @@ import org.springframework.data.repository.query.Param;
 /**
  * 订单事件仓库（时间线）。
  * <p>
- * 提供按厂商维度查询关键事件时间戳的能力，用于 SLA/履约指标计算。
+ * 提供按厂商维度查询关键事件时间戳的能力，用于 SLA/履约指标计算；
+ * 以及按订单 + 事件类型取最近若干条事件（走 {@code idx_order_event_order_type}），避免加载整条时间线。
  */
 public interface OrderEventRepository extends JpaRepository<OrderEvent, UUID> {
 
@@ -26,6 +29,18 @@ public interface OrderEventRepository extends JpaRepository<OrderEvent, UUID> {
     List<EventTimestamp> findEventTimestampsByVendorAndType(@Param("vendorId") UUID vendorId,
                                                             @Param("eventType") OrderEventType eventType);
 
+    @Query("""
+            select e from OrderEvent e
+            where e.order.id = :orderId and e.eventType in :eventTypes
+            order by e.createdAt desc
+            """)
+    List<OrderEvent> findRecentByOrderIdAndTypes(@Param("orderId") UUID orderId,
+                                                 @Param("eventTypes") Collection<OrderEventType> eventTypes,
+                                                 Pageable pageable);
+
+    @Query("select e from OrderEvent e where e.order.id = :orderId order by e.createdAt desc")
+    List<OrderEvent> findRecentByOrderId(@Param("orderId") UUID orderId, Pageable pageable);
+
     interface EventTimestamp {
         UUID getOrderId();
 
@@ -0,0 +1,36 @@
+package com.flexlease.order.repository;
+
+import com.flexlease.order.domain.OrderMessage;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 订单沟通消息仓库。
+ * <p>
+ * 采用 (created_at, id) 游标倒序翻页，走 {@code idx_order_message_order}，单页查询开销与历史消息总量无关。
+ */
+public interface OrderMessageRepository extends JpaRepository<OrderMessage, UUID> {
+
+    @Query("""
+            select m from OrderMessage m
+            where m.orderId = :orderId
+            order by m.createdAt desc, m.id desc
+            """)
+    List<OrderMessage> findLatest(@Param("orderId") UUID orderId, Pageable pageable);
+
+    @Query("""
+            select m from OrderMessage m
+            where m.orderId = :orderId
+              and (m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id < :id))
+            order by m.createdAt desc, m.id desc
+            """)
+    List<OrderMessage> findBefore(@Param("orderId") UUID orderId,
+                                  @Param("createdAt") OffsetDateTime createdAt,
+                                  @Param("id") UUID id,
+                                  Pageable pageable);
+}
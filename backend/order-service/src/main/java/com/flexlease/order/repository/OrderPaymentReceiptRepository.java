@@ -0,0 +1,11 @@
+package com.flexlease.order.repository;
+
+import com.flexlease.order.domain.OrderPaymentReceipt;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 补款入账记录仓库；调用方需先锁定订单行，同一订单的查重与写入因此串行执行。
+ */
+public interface OrderPaymentReceiptRepository extends JpaRepository<OrderPaymentReceipt, UUID> {
+}
@@ -15,6 +15,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -27,6 +28,17 @@ public interface RentalOrderRepository extends JpaRepository<RentalOrder, UUID>,
     @Query("select o from RentalOrder o where o.id = :id")
     Optional<RentalOrder> findByIdWithDetails(@Param("id") UUID id);
 
+    /**
+     * 原子置位事件类型位图；位已置上时不更新，返回 0。PostgreSQL 与 H2 的按位或写法不同，这里用整除取模判断该位。
+     */
+    @Modifying
+    @Query(value = """
+            update "order".rental_order
+            set event_type_mask = event_type_mask + :bit
+            where id = :id and mod(event_type_mask / :bit, 2) = 0
+            """, nativeQuery = true)
+    int markEventType(@Param("id") UUID id, @Param("bit") long bit);
+
     @EntityGraph(attributePaths = {"items"})
     List<RentalOrder> findByStatusAndCreatedAtBefore(OrderStatus status, OffsetDateTime createdAt);
 
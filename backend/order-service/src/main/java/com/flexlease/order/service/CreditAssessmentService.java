@@ -30,8 +30,15 @@ public class CreditAssessmentService {
 
     public CreditDecision assess(UUID userId) {
         UserProfileClient.UserCreditView creditView = userProfileClient.loadCredit(userId);
-        int score = CreditTierRules.clampScore(creditView.creditScore());
-        CreditTier tier = creditView.creditTier() != null ? creditView.creditTier() : CreditTierRules.tierForScore(score);
+        return decide(creditView.creditScore(), creditView.creditTier());
+    }
+
+    /**
+     * 按信用分与等级计算结论；等级为空时按信用分推导。
+     */
+    public CreditDecision decide(Integer creditScore, CreditTier creditTier) {
+        int score = CreditTierRules.clampScore(creditScore);
+        CreditTier tier = creditTier != null ? creditTier : CreditTierRules.tierForScore(score);
         if (tier == CreditTier.RESTRICTED) {
             throw new BusinessException(ErrorCode.FORBIDDEN, "信用等级受限，暂无法创建订单");
         }
@@ -14,6 +14,7 @@ import com.flexlease.order.domain.OrderActorRole;
 import com.flexlease.order.domain.OrderDispute;
 import com.flexlease.order.domain.OrderEvent;
 import com.flexlease.order.domain.OrderEventType;
+import com.flexlease.order.domain.OrderMessage;
 import com.flexlease.order.domain.OrderProof;
 import com.flexlease.order.domain.RentalOrder;
 import com.flexlease.order.dto.DisputeAiSuggestionRequest;
@@ -21,21 +22,27 @@ import com.flexlease.order.dto.DisputeAiSuggestionResponse;
 import com.flexlease.order.dto.ProofPolicySummary;
 import com.flexlease.order.repository.DisputeAiSuggestionRepository;
 import com.flexlease.order.repository.OrderDisputeRepository;
+import com.flexlease.order.repository.OrderEventRepository;
+import com.flexlease.order.repository.OrderMessageRepository;
 import com.flexlease.order.repository.RentalOrderRepository;
 import jakarta.transaction.Transactional;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -58,9 +65,31 @@ public class DisputeAiSuggestionService {
 
     private static final Pattern PHONE_PATTERN = Pattern.compile("(\\b\\d{3})\\d{4}(\\d{4}\\b)");
     private static final Pattern EMAIL_PATTERN = Pattern.compile("([A-Za-z0-9._%+-]{1,3})[A-Za-z0-9._%+-]*(@[A-Za-z0-9.-]+\\.[A-Za-z]{2,})");
+    private static final int MAX_TIMELINE_EVENTS = 40;
+    private static final int MAX_CONVERSATION_MESSAGES = 20;
+    private static final Set<OrderEventType> RELEVANT_EVENT_TYPES = EnumSet.of(
+            OrderEventType.ORDER_CREATED,
+            OrderEventType.PAYMENT_CONFIRMED,
+            OrderEventType.ORDER_SHIPPED,
+            OrderEventType.ORDER_RECEIVED,
+            OrderEventType.RETURN_REQUESTED,
+            OrderEventType.RETURN_APPROVED,
+            OrderEventType.RETURN_REJECTED,
+            OrderEventType.RETURN_COMPLETED,
+            OrderEventType.PROOF_UPLOADED,
+            OrderEventType.COMMUNICATION_NOTE,
+            OrderEventType.DISPUTE_OPENED,
+            OrderEventType.DISPUTE_RESPONDED,
+            OrderEventType.DISPUTE_ESCALATED,
+            OrderEventType.DISPUTE_RESOLVED,
+            OrderEventType.SURVEY_INVITED,
+            OrderEventType.SURVEY_SUBMITTED
+    );
 
     private final RentalOrderRepository rentalOrderRepository;
     private final OrderDisputeRepository orderDisputeRepository;
+    private final OrderEventRepository orderEventRepository;
+    private final OrderMessageRepository orderMessageRepository;
     private final DisputeAiSuggestionRepository suggestionRepository;
     private final ProofPolicyService proofPolicyService;
     private final DeepSeekChatClient chatClient;
@@ -70,6 +99,8 @@ public class DisputeAiSuggestionService {
 
     public DisputeAiSuggestionService(RentalOrderRepository rentalOrderRepository,
                                      OrderDisputeRepository orderDisputeRepository,
+                                     OrderEventRepository orderEventRepository,
+                                     OrderMessageRepository orderMessageRepository,
                                      DisputeAiSuggestionRepository suggestionRepository,
                                      ProofPolicyService proofPolicyService,
                                      DeepSeekChatClient chatClient,
@@ -78,6 +109,8 @@ public class DisputeAiSuggestionService {
                                      OrderTimelineService timelineService) {
         this.rentalOrderRepository = rentalOrderRepository;
         this.orderDisputeRepository = orderDisputeRepository;
+        this.orderEventRepository = orderEventRepository;
+        this.orderMessageRepository = orderMessageRepository;
         this.suggestionRepository = suggestionRepository;
         this.proofPolicyService = proofPolicyService;
         this.chatClient = chatClient;
@@ -470,7 +503,7 @@ public class DisputeAiSuggestionService {
         root.put("proofs", proofs);
 
         List<Map<String, Object>> events = new ArrayList<>();
-        for (OrderEvent event : lastRelevantEvents(order.getEvents(), 40)) {
+        for (OrderEvent event : lastRelevantEvents(order.getId(), MAX_TIMELINE_EVENTS)) {
             Map<String, Object> item = new LinkedHashMap<>();
             item.put("type", event.getEventType());
             item.put("description", redact(event.getDescription()));
@@ -480,6 +513,19 @@ public class DisputeAiSuggestionService {
         }
         root.put("events", events);
 
+        List<OrderMessage> recentMessages = new ArrayList<>(
+                orderMessageRepository.findLatest(order.getId(), PageRequest.of(0, MAX_CONVERSATION_MESSAGES)));
+        Collections.reverse(recentMessages);
+        List<Map<String, Object>> messages = new ArrayList<>();
+        for (OrderMessage message : recentMessages) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("senderRole", message.getSenderRole());
+            item.put("content", redact(message.getContent()));
+            item.put("createdAt", message.getCreatedAt());
+            messages.add(item);
+        }
+        root.put("messages", messages);
+
         root.put("proofPolicy", policy);
         root.put("platformRules", Map.of(
                 "disputeResolutionOptions", List.of(
@@ -496,39 +542,15 @@ public class DisputeAiSuggestionService {
         return root;
     }
 
-    private List<OrderEvent> lastRelevantEvents(List<OrderEvent> raw, int max) {
-        if (raw == null || raw.isEmpty()) {
-            return List.of();
-        }
-        List<OrderEventType> allow = List.of(
-                OrderEventType.ORDER_CREATED,
-                OrderEventType.PAYMENT_CONFIRMED,
-                OrderEventType.ORDER_SHIPPED,
-                OrderEventType.ORDER_RECEIVED,
-                OrderEventType.RETURN_REQUESTED,
-                OrderEventType.RETURN_APPROVED,
-                OrderEventType.RETURN_REJECTED,
-                OrderEventType.RETURN_COMPLETED,
-                OrderEventType.PROOF_UPLOADED,
-                OrderEventType.COMMUNICATION_NOTE,
-                OrderEventType.DISPUTE_OPENED,
-                OrderEventType.DISPUTE_RESPONDED,
-                OrderEventType.DISPUTE_ESCALATED,
-                OrderEventType.DISPUTE_RESOLVED,
-                OrderEventType.SURVEY_INVITED,
-                OrderEventType.SURVEY_SUBMITTED
-        );
-        List<OrderEvent> filtered = raw.stream()
-                .filter(e -> e.getEventType() != null && allow.contains(e.getEventType()))
-                .toList();
-        if (filtered.isEmpty()) {
-            filtered = raw;
-        }
-        int size = filtered.size();
-        if (size <= max) {
-            return filtered;
+    private List<OrderEvent> lastRelevantEvents(UUID orderId, int max) {
+        PageRequest page = PageRequest.of(0, max);
+        List<OrderEvent> recent = orderEventRepository.findRecentByOrderIdAndTypes(orderId, RELEVANT_EVENT_TYPES, page);
+        if (recent.isEmpty()) {
+            recent = orderEventRepository.findRecentByOrderId(orderId, page);
         }
-        return filtered.subList(size - max, size);
+        List<OrderEvent> chronological = new ArrayList<>(recent);
+        Collections.reverse(chronological);
+        return chronological;
     }
 
     private String buildSystemPrompt() {
@@ -14,6 +14,7 @@ import com.flexlease.order.dto.OrderEventResponse;
 import com.flexlease.order.dto.OrderExtensionResponse;
 import com.flexlease.order.dto.OrderProofResponse;
 import com.flexlease.order.dto.OrderReturnResponse;
+import com.flexlease.order.dto.OrderStatusResponse;
 import com.flexlease.order.dto.OrderSurveyResponse;
 import com.flexlease.order.dto.RentalOrderItemResponse;
 import com.flexlease.order.dto.RentalOrderResponse;
@@ -122,6 +123,15 @@ public class OrderAssembler {
         );
     }
 
+    public OrderStatusResponse toStatusResponse(RentalOrder order) {
+        return new OrderStatusResponse(
+                order.getId(),
+                order.getOrderNo(),
+                order.getStatus(),
+                order.getUpdatedAt()
+        );
+    }
+
     private RentalOrderItemResponse toItemResponse(RentalOrderItem item) {
         return new RentalOrderItemResponse(
                 item.getId(),
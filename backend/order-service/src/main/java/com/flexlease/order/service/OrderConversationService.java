@@ -0,0 +1,273 @@
+package com.flexlease.order.service;
+
+import com.flexlease.common.exception.BusinessException;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.common.notification.NotificationSendRequest;
+import com.flexlease.common.security.FlexleasePrincipal;
+import com.flexlease.common.security.SecurityUtils;
+import com.flexlease.order.client.NotificationClient;
+import com.flexlease.order.domain.OrderActorRole;
+import com.flexlease.order.domain.OrderConversationState;
+import com.flexlease.order.domain.OrderEventType;
+import com.flexlease.order.domain.OrderMessage;
+import com.flexlease.order.domain.RentalOrder;
+import com.flexlease.order.dto.OrderConversationUnreadResponse;
+import com.flexlease.order.dto.OrderMessagePageResponse;
+import com.flexlease.order.dto.OrderMessageRequest;
+import com.flexlease.order.dto.OrderMessageResponse;
+import com.flexlease.order.repository.OrderConversationStateRepository;
+import com.flexlease.order.repository.OrderMessageRepository;
+import com.flexlease.order.repository.RentalOrderRepository;
+import jakarta.transaction.Transactional;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 订单沟通服务：消息独立存储在 {@code order_message}，按订单游标分页读取。
+ * <p>
+ * 发送消息只追加一行并原子递增对方未读数，不锁订单、也不重新组装订单详情；
+ * 订单时间线仅在会话首条消息时记录一条 {@code COMMUNICATION_NOTE} 摘要事件，并发的首条消息由事件位图的原子置位去重。
+ */
+@Service
+@Transactional
+public class OrderConversationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OrderConversationService.class);
+    /** 连续留言产生的提醒按订单归类，由通知服务在合并窗口内汇总。 */
+    private static final String ORDER_CONTEXT = "ORDER";
+    private static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<OrderActorRole> PARTICIPANT_ROLES = EnumSet.of(OrderActorRole.USER, OrderActorRole.VENDOR);
+
+    private final RentalOrderRepository rentalOrderRepository;
+    private final OrderMessageRepository messageRepository;
+    private final OrderConversationStateRepository stateRepository;
+    private final OrderTimelineService timelineService;
+    private final NotificationClient notificationClient;
+
+    public OrderConversationService(RentalOrderRepository rentalOrderRepository,
+                                    OrderMessageRepository messageRepository,
+                                    OrderConversationStateRepository stateRepository,
+                                    OrderTimelineService timelineService,
+                                    NotificationClient notificationClient) {
+        this.rentalOrderRepository = rentalOrderRepository;
+        this.messageRepository = messageRepository;
+        this.stateRepository = stateRepository;
+        this.timelineService = timelineService;
+        this.notificationClient = notificationClient;
+    }
+
+    public OrderMessageResponse postMessage(UUID orderId, OrderMessageRequest request) {
+        if (request.actorId() == null) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "缺少操作人");
+        }
+        String content = request.message() == null ? "" : request.message().trim();
+        if (content.isEmpty()) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "留言内容不能为空");
+        }
+        RentalOrder order = loadOrder(orderId);
+        OrderActorRole actorRole = resolveActorRole(order, request.actorId());
+        OrderMessage message = messageRepository.save(OrderMessage.create(orderId, request.actorId(), actorRole, content));
+
+        String snippet = content.length() > 120 ? content.substring(0, 120) + "..." : content;
+        timelineService.appendFirst(order,
+                OrderEventType.COMMUNICATION_NOTE,
+                "发起订单沟通：" + snippet,
+                request.actorId(),
+                Map.of("messageId", message.getId().toString()),
+                actorRole);
+        incrementUnread(orderId, recipientsOf(actorRole), message.getCreatedAt());
+
+        if (actorRole == OrderActorRole.USER) {
+            notify(order.getVendorId(), order, "收到用户留言", "订单 %s 有新的留言：%s".formatted(order.getOrderNo(), snippet));
+        } else if (actorRole == OrderActorRole.VENDOR) {
+            notify(order.getUserId(), order, "厂商回复", "订单 %s 有新的厂商回复：%s".formatted(order.getOrderNo(), snippet));
+        }
+        return toResponse(message);
+    }
+
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public OrderMessagePageResponse listMessages(UUID orderId, UUID before, Integer size) {
+        RentalOrder order = loadOrder(orderId);
+        OrderActorRole participant = resolveReader(order);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<OrderMessage> rows;
+        if (before == null) {
+            rows = messageRepository.findLatest(orderId, page);
+        } else {
+            OrderMessage cursor = messageRepository.findById(before)
+                    .filter(message -> message.getOrderId().equals(orderId))
+                    .orElseThrow(() -> new BusinessException(ErrorCode.VALIDATION_ERROR, "消息游标无效"));
+            rows = messageRepository.findBefore(orderId, cursor.getCreatedAt(), cursor.getId(), page);
+        }
+        boolean hasMore = rows.size() > pageSize;
+        List<OrderMessage> pageRows = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+        UUID nextCursor = hasMore ? pageRows.get(pageRows.size() - 1).getId() : null;
+        Collections.reverse(pageRows);
+        return new OrderMessagePageResponse(
+                pageRows.stream().map(this::toResponse).toList(),
+                nextCursor,
+                hasMore,
+                unreadCount(orderId, participant)
+        );
+    }
+
+    public OrderConversationUnreadResponse markRead(UUID orderId) {
+        RentalOrder order = loadOrder(orderId);
+        OrderActorRole participant = resolveReader(order);
+        if (participant != null) {
+            stateRepository.markRead(orderId, participant, OffsetDateTime.now());
+        }
+        return new OrderConversationUnreadResponse(orderId, 0);
+    }
+
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public OrderConversationUnreadResponse unread(UUID orderId) {
+        RentalOrder order = loadOrder(orderId);
+        return new OrderConversationUnreadResponse(orderId, unreadCount(orderId, resolveReader(order)));
+    }
+
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<OrderMessageResponse> recentMessages(UUID orderId, int max) {
+        List<OrderMessage> rows = new ArrayList<>(messageRepository.findLatest(orderId, PageRequest.of(0, max)));
+        Collections.reverse(rows);
+        return rows.stream().map(this::toResponse).toList();
+    }
+
+    private void incrementUnread(UUID orderId, Set<OrderActorRole> recipients, OffsetDateTime now) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        for (OrderActorRole role : recipients) {
+            Set<OrderActorRole> target = EnumSet.of(role);
+            if (stateRepository.incrementUnread(orderId, target, now) > 0) {
+                continue;
+            }
+            // 阅读状态在会话首次产生消息时按需创建；双方同时发出首条消息时由 on conflict 去重后再递增
+            stateRepository.insertIfAbsent(UUID.randomUUID(), orderId, role.name(), now);
+            stateRepository.incrementUnread(orderId, target, now);
+        }
+    }
+
+    private int unreadCount(UUID orderId, OrderActorRole participant) {
+        if (participant == null) {
+            return 0;
+        }
+        return stateRepository.findByOrderIdAndParticipantRole(orderId, participant)
+                .map(OrderConversationState::getUnreadCount)
+                .orElse(0);
+    }
+
+    private Set<OrderActorRole> recipientsOf(OrderActorRole senderRole) {
+        Set<OrderActorRole> recipients = EnumSet.copyOf(PARTICIPANT_ROLES);
+        recipients.remove(senderRole);
+        return recipients;
+    }
+
+    private OrderMessageResponse toResponse(OrderMessage message) {
+        return new OrderMessageResponse(
+                message.getId(),
+                message.getOrderId(),
+                message.getSenderId(),
+                message.getSenderRole(),
+                message.getContent(),
+                message.getCreatedAt()
+        );
+    }
+
+    private RentalOrder loadOrder(UUID orderId) {
+        return rentalOrderRepository.findById(orderId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "订单不存在"));
+    }
+
+    /**
+     * 校验读权限并返回当前身份对应的会话参与方；平台角色可读但不维护未读数，返回 null。
+     */
+    private OrderActorRole resolveReader(RentalOrder order) {
+        FlexleasePrincipal principal = SecurityUtils.requirePrincipal();
+        if (principal.hasRole("ADMIN")
+                || principal.hasRole("ARBITRATOR")
+                || principal.hasRole("REVIEW_PANEL")
+                || principal.hasRole("INTERNAL")) {
+            return null;
+        }
+        if (principal.hasRole("VENDOR")) {
+            UUID vendorId = principal.vendorId();
+            if (vendorId == null || !vendorId.equals(order.getVendorId())) {
+                throw new BusinessException(ErrorCode.FORBIDDEN, "无权查看该订单沟通记录");
+            }
+            return OrderActorRole.VENDOR;
+        }
+        if (principal.hasRole("USER")) {
+            UUID userId = principal.userId();
+            if (userId == null || !userId.equals(order.getUserId())) {
+                throw new BusinessException(ErrorCode.FORBIDDEN, "无权查看该订单沟通记录");
+            }
+            return OrderActorRole.USER;
+        }
+        throw new BusinessException(ErrorCode.FORBIDDEN, "缺少访问订单沟通记录的权限");
+    }
+
+    private OrderActorRole resolveActorRole(RentalOrder order, UUID actorId) {
+        FlexleasePrincipal principal = SecurityUtils.requirePrincipal();
+        UUID currentUserId = principal.userId();
+        if (currentUserId == null || !currentUserId.equals(actorId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "请求用户与当前登录用户不一致");
+        }
+        if (principal.hasRole("ADMIN")) {
+            return OrderActorRole.ADMIN;
+        }
+        if (principal.hasRole("ARBITRATOR")) {
+            return OrderActorRole.ARBITRATOR;
+        }
+        if (principal.hasRole("REVIEW_PANEL")) {
+            return OrderActorRole.REVIEW_PANEL;
+        }
+        if (principal.hasRole("INTERNAL")) {
+            return OrderActorRole.INTERNAL;
+        }
+        if (principal.hasRole("VENDOR")) {
+            UUID vendorId = principal.vendorId();
+            if (vendorId == null || !vendorId.equals(order.getVendorId())) {
+                throw new BusinessException(ErrorCode.FORBIDDEN, "无权操作该订单");
+            }
+            return OrderActorRole.VENDOR;
+        }
+        if (principal.hasRole("USER")) {
+            if (!order.getUserId().equals(actorId)) {
+                throw new BusinessException(ErrorCode.FORBIDDEN, "无权操作该订单");
+            }
+            return OrderActorRole.USER;
+        }
+        throw new BusinessException(ErrorCode.FORBIDDEN, "缺少执行该操作的权限");
+    }
+
+    private void notify(UUID recipient, RentalOrder order, String subject, String content) {
+        NotificationSendRequest request = new NotificationSendRequest(
+                null,
+                recipient.toString(),
+                subject,
+                content,
+                Map.of("orderNo", order.getOrderNo()),
+                ORDER_CONTEXT,
+                order.getId().toString(),
+                true
+        );
+        try {
+            notificationClient.send(request);
+        } catch (RuntimeException ex) {
+            LOG.warn("Failed to send conversation notification '{}' for order {}: {}", subject, order.getOrderNo(), ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.flexlease.order.service;
+
+import com.flexlease.common.timer.DeadlineTimerService;
+import com.flexlease.order.config.OrderMaintenanceProperties;
+import com.flexlease.order.domain.OrderDispute;
+import com.flexlease.order.domain.OrderSatisfactionSurvey;
+import com.flexlease.order.domain.RentalOrder;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import org.springframework.stereotype.Component;
+
+/**
+ * 订单域截止时间登记：实体创建（或截止时间变更）时写入持久化定时器，到期由对应调度器处理。
+ * <p>
+ * 各调度器保留低频扫描作为兜底对账，覆盖定时器上线前的历史数据。
+ */
+@Component
+public class OrderDeadlineTimers {
+
+    public static final String PAYMENT_TIMEOUT = "order.payment-timeout";
+    public static final String DISPUTE_REMINDER_24H = "order.dispute.reminder-24h";
+    public static final String DISPUTE_REMINDER_6H = "order.dispute.reminder-6h";
+    public static final String DISPUTE_REMINDER_1H = "order.dispute.reminder-1h";
+    public static final String DISPUTE_ESCALATION = "order.dispute.escalation";
+    public static final String SURVEY_ACTIVATION = "order.survey.activation";
+
+    private final DeadlineTimerService deadlineTimerService;
+    private final OrderMaintenanceProperties maintenanceProperties;
+
+    public OrderDeadlineTimers(DeadlineTimerService deadlineTimerService,
+                               OrderMaintenanceProperties maintenanceProperties) {
+        this.deadlineTimerService = deadlineTimerService;
+        this.maintenanceProperties = maintenanceProperties;
+    }
+
+    public void schedulePaymentTimeout(RentalOrder order) {
+        OffsetDateTime createdAt = order.getCreatedAt() == null ? OffsetDateTime.now() : order.getCreatedAt();
+        deadlineTimerService.schedule(PAYMENT_TIMEOUT,
+                order.getId(),
+                createdAt.plusMinutes(maintenanceProperties.getPendingPaymentExpireMinutes()));
+    }
+
+    /**
+     * 按纠纷当前截止时间登记倒计时提醒与超时升级；截止时间重置后再次调用即改期。
+     */
+    public void scheduleDisputeDeadline(OrderDispute dispute) {
+        OffsetDateTime deadline = dispute.getDeadlineAt();
+        if (deadline == null) {
+            return;
+        }
+        deadlineTimerService.schedule(DISPUTE_REMINDER_24H, dispute.getId(), deadline.minus(Duration.ofHours(24)));
+        deadlineTimerService.schedule(DISPUTE_REMINDER_6H, dispute.getId(), deadline.minus(Duration.ofHours(6)));
+        deadlineTimerService.schedule(DISPUTE_REMINDER_1H, dispute.getId(), deadline.minus(Duration.ofHours(1)));
+        deadlineTimerService.schedule(DISPUTE_ESCALATION, dispute.getId(), deadline);
+    }
+
+    public void scheduleSurveyActivation(OrderSatisfactionSurvey survey) {
+        deadlineTimerService.schedule(SURVEY_ACTIVATION, survey.getId(), survey.getAvailableAt());
+    }
+}
@@ -0,0 +1,78 @@
+package com.flexlease.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.codec.InternalCodec;
+import com.flexlease.common.user.CreditTier;
+import com.flexlease.common.warmup.WarmupTask;
+import com.flexlease.order.domain.RentalOrder;
+import com.flexlease.order.domain.RentalOrderItem;
+import com.flexlease.order.dto.RentalOrderResponse;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * 预热订单详情：实体组装为 {@link RentalOrderResponse} 后分别做一次 JSON 与 Smile 的序列化、反序列化，
+ * 对应对外接口与服务间调用两种编码。
+ *
+ * <p>合成订单只在内存中构造、从不持久化。时间线、凭证等子集合的排序依赖持久化时写入的时间戳，
+ * 因此合成订单只带明细行。</p>
+ */
+@Component
+public class OrderDetailWarmupTask implements WarmupTask {
+
+    private static final int ITEMS = 8;
+
+    private final OrderAssembler assembler;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper smileMapper;
+    private final RentalOrder order;
+
+    public OrderDetailWarmupTask(OrderAssembler assembler, ObjectMapper objectMapper, InternalCodec internalCodec) {
+        this.assembler = assembler;
+        this.objectMapper = objectMapper;
+        this.smileMapper = internalCodec.smileMapper();
+        OffsetDateTime leaseStart = OffsetDateTime.now().plusDays(1);
+        this.order = RentalOrder.create(UUID.randomUUID(),
+                UUID.randomUUID(),
+                "STANDARD",
+                new BigDecimal("2100.00"),
+                new BigDecimal("3000.00"),
+                new BigDecimal("1599.20"),
+                BigDecimal.ZERO,
+                new BigDecimal("3699.20"),
+                90,
+                CreditTier.EXCELLENT,
+                new BigDecimal("0.70"),
+                false,
+                leaseStart,
+                leaseStart.plusMonths(12));
+        for (int i = 0; i < ITEMS; i++) {
+            order.addItem(RentalOrderItem.create(UUID.randomUUID(),
+                    UUID.randomUUID(),
+                    UUID.randomUUID(),
+                    "预热商品-" + i,
+                    "WARMUP-" + i,
+                    "{\"planType\":\"STANDARD\",\"termMonths\":12}",
+                    1 + i % 3,
+                    new BigDecimal("199.90"),
+                    new BigDecimal("375.00"),
+                    null));
+        }
+    }
+
+    @Override
+    public String name() {
+        return "order-detail";
+    }
+
+    @Override
+    public void run() throws Exception {
+        RentalOrderResponse response = assembler.toOrderResponse(order);
+        byte[] json = objectMapper.writeValueAsBytes(response);
+        objectMapper.readValue(json, RentalOrderResponse.class);
+        byte[] smile = smileMapper.writeValueAsBytes(response);
+        smileMapper.readValue(smile, RentalOrderResponse.class);
+    }
+}
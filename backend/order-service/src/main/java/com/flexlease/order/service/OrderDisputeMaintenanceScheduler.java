@@ -1,10 +1,13 @@
 package com.flexlease.order.service;
 
+import com.flexlease.common.timer.DeadlineHandler;
+import com.flexlease.common.timer.DeadlineTimer;
 import com.flexlease.order.domain.OrderDisputeStatus;
 import com.flexlease.order.repository.OrderDisputeRepository;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,9 +22,10 @@ import org.springframework.stereotype.Service;
  *   <li>自动升级超时纠纷</li>
  *   <li>发送多阶段倒计时提醒（24 小时、6 小时、1 小时）</li>
  * </ol>
+ * 正常情况下由纠纷创建/重置截止时间时登记的持久化定时器准时触发；周期扫描降为低频兜底对账。
  */
 @Service
-public class OrderDisputeMaintenanceScheduler {
+public class OrderDisputeMaintenanceScheduler implements DeadlineHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(OrderDisputeMaintenanceScheduler.class);
 
@@ -43,7 +47,36 @@ public class OrderDisputeMaintenanceScheduler {
         this.orderDisputeService = orderDisputeService;
     }
 
-    @Scheduled(fixedDelayString = "${flexlease.order.dispute.scan-interval-ms:300000}")
+    @Override
+    public Set<String> topics() {
+        return Set.of(
+                OrderDeadlineTimers.DISPUTE_REMINDER_24H,
+                OrderDeadlineTimers.DISPUTE_REMINDER_6H,
+                OrderDeadlineTimers.DISPUTE_REMINDER_1H,
+                OrderDeadlineTimers.DISPUTE_ESCALATION
+        );
+    }
+
+    @Override
+    public void onDeadline(DeadlineTimer timer) {
+        UUID disputeId = timer.keyAsUuid();
+        switch (timer.topic()) {
+            case OrderDeadlineTimers.DISPUTE_REMINDER_24H ->
+                    orderDisputeService.sendCountdownReminder(disputeId, REMINDER_LEVEL_24H, 24);
+            case OrderDeadlineTimers.DISPUTE_REMINDER_6H ->
+                    orderDisputeService.sendCountdownReminder(disputeId, REMINDER_LEVEL_6H, 6);
+            case OrderDeadlineTimers.DISPUTE_REMINDER_1H ->
+                    orderDisputeService.sendCountdownReminder(disputeId, REMINDER_LEVEL_1H, 1);
+            case OrderDeadlineTimers.DISPUTE_ESCALATION -> {
+                if (orderDisputeService.escalateDisputeDueToTimeout(disputeId)) {
+                    LOG.info("Auto escalated dispute {} due to timeout", disputeId);
+                }
+            }
+            default -> LOG.warn("Unexpected dispute timer topic {}", timer.topic());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${flexlease.order.dispute.scan-interval-ms:1800000}")
     public void escalateOverdueDisputes() {
         sendMultiStageReminders();
         List<UUID> overdueIds = orderDisputeRepository.findIdsByStatusAndDeadlineAtBefore(
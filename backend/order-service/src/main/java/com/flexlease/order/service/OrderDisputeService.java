@@ -62,6 +62,7 @@ public class OrderDisputeService {
     private final UserProfileClient userProfileClient;
     private final OrderSurveyService orderSurveyService;
     private final CreditRewardService creditRewardService;
+    private final OrderDeadlineTimers deadlineTimers;
 
     public OrderDisputeService(RentalOrderRepository rentalOrderRepository,
                                OrderDisputeRepository orderDisputeRepository,
@@ -71,7 +72,8 @@ public class OrderDisputeService {
                                NotificationClient notificationClient,
                                UserProfileClient userProfileClient,
                                OrderSurveyService orderSurveyService,
-                               CreditRewardService creditRewardService) {
+                               CreditRewardService creditRewardService,
+                               OrderDeadlineTimers deadlineTimers) {
         this.rentalOrderRepository = rentalOrderRepository;
         this.orderDisputeRepository = orderDisputeRepository;
         this.orderProofRepository = orderProofRepository;
@@ -81,6 +83,7 @@ public class OrderDisputeService {
         this.userProfileClient = userProfileClient;
         this.orderSurveyService = orderSurveyService;
         this.creditRewardService = creditRewardService;
+        this.deadlineTimers = deadlineTimers;
     }
 
     public List<OrderDisputeResponse> list(UUID orderId) {
@@ -116,6 +119,7 @@ public class OrderDisputeService {
             dispute.setInitiatorPhoneMemo(phoneMemo);
         }
         order.addDispute(dispute);
+        deadlineTimers.scheduleDisputeDeadline(dispute);
         Map<String, Object> attributes = new HashMap<>();
         attributes.put("option", request.option().name());
         attributes.put("reason", request.reason());
@@ -163,6 +167,9 @@ public class OrderDisputeService {
                 StringUtils.hasText(request.remark()) ? request.remark().trim() : null,
                 request.accept()
         );
+        if (dispute.getStatus() == OrderDisputeStatus.OPEN) {
+            deadlineTimers.scheduleDisputeDeadline(dispute);
+        }
         if (!attachments.isEmpty()) {
             if (Objects.equals(dispute.getInitiatorId(), request.actorId())) {
                 dispute.setInitiatorAttachments(attachments);
@@ -384,8 +391,9 @@ public class OrderDisputeService {
                 "orderNo", order.getOrderNo(),
                 "hoursLeft", hoursLeft
         );
-        sendTemplateNotification(order.getUserId(), "DISPUTE_COUNTDOWN", variables, dispute.getId().toString());
-        sendTemplateNotification(order.getVendorId(), "DISPUTE_COUNTDOWN", variables, dispute.getId().toString());
+        // 停机后补发时多个级别的提醒会集中到达，交由通知服务合并为最新一条
+        sendTemplateNotification(order.getUserId(), "DISPUTE_COUNTDOWN", variables, dispute.getId().toString(), true);
+        sendTemplateNotification(order.getVendorId(), "DISPUTE_COUNTDOWN", variables, dispute.getId().toString(), true);
         return true;
     }
 
@@ -477,6 +485,14 @@ public class OrderDisputeService {
                                           String templateCode,
                                           Map<String, Object> variables,
                                           String reference) {
+        sendTemplateNotification(recipient, templateCode, variables, reference, false);
+    }
+
+    private void sendTemplateNotification(UUID recipient,
+                                          String templateCode,
+                                          Map<String, Object> variables,
+                                          String reference,
+                                          boolean digest) {
         NotificationSendRequest request = new NotificationSendRequest(
                 templateCode,
                 recipient.toString(),
@@ -484,7 +500,8 @@ public class OrderDisputeService {
                 null,
                 variables,
                 DISPUTE_CONTEXT,
-                reference
+                reference,
+                digest
         );
         try {
             notificationClient.send(request);
@@ -3,6 +3,7 @@ package com.flexlease.order.service;
 import com.flexlease.common.audit.BusinessReplayLogWriter;
 import com.flexlease.common.messaging.MessagingConstants;
 import com.flexlease.common.messaging.OrderEventMessage;
+import com.flexlease.common.metrics.FlexleaseMetrics;
 import com.flexlease.order.domain.OrderEventType;
 import com.flexlease.order.domain.RentalOrder;
 import java.time.OffsetDateTime;
@@ -32,13 +33,16 @@ public class OrderEventPublisher {
     private final ObjectProvider<RabbitTemplate> rabbitTemplateProvider;
     private final BusinessReplayLogWriter replayLogWriter;
     private final boolean messagingEnabled;
+    private final FlexleaseMetrics metrics;
 
     public OrderEventPublisher(ObjectProvider<RabbitTemplate> rabbitTemplateProvider,
                                BusinessReplayLogWriter replayLogWriter,
-                               @Value("${flexlease.messaging.enabled:true}") boolean messagingEnabled) {
+                               @Value("${flexlease.messaging.enabled:true}") boolean messagingEnabled,
+                               FlexleaseMetrics metrics) {
         this.rabbitTemplateProvider = rabbitTemplateProvider;
         this.replayLogWriter = replayLogWriter;
         this.messagingEnabled = messagingEnabled;
+        this.metrics = metrics;
     }
 
     public void publish(RentalOrder order,
@@ -91,7 +95,9 @@ public class OrderEventPublisher {
         }
         try {
             rabbitTemplate.convertAndSend(MessagingConstants.ORDER_EVENTS_EXCHANGE, routingKey, payload);
+            metrics.messagePublished(MessagingConstants.ORDER_EVENTS_EXCHANGE, true);
         } catch (AmqpException ex) {
+            metrics.messagePublished(MessagingConstants.ORDER_EVENTS_EXCHANGE, false);
             LOG.warn("Failed to publish order event {} for order {}: {}", eventType, orderNo, ex.getMessage());
         }
     }
@@ -1,6 +1,8 @@
 package com.flexlease.order.service;
 
 import com.flexlease.common.notification.NotificationSendRequest;
+import com.flexlease.common.timer.DeadlineHandler;
+import com.flexlease.common.timer.DeadlineTimer;
 import com.flexlease.order.client.InventoryReservationClient;
 import com.flexlease.order.client.InventoryReservationClient.InventoryCommand;
 import com.flexlease.order.client.NotificationClient;
@@ -13,6 +15,7 @@ import com.flexlease.order.repository.RentalOrderRepository;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,9 +27,10 @@ import org.springframework.transaction.support.TransactionTemplate;
  * 订单维护调度：处理“待支付超时自动取消”等后台任务。
  * <p>
  * 该任务会尽量做到幂等/可重试：即使库存释放或通知发送失败，也不会影响订单状态回写与事件记录。
+ * 下单时登记的持久化定时器在超时时刻准时触发取消；周期扫描降为低频兜底对账。
  */
 @Service
-public class OrderMaintenanceScheduler {
+public class OrderMaintenanceScheduler implements DeadlineHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(OrderMaintenanceScheduler.class);
 
@@ -54,7 +58,17 @@ public class OrderMaintenanceScheduler {
         this.transactionTemplate = transactionTemplate;
     }
 
-    @Scheduled(fixedDelayString = "${flexlease.order.maintenance.scan-interval-ms:60000}")
+    @Override
+    public Set<String> topics() {
+        return Set.of(OrderDeadlineTimers.PAYMENT_TIMEOUT);
+    }
+
+    @Override
+    public void onDeadline(DeadlineTimer timer) {
+        cancelExpiredOrderSafely(timer.keyAsUuid());
+    }
+
+    @Scheduled(fixedDelayString = "${flexlease.order.maintenance.scan-interval-ms:900000}")
     public void cancelExpiredPendingOrders() {
         OffsetDateTime cutoff = OffsetDateTime.now().minusMinutes(properties.getPendingPaymentExpireMinutes());
         List<RentalOrder> expiredOrders = rentalOrderRepository.findByStatusAndCreatedAtBefore(OrderStatus.PENDING_PAYMENT, cutoff);
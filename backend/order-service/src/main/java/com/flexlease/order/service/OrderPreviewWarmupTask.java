@@ -0,0 +1,108 @@
+package com.flexlease.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.dto.ApiResponse;
+import com.flexlease.common.user.CreditTier;
+import com.flexlease.common.warmup.WarmupTask;
+import com.flexlease.order.client.ProductCatalogClient.CatalogProductView;
+import com.flexlease.order.client.ProductCatalogClient.CatalogProductView.RentalPlanView;
+import com.flexlease.order.client.ProductCatalogClient.CatalogProductView.SkuView;
+import com.flexlease.order.dto.OrderItemRequest;
+import com.flexlease.order.dto.OrderPreviewRequest;
+import com.flexlease.order.dto.OrderPreviewResponse;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * 预热下单预览：请求反序列化 → 方案/SKU 匹配与快照合并 → 计价与信用调整 → 响应序列化。
+ *
+ * <p>商品视图与信用结论均为内存中的合成数据，经 {@link RentalOrderService#pricePreview} 绕过商品服务与用户服务调用；
+ * 三档信用结论轮流使用，覆盖押金折扣与上浮两个分支。</p>
+ */
+@Component
+public class OrderPreviewWarmupTask implements WarmupTask {
+
+    private static final int PRODUCTS = 3;
+    private static final int SKUS_PER_PLAN = 3;
+
+    private final RentalOrderService rentalOrderService;
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, CatalogProductView> products = new HashMap<>();
+    private final List<CreditAssessmentService.CreditDecision> decisions;
+    private final String requestJson;
+    private int executions;
+
+    public OrderPreviewWarmupTask(RentalOrderService rentalOrderService,
+                                  CreditAssessmentService creditAssessmentService,
+                                  ObjectMapper objectMapper) throws Exception {
+        this.rentalOrderService = rentalOrderService;
+        this.objectMapper = objectMapper;
+        this.decisions = List.of(
+                creditAssessmentService.decide(90, CreditTier.EXCELLENT),
+                creditAssessmentService.decide(60, null),
+                creditAssessmentService.decide(45, CreditTier.WARNING));
+        UUID vendorId = UUID.randomUUID();
+        List<OrderItemRequest> items = new ArrayList<>();
+        for (int p = 0; p < PRODUCTS; p++) {
+            CatalogProductView product = syntheticProduct(vendorId, p);
+            products.put(product.id(), product);
+            RentalPlanView standard = product.rentalPlans().get(0);
+            RentalPlanView rentToOwn = product.rentalPlans().get(1);
+            // 分别走“方案 + SKU”、“仅 SKU 反查方案”、“仅快照”三种解析分支
+            items.add(new OrderItemRequest(product.id(), standard.skus().get(p).id(), standard.id(), product.name(),
+                    null, null, 1 + p, standard.rentAmountMonthly(), standard.depositAmount(), null));
+            items.add(new OrderItemRequest(product.id(), rentToOwn.skus().get(0).id(), null, product.name(),
+                    null, null, 1, rentToOwn.rentAmountMonthly(), rentToOwn.depositAmount(), rentToOwn.buyoutPrice()));
+            String snapshot = objectMapper.writeValueAsString(Map.of(
+                    "planId", rentToOwn.id(),
+                    "planType", rentToOwn.planType(),
+                    "termMonths", rentToOwn.termMonths(),
+                    "depositAmount", rentToOwn.depositAmount(),
+                    "rentAmountMonthly", rentToOwn.rentAmountMonthly()));
+            items.add(new OrderItemRequest(product.id(), null, null, product.name(),
+                    null, snapshot, 2, rentToOwn.rentAmountMonthly(), rentToOwn.depositAmount(), null));
+        }
+        OffsetDateTime leaseStart = OffsetDateTime.now().plusDays(1);
+        this.requestJson = objectMapper.writeValueAsString(new OrderPreviewRequest(
+                UUID.randomUUID(), vendorId, "STANDARD", leaseStart, leaseStart.plusMonths(12), items));
+    }
+
+    @Override
+    public String name() {
+        return "order-preview";
+    }
+
+    @Override
+    public void run() throws Exception {
+        OrderPreviewRequest request = objectMapper.readValue(requestJson, OrderPreviewRequest.class);
+        CreditAssessmentService.CreditDecision decision = decisions.get(executions++ % decisions.size());
+        OrderPreviewResponse response = rentalOrderService.pricePreview(request.vendorId(), request.items(), products, decision);
+        objectMapper.writeValueAsBytes(ApiResponse.success(response));
+    }
+
+    private static CatalogProductView syntheticProduct(UUID vendorId, int index) {
+        List<RentalPlanView> plans = new ArrayList<>();
+        String[] planTypes = {"STANDARD", "RENT_TO_OWN"};
+        for (int p = 0; p < planTypes.length; p++) {
+            List<SkuView> skus = new ArrayList<>();
+            for (int s = 0; s < SKUS_PER_PLAN; s++) {
+                skus.add(new SkuView(UUID.randomUUID(), "WARMUP-" + index + "-" + p + "-" + s));
+            }
+            BigDecimal deposit = BigDecimal.valueOf(1000L + index * 100L + p * 50L);
+            plans.add(new RentalPlanView(UUID.randomUUID(),
+                    planTypes[p],
+                    12,
+                    deposit,
+                    new BigDecimal("199.90").add(BigDecimal.valueOf(index)),
+                    p == 0 ? null : deposit.multiply(BigDecimal.TEN),
+                    skus));
+        }
+        return new CatalogProductView(UUID.randomUUID(), vendorId, "预热商品-" + index, plans);
+    }
+}
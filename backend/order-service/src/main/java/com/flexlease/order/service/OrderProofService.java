@@ -39,6 +39,8 @@ import org.springframework.core.io.Resource;
 @Transactional
 public class OrderProofService {
 
+    /** 取证提醒按订单归类，批量上传时由通知服务合并为一条。 */
+    private static final String ORDER_CONTEXT = "ORDER";
     private static final Set<OrderProofType> USER_ALLOWED_TYPES = EnumSet.of(
         OrderProofType.RECEIVE,
         OrderProofType.RETURN,
@@ -144,14 +146,8 @@ public class OrderProofService {
         if (actorRole != OrderActorRole.USER || proofType != OrderProofType.INSPECTION) {
             return;
         }
-        boolean requested = order.getEvents().stream()
-                .anyMatch(event -> event.getEventType() == OrderEventType.INSPECTION_REQUESTED);
-        if (!requested) {
-            return;
-        }
-        boolean rewarded = order.getEvents().stream()
-                .anyMatch(event -> event.getEventType() == OrderEventType.INSPECTION_REWARDED);
-        if (rewarded) {
+        if (!timelineService.hasOccurred(order, OrderEventType.INSPECTION_REQUESTED)
+                || timelineService.hasOccurred(order, OrderEventType.INSPECTION_REWARDED)) {
             return;
         }
         creditRewardService.rewardInspectionCooperation(order);
@@ -272,7 +268,10 @@ public class OrderProofService {
                 order.getUserId().toString(),
                 subject,
                 content,
-                Map.of("orderNo", order.getOrderNo())
+                Map.of("orderNo", order.getOrderNo()),
+                ORDER_CONTEXT,
+                order.getId().toString(),
+                true
         );
         try {
             notificationClient.send(request);
@@ -287,7 +286,10 @@ public class OrderProofService {
                 order.getVendorId().toString(),
                 subject,
                 content,
-                Map.of("orderNo", order.getOrderNo())
+                Map.of("orderNo", order.getOrderNo()),
+                ORDER_CONTEXT,
+                order.getId().toString(),
+                true
         );
         try {
             notificationClient.send(request);
@@ -1,17 +1,20 @@
 package com.flexlease.order.service;
 
+import com.flexlease.common.timer.DeadlineHandler;
+import com.flexlease.common.timer.DeadlineTimer;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * 满意度调查调度器：定期激活到期的调查问卷。
+ * 满意度调查调度器：开放时间到达时由持久化定时器激活单份调查，并保留低频扫描兜底。
  * <p>
- * 触发频率可配置；内部异常只记录日志，避免调度线程被打断。
+ * 扫描频率可配置；内部异常只记录日志，避免调度线程被打断。
  */
 @Component
-public class OrderSurveyScheduler {
+public class OrderSurveyScheduler implements DeadlineHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(OrderSurveyScheduler.class);
 
@@ -21,7 +24,19 @@ public class OrderSurveyScheduler {
         this.orderSurveyService = orderSurveyService;
     }
 
-    @Scheduled(fixedDelayString = "${flexlease.order.survey.scan-interval-ms:600000}")
+    @Override
+    public Set<String> topics() {
+        return Set.of(OrderDeadlineTimers.SURVEY_ACTIVATION);
+    }
+
+    @Override
+    public void onDeadline(DeadlineTimer timer) {
+        if (orderSurveyService.activateSurvey(timer.keyAsUuid())) {
+            LOG.debug("Activated survey {} on schedule", timer.key());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${flexlease.order.survey.scan-interval-ms:3600000}")
     public void activateSurveys() {
         try {
             orderSurveyService.activatePendingSurveys();
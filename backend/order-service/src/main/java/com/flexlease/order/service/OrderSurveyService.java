@@ -35,7 +35,7 @@ import org.springframework.util.StringUtils;
  * 主要流程：
  * <ul>
  *   <li>纠纷结案后为 USER 与 VENDOR 各创建一份调查（延迟开放）。</li>
- *   <li>调度器扫描并激活到期调查，发送站内信邀请。</li>
+ *   <li>开放时间到达时由定时器激活调查（调度器低频扫描兜底），发送站内信邀请。</li>
  *   <li>提交调查后写入订单时间线并发送感谢通知。</li>
  * </ul>
  */
@@ -44,6 +44,7 @@ import org.springframework.util.StringUtils;
 public class OrderSurveyService {
 
     private static final Logger LOG = LoggerFactory.getLogger(OrderSurveyService.class);
+    private static final String ORDER_CONTEXT = "ORDER";
     private static final EnumSet<OrderSurveyStatus> ACTIVE_SURVEY_STATUSES =
             EnumSet.of(OrderSurveyStatus.PENDING, OrderSurveyStatus.OPEN);
 
@@ -53,19 +54,22 @@ public class OrderSurveyService {
     private final OrderTimelineService timelineService;
     private final NotificationClient notificationClient;
     private final OrderSurveyProperties surveyProperties;
+    private final OrderDeadlineTimers deadlineTimers;
 
     public OrderSurveyService(RentalOrderRepository rentalOrderRepository,
                               OrderSatisfactionSurveyRepository surveyRepository,
                               OrderAssembler orderAssembler,
                               OrderTimelineService timelineService,
                               NotificationClient notificationClient,
-                              OrderSurveyProperties surveyProperties) {
+                              OrderSurveyProperties surveyProperties,
+                              OrderDeadlineTimers deadlineTimers) {
         this.rentalOrderRepository = rentalOrderRepository;
         this.surveyRepository = surveyRepository;
         this.orderAssembler = orderAssembler;
         this.timelineService = timelineService;
         this.notificationClient = notificationClient;
         this.surveyProperties = surveyProperties;
+        this.deadlineTimers = deadlineTimers;
     }
 
     public List<OrderSurveyResponse> list(UUID orderId) {
@@ -116,19 +120,35 @@ public class OrderSurveyService {
                 OffsetDateTime.now(),
                 PageRequest.of(0, batchSize)
         );
-        for (OrderSatisfactionSurvey survey : pending) {
-            survey.markOpen();
-            timelineService.append(
-                    survey.getOrder(),
-                    OrderEventType.SURVEY_INVITED,
-                    buildInviteMessage(survey.getTargetRole(), survey.getAvailableAt()),
-                    null,
-                    Map.of("targetRole", survey.getTargetRole().name(),
-                            "availableAt", survey.getAvailableAt().toString()),
-                    OrderActorRole.INTERNAL
-            );
-            sendSurveyInvite(survey);
+        pending.forEach(this::open);
+    }
+
+    /**
+     * 定时器到期时激活单份调查；已激活/已完成或尚未到开放时间的调查直接忽略。
+     */
+    public boolean activateSurvey(UUID surveyId) {
+        OrderSatisfactionSurvey survey = surveyRepository.findById(surveyId).orElse(null);
+        if (survey == null
+                || survey.getStatus() != OrderSurveyStatus.PENDING
+                || survey.getAvailableAt().isAfter(OffsetDateTime.now())) {
+            return false;
         }
+        open(survey);
+        return true;
+    }
+
+    private void open(OrderSatisfactionSurvey survey) {
+        survey.markOpen();
+        timelineService.append(
+                survey.getOrder(),
+                OrderEventType.SURVEY_INVITED,
+                buildInviteMessage(survey.getTargetRole(), survey.getAvailableAt()),
+                null,
+                Map.of("targetRole", survey.getTargetRole().name(),
+                        "availableAt", survey.getAvailableAt().toString()),
+                OrderActorRole.INTERNAL
+        );
+        sendSurveyInvite(survey);
     }
 
     private void scheduleIfNeeded(RentalOrder order,
@@ -151,6 +171,7 @@ public class OrderSurveyService {
         OrderSatisfactionSurvey survey = OrderSatisfactionSurvey.create(targetRole, targetRef, availableAt);
         survey.setDispute(dispute);
         order.addSurvey(survey);
+        deadlineTimers.scheduleSurveyActivation(survey);
         timelineService.append(order,
                 OrderEventType.SURVEY_INVITED,
                 "已安排满意度调查，将于 %s 开放".formatted(availableAt),
@@ -221,7 +242,10 @@ public class OrderSurveyService {
                 survey.getTargetRef().toString(),
                 "满意度调查邀请",
                 buildInviteMessage(survey.getTargetRole(), survey.getAvailableAt()),
-                Map.of("orderId", survey.getOrder().getId().toString())
+                Map.of("orderId", survey.getOrder().getId().toString()),
+                ORDER_CONTEXT,
+                survey.getOrder().getId().toString(),
+                true
         );
         try {
             notificationClient.send(request);
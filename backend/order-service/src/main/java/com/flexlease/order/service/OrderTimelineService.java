@@ -4,6 +4,7 @@ import com.flexlease.order.domain.OrderActorRole;
 import com.flexlease.order.domain.OrderEvent;
 import com.flexlease.order.domain.OrderEventType;
 import com.flexlease.order.domain.RentalOrder;
+import com.flexlease.order.repository.RentalOrderRepository;
 import java.util.Map;
 import java.util.UUID;
 import org.springframework.stereotype.Component;
@@ -12,14 +13,18 @@ import org.springframework.stereotype.Component;
  * 订单时间线服务：统一追加订单事件，并同步发布到事件总线。
  * <p>
  * 业务服务在变更订单状态、取证上传、纠纷处理等节点调用该服务，避免各处重复写事件/发消息逻辑。
+ * 追加事件时会同步维护订单上的事件类型位图，"是否发生过"的判断无需加载整条时间线；
+ * 位图以单列原子更新写回，调用方不必为追加事件锁定订单行。
  */
 @Component
 public class OrderTimelineService {
 
     private final OrderEventPublisher orderEventPublisher;
+    private final RentalOrderRepository rentalOrderRepository;
 
-    public OrderTimelineService(OrderEventPublisher orderEventPublisher) {
+    public OrderTimelineService(OrderEventPublisher orderEventPublisher, RentalOrderRepository rentalOrderRepository) {
         this.orderEventPublisher = orderEventPublisher;
+        this.rentalOrderRepository = rentalOrderRepository;
     }
 
     public void append(RentalOrder order,
@@ -28,6 +33,45 @@ public class OrderTimelineService {
                        UUID actorId,
                        Map<String, Object> attributes,
                        OrderActorRole actorRole) {
+        if (!order.hasEvent(eventType)) {
+            markEventType(order, eventType);
+        }
+        record(order, eventType, description, actorId, attributes, actorRole);
+    }
+
+    /**
+     * 仅当该类型事件尚未发生时追加，返回是否写入。
+     * <p>
+     * 以位图的原子置位判定先后：并发调用时只有置位成功的一方写入事件，另一方等待其提交后看到位已置上而跳过。
+     */
+    public boolean appendFirst(RentalOrder order,
+                               OrderEventType eventType,
+                               String description,
+                               UUID actorId,
+                               Map<String, Object> attributes,
+                               OrderActorRole actorRole) {
+        if (order.hasEvent(eventType) || markEventType(order, eventType) == 0) {
+            return false;
+        }
+        record(order, eventType, description, actorId, attributes, actorRole);
+        return true;
+    }
+
+    public boolean hasOccurred(RentalOrder order, OrderEventType eventType) {
+        return order.hasEvent(eventType);
+    }
+
+    private int markEventType(RentalOrder order, OrderEventType eventType) {
+        // 新建订单尚未落库时不会命中任何行，位图随订单插入写入
+        return rentalOrderRepository.markEventType(order.getId(), 1L << eventType.ordinal());
+    }
+
+    private void record(RentalOrder order,
+                        OrderEventType eventType,
+                        String description,
+                        UUID actorId,
+                        Map<String, Object> attributes,
+                        OrderActorRole actorRole) {
         order.addEvent(OrderEvent.record(eventType, description, actorId, actorRole));
         orderEventPublisher.publish(order, eventType, description, actorId, attributes);
     }
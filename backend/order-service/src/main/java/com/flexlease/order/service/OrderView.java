@@ -0,0 +1,69 @@
+package com.flexlease.order.service;
+
+import com.flexlease.common.exception.BusinessException;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.order.domain.RentalOrder;
+import com.flexlease.order.dto.OrderStatusResponse;
+import com.flexlease.order.dto.RentalOrderResponse;
+import com.flexlease.order.dto.RentalOrderSummaryResponse;
+import java.util.Locale;
+import java.util.function.BiFunction;
+
+/**
+ * 订单响应视图，对应接口的 {@code view} 查询参数：
+ * <ul>
+ *   <li>{@code status}：{@link OrderStatusResponse}，只含编号、状态与更新时间；</li>
+ *   <li>{@code summary}：{@link RentalOrderSummaryResponse}，与订单列表条目相同；</li>
+ *   <li>{@code full}（默认）：{@link RentalOrderResponse}，含明细、事件、续租、退租、凭证、纠纷、问卷七个子集合。</li>
+ * </ul>
+ * 子集合均为懒加载，只有 {@code full} 在组装时逐个查询；前两种视图不触发这些查询。
+ */
+public final class OrderView<T> {
+
+    public static final OrderView<OrderStatusResponse> STATUS = new OrderView<>("status", OrderAssembler::toStatusResponse);
+    public static final OrderView<RentalOrderSummaryResponse> SUMMARY = new OrderView<>("summary", OrderAssembler::toSummary);
+    public static final OrderView<RentalOrderResponse> FULL = new OrderView<>("full", OrderAssembler::toOrderResponse);
+
+    private final String name;
+    private final BiFunction<OrderAssembler, RentalOrder, T> renderer;
+
+    private OrderView(String name, BiFunction<OrderAssembler, RentalOrder, T> renderer) {
+        this.name = name;
+        this.renderer = renderer;
+    }
+
+    /**
+     * 解析 {@code view} 参数，缺省为 {@link #FULL}，保持原有响应结构。
+     */
+    public static OrderView<?> parse(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "status" -> STATUS;
+            case "summary" -> SUMMARY;
+            case "full" -> FULL;
+            default -> throw new BusinessException(ErrorCode.VALIDATION_ERROR, "view 仅支持 status、summary、full");
+        };
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * 是否输出子集合；为 false 时读取订单无需预先抓取明细。
+     */
+    boolean includesDetails() {
+        return this == FULL;
+    }
+
+    T render(OrderAssembler assembler, RentalOrder order) {
+        return renderer.apply(assembler, order);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
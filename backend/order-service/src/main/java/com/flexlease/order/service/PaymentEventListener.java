@@ -0,0 +1,138 @@
+package com.flexlease.order.service;
+
+import com.flexlease.common.audit.BusinessReplayLogWriter;
+import com.flexlease.common.exception.BusinessException;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.common.messaging.MessagingConstants;
+import com.flexlease.common.messaging.PaymentSucceededMessage;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.tracing.TraceContextSupport;
+import com.flexlease.order.config.PaymentEventRetryPolicy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+/**
+ * 支付事件监听器：批量消费 payment-service 经 outbox 投递的支付成功事件，推进订单状态。
+ * <p>
+ * 同一批次内按支付流水去重；{@link RentalOrderService#handlePaymentSuccess} 按流水幂等，重复投递不会重复入账。
+ * 业务校验失败（订单不存在、金额不符等）记录后丢弃；系统异常只把失败的那条事件带上重试次数投入延迟重试队列，
+ * 按 {@link PaymentEventRetryPolicy} 指数退避后再回到原队列，批次内其余事件照常确认；累计失败 {@code max-attempts} 次后
+ * 转入停放队列 {@value MessagingConstants#PAYMENT_EVENTS_ORDER_PARKING_QUEUE}，由 {@link PaymentEventParkingRedriver} 定时移回。
+ * 批量监听不会被框架逐条观测，因此按每条消息头中的链路上下文手动开启消费 span，使支付→订单这一跳落在同一条 trace 上。
+ */
+@Component
+@ConditionalOnProperty(prefix = "flexlease.messaging", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentEventListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentEventListener.class);
+    /** 事件已失败的次数，重新入队时写入消息头。 */
+    static final String ATTEMPTS_HEADER = "x-flexlease-attempts";
+    static final String FAILURE_HEADER = "x-flexlease-failure";
+
+    private final RentalOrderService rentalOrderService;
+    private final BusinessReplayLogWriter replayLogWriter;
+    private final TraceContextSupport traceContext;
+    private final RabbitTemplate rabbitTemplate;
+    private final PaymentEventRetryPolicy retryPolicy;
+    private final FlexleaseMetrics metrics;
+
+    public PaymentEventListener(RentalOrderService rentalOrderService,
+                                BusinessReplayLogWriter replayLogWriter,
+                                TraceContextSupport traceContext,
+                                RabbitTemplate rabbitTemplate,
+                                PaymentEventRetryPolicy retryPolicy,
+                                FlexleaseMetrics metrics) {
+        this.rentalOrderService = rentalOrderService;
+        this.replayLogWriter = replayLogWriter;
+        this.traceContext = traceContext;
+        this.rabbitTemplate = rabbitTemplate;
+        this.retryPolicy = retryPolicy;
+        this.metrics = metrics;
+    }
+
+    @RabbitListener(queues = MessagingConstants.PAYMENT_EVENTS_ORDER_QUEUE, containerFactory = "paymentEventsContainerFactory")
+    public void onPaymentEvents(List<Message<PaymentSucceededMessage>> messages) {
+        Map<UUID, Message<PaymentSucceededMessage>> distinct = new LinkedHashMap<>();
+        for (Message<PaymentSucceededMessage> message : messages) {
+            distinct.putIfAbsent(message.getPayload().transactionId(), message);
+        }
+        for (Message<PaymentSucceededMessage> message : distinct.values()) {
+            traceContext.runInConsumerSpan(MessagingConstants.PAYMENT_EVENTS_ORDER_QUEUE + " process", message.getHeaders(), () -> {
+                RuntimeException failure = apply(message.getPayload());
+                if (failure != null) {
+                    retryOrPark(message, failure);
+                }
+            });
+        }
+    }
+
+    /**
+     * 处理单条支付事件，返回需要重试的异常（无则返回 {@code null}）。
+     */
+    private RuntimeException apply(PaymentSucceededMessage message) {
+        replayLogWriter.writeIncoming(
+                MessagingConstants.PAYMENT_EVENTS_EXCHANGE,
+                MessagingConstants.PAYMENT_SUCCEEDED_ROUTING_KEY,
+                "PAYMENT_SUCCEEDED",
+                "PaymentTransaction",
+                message.transactionId(),
+                message,
+                message.occurredAt()
+        );
+        try {
+            rentalOrderService.handlePaymentSuccess(message.orderId(), message.transactionId(), OrderView.STATUS);
+            return null;
+        } catch (BusinessException ex) {
+            if (ex.getErrorCode() == ErrorCode.INTERNAL_ERROR) {
+                // 依赖服务（如支付服务回查流水）暂不可用，稍后重新入队
+                LOG.warn("Payment event {} for order {} deferred: {}", message.transactionId(), message.orderId(), ex.getMessage());
+                return ex;
+            }
+            LOG.warn("Discard payment event {} for order {}: {}", message.transactionId(), message.orderId(), ex.getMessage());
+            return null;
+        } catch (RuntimeException ex) {
+            LOG.warn("Failed to apply payment event {} for order {}, will retry: {}",
+                    message.transactionId(), message.orderId(), ex.getMessage());
+            return ex;
+        }
+    }
+
+    /**
+     * 失败事件发布到对应档位的延迟重试队列或停放队列。发布本身失败时异常向上抛出，整批交由 broker 重投（已成功的事件按流水幂等）。
+     */
+    private void retryOrPark(Message<PaymentSucceededMessage> message, RuntimeException failure) {
+        PaymentSucceededMessage payload = message.getPayload();
+        int attempts = attemptsOf(message) + 1;
+        String target;
+        if (attempts >= retryPolicy.maxAttempts()) {
+            target = MessagingConstants.PAYMENT_EVENTS_ORDER_PARKING_QUEUE;
+            metrics.paymentEventRetried("parked");
+            LOG.error("Park payment event {} for order {} after {} attempts: {}",
+                    payload.transactionId(), payload.orderId(), attempts, failure.getMessage());
+        } else {
+            target = retryPolicy.retryQueue(attempts);
+            metrics.paymentEventRetried("delayed");
+            LOG.info("Retry payment event {} for order {} in {} ms (attempt {})",
+                    payload.transactionId(), payload.orderId(), retryPolicy.delayMs(attempts), attempts);
+        }
+        rabbitTemplate.convertAndSend("", target, payload, outgoing -> {
+            outgoing.getMessageProperties().setHeader(ATTEMPTS_HEADER, attempts);
+            outgoing.getMessageProperties().setHeader(FAILURE_HEADER, String.valueOf(failure.getMessage()));
+            return outgoing;
+        });
+    }
+
+    private int attemptsOf(Message<PaymentSucceededMessage> message) {
+        Object attempts = message.getHeaders().get(ATTEMPTS_HEADER);
+        return attempts instanceof Number number ? number.intValue() : 0;
+    }
+}
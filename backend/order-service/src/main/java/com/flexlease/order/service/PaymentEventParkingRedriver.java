@@ -0,0 +1,68 @@
+package com.flexlease.order.service;
+
+import com.flexlease.common.messaging.MessagingConstants;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.GetResponse;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 停放支付事件的定时回放。
+ * <p>
+ * 停放队列没有消费者，依赖服务长时间不可用时订单会停在待支付状态。这里按固定间隔把停放的事件清零重试次数后
+ * 移回 {@value MessagingConstants#PAYMENT_EVENTS_ORDER_QUEUE}，依赖恢复后无需人工介入即可推进订单；
+ * 仍然失败的事件走完延迟重试后会再次停放。先发布再确认，进程中断时最多重复一条，由订单侧按流水幂等处理。
+ */
+@Component
+@ConditionalOnProperty(prefix = "flexlease.messaging", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentEventParkingRedriver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentEventParkingRedriver.class);
+
+    private final RabbitTemplate rabbitTemplate;
+    private final FlexleaseMetrics metrics;
+    private final int batchSize;
+
+    public PaymentEventParkingRedriver(RabbitTemplate rabbitTemplate,
+                                       FlexleaseMetrics metrics,
+                                       @Value("${flexlease.messaging.payment-events.parking-redrive-batch:100}") int batchSize) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.metrics = metrics;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(initialDelayString = "${flexlease.messaging.payment-events.parking-redrive-interval-ms:1800000}",
+            fixedDelayString = "${flexlease.messaging.payment-events.parking-redrive-interval-ms:1800000}")
+    public void redrive() {
+        int moved = 0;
+        while (moved < batchSize && Boolean.TRUE.equals(rabbitTemplate.execute(channel -> {
+            GetResponse parked = channel.basicGet(MessagingConstants.PAYMENT_EVENTS_ORDER_PARKING_QUEUE, false);
+            if (parked == null) {
+                return false;
+            }
+            channel.basicPublish("", MessagingConstants.PAYMENT_EVENTS_ORDER_QUEUE, resetAttempts(parked.getProps()), parked.getBody());
+            channel.basicAck(parked.getEnvelope().getDeliveryTag(), false);
+            return true;
+        }))) {
+            moved++;
+            metrics.paymentEventRetried("redriven");
+        }
+        if (moved > 0) {
+            LOG.warn("Moved {} parked payment events back to {}", moved, MessagingConstants.PAYMENT_EVENTS_ORDER_QUEUE);
+        }
+    }
+
+    private AMQP.BasicProperties resetAttempts(AMQP.BasicProperties properties) {
+        Map<String, Object> headers = properties.getHeaders() == null ? new HashMap<>() : new HashMap<>(properties.getHeaders());
+        headers.remove(PaymentEventListener.ATTEMPTS_HEADER);
+        return properties.builder().headers(headers).build();
+    }
+}
@@ -22,6 +22,7 @@ import com.flexlease.order.domain.OrderActorRole;
 import com.flexlease.order.domain.OrderEventType;
 import com.flexlease.order.domain.OrderExtensionRequest;
 import com.flexlease.order.domain.OrderReturnRequest;
+import com.flexlease.order.domain.OrderPaymentReceipt;
 import com.flexlease.order.domain.OrderProofType;
 import com.flexlease.order.domain.OrderStatus;
 import com.flexlease.order.domain.RentalOrder;
@@ -36,7 +37,6 @@ import com.flexlease.order.dto.OrderExtensionApplyRequest;
 import com.flexlease.order.dto.OrderExtensionDecisionRequest;
 import com.flexlease.order.dto.OrderInspectionRequest;
 import com.flexlease.order.dto.OrderItemRequest;
-import com.flexlease.order.dto.OrderMessageRequest;
 import com.flexlease.order.dto.OrderPaymentRequest;
 import com.flexlease.order.dto.OrderPreviewRequest;
 import com.flexlease.order.dto.OrderPreviewResponse;
@@ -49,10 +49,10 @@ import com.flexlease.order.dto.RentalOrderResponse;
 import com.flexlease.order.dto.RentalOrderSummaryResponse;
 import com.flexlease.order.repository.OrderExtensionRequestRepository;
 import com.flexlease.order.repository.OrderReturnRequestRepository;
+import com.flexlease.order.repository.OrderPaymentReceiptRepository;
 import com.flexlease.order.config.ProofPolicyProperties;
 import com.flexlease.order.domain.OrderProof;
 import com.flexlease.order.repository.RentalOrderRepository;
-import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.OffsetDateTime;
@@ -68,6 +68,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 订单核心服务：下单预览、创建与状态流转（支付、发货、收货、续租、退租、买断等）。
@@ -101,6 +103,8 @@ public class RentalOrderService {
     private final CreditAssessmentService creditAssessmentService;
     private final CreditRewardService creditRewardService;
     private final ProofPolicyProperties proofPolicyProperties;
+    private final OrderDeadlineTimers deadlineTimers;
+    private final OrderPaymentReceiptRepository paymentReceiptRepository;
 
     public RentalOrderService(RentalOrderRepository rentalOrderRepository,
                               OrderExtensionRequestRepository extensionRequestRepository,
@@ -115,7 +119,9 @@ public class RentalOrderService {
                               ObjectMapper objectMapper,
                               CreditAssessmentService creditAssessmentService,
                               CreditRewardService creditRewardService,
-                              ProofPolicyProperties proofPolicyProperties) {
+                              ProofPolicyProperties proofPolicyProperties,
+                              OrderDeadlineTimers deadlineTimers,
+                              OrderPaymentReceiptRepository paymentReceiptRepository) {
         this.rentalOrderRepository = rentalOrderRepository;
         this.extensionRequestRepository = extensionRequestRepository;
         this.returnRequestRepository = returnRequestRepository;
@@ -130,9 +136,11 @@ public class RentalOrderService {
         this.creditAssessmentService = creditAssessmentService;
         this.creditRewardService = creditRewardService;
         this.proofPolicyProperties = proofPolicyProperties;
+        this.deadlineTimers = deadlineTimers;
+        this.paymentReceiptRepository = paymentReceiptRepository;
     }
 
-    @Transactional(Transactional.TxType.SUPPORTS)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public OrderPreviewResponse previewOrder(OrderPreviewRequest request) {
         SecurityUtils.getCurrentUserId().ifPresent(currentUser -> {
             if (request.userId() != null && !currentUser.equals(request.userId())) {
@@ -140,10 +148,30 @@ public class RentalOrderService {
             }
         });
         List<OrderItemRequest> items = request.items() == null ? List.of() : request.items();
+        // 先校验明细（厂商、方案、SKU、金额），明细不合法时不再查询信用
         List<ResolvedOrderItem> resolvedItems = resolveOrderItems(request.vendorId(), items);
+        return pricePreview(resolvedItems, creditAssessmentService.assess(request.userId()));
+    }
+
+    /**
+     * 预览计价的纯计算部分：商品视图与信用结论由调用方提供，不发起远程调用，也不访问数据库；
+     * {@code products} 缺少明细引用的商品时直接失败。启动预热直接以合成数据调用本方法。
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrderPreviewResponse pricePreview(UUID vendorId,
+                                             List<OrderItemRequest> items,
+                                             Map<UUID, ProductCatalogClient.CatalogProductView> products,
+                                             CreditAssessmentService.CreditDecision decision) {
+        List<ResolvedOrderItem> resolvedItems = items.stream()
+                .map(item -> resolveOrderItem(item, vendorId, products))
+                .toList();
+        return pricePreview(resolvedItems, decision);
+    }
+
+    private OrderPreviewResponse pricePreview(List<ResolvedOrderItem> resolvedItems,
+                                              CreditAssessmentService.CreditDecision decision) {
         Totals totals = calculateTotals(resolvedItems);
-        CreditAppliedTotals adjusted = applyCredit(request.userId(), totals);
-        CreditAssessmentService.CreditDecision decision = adjusted.decision();
+        CreditAppliedTotals adjusted = applyCredit(decision, totals);
         return new OrderPreviewResponse(
                 adjusted.adjustedDeposit(),
                 adjusted.rentAmount(),
@@ -194,7 +222,7 @@ public class RentalOrderService {
 
         List<ResolvedOrderItem> resolvedItems = resolveOrderItems(request.vendorId(), orderItems);
         Totals totals = calculateTotals(resolvedItems);
-        CreditAppliedTotals adjusted = applyCredit(request.userId(), totals);
+        CreditAppliedTotals adjusted = applyCredit(creditAssessmentService.assess(request.userId()), totals);
         CreditAssessmentService.CreditDecision creditDecision = adjusted.decision();
 
         RentalOrder order = RentalOrder.create(
@@ -225,6 +253,7 @@ public class RentalOrderService {
         try {
             recordEvent(order, OrderEventType.ORDER_CREATED, "订单创建", request.userId());
             RentalOrder saved = rentalOrderRepository.save(order);
+            deadlineTimers.schedulePaymentTimeout(saved);
             if (!cartItems.isEmpty()) {
                 cartService.removeItems(request.userId(), cartItemIds);
             }
@@ -242,10 +271,17 @@ public class RentalOrderService {
     }
 
     public RentalOrderResponse getOrder(UUID orderId) {
-        RentalOrder order = rentalOrderRepository.findByIdWithDetails(orderId)
+        return getOrder(orderId, OrderView.FULL);
+    }
+
+    public <T> T getOrder(UUID orderId, OrderView<T> view) {
+        Optional<RentalOrder> loaded = view.includesDetails()
+                ? rentalOrderRepository.findByIdWithDetails(orderId)
+                : rentalOrderRepository.findById(orderId);
+        RentalOrder order = loaded
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "订单不存在"));
         ensureOrderReadable(order);
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public PagedResponse<RentalOrderSummaryResponse> listOrdersForUser(UUID userId,
@@ -267,6 +303,7 @@ public class RentalOrderService {
         return toPagedResponse(rentalOrderRepository.findAll(specification, pageable));
     }
 
+    @Transactional(readOnly = true)
     public PagedResponse<RentalOrderSummaryResponse> listOrdersForVendor(UUID vendorId,
                                                                          OrderStatus status,
                                                                          Boolean manualReviewOnly,
@@ -286,6 +323,7 @@ public class RentalOrderService {
         return toPagedResponse(rentalOrderRepository.findAll(specification, pageable));
     }
 
+    @Transactional(readOnly = true)
     public PagedResponse<RentalOrderSummaryResponse> listOrdersForAdmin(UUID userId,
                                                                         UUID vendorId,
                                                                         OrderStatus status,
@@ -326,6 +364,10 @@ public class RentalOrderService {
     }
 
     public RentalOrderResponse confirmPayment(UUID orderId, OrderPaymentRequest request) {
+        return confirmPayment(orderId, request, OrderView.FULL);
+    }
+
+    public <T> T confirmPayment(UUID orderId, OrderPaymentRequest request, OrderView<T> view) {
         RentalOrder order = getOrderForUpdate(orderId);
         ensureUser(order, request.userId());
         UUID transactionId = parseTransactionId(request.paymentReference());
@@ -335,10 +377,14 @@ public class RentalOrderService {
         if (finalized) {
             creditRewardService.rewardOnTimePayment(order);
         }
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public RentalOrderResponse handlePaymentSuccess(UUID orderId, UUID transactionId) {
+        return handlePaymentSuccess(orderId, transactionId, OrderView.FULL);
+    }
+
+    public <T> T handlePaymentSuccess(UUID orderId, UUID transactionId, OrderView<T> view) {
         if (transactionId == null) {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR, "支付流水缺失");
         }
@@ -346,7 +392,12 @@ public class RentalOrderService {
         UUID currentTransaction = order.getPaymentTransactionId();
         if (currentTransaction != null && currentTransaction.equals(transactionId)) {
             LOG.debug("Order {} already linked to transaction {}, ignoring duplicate payment callback", order.getOrderNo(), transactionId);
-            return assembler.toOrderResponse(order);
+            return view.render(assembler, order);
+        }
+        if (currentTransaction != null && paymentReceiptRepository.existsById(transactionId)) {
+            LOG.debug("Supplemental transaction {} already recorded for order {}, ignoring duplicate payment callback",
+                    transactionId, order.getOrderNo());
+            return view.render(assembler, order);
         }
         PaymentTransactionView transaction = paymentClient.loadTransaction(transactionId);
         if (currentTransaction == null) {
@@ -357,12 +408,17 @@ public class RentalOrderService {
             }
         } else {
             ensureSupplementalPayment(order, transaction);
+            paymentReceiptRepository.save(OrderPaymentReceipt.record(transactionId, order.getId()));
             recordSupplementalPayment(order, transaction);
         }
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public RentalOrderResponse cancelOrder(UUID orderId, OrderCancelRequest request) {
+        return cancelOrder(orderId, request, OrderView.FULL);
+    }
+
+    public <T> T cancelOrder(UUID orderId, OrderCancelRequest request, OrderView<T> view) {
         RentalOrder order = getOrderForUpdate(orderId);
         ensureUser(order, request.userId());
         if (order.getStatus() != OrderStatus.PENDING_PAYMENT) {
@@ -374,10 +430,14 @@ public class RentalOrderService {
                 request.userId());
         notifyVendor(order, "订单已取消", "订单 %s 已被用户取消。".formatted(order.getOrderNo()));
         releaseReservedInventory(order);
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public RentalOrderResponse shipOrder(UUID orderId, OrderShipmentRequest request) {
+        return shipOrder(orderId, request, OrderView.FULL);
+    }
+
+    public <T> T shipOrder(UUID orderId, OrderShipmentRequest request, OrderView<T> view) {
         RentalOrder order = getOrderForUpdate(orderId);
         ensureVendor(order, request.vendorId());
         ensureShipmentProofBundle(order);
@@ -426,10 +486,14 @@ public class RentalOrderService {
             ? "订单 %s 已发货，承运方 %s，运单号 %s。".formatted(order.getOrderNo(), request.carrier(), request.trackingNumber())
             : "订单 %s 已发货，承运方 %s，运单号 %s。附言：%s".formatted(order.getOrderNo(), request.carrier(), request.trackingNumber(), shipmentNote);
         notifyUser(order, "订单已发货", userContent);
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public RentalOrderResponse confirmReceive(UUID orderId, OrderActorRequest request) {
+        return confirmReceive(orderId, request, OrderView.FULL);
+    }
+
+    public <T> T confirmReceive(UUID orderId, OrderActorRequest request, OrderView<T> view) {
         RentalOrder order = getOrderForUpdate(orderId);
         ensureUser(order, request.actorId());
         ensureReceiveProofBundle(order, request.actorId());
@@ -440,10 +504,14 @@ public class RentalOrderService {
         }
         recordEvent(order, OrderEventType.ORDER_RECEIVED, "用户确认收货", request.actorId());
         notifyVendor(order, "买家确认收货", "订单 %s 已确认收货，租期正式开始计算。".formatted(order.getOrderNo()));
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public RentalOrderResponse requestInspection(UUID orderId, OrderInspectionRequest request) {
+        return requestInspection(orderId, request, OrderView.FULL);
+    }
+
+    public <T> T requestInspection(UUID orderId, OrderInspectionRequest request, OrderView<T> view) {
         RentalOrder order = getOrderForUpdate(orderId);
         ensureVendor(order, request.vendorId());
         if (order.getStatus() != OrderStatus.IN_LEASE) {
@@ -460,30 +528,14 @@ public class RentalOrderService {
         notifyUser(order,
                 "收到巡检请求",
                 "订单 %s 厂商发起巡检请求，请按指引上传巡检凭证以获得信用加分。".formatted(order.getOrderNo()));
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
-    public RentalOrderResponse postConversationMessage(UUID orderId, OrderMessageRequest request) {
-        RentalOrder order = getOrderForUpdate(orderId);
-        if (request.actorId() == null) {
-            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "缺少操作人");
-        }
-        String message = request.message() == null ? "" : request.message().trim();
-        if (message.isEmpty()) {
-            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "留言内容不能为空");
-        }
-        OrderActorRole actorRole = resolveActorRole(order, request.actorId());
-        recordEvent(order, OrderEventType.COMMUNICATION_NOTE, message, request.actorId(), Map.of(), actorRole);
-        String snippet = message.length() > 120 ? message.substring(0, 120) + "..." : message;
-        if (actorRole == OrderActorRole.USER) {
-            notifyVendor(order, "收到用户留言", "订单 %s 有新的留言：%s".formatted(order.getOrderNo(), snippet));
-        } else if (actorRole == OrderActorRole.VENDOR) {
-            notifyUser(order, "厂商回复", "订单 %s 有新的厂商回复：%s".formatted(order.getOrderNo(), snippet));
-        }
-        return assembler.toOrderResponse(order);
+    public RentalOrderResponse applyExtension(UUID orderId, OrderExtensionApplyRequest request) {
+        return applyExtension(orderId, request, OrderView.FULL);
     }
 
-    public RentalOrderResponse applyExtension(UUID orderId, OrderExtensionApplyRequest request) {
+    public <T> T applyExtension(UUID orderId, OrderExtensionApplyRequest request, OrderView<T> view) {
         RentalOrder order = getOrderForUpdate(orderId);
         ensureUser(order, request.userId());
         if (order.getStatus() != OrderStatus.IN_LEASE) {
@@ -501,10 +553,14 @@ public class RentalOrderService {
                 Map.of("additionalMonths", request.additionalMonths()));
         notifyVendor(order, "收到续租申请", "订单 %s 用户申请续租 %d 个月。"
             .formatted(order.getOrderNo(), request.additionalMonths()));
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public RentalOrderResponse decideExtension(UUID orderId, OrderExtensionDecisionRequest request) {
+        return decideExtension(orderId, request, OrderView.FULL);
+    }
+
+    public <T> T decideExtension(UUID orderId, OrderExtensionDecisionRequest request, OrderView<T> view) {
         RentalOrder order = getOrderForUpdate(orderId);
         ensureVendor(order, request.vendorId());
         OrderExtensionRequest extensionRequest = extensionRequestRepository
@@ -527,10 +583,14 @@ public class RentalOrderService {
             notifyUser(order, "续租申请被拒", "订单 %s 的续租申请未通过，原因：%s"
                 .formatted(order.getOrderNo(), request.remark() == null ? "无" : request.remark()));
         }
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public RentalOrderResponse applyReturn(UUID orderId, OrderReturnApplyRequest request) {
+        return applyReturn(orderId, request, OrderView.FULL);
+    }
+
+    public <T> T applyReturn(UUID orderId, OrderReturnApplyRequest request, OrderView<T> view) {
         RentalOrder order = getOrderForUpdate(orderId);
         ensureUser(order, request.userId());
         if (order.getStatus() != OrderStatus.IN_LEASE) {
@@ -563,10 +623,14 @@ public class RentalOrderService {
         notifyVendor(order, "收到退租申请", "订单 %s 用户提交退租申请，请及时处理。"
             .formatted(order.getOrderNo()));
         notifyAdminReturnRequest(order, request);
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public RentalOrderResponse decideReturn(UUID orderId, OrderReturnDecisionRequest request) {
+        return decideReturn(orderId, request, OrderView.FULL);
+    }
+
+    public <T> T decideReturn(UUID orderId, OrderReturnDecisionRequest request, OrderView<T> view) {
         RentalOrder order = getOrderForUpdate(orderId);
         ensureVendor(order, request.vendorId());
         OrderReturnRequest returnRequest = returnRequestRepository
@@ -593,10 +657,14 @@ public class RentalOrderService {
             notifyUser(order, "退租被拒", "订单 %s 的退租申请未通过，原因：%s"
                     .formatted(order.getOrderNo(), request.remark() == null ? "无" : request.remark()));
         }
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public RentalOrderResponse completeReturn(UUID orderId, OrderReturnCompleteRequest request) {
+        return completeReturn(orderId, request, OrderView.FULL);
+    }
+
+    public <T> T completeReturn(UUID orderId, OrderReturnCompleteRequest request, OrderView<T> view) {
         RentalOrder order = getOrderForUpdate(orderId);
         ensureVendor(order, request.vendorId());
         if (order.getStatus() != OrderStatus.RETURN_IN_PROGRESS) {
@@ -644,10 +712,14 @@ public class RentalOrderService {
                 attributes);
         notifyUser(order, "退租已完成", "订单 %s 的退租已完成。".formatted(order.getOrderNo()));
         creditRewardService.rewardEarlyReturn(order, plannedLeaseEnd);
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public RentalOrderResponse applyBuyout(UUID orderId, OrderBuyoutApplyRequest request) {
+        return applyBuyout(orderId, request, OrderView.FULL);
+    }
+
+    public <T> T applyBuyout(UUID orderId, OrderBuyoutApplyRequest request, OrderView<T> view) {
         RentalOrder order = getOrderForUpdate(orderId);
         ensureUser(order, request.userId());
         if (order.getStatus() != OrderStatus.IN_LEASE) {
@@ -663,10 +735,14 @@ public class RentalOrderService {
                 request.buyoutAmount() == null ? Map.of() : Map.of("buyoutAmount", request.buyoutAmount()));
         notifyVendor(order, "收到买断申请", "订单 %s 用户申请买断，请尽快处理。"
             .formatted(order.getOrderNo()));
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public RentalOrderResponse decideBuyout(UUID orderId, OrderBuyoutDecisionRequest request) {
+        return decideBuyout(orderId, request, OrderView.FULL);
+    }
+
+    public <T> T decideBuyout(UUID orderId, OrderBuyoutDecisionRequest request, OrderView<T> view) {
         RentalOrder order = getOrderForUpdate(orderId);
         ensureVendor(order, request.vendorId());
         if (order.getStatus() != OrderStatus.BUYOUT_REQUESTED) {
@@ -686,10 +762,14 @@ public class RentalOrderService {
             notifyUser(order, "买断被拒", "订单 %s 的买断申请未通过，原因：%s"
                     .formatted(order.getOrderNo(), request.remark() == null ? "无" : request.remark()));
         }
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     public RentalOrderResponse forceClose(UUID orderId, String reason) {
+        return forceClose(orderId, reason, OrderView.FULL);
+    }
+
+    public <T> T forceClose(UUID orderId, String reason, OrderView<T> view) {
         FlexleasePrincipal principal = SecurityUtils.requirePrincipal();
         if (!principal.hasRole("ADMIN")) {
             throw new BusinessException(ErrorCode.FORBIDDEN, "仅管理员可以执行此操作");
@@ -713,7 +793,7 @@ public class RentalOrderService {
         if (previousStatus == OrderStatus.PENDING_PAYMENT || previousStatus == OrderStatus.AWAITING_SHIPMENT) {
             releaseReservedInventory(order);
         }
-        return assembler.toOrderResponse(order);
+        return view.render(assembler, order);
     }
 
     private RentalOrder getOrderForUpdate(UUID orderId) {
@@ -1020,8 +1100,7 @@ public class RentalOrderService {
         return new Totals(deposit, rent, buyout);
     }
 
-    private CreditAppliedTotals applyCredit(UUID userId, Totals totals) {
-        CreditAssessmentService.CreditDecision decision = creditAssessmentService.assess(userId);
+    private CreditAppliedTotals applyCredit(CreditAssessmentService.CreditDecision decision, Totals totals) {
         BigDecimal adjustedDeposit = decision.apply(totals.depositAmount);
         BigDecimal totalAmount = adjustedDeposit.add(totals.rentAmount);
         return new CreditAppliedTotals(
@@ -1290,11 +1369,11 @@ public class RentalOrderService {
                                                Map<UUID, ProductCatalogClient.CatalogProductView> products) {
         ProductCatalogClient.CatalogProductView product = products.get(item.productId());
         if (product == null) {
-            product = productCatalogClient.getProduct(item.productId());
-            if (!expectedVendorId.equals(product.vendorId())) {
-                throw new BusinessException(ErrorCode.VALIDATION_ERROR, "订单明细所属厂商与请求不一致");
-            }
-            products.put(item.productId(), product);
+            // 商品视图由 loadProductsForItems 或预热任务预先提供，这里不再回退到商品服务
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "订单明细引用的商品不存在");
+        }
+        if (!expectedVendorId.equals(product.vendorId())) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "订单明细所属厂商与请求不一致");
         }
 
         ProductCatalogClient.CatalogProductView.RentalPlanView plan = selectPlan(item, product);
@@ -0,0 +1,40 @@
+ALTER TABLE "order".rental_order
+    ADD COLUMN IF NOT EXISTS event_type_mask BIGINT NOT NULL DEFAULT 0;
+
+-- 位序与 OrderEventType 枚举序号一致；对已去重的位求和等价于按位或
+UPDATE "order".rental_order o
+SET event_type_mask = COALESCE((
+    SELECT SUM(DISTINCT CASE e.event_type
+        WHEN 'ORDER_CREATED' THEN 1
+        WHEN 'PAYMENT_CONFIRMED' THEN 2
+        WHEN 'ADDITIONAL_PAYMENT_RECORDED' THEN 4
+        WHEN 'ORDER_CANCELLED' THEN 8
+        WHEN 'ORDER_SHIPPED' THEN 16
+        WHEN 'ORDER_RECEIVED' THEN 32
+        WHEN 'EXTENSION_REQUESTED' THEN 64
+        WHEN 'EXTENSION_APPROVED' THEN 128
+        WHEN 'EXTENSION_REJECTED' THEN 256
+        WHEN 'RETURN_REQUESTED' THEN 512
+        WHEN 'RETURN_APPROVED' THEN 1024
+        WHEN 'RETURN_REJECTED' THEN 2048
+        WHEN 'RETURN_COMPLETED' THEN 4096
+        WHEN 'BUYOUT_REQUESTED' THEN 8192
+        WHEN 'BUYOUT_CONFIRMED' THEN 16384
+        WHEN 'BUYOUT_REJECTED' THEN 32768
+        WHEN 'COMMUNICATION_NOTE' THEN 65536
+        WHEN 'PROOF_UPLOADED' THEN 131072
+        WHEN 'DISPUTE_OPENED' THEN 262144
+        WHEN 'DISPUTE_RESPONDED' THEN 524288
+        WHEN 'DISPUTE_ESCALATED' THEN 1048576
+        WHEN 'DISPUTE_RESOLVED' THEN 2097152
+        WHEN 'DISPUTE_AI_SUGGESTED' THEN 4194304
+        WHEN 'INSPECTION_REQUESTED' THEN 8388608
+        WHEN 'INSPECTION_REWARDED' THEN 16777216
+        WHEN 'SURVEY_INVITED' THEN 33554432
+        WHEN 'SURVEY_SUBMITTED' THEN 67108864
+    END)
+    FROM "order".order_event e
+    WHERE e.order_id = o.id
+), 0);
+
+CREATE INDEX IF NOT EXISTS idx_order_event_order_type ON "order".order_event(order_id, event_type, created_at);
@@ -0,0 +1,31 @@
+-- 订单沟通消息独立存储，避免聊天记录挤占订单时间线
+CREATE TABLE IF NOT EXISTS "order".order_message (
+    id UUID PRIMARY KEY,
+    order_id UUID NOT NULL REFERENCES "order".rental_order(id) ON DELETE CASCADE,
+    sender_id UUID NOT NULL,
+    sender_role VARCHAR(20),
+    content TEXT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_message_order
+    ON "order".order_message(order_id, created_at DESC, id DESC);
+
+-- 会话参与方阅读状态：每个订单每个参与角色一行
+CREATE TABLE IF NOT EXISTS "order".order_conversation_state (
+    id UUID PRIMARY KEY,
+    order_id UUID NOT NULL REFERENCES "order".rental_order(id) ON DELETE CASCADE,
+    participant_role VARCHAR(20) NOT NULL,
+    unread_count INT NOT NULL DEFAULT 0,
+    last_read_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_order_conversation_state UNIQUE (order_id, participant_role)
+);
+
+-- 迁移历史留言：沿用事件 ID 作为消息 ID，时间线中的原事件保留
+INSERT INTO "order".order_message (id, order_id, sender_id, sender_role, content, created_at)
+SELECT e.id, e.order_id, e.created_by, e.actor_role, e.description, e.created_at
+FROM "order".order_event e
+WHERE e.event_type = 'COMMUNICATION_NOTE'
+  AND e.created_by IS NOT NULL
+  AND e.description IS NOT NULL;
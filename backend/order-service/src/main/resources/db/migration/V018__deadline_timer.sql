@@ -0,0 +1,14 @@
+-- 持久化截止时间定时器（platform-common DeadlineTimerService）
+CREATE SCHEMA IF NOT EXISTS timer;
+
+CREATE TABLE IF NOT EXISTS timer.deadline_timer (
+    id UUID PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    timer_key VARCHAR(100) NOT NULL,
+    due_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT uk_deadline_timer_topic_key UNIQUE (topic, timer_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_deadline_timer_due ON timer.deadline_timer (due_at);
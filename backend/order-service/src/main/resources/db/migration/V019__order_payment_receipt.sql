@@ -0,0 +1,8 @@
+-- 已入账的补款流水：支付事件至少投递一次，重复投递按流水 ID 去重，避免重复记录补款与通知
+CREATE TABLE IF NOT EXISTS "order".order_payment_receipt (
+    transaction_id UUID PRIMARY KEY,
+    order_id UUID NOT NULL REFERENCES "order".rental_order(id) ON DELETE CASCADE,
+    recorded_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_payment_receipt_order ON "order".order_payment_receipt(order_id);
@@ -0,0 +1,108 @@
+package com.flexlease.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.codec.InternalCodec;
+import com.flexlease.common.codec.InternalMessageConverter;
+import com.flexlease.common.dto.ApiResponse;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.common.messaging.PaymentSucceededMessage;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class InternalCodecIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${security.jwt.internal-access-token}")
+    private String internalToken;
+
+    @Autowired
+    private InternalCodec codec;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RestTemplateBuilder restTemplateBuilder;
+
+    @Test
+    void internalClientExchangesSmileIncludingErrorBodies() {
+        RestTemplate restTemplate = codec.preferBinary(restTemplateBuilder.build());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Internal-Token", internalToken);
+
+        // 请求体按 Smile 编码并通过校验（否则为 1001），才会走到"订单不存在"
+        HttpStatusCodeException ex = catchThrowableOfType(() -> restTemplate.exchange(
+                "http://localhost:" + port + "/api/v1/internal/orders/" + UUID.randomUUID() + "/payment-success",
+                HttpMethod.POST,
+                new HttpEntity<>(Map.of("transactionId", UUID.randomUUID()), headers),
+                new ParameterizedTypeReference<ApiResponse<Object>>() {
+                }), HttpStatusCodeException.class);
+
+        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(ex.getResponseHeaders().getContentType()).isEqualTo(InternalCodec.SMILE);
+        ApiResponse<Object> body = ex.getResponseBodyAs(new ParameterizedTypeReference<ApiResponse<Object>>() {
+        });
+        assertThat(body.code()).isEqualTo(ErrorCode.RESOURCE_NOT_FOUND.code());
+        assertThat(body.message()).isEqualTo("订单不存在");
+    }
+
+    @Test
+    void browsersStillReceiveJson() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/internal/orders/"
+                        + UUID.randomUUID() + "/payment-success"))
+                .header("X-Internal-Token", internalToken)
+                .header("Accept", "*/*")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"transactionId\":\"" + UUID.randomUUID() + "\"}"))
+                .build();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith("application/json"));
+        assertThat(objectMapper.readTree(response.body()).path("code").asInt()).isEqualTo(ErrorCode.RESOURCE_NOT_FOUND.code());
+    }
+
+    @Test
+    void messageConverterWritesSmileAndStillReadsJson() {
+        PaymentSucceededMessage payload = new PaymentSucceededMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), "RENT", new BigDecimal("350.00"), OffsetDateTime.now(ZoneOffset.UTC));
+        InternalMessageConverter converter = new InternalMessageConverter(objectMapper, codec);
+
+        Message smile = converter.toMessage(payload, new MessageProperties());
+        Message json = new Jackson2JsonMessageConverter(objectMapper).toMessage(payload, new MessageProperties());
+
+        assertThat(smile.getMessageProperties().getContentType()).isEqualTo(InternalCodec.SMILE.toString());
+        assertThat(smile.getBody().length).isLessThan(json.getBody().length);
+        assertThat(converter.fromMessage(smile)).isEqualTo(payload);
+        // 升级过程中旧版本生产者发来的 JSON 消息仍可消费
+        assertThat(converter.fromMessage(json)).isEqualTo(payload);
+    }
+}
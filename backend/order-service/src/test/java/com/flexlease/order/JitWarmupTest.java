@@ -0,0 +1,134 @@
+package com.flexlease.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.warmup.FirstRequestLatencyFilter;
+import com.flexlease.common.warmup.WarmupProperties;
+import com.flexlease.common.warmup.WarmupRunner;
+import com.flexlease.common.warmup.WarmupTask;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * 启动预热：订单服务的预热任务不依赖下游服务即可执行，预热器遵守迭代次数与时长上限并隔离失败任务。
+ */
+@SpringBootTest
+class JitWarmupTest {
+
+    private final FlexleaseMetrics metrics = new FlexleaseMetrics(new SimpleMeterRegistry());
+
+    @Autowired
+    private List<WarmupTask> tasks;
+
+    @Test
+    void orderTasksRunWithoutDownstreamServices() {
+        // 测试环境没有商品服务与用户服务，任务一旦发起远程调用就会失败
+        WarmupRunner runner = new WarmupRunner(tasks, properties(50, 60_000), metrics);
+        runner.start();
+
+        assertThat(runner.isWarmedUp()).isTrue();
+        assertThat(tasks).extracting(WarmupTask::name)
+                .contains("order-preview", "order-detail", "jwt-verification");
+        for (WarmupTask task : tasks) {
+            assertThat(warmupTimer(task.name(), FlexleaseMetrics.OUTCOME_SUCCESS)).isNotNull();
+            assertThat(warmupTimer(task.name(), FlexleaseMetrics.OUTCOME_FAILURE)).isNull();
+        }
+    }
+
+    @Test
+    void failingTaskIsDroppedAndDurationBudgetStopsWarmup() {
+        AtomicInteger failing = new AtomicInteger();
+        AtomicInteger slow = new AtomicInteger();
+        AtomicInteger fast = new AtomicInteger();
+        List<WarmupTask> synthetic = List.of(
+                task("failing", () -> {
+                    failing.incrementAndGet();
+                    throw new IllegalStateException("boom");
+                }),
+                task("slow", () -> {
+                    slow.incrementAndGet();
+                    Thread.sleep(20);
+                }),
+                task("fast", fast::incrementAndGet));
+
+        WarmupRunner runner = new WarmupRunner(synthetic, properties(10_000, 200), metrics);
+        runner.start();
+
+        assertThat(failing).hasValue(1);
+        assertThat(slow.get()).isBetween(1, 20);
+        assertThat(fast.get()).isBetween(slow.get() - 1, slow.get());
+        assertThat(runner.isWarmedUp()).isTrue();
+        assertThat(warmupTimer("failing", FlexleaseMetrics.OUTCOME_FAILURE)).isNotNull();
+        assertThat(warmupTimer("slow", FlexleaseMetrics.OUTCOME_SUCCESS).count()).isEqualTo(1);
+    }
+
+    @Test
+    void disabledRunnerSkipsTasks() {
+        AtomicInteger runs = new AtomicInteger();
+        WarmupProperties properties = properties(100, 1000);
+        properties.setEnabled(false);
+        WarmupRunner runner = new WarmupRunner(List.of(task("noop", runs::incrementAndGet)), properties, metrics);
+        runner.start();
+
+        assertThat(runs).hasValue(0);
+        assertThat(runner.isWarmedUp()).isFalse();
+        assertThat(runner.isRunning()).isTrue();
+    }
+
+    @Test
+    void firstRequestsAreTimedUntilLimit() throws Exception {
+        WarmupProperties properties = properties(1, 1000);
+        properties.setFirstRequests(3);
+        WarmupRunner runner = new WarmupRunner(List.of(), properties, metrics);
+        runner.start();
+        FirstRequestLatencyFilter filter = new FirstRequestLatencyFilter(runner, properties, metrics);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(), new MockFilterChain());
+        for (int i = 0; i < 5; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/orders"), new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        Timer timer = metrics.registry().find(FlexleaseMetrics.STARTUP_FIRST_REQUESTS).tag("warmup", "off").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(3);
+    }
+
+    private Timer warmupTimer(String task, String outcome) {
+        return metrics.registry().find(FlexleaseMetrics.WARMUP).tag("task", task).tag(FlexleaseMetrics.TAG_OUTCOME, outcome).timer();
+    }
+
+    private static WarmupProperties properties(int iterations, long durationMs) {
+        WarmupProperties properties = new WarmupProperties();
+        properties.setIterations(iterations);
+        properties.setDurationMs(durationMs);
+        return properties;
+    }
+
+    private static WarmupTask task(String name, ThrowingRunnable body) {
+        return new WarmupTask() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void run() throws Exception {
+                body.run();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,144 @@
+package com.flexlease.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flexlease.common.loadbalancer.InstanceLoadTracker;
+import com.flexlease.common.loadbalancer.LatencyAwareLoadBalancer;
+import com.flexlease.common.loadbalancer.LoadBalancingProperties;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+class LatencyAwareLoadBalancerTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long MILLIS = 1_000_000L;
+    private static final String SERVICE = "product-service";
+
+    private final FlexleaseMetrics metrics = new FlexleaseMetrics(new SimpleMeterRegistry());
+
+    @Test
+    void slowInstanceReceivesFewerRequests() {
+        List<ServiceInstance> instances = List.of(instance("fast-1", 1), instance("fast-2", 2), instance("slow", 3));
+        Map<String, Long> latencies = Map.of("fast-1", 2 * MILLIS, "fast-2", 2 * MILLIS, "slow", 20 * MILLIS);
+        LoadBalancingProperties properties = properties();
+        InstanceLoadTracker tracker = new InstanceLoadTracker(properties, metrics);
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer(null, SERVICE, tracker, properties);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // 按模拟时钟回放 4 个并发调用方：请求完成前计入未完成数，完成时记录该实例的固定耗时样本
+        PriorityQueue<Call> inflight = new PriorityQueue<>(Comparator.comparingLong(Call::completesAt));
+        long now = 0;
+        for (int i = 0; i < 200; i++) {
+            if (inflight.size() == 4) {
+                Call done = inflight.poll();
+                now = done.completesAt();
+                tracker.requestCompleted(done.instance(), now, latencies.get(done.instance().getInstanceId()), true);
+            }
+            ServiceInstance chosen = balancer.choose(instances, now);
+            counts.merge(chosen.getInstanceId(), 1, Integer::sum);
+            tracker.requestStarted(chosen);
+            inflight.add(new Call(chosen, now + latencies.get(chosen.getInstanceId())));
+        }
+
+        // 轮询时三个实例各占约 1/3
+        assertThat(counts.getOrDefault("slow", 0)).isLessThan(200 / 10);
+        assertThat(counts.get("fast-1")).isGreaterThan(60);
+        assertThat(counts.get("fast-2")).isGreaterThan(60);
+    }
+
+    @Test
+    void newInstanceRampsUpDuringSlowStart() {
+        LoadBalancingProperties properties = properties();
+        properties.setSlowStartMs(30_000);
+        InstanceLoadTracker tracker = new InstanceLoadTracker(properties, metrics);
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer(null, SERVICE, tracker, properties);
+        ServiceInstance a = instance("a", 1);
+        ServiceInstance b = instance("b", 2);
+        ServiceInstance fresh = instance("fresh", 3);
+
+        balancer.choose(List.of(a, b), 0);
+        tracker.requestCompleted(a, 60 * SECOND, 10_000_000, true);
+        tracker.requestCompleted(b, 60 * SECOND, 10_000_000, true);
+        // 老实例各有一个未完成请求，新实例只要被抽中就会胜出，其份额取决于预热权重
+        tracker.requestStarted(a);
+        tracker.requestStarted(b);
+        balancer.choose(List.of(a, b, fresh), 60 * SECOND);
+
+        int early = count(balancer, List.of(a, b, fresh), fresh, 61 * SECOND);
+        int middle = count(balancer, List.of(a, b, fresh), fresh, 75 * SECOND);
+        int warm = count(balancer, List.of(a, b, fresh), fresh, 95 * SECOND);
+
+        assertThat(early).isLessThan(250);
+        assertThat(early).isLessThan(middle);
+        assertThat(middle).isLessThan(warm);
+        assertThat(warm).isGreaterThan(550);
+    }
+
+    @Test
+    void failingInstanceIsEjectedUntilBackoffExpires() {
+        LoadBalancingProperties properties = properties();
+        InstanceLoadTracker tracker = new InstanceLoadTracker(properties, metrics);
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer(null, SERVICE, tracker, properties);
+        List<ServiceInstance> instances = List.of(instance("a", 1), instance("b", 2), instance("broken", 3));
+        ServiceInstance broken = instances.get(2);
+        balancer.choose(instances, 0);
+
+        for (int i = 0; i < properties.getConsecutiveFailures(); i++) {
+            tracker.requestCompleted(broken, SECOND, 1_000_000, false);
+        }
+
+        assertThat(count(balancer, instances, broken, 2 * SECOND)).isZero();
+        assertThat(metrics.registry().counter(FlexleaseMetrics.LOADBALANCER_EJECTIONS, "service", SERVICE).count()).isEqualTo(1.0);
+        // 首次剔除 30 秒，期满后重新参与
+        assertThat(count(balancer, instances, broken, 40 * SECOND)).isGreaterThan(0);
+    }
+
+    @Test
+    void ejectionIsSkippedWhenTooManyInstancesFail() {
+        LoadBalancingProperties properties = properties();
+        InstanceLoadTracker tracker = new InstanceLoadTracker(properties, metrics);
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer(null, SERVICE, tracker, properties);
+        List<ServiceInstance> instances = List.of(instance("a", 1), instance("b", 2));
+        balancer.choose(instances, 0);
+        for (ServiceInstance instance : instances) {
+            for (int i = 0; i < properties.getConsecutiveFailures(); i++) {
+                tracker.requestCompleted(instance, SECOND, 1_000_000, false);
+            }
+        }
+
+        // 两个实例都被判定剔除，超过 50% 上限时全部照常参与
+        assertThat(count(balancer, instances, instances.get(0), 2 * SECOND)).isGreaterThan(0);
+        assertThat(count(balancer, instances, instances.get(1), 2 * SECOND)).isGreaterThan(0);
+    }
+
+    private static int count(LatencyAwareLoadBalancer balancer, List<ServiceInstance> instances, ServiceInstance target, long now) {
+        int hits = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (balancer.choose(instances, now) == target) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static LoadBalancingProperties properties() {
+        LoadBalancingProperties properties = new LoadBalancingProperties();
+        properties.setSlowStartMs(0);
+        return properties;
+    }
+
+    private static ServiceInstance instance(String id, int port) {
+        return new DefaultServiceInstance(id, SERVICE, "10.0.0." + port, 8080, false);
+    }
+
+    private record Call(ServiceInstance instance, long completesAt) {
+    }
+}
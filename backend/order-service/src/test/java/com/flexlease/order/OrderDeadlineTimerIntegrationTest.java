@@ -0,0 +1,131 @@
+package com.flexlease.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flexlease.common.timer.DeadlineTimerService;
+import com.flexlease.common.user.CreditTier;
+import com.flexlease.order.client.InventoryReservationClient;
+import com.flexlease.order.client.NotificationClient;
+import com.flexlease.order.client.UserProfileClient;
+import com.flexlease.order.domain.OrderStatus;
+import com.flexlease.order.domain.RentalOrder;
+import com.flexlease.order.domain.RentalOrderItem;
+import com.flexlease.order.repository.RentalOrderRepository;
+import com.flexlease.order.service.OrderDeadlineTimers;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "flexlease.timer.enabled=true",
+        "flexlease.timer.tick-ms=20"
+})
+class OrderDeadlineTimerIntegrationTest {
+
+    @Autowired
+    private DeadlineTimerService deadlineTimerService;
+
+    @Autowired
+    private RentalOrderRepository rentalOrderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private InventoryReservationClient inventoryReservationClient;
+
+    @MockBean
+    private NotificationClient notificationClient;
+
+    @MockBean
+    private UserProfileClient userProfileClient;
+
+    @Test
+    void paymentTimeoutFiresAtDeadlineWithoutPolling() throws InterruptedException {
+        RentalOrder order = rentalOrderRepository.save(createPendingOrder());
+        OffsetDateTime dueAt = OffsetDateTime.now().plusNanos(300_000_000L);
+
+        deadlineTimerService.schedule(OrderDeadlineTimers.PAYMENT_TIMEOUT, order.getId(), dueAt);
+
+        OrderStatus status = order.getStatus();
+        long waitUntil = System.currentTimeMillis() + 5_000;
+        while (status != OrderStatus.CANCELLED && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(50);
+            status = rentalOrderRepository.findById(order.getId()).orElseThrow().getStatus();
+        }
+        assertThat(status).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(OffsetDateTime.now()).isAfterOrEqualTo(dueAt);
+        Mockito.verify(inventoryReservationClient).release(ArgumentMatchers.eq(order.getId()), ArgumentMatchers.anyList());
+        Integer remaining = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM timer.deadline_timer WHERE timer_key = ?",
+                Integer.class,
+                order.getId().toString());
+        assertThat(remaining).isZero();
+    }
+
+    @Test
+    void timerWithoutHandlerIsBackedOff() throws InterruptedException {
+        String key = UUID.randomUUID().toString();
+        OffsetDateTime dueAt = OffsetDateTime.now().plusNanos(100_000_000L);
+
+        deadlineTimerService.schedule("unknown-topic", key, dueAt);
+
+        Integer attempts = 0;
+        long waitUntil = System.currentTimeMillis() + 5_000;
+        while (attempts == 0 && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(50);
+            attempts = jdbcTemplate.queryForObject(
+                    "SELECT attempts FROM timer.deadline_timer WHERE topic = 'unknown-topic' AND timer_key = ?",
+                    Integer.class,
+                    key);
+        }
+        assertThat(attempts).isEqualTo(1);
+        OffsetDateTime nextDue = jdbcTemplate.queryForObject(
+                "SELECT due_at FROM timer.deadline_timer WHERE topic = 'unknown-topic' AND timer_key = ?",
+                OffsetDateTime.class,
+                key);
+        assertThat(nextDue).isAfter(OffsetDateTime.now().plusSeconds(5));
+        deadlineTimerService.cancel("unknown-topic", key);
+    }
+
+    private RentalOrder createPendingOrder() {
+        RentalOrder order = RentalOrder.create(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "STANDARD",
+                new BigDecimal("100.00"),
+                new BigDecimal("100.00"),
+                new BigDecimal("200.00"),
+                null,
+                new BigDecimal("300.00"),
+                70,
+                CreditTier.STANDARD,
+                BigDecimal.ONE,
+                false,
+                OffsetDateTime.now(),
+                OffsetDateTime.now().plusMonths(12)
+        );
+        order.addItem(RentalOrderItem.create(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "示例商品",
+                "SKU",
+                null,
+                1,
+                new BigDecimal("200.00"),
+                new BigDecimal("100.00"),
+                null
+        ));
+        return order;
+    }
+}
@@ -0,0 +1,150 @@
+package com.flexlease.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.dto.ApiResponse;
+import com.flexlease.common.exception.BusinessException;
+import com.flexlease.common.metrics.JdbcStatementCounter;
+import com.flexlease.common.security.FlexleasePrincipal;
+import com.flexlease.common.user.CreditTier;
+import com.flexlease.order.domain.DisputeResolutionOption;
+import com.flexlease.order.domain.OrderActorRole;
+import com.flexlease.order.domain.OrderDispute;
+import com.flexlease.order.domain.OrderEvent;
+import com.flexlease.order.domain.OrderEventType;
+import com.flexlease.order.domain.OrderProof;
+import com.flexlease.order.domain.OrderProofType;
+import com.flexlease.order.domain.OrderStatus;
+import com.flexlease.order.domain.RentalOrder;
+import com.flexlease.order.domain.RentalOrderItem;
+import com.flexlease.order.dto.OrderStatusResponse;
+import com.flexlease.order.dto.RentalOrderResponse;
+import com.flexlease.order.dto.RentalOrderSummaryResponse;
+import com.flexlease.order.repository.RentalOrderRepository;
+import com.flexlease.order.service.OrderView;
+import com.flexlease.order.service.RentalOrderService;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 按视图统计读取订单时的 JDBC 语句数与序列化后的响应体大小（开启 db-statements 后数据源被计数包装）。
+ */
+@SpringBootTest(properties = "flexlease.metrics.db-statements.enabled=true")
+class OrderResponseViewTest {
+
+    private static final int CHILDREN = 20;
+
+    @Autowired
+    private RentalOrderRepository rentalOrderRepository;
+
+    @Autowired
+    private RentalOrderService rentalOrderService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void lighterViewsSkipChildCollectionsAndShrinkPayload() throws Exception {
+        RentalOrder order = rentalOrderRepository.saveAndFlush(createOrder());
+        FlexleasePrincipal principal = new FlexleasePrincipal(order.getUserId(), order.getVendorId(), "tester", Set.of("USER"));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(principal, null, "USER"));
+
+        Measured<OrderStatusResponse> status = measure(() -> rentalOrderService.getOrder(order.getId(), OrderView.STATUS));
+        Measured<RentalOrderSummaryResponse> summary = measure(() -> rentalOrderService.getOrder(order.getId(), OrderView.SUMMARY));
+        Measured<RentalOrderResponse> full = measure(() -> rentalOrderService.getOrder(order.getId(), OrderView.FULL));
+
+        assertThat(status.response().status()).isEqualTo(OrderStatus.IN_LEASE);
+        assertThat(summary.response().orderNo()).isEqualTo(order.getOrderNo());
+        assertThat(full.response().events()).hasSize(CHILDREN);
+        assertThat(full.response().proofs()).hasSize(CHILDREN);
+
+        // 订单本身一条；full 另需明细与六个懒加载子集合
+        assertThat(status.statements()).isEqualTo(1);
+        assertThat(summary.statements()).isEqualTo(1);
+        assertThat(full.statements()).isGreaterThanOrEqualTo(7);
+
+        assertThat(status.bytes()).isLessThan(summary.bytes());
+        assertThat(summary.bytes() * 10).isLessThan(full.bytes());
+    }
+
+    @Test
+    void viewParameterIsParsedCaseInsensitivelyAndDefaultsToFull() {
+        assertThat(OrderView.parse(null)).isSameAs(OrderView.FULL);
+        assertThat(OrderView.parse(" Status ")).isSameAs(OrderView.STATUS);
+        assertThat(OrderView.parse("summary")).isSameAs(OrderView.SUMMARY);
+        assertThatThrownBy(() -> OrderView.parse("items"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private <T> Measured<T> measure(Supplier<T> call) throws Exception {
+        JdbcStatementCounter.begin();
+        T response;
+        int statements;
+        try {
+            response = call.get();
+        } finally {
+            statements = JdbcStatementCounter.end();
+        }
+        return new Measured<>(response, statements, objectMapper.writeValueAsBytes(ApiResponse.success(response)).length);
+    }
+
+    private RentalOrder createOrder() {
+        RentalOrder order = RentalOrder.create(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "STANDARD",
+                new BigDecimal("150.00"),
+                new BigDecimal("150.00"),
+                new BigDecimal("200.00"),
+                null,
+                new BigDecimal("350.00"),
+                85,
+                CreditTier.EXCELLENT,
+                BigDecimal.ONE,
+                false,
+                OffsetDateTime.now().minusDays(2),
+                OffsetDateTime.now().plusMonths(6)
+        );
+        order.addItem(RentalOrderItem.create(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "测试商品",
+                "SKU-123",
+                null,
+                1,
+                new BigDecimal("200.00"),
+                new BigDecimal("150.00"),
+                null
+        ));
+        order.markPaid();
+        order.ship("SF", "TRACK123");
+        order.confirmReceive();
+        for (int i = 0; i < CHILDREN; i++) {
+            order.addEvent(OrderEvent.record(OrderEventType.ORDER_CREATED, "事件 " + i, order.getUserId(), OrderActorRole.USER));
+            order.addProof(OrderProof.create(OrderProofType.SHIPMENT, "凭证 " + i, "proof-" + i + ".jpg",
+                    "/api/v1/proofs/proof-" + i + ".jpg", "image/jpeg", 1024L, order.getVendorId(), OrderActorRole.VENDOR));
+        }
+        order.addDispute(OrderDispute.create(OrderActorRole.USER, order.getUserId(), DisputeResolutionOption.REDELIVER, "设备损坏", null));
+        return order;
+    }
+
+    private record Measured<T>(T response, int statements, int bytes) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.flexlease.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flexlease.common.audit.BusinessReplayLogWriter;
+import com.flexlease.common.tracing.TraceContextSupport;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+@AutoConfigureObservability(metrics = false)
+class OrderTraceAuditIntegrationTest {
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private TraceContextSupport traceContext;
+
+    @Autowired
+    private BusinessReplayLogWriter replayLogWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void replayLogCarriesTraceIdOfCurrentAndUpstreamSpans() {
+        UUID outgoingId = UUID.randomUUID();
+        Span span = tracer.nextSpan().name("order-flow").start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            writeReplay("OUT", outgoingId);
+        } finally {
+            span.end();
+        }
+        assertThat(traceIdOf(outgoingId)).isEqualTo(span.context().traceId());
+
+        // 批量消费时按消息头接续上游链路
+        String upstreamTraceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+        UUID incomingId = UUID.randomUUID();
+        traceContext.runInConsumerSpan("payment.events process",
+                Map.of("traceparent", "00-" + upstreamTraceId + "-00f067aa0ba902b7-01"),
+                () -> writeReplay("IN", incomingId));
+        assertThat(traceIdOf(incomingId)).isEqualTo(upstreamTraceId);
+
+        UUID untracedId = UUID.randomUUID();
+        writeReplay("OUT", untracedId);
+        assertThat(traceIdOf(untracedId)).isNull();
+    }
+
+    private void writeReplay(String direction, UUID aggregateId) {
+        if ("IN".equals(direction)) {
+            replayLogWriter.writeIncoming("payment.events", "payment.succeeded", "PAYMENT_SUCCEEDED",
+                    "PaymentTransaction", aggregateId, Map.of("id", aggregateId), OffsetDateTime.now());
+        } else {
+            replayLogWriter.writeOutgoing("order.events", "order.created", "ORDER_CREATED",
+                    "RentalOrder", aggregateId, Map.of("id", aggregateId), OffsetDateTime.now());
+        }
+    }
+
+    private String traceIdOf(UUID aggregateId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT trace_id FROM audit.business_replay_log WHERE aggregate_id = ?",
+                String.class,
+                aggregateId);
+    }
+}
@@ -0,0 +1,131 @@
+package com.flexlease.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flexlease.common.datasource.ReadReplicaProperties;
+import com.flexlease.common.datasource.ReadYourWritesTracker;
+import com.flexlease.common.datasource.ReplicaLagMonitor;
+import com.flexlease.common.datasource.ReplicaRoutingDataSource;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.security.FlexleasePrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 两个独立的内存库分别充当主库与副本，各写入一行标识，通过查询结果判断连接落在哪一侧。
+ */
+class ReadReplicaRoutingTest {
+
+    private final FlexleaseMetrics metrics = new FlexleaseMetrics(new SimpleMeterRegistry());
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+    private final ReadReplicaProperties properties = new ReadReplicaProperties();
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        properties.setLagQuery("SELECT lag_ms FROM replica_lag");
+        properties.setLagCheckIntervalMs(60_000);
+        monitor = new ReplicaLagMonitor(replica, properties, metrics);
+        monitor.refresh();
+        DataSource routing = ReplicaRoutingDataSource.wrap(primary, monitor, new ReadYourWritesTracker(properties), metrics);
+        jdbcTemplate = new JdbcTemplate(routing);
+        transactionManager = new DataSourceTransactionManager(routing);
+    }
+
+    @AfterEach
+    void clearPrincipal() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyAndSupportsWorkGoesToReplicaWhileWritesStayOnPrimary() {
+        assertThat(readOnly()).isEqualTo("replica");
+        assertThat(supports()).isEqualTo("replica");
+        assertThat(inTransaction(new TransactionTemplate(transactionManager))).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT source FROM marker", String.class)).isEqualTo("primary");
+
+        assertThat(routed("replica", "read_only")).isEqualTo(2);
+        assertThat(routed("primary", "write")).isEqualTo(1);
+        assertThat(metrics.registry().get(FlexleaseMetrics.DATASOURCE_REPLICA_LAG).gauge().value()).isZero();
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET lag_ms = 30000");
+        monitor.refresh();
+
+        assertThat(monitor.replicaUsable()).isFalse();
+        assertThat(readOnly()).isEqualTo("primary");
+        assertThat(routed("primary", "replica_unavailable")).isEqualTo(1);
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET lag_ms = 100");
+        monitor.refresh();
+        assertThat(readOnly()).isEqualTo("replica");
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimary() {
+        authenticate(UUID.randomUUID());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE marker SET source = source"));
+
+        assertThat(readOnly()).isEqualTo("primary");
+        assertThat(routed("primary", "read_your_writes")).isEqualTo(1);
+
+        authenticate(UUID.randomUUID());
+        assertThat(readOnly()).isEqualTo("replica");
+    }
+
+    private String readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return inTransaction(template);
+    }
+
+    private String supports() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_SUPPORTS);
+        return inTransaction(template);
+    }
+
+    private String inTransaction(TransactionTemplate template) {
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT source FROM marker", String.class));
+    }
+
+    private double routed(String pool, String reason) {
+        var counter = metrics.registry().find(FlexleaseMetrics.DATASOURCE_ROUTING).tag("pool", pool).tag("reason", reason).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void authenticate(UUID userId) {
+        FlexleasePrincipal principal = new FlexleasePrincipal(userId, null, "replica-user", Set.of("USER"));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static DataSource database(String source) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:replica-routing-" + source + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE marker (source VARCHAR(16))");
+        jdbc.update("INSERT INTO marker (source) VALUES (?)", source);
+        jdbc.execute("CREATE TABLE replica_lag (lag_ms BIGINT)");
+        jdbc.update("INSERT INTO replica_lag (lag_ms) VALUES (0)");
+        return dataSource;
+    }
+}
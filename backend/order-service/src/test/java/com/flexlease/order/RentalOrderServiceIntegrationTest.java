@@ -21,9 +21,11 @@ import com.flexlease.order.client.UserProfileClient;
 import com.flexlease.order.domain.DisputeResolutionOption;
 import com.flexlease.order.domain.OrderDispute;
 import com.flexlease.order.domain.OrderDisputeStatus;
+import com.flexlease.order.domain.OrderActorRole;
 import com.flexlease.order.domain.OrderEventType;
 import com.flexlease.order.domain.OrderProofType;
 import com.flexlease.order.domain.OrderStatus;
+import com.flexlease.order.domain.RentalOrder;
 import com.flexlease.order.dto.AddCartItemRequest;
 import com.flexlease.order.dto.CartItemResponse;
 import com.flexlease.order.dto.CreateOrderRequest;
@@ -39,7 +41,9 @@ import com.flexlease.order.dto.OrderBuyoutApplyRequest;
 import com.flexlease.order.dto.OrderExtensionApplyRequest;
 import com.flexlease.order.dto.OrderExtensionDecisionRequest;
 import com.flexlease.order.dto.OrderItemRequest;
+import com.flexlease.order.dto.OrderMessagePageResponse;
 import com.flexlease.order.dto.OrderMessageRequest;
+import com.flexlease.order.dto.OrderMessageResponse;
 import com.flexlease.order.dto.OrderPaymentRequest;
 import com.flexlease.order.dto.OrderPreviewRequest;
 import com.flexlease.order.dto.OrderPreviewResponse;
@@ -49,18 +53,29 @@ import com.flexlease.order.dto.OrderReturnDecisionRequest;
 import com.flexlease.order.dto.OrderShipmentRequest;
 import com.flexlease.order.dto.RentalOrderResponse;
 import com.flexlease.order.repository.OrderDisputeRepository;
+import com.flexlease.order.repository.RentalOrderRepository;
 import com.flexlease.order.service.CartService;
+import com.flexlease.order.service.CreditAssessmentService;
 import com.flexlease.order.service.OrderContractService;
+import com.flexlease.order.service.OrderConversationService;
 import com.flexlease.order.service.OrderDisputeService;
 import com.flexlease.order.service.OrderMaintenanceScheduler;
 import com.flexlease.order.service.OrderProofService;
+import com.flexlease.order.service.OrderTimelineService;
+import com.flexlease.order.service.OrderView;
 import com.flexlease.order.service.RentalOrderService;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -71,12 +86,15 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 
 @SpringBootTest
 @TestPropertySource(properties = {
         "flexlease.order.maintenance.pending-payment-expire-minutes=0",
-        "flexlease.proof-storage.root=target/test-order-proofs"
+        "flexlease.proof-storage.root=target/test-order-proofs",
+        "flexlease.timer.enabled=false"
 })
 class RentalOrderServiceIntegrationTest {
 
@@ -93,6 +111,12 @@ class RentalOrderServiceIntegrationTest {
     @Autowired
     private OrderDisputeService orderDisputeService;
 
+    @Autowired
+    private OrderConversationService orderConversationService;
+
+    @Autowired
+    private CreditAssessmentService creditAssessmentService;
+
         @Autowired
         private OrderDisputeRepository orderDisputeRepository;
 
@@ -117,6 +141,15 @@ class RentalOrderServiceIntegrationTest {
     @Autowired
     private CartService cartService;
 
+    @Autowired
+    private RentalOrderRepository rentalOrderRepository;
+
+    @Autowired
+    private OrderTimelineService orderTimelineService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private OrderMaintenanceScheduler orderMaintenanceScheduler;
 
@@ -183,11 +216,24 @@ class RentalOrderServiceIntegrationTest {
         assertThat(created.status()).isEqualTo(OrderStatus.PENDING_PAYMENT);
 
         try (SecurityContextHandle ignored = withPrincipal(userId, "customer", "USER")) {
-            RentalOrderResponse withMessage = rentalOrderService.postConversationMessage(created.id(),
-                    new OrderMessageRequest(userId, "请尽快安排发货"));
+            orderConversationService.postMessage(created.id(), new OrderMessageRequest(userId, "请尽快安排发货"));
+            orderConversationService.postMessage(created.id(), new OrderMessageRequest(userId, "收货地址已确认"));
+            RentalOrderResponse withMessage = rentalOrderService.getOrder(created.id());
             assertThat(withMessage.events())
-                    .anyMatch(event -> event.eventType() == OrderEventType.COMMUNICATION_NOTE
-                            && "请尽快安排发货".equals(event.description()));
+                    .filteredOn(event -> event.eventType() == OrderEventType.COMMUNICATION_NOTE)
+                    .hasSize(1);
+        }
+        try (SecurityContextHandle ignored = withPrincipal(vendorAccountId, vendorId, "vendor", "VENDOR")) {
+            OrderMessagePageResponse latest = orderConversationService.listMessages(created.id(), null, 1);
+            assertThat(latest.unreadCount()).isEqualTo(2);
+            assertThat(latest.hasMore()).isTrue();
+            assertThat(latest.content()).extracting(OrderMessageResponse::content).containsExactly("收货地址已确认");
+            OrderMessagePageResponse older = orderConversationService.listMessages(created.id(), latest.nextCursor(), 1);
+            assertThat(older.hasMore()).isFalse();
+            assertThat(older.content()).extracting(OrderMessageResponse::content).containsExactly("请尽快安排发货");
+
+            orderConversationService.markRead(created.id());
+            assertThat(orderConversationService.unread(created.id()).unreadCount()).isZero();
         }
 
         UUID transactionId = UUID.randomUUID();
@@ -535,9 +581,23 @@ class RentalOrderServiceIntegrationTest {
                     new byte[]{9, 9, 9}
             );
             orderProofService.upload(created.id(), userId, OrderProofType.INSPECTION, "巡检照片", photo);
+            MockMultipartFile secondPhoto = new MockMultipartFile(
+                    "file",
+                    "inspection-2.jpg",
+                    "image/jpeg",
+                    new byte[]{8, 8, 8}
+            );
+            orderProofService.upload(created.id(), userId, OrderProofType.INSPECTION, "巡检补充照片", secondPhoto);
         }
 
         Mockito.verify(userProfileClient).recordCreditEvent(Mockito.eq(userId), Mockito.eq("INSPECTION_COOPERATED"), Mockito.any());
+        RentalOrderResponse inspected;
+        try (SecurityContextHandle ignored = withPrincipal(userId, "inspect-user", "USER")) {
+            inspected = rentalOrderService.getOrder(created.id());
+        }
+        assertThat(inspected.events())
+                .filteredOn(event -> event.eventType() == OrderEventType.INSPECTION_REWARDED)
+                .hasSize(1);
     }
 
     @Test
@@ -832,6 +892,32 @@ class RentalOrderServiceIntegrationTest {
                 .hasMessageContaining("信用");
     }
 
+    @Test
+    void shouldValidatePreviewItemsBeforeCreditLookup() {
+        UUID userId = UUID.randomUUID();
+        UUID vendorId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+        UUID skuId = UUID.randomUUID();
+        stubProductCatalog(productId, vendorId, UUID.randomUUID(), skuId);
+        OrderItemRequest itemRequest = new OrderItemRequest(
+                productId, skuId, UUID.randomUUID(), "方案失效商品", "PLAN-01", null, 1,
+                new BigDecimal("120.00"), new BigDecimal("200.00"), null);
+
+        assertThatThrownBy(() -> rentalOrderService.previewOrder(new OrderPreviewRequest(
+                userId, vendorId, "STANDARD", null, null, List.of(itemRequest))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("租赁方案不存在");
+        Mockito.verify(userProfileClient, Mockito.never()).loadCredit(userId);
+
+        // 纯计算入口缺少商品视图时直接失败，不回退到商品服务
+        Mockito.clearInvocations(productCatalogClient);
+        assertThatThrownBy(() -> rentalOrderService.pricePreview(UUID.randomUUID(), List.of(itemRequest), Map.of(),
+                creditAssessmentService.decide(60, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("商品不存在");
+        Mockito.verifyNoInteractions(productCatalogClient);
+    }
+
     @Test
     void shouldIgnoreClientManipulatedPricing() {
         UUID userId = UUID.randomUUID();
@@ -1060,6 +1146,156 @@ class RentalOrderServiceIntegrationTest {
         }
     }
 
+    @Test
+    void shouldKeepConcurrentMessagesWhileCreatingReadState() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID vendorId = UUID.randomUUID();
+        UUID vendorAccountId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+        UUID skuId = UUID.randomUUID();
+        UUID planId = UUID.randomUUID();
+        stubProductCatalog(productId, vendorId, planId, skuId);
+
+        RentalOrderResponse created = rentalOrderService.createOrder(new CreateOrderRequest(
+                userId,
+                vendorId,
+                "STANDARD",
+                null,
+                null,
+                List.of(new OrderItemRequest(productId, skuId, planId, "共享投影仪", "PROJ-01", null, 1,
+                        new BigDecimal("59.00"), new BigDecimal("300.00"), null)),
+                List.of(),
+                null
+        ));
+
+        try (SecurityContextHandle ignored = withPrincipal(vendorAccountId, vendorId, "vendor", "VENDOR")) {
+            orderConversationService.postMessage(created.id(), new OrderMessageRequest(vendorAccountId, "欢迎咨询"));
+        }
+
+        // 用户的两条留言并发写入，都需要按需创建厂商一侧的阅读状态
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<OrderMessageResponse>> posts = new ArrayList<>();
+            for (String content : List.of("请问何时发货", "需要开具发票")) {
+                posts.add(executor.submit(() -> {
+                    try (SecurityContextHandle ignored = withPrincipal(userId, "customer", "USER")) {
+                        barrier.await(5, TimeUnit.SECONDS);
+                        return orderConversationService.postMessage(created.id(), new OrderMessageRequest(userId, content));
+                    }
+                }));
+            }
+            for (Future<OrderMessageResponse> post : posts) {
+                assertThat(post.get(30, TimeUnit.SECONDS).id()).isNotNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (SecurityContextHandle ignored = withPrincipal(vendorAccountId, vendorId, "vendor", "VENDOR")) {
+            assertThat(orderConversationService.unread(created.id()).unreadCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldWriteSingleSummaryEventForConcurrentFirstMessages() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID vendorId = UUID.randomUUID();
+        UUID vendorAccountId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+        UUID skuId = UUID.randomUUID();
+        UUID planId = UUID.randomUUID();
+        stubProductCatalog(productId, vendorId, planId, skuId);
+
+        RentalOrderResponse created = rentalOrderService.createOrder(new CreateOrderRequest(
+                userId,
+                vendorId,
+                "STANDARD",
+                null,
+                null,
+                List.of(new OrderItemRequest(productId, skuId, planId, "共享投影仪", "PROJ-01", null, 1,
+                        new BigDecimal("59.00"), new BigDecimal("300.00"), null)),
+                List.of(),
+                null
+        ));
+
+        // 双方同时发出会话的第一条消息
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<OrderMessageResponse> fromUser = executor.submit(() -> {
+                try (SecurityContextHandle ignored = withPrincipal(userId, "customer", "USER")) {
+                    barrier.await(5, TimeUnit.SECONDS);
+                    return orderConversationService.postMessage(created.id(), new OrderMessageRequest(userId, "请问何时发货"));
+                }
+            });
+            Future<OrderMessageResponse> fromVendor = executor.submit(() -> {
+                try (SecurityContextHandle ignored = withPrincipal(vendorAccountId, vendorId, "vendor", "VENDOR")) {
+                    barrier.await(5, TimeUnit.SECONDS);
+                    return orderConversationService.postMessage(created.id(), new OrderMessageRequest(vendorAccountId, "欢迎咨询"));
+                }
+            });
+            assertThat(fromUser.get(30, TimeUnit.SECONDS).id()).isNotNull();
+            assertThat(fromVendor.get(30, TimeUnit.SECONDS).id()).isNotNull();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        RentalOrderResponse detail;
+        try (SecurityContextHandle ignored = withPrincipal(userId, "customer", "USER")) {
+            detail = rentalOrderService.getOrder(created.id(), OrderView.FULL);
+        }
+        assertThat(detail.events())
+                .filteredOn(event -> event.eventType() == OrderEventType.COMMUNICATION_NOTE)
+                .hasSize(1);
+    }
+
+    @Test
+    void shouldKeepConcurrentStatusChangeWhenAppendingEvent() {
+        UUID userId = UUID.randomUUID();
+        UUID vendorId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+        UUID skuId = UUID.randomUUID();
+        UUID planId = UUID.randomUUID();
+        stubProductCatalog(productId, vendorId, planId, skuId);
+
+        RentalOrderResponse created = rentalOrderService.createOrder(new CreateOrderRequest(
+                userId,
+                vendorId,
+                "STANDARD",
+                null,
+                null,
+                List.of(new OrderItemRequest(productId, skuId, planId, "共享投影仪", "PROJ-01", null, 1,
+                        new BigDecimal("59.00"), new BigDecimal("300.00"), null)),
+                List.of(),
+                null
+        ));
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 未加锁读到的订单在追加事件前被另一事务取消
+                RentalOrder stale = rentalOrderRepository.findById(created.id()).orElseThrow();
+                try {
+                    executor.submit(() -> transactionTemplate.executeWithoutResult(inner ->
+                            rentalOrderRepository.findById(created.id()).orElseThrow().cancel())).get(30, TimeUnit.SECONDS);
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+                orderTimelineService.append(stale, OrderEventType.COMMUNICATION_NOTE, "补充说明", userId, Map.of(),
+                        OrderActorRole.USER);
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+
+        RentalOrder reloaded = rentalOrderRepository.findById(created.id()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(reloaded.hasEvent(OrderEventType.COMMUNICATION_NOTE)).isTrue();
+        assertThat(reloaded.hasEvent(OrderEventType.ORDER_CREATED)).isTrue();
+    }
+
     @Test
     void shouldHandlePaymentSuccessNotificationsIdempotently() {
         UUID userId = UUID.randomUUID();
@@ -1203,6 +1439,13 @@ class RentalOrderServiceIntegrationTest {
         assertThat(afterSupplement.paymentTransactionId()).isEqualTo(initialTransactionId);
         assertThat(afterSupplement.events()).anyMatch(event ->
                 event.eventType() == OrderEventType.ADDITIONAL_PAYMENT_RECORDED && event.description().contains("买断款"));
+
+        // 支付事件重复投递：补款只入账一次，也不再回查流水
+        RentalOrderResponse afterRedelivery = rentalOrderService.handlePaymentSuccess(created.id(), supplementalTransactionId);
+        assertThat(afterRedelivery.events())
+                .filteredOn(event -> event.eventType() == OrderEventType.ADDITIONAL_PAYMENT_RECORDED)
+                .hasSize(1);
+        Mockito.verify(paymentClient, Mockito.times(1)).loadTransaction(supplementalTransactionId);
     }
 
     @Test
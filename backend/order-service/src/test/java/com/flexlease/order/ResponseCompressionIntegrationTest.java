@@ -0,0 +1,75 @@
+package com.flexlease.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.flexlease.common.security.JwtAuthProperties;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+// 测试默认关闭指标导出，这里打开以便用 /actuator/prometheus 作为大于压缩阈值的文本响应
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ResponseCompressionIntegrationTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtAuthProperties jwtAuthProperties;
+
+    @Test
+    void sharedObjectMapperRegistersBlackbird() {
+        assertThat(objectMapper.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+    }
+
+    @Test
+    void largeResponsesAreGzippedOnlyWhenAccepted() throws Exception {
+        HttpResponse<byte[]> gzipped = get("/actuator/prometheus", "gzip");
+        assertThat(gzipped.statusCode()).isEqualTo(200);
+        assertThat(gzipped.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzipped.body()))) {
+            String body = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(body).contains("flexlease_concurrency_limit");
+            assertThat(gzipped.body().length).isLessThan(body.length());
+        }
+
+        HttpResponse<byte[]> identity = get("/actuator/prometheus", "identity");
+        assertThat(identity.headers().firstValue("Content-Encoding")).isEmpty();
+
+        // 指标端点需要鉴权，抓取方携带内部令牌
+        HttpResponse<Void> anonymous = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/prometheus")).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(anonymous.statusCode()).isEqualTo(401);
+
+        // 小于 min-response-size 的响应不压缩
+        HttpResponse<byte[]> small = get("/actuator/health", "gzip");
+        assertThat(small.headers().firstValue("Content-Encoding")).isEmpty();
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept-Encoding", acceptEncoding)
+                .header("X-Internal-Token", jwtAuthProperties.getInternalAccessToken())
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
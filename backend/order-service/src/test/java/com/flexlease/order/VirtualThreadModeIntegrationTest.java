@@ -0,0 +1,71 @@
+package com.flexlease.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.scheduling.TaskScheduler;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true",
+                "flexlease.virtual-threads.pinning.threshold-ms=10"
+        })
+class VirtualThreadModeIntegrationTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private FlexleaseMetrics metrics;
+
+    @Test
+    void requestsAndScheduledJobsRunOnVirtualThreads() throws Exception {
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+        assertThat(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor())
+                .isInstanceOf(VirtualThreadExecutor.class);
+
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+        taskScheduler.schedule(() -> virtual.complete(Thread.currentThread().isVirtual()), Instant.now());
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void pinnedVirtualThreadIsReportedWithCallSite() throws Exception {
+        Object lock = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+
+        // JFR 事件流约每秒刷新一次
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        long pinned = 0;
+        while (pinned == 0 && System.nanoTime() < deadline) {
+            pinned = metrics.registry().find(FlexleaseMetrics.VIRTUAL_THREAD_PINNED).timers().stream()
+                    .filter(timer -> timer.getId().getTag("site").startsWith(VirtualThreadModeIntegrationTest.class.getName()))
+                    .mapToLong(Timer::count)
+                    .sum();
+            Thread.sleep(200);
+        }
+        assertThat(pinned).isGreaterThanOrEqualTo(1);
+    }
+}
@@ -0,0 +1,108 @@
+package com.flexlease.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flexlease.common.audit.BusinessReplayLogWriter;
+import com.flexlease.common.exception.BusinessException;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.common.messaging.MessagingConstants;
+import com.flexlease.common.messaging.PaymentSucceededMessage;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.tracing.TraceContextSupport;
+import com.flexlease.order.config.PaymentEventRetryPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+class PaymentEventListenerTest {
+
+    private final RentalOrderService rentalOrderService = mock(RentalOrderService.class);
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final FlexleaseMetrics metrics = new FlexleaseMetrics(new SimpleMeterRegistry());
+    private final PaymentEventListener listener = new PaymentEventListener(
+            rentalOrderService,
+            mock(BusinessReplayLogWriter.class),
+            new TraceContextSupport(mock(ObjectProvider.class), mock(ObjectProvider.class)),
+            rabbitTemplate,
+            new PaymentEventRetryPolicy(3, 1000, 60000),
+            metrics);
+
+    @Test
+    void delaysOnlyTheFailedEventWithAttemptCount() {
+        PaymentSucceededMessage succeeded = event();
+        PaymentSucceededMessage failed = event();
+        when(rentalOrderService.handlePaymentSuccess(eq(failed.orderId()), eq(failed.transactionId()), any()))
+                .thenThrow(new BusinessException(ErrorCode.INTERNAL_ERROR, "支付服务暂不可用"));
+
+        listener.onPaymentEvents(List.of(message(succeeded, Map.of()), message(failed, Map.of())));
+
+        verify(rentalOrderService).handlePaymentSuccess(succeeded.orderId(), succeeded.transactionId(), OrderView.STATUS);
+        ArgumentCaptor<MessagePostProcessor> headers = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        verify(rabbitTemplate).convertAndSend(eq(""), eq(MessagingConstants.PAYMENT_EVENTS_ORDER_RETRY_QUEUE_PREFIX + 1000), eq(failed),
+                headers.capture());
+        verify(rabbitTemplate, never()).convertAndSend(eq(""), any(String.class), eq(succeeded), any(MessagePostProcessor.class));
+        assertThat(attemptsWritten(headers.getValue())).isEqualTo(1);
+    }
+
+    @Test
+    void backsOffExponentiallyBetweenAttempts() {
+        PaymentSucceededMessage failed = event();
+        when(rentalOrderService.handlePaymentSuccess(eq(failed.orderId()), eq(failed.transactionId()), any()))
+                .thenThrow(new BusinessException(ErrorCode.INTERNAL_ERROR, "支付服务暂不可用"));
+
+        listener.onPaymentEvents(List.of(message(failed, Map.of(PaymentEventListener.ATTEMPTS_HEADER, 1))));
+
+        verify(rabbitTemplate).convertAndSend(eq(""), eq(MessagingConstants.PAYMENT_EVENTS_ORDER_RETRY_QUEUE_PREFIX + 2000), eq(failed),
+                any(MessagePostProcessor.class));
+        assertThat(new PaymentEventRetryPolicy(8, 5000, 300000).delays())
+                .containsExactly(5000L, 10000L, 20000L, 40000L, 80000L, 160000L, 300000L);
+    }
+
+    @Test
+    void parksEventAfterMaxAttempts() {
+        PaymentSucceededMessage failed = event();
+        when(rentalOrderService.handlePaymentSuccess(eq(failed.orderId()), eq(failed.transactionId()), any()))
+                .thenThrow(new BusinessException(ErrorCode.INTERNAL_ERROR, "支付服务暂不可用"));
+
+        listener.onPaymentEvents(List.of(message(failed, Map.of(PaymentEventListener.ATTEMPTS_HEADER, 2))));
+
+        ArgumentCaptor<MessagePostProcessor> headers = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        verify(rabbitTemplate).convertAndSend(eq(""), eq(MessagingConstants.PAYMENT_EVENTS_ORDER_PARKING_QUEUE), eq(failed),
+                headers.capture());
+        assertThat(attemptsWritten(headers.getValue())).isEqualTo(3);
+        assertThat(metrics.registry().get(FlexleaseMetrics.PAYMENT_EVENT_RETRIES).tag("stage", "parked").counter().count())
+                .isEqualTo(1);
+    }
+
+    private Object attemptsWritten(MessagePostProcessor postProcessor) {
+        org.springframework.amqp.core.Message outgoing =
+                postProcessor.postProcessMessage(new org.springframework.amqp.core.Message(new byte[0], new MessageProperties()));
+        return outgoing.getMessageProperties().getHeader(PaymentEventListener.ATTEMPTS_HEADER);
+    }
+
+    private PaymentSucceededMessage event() {
+        return new PaymentSucceededMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                "DEPOSIT", new BigDecimal("100.00"), OffsetDateTime.now());
+    }
+
+    private Message<PaymentSucceededMessage> message(PaymentSucceededMessage payload, Map<String, Object> headers) {
+        return MessageBuilder.withPayload(payload).copyHeaders(headers).build();
+    }
+}
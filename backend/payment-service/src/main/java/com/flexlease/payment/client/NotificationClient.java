@@ -11,7 +11,6 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
@@ -48,7 +47,6 @@ public class NotificationClient {
             if (internalToken != null && !internalToken.isBlank()) {
                 headers.set("X-Internal-Token", internalToken);
             }
-            headers.setContentType(MediaType.APPLICATION_JSON);
             ResponseEntity<ApiResponse<Map<String, Object>>> response = restTemplate.exchange(
                     baseUrl + "/notifications/send",
                     HttpMethod.POST,
@@ -14,7 +14,6 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
@@ -57,9 +56,8 @@ public class OrderServiceClient {
         Map<String, Object> payload = Map.of("transactionId", transactionId);
         try {
             HttpHeaders headers = buildHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
                 ResponseEntity<ApiResponse<Object>> response = restTemplate.exchange(
-                    baseUrl + "/internal/orders/{orderId}/payment-success",
+                    baseUrl + "/internal/orders/{orderId}/payment-success?view=status",
                     HttpMethod.POST,
                     new HttpEntity<>(payload, headers),
                     RESPONSE_TYPE,
@@ -73,7 +71,7 @@ public class OrderServiceClient {
                 throw new BusinessException(ErrorCode.INTERNAL_ERROR, "订单服务处理失败: " + body.message());
             }
         } catch (RestClientResponseException ex) {
-            LOG.warn("Order service rejected payment callback for order {}: {}", orderId, ex.getResponseBodyAsString());
+            LOG.warn("Order service rejected payment callback for order {}: {}", orderId, resolveErrorMessage(ex));
             throw new BusinessException(ErrorCode.INTERNAL_ERROR, "订单服务回调失败: " + ex.getStatusText());
         } catch (RestClientException ex) {
             LOG.warn("Failed to call order service for payment success, order {}: {}", orderId, ex.getMessage());
@@ -100,7 +98,7 @@ public class OrderServiceClient {
             }
             return body.data();
         } catch (RestClientResponseException ex) {
-            LOG.warn("Order service rejected credit snapshot request for order {}: {}", orderId, ex.getResponseBodyAsString());
+            LOG.warn("Order service rejected credit snapshot request for order {}: {}", orderId, resolveErrorMessage(ex));
             throw new BusinessException(ErrorCode.INTERNAL_ERROR, "订单服务查询失败: " + ex.getStatusText());
         } catch (RestClientException ex) {
             LOG.warn("Failed to call order service for credit snapshot, order {}: {}", orderId, ex.getMessage());
@@ -108,6 +106,23 @@ public class OrderServiceClient {
         }
     }
 
+    /**
+     * 错误响应体可能按协商结果以 Smile 编码，需经消息转换器解码后取 message；解码失败时退回 HTTP 状态描述。
+     */
+    private String resolveErrorMessage(RestClientResponseException ex) {
+        if (ex.getResponseBodyAsByteArray().length > 0) {
+            try {
+                ApiResponse<Object> body = ex.getResponseBodyAs(RESPONSE_TYPE);
+                if (body != null && body.message() != null && !body.message().isBlank()) {
+                    return body.message();
+                }
+            } catch (Exception ignored) {
+                // 非 ApiResponse 结构的错误体直接忽略
+            }
+        }
+        return ex.getStatusText();
+    }
+
     private HttpHeaders buildHeaders() {
         HttpHeaders headers = new HttpHeaders();
         if (internalToken != null && !internalToken.isBlank()) {
@@ -13,7 +13,6 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -48,7 +47,6 @@ public class VendorServiceClient {
     public VendorCommissionProfile loadCommissionProfile(UUID vendorId) {
         try {
             HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
             if (internalToken != null && !internalToken.isBlank()) {
                 headers.set("X-Internal-Token", internalToken);
             }
@@ -1,23 +1,66 @@
 package com.flexlease.payment.config;
 
+import com.flexlease.common.codec.InternalCodec;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * HTTP 客户端配置。
  *
  * <p>payment-service 通过 {@link RestTemplate} 调用 order-service/user-service/notification-service。
- * {@link LoadBalanced} 使其支持服务名（如 {@code http://order-service}）解析。</p>
+ * {@link LoadBalanced} 使其支持服务名（如 {@code http://order-service}）解析，请求与响应优先使用 Smile 编码。
+ * {@code remoteLookupExecutor} 用于与本地校验并行发起的只读远程查询（如订单信用快照）；
+ * {@code outboxDispatchExecutor} 用于事务提交后立即投递支付事件。</p>
  */
 @Configuration
 public class HttpClientConfig {
 
     @Bean
     @LoadBalanced
-    RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    RestTemplate restTemplate(RestTemplateBuilder builder, InternalCodec codec) {
+        return codec.preferBinary(builder.build());
+    }
+
+    @Bean
+    Executor remoteLookupExecutor(@Value("${flexlease.payment.remote-lookup.pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 32);
+        executor.setThreadNamePrefix("payment-lookup-");
+        // 把提交线程的观测上下文带入工作线程，远程查询仍挂在原请求的 trace 下
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        // 线程池打满时退化为调用线程串行查询
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    Executor outboxDispatchExecutor(PaymentOutboxProperties properties) {
+        int threads = properties.getDispatchThreads();
+        if (threads == 0) {
+            return new SyncTaskExecutor();
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(properties.getBatchSize() * 10);
+        executor.setThreadNamePrefix("payment-outbox-");
+        // 投递在工作线程上发出，需接续提交线程的 trace，payment→order 的消息才不会另起一条链路
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        // 事件已落库，队列打满时直接交给定时中继补投，不能让提交线程继续占用连接等待下游
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
     }
 }
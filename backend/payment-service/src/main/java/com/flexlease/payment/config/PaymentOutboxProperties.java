@@ -0,0 +1,103 @@
+package com.flexlease.payment.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 支付事件 outbox 中继配置。
+ *
+ * <p>事务提交后会立即尝试投递一次；失败或实例宕机遗留的事件由定时中继按指数退避重试。</p>
+ */
+@Validated
+@ConfigurationProperties(prefix = "flexlease.payment.outbox")
+public class PaymentOutboxProperties {
+
+    /**
+     * 定时中继扫描间隔（毫秒）。
+     */
+    @Min(100)
+    private long relayIntervalMs = 5000;
+
+    /**
+     * 单次扫描最多投递的事件数。
+     */
+    @Min(1)
+    private int batchSize = 100;
+
+    /**
+     * 首次重试退避（毫秒），之后按 2 倍递增。
+     */
+    @Min(1)
+    private long retryBackoffMs = 5000;
+
+    /**
+     * 重试退避上限（毫秒）。
+     */
+    @Min(1)
+    private long maxBackoffMs = 300000;
+
+    /**
+     * 等待 RabbitMQ 发布确认的超时时间（毫秒）。
+     */
+    @Min(1)
+    private long confirmTimeoutMs = 5000;
+
+    /**
+     * 事务提交后立即投递所用的线程数；0 表示在提交线程上同步投递。
+     *
+     * <p>启用消息时投递要等待 broker 发布确认（最长 {@code confirm-timeout-ms}）；未启用消息时投递即同步调用订单服务，
+     * 而订单服务会回查支付流水。若在提交线程上投递，请求线程会带着数据库连接等待，确认延迟直接计入支付接口耗时，
+     * 并发高时连接池还会被占满而互相等待，因此默认交给独立线程。</p>
+     */
+    @Min(0)
+    private int dispatchThreads = 4;
+
+    public long getRelayIntervalMs() {
+        return relayIntervalMs;
+    }
+
+    public void setRelayIntervalMs(long relayIntervalMs) {
+        this.relayIntervalMs = relayIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getRetryBackoffMs() {
+        return retryBackoffMs;
+    }
+
+    public void setRetryBackoffMs(long retryBackoffMs) {
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    public long getMaxBackoffMs() {
+        return maxBackoffMs;
+    }
+
+    public void setMaxBackoffMs(long maxBackoffMs) {
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    public long getConfirmTimeoutMs() {
+        return confirmTimeoutMs;
+    }
+
+    public void setConfirmTimeoutMs(long confirmTimeoutMs) {
+        this.confirmTimeoutMs = confirmTimeoutMs;
+    }
+
+    public int getDispatchThreads() {
+        return dispatchThreads;
+    }
+
+    public void setDispatchThreads(int dispatchThreads) {
+        this.dispatchThreads = dispatchThreads;
+    }
+}
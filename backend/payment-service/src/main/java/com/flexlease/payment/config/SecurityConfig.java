@@ -15,7 +15,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 /**
  * 安全配置（JWT + INTERNAL Token）。
  *
- * <p>鉴权逻辑复用 platform-common：优先识别 {@code X-Internal-Token}，否则校验 Bearer JWT。</p>
+ * <p>鉴权逻辑复用 platform-common：优先识别 {@code X-Internal-Token}，其次信任网关签发的身份头，否则校验 Bearer JWT。</p>
  */
 @Configuration
 @EnableWebSecurity
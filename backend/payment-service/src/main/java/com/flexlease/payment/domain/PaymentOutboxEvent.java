@@ -0,0 +1,137 @@
+package com.flexlease.payment.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 支付领域事件 outbox 记录。
+ *
+ * <p>对应表 {@code payment.payment_outbox_event}。与支付流水状态变更在同一事务内写入，
+ * 投递成功后写入 {@code publishedAt}；投递失败时累加重试次数并推迟下次尝试时间。</p>
+ */
+@Entity
+@Table(name = "payment_outbox_event", schema = "payment")
+public class PaymentOutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "event_type", nullable = false, length = 60)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "published_at")
+    private OffsetDateTime publishedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    protected PaymentOutboxEvent() {
+        // JPA 需要无参构造
+    }
+
+    private PaymentOutboxEvent(UUID id, String eventType, UUID aggregateId, UUID orderId, String payload) {
+        this.id = id;
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.orderId = orderId;
+        this.payload = payload;
+    }
+
+    public static PaymentOutboxEvent create(UUID id, String eventType, UUID aggregateId, UUID orderId, String payload) {
+        return new PaymentOutboxEvent(id, eventType, aggregateId, orderId, payload);
+    }
+
+    @PrePersist
+    void onCreate() {
+        OffsetDateTime now = OffsetDateTime.now();
+        createdAt = now;
+        if (nextAttemptAt == null) {
+            nextAttemptAt = now;
+        }
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public OffsetDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public OffsetDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public boolean isPublished() {
+        return publishedAt != null;
+    }
+
+    public void markPublished() {
+        attempts++;
+        publishedAt = OffsetDateTime.now();
+        lastError = null;
+    }
+
+    public void markFailed(String error, OffsetDateTime retryAt) {
+        attempts++;
+        nextAttemptAt = retryAt;
+        if (error != null && error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        lastError = error;
+    }
+}
@@ -0,0 +1,34 @@
+package com.flexlease.payment.repository;
+
+import com.flexlease.payment.domain.PaymentOutboxEvent;
+import jakarta.persistence.LockModeType;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 支付事件 outbox 仓储。
+ *
+ * <p>中继按 {@code next_attempt_at} 顺序批量拉取待投递事件，逐条加行锁投递，避免多实例重复发送。</p>
+ */
+public interface PaymentOutboxEventRepository extends JpaRepository<PaymentOutboxEvent, UUID> {
+
+    @Query("""
+            select e.id from PaymentOutboxEvent e
+            where e.publishedAt is null and e.nextAttemptAt <= :now
+            order by e.nextAttemptAt asc
+            """)
+    List<UUID> findDueIds(@Param("now") OffsetDateTime now, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from PaymentOutboxEvent e where e.id = :id")
+    Optional<PaymentOutboxEvent> findByIdForUpdate(@Param("id") UUID id);
+
+    Optional<PaymentOutboxEvent> findFirstByAggregateIdAndEventType(UUID aggregateId, String eventType);
+}
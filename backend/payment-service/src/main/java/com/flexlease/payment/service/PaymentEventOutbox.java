@@ -0,0 +1,201 @@
+package com.flexlease.payment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.audit.BusinessReplayLogWriter;
+import com.flexlease.common.messaging.MessagingConstants;
+import com.flexlease.common.messaging.PaymentSucceededMessage;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.payment.client.OrderServiceClient;
+import com.flexlease.payment.config.PaymentOutboxProperties;
+import com.flexlease.payment.domain.PaymentOutboxEvent;
+import com.flexlease.payment.domain.PaymentTransaction;
+import com.flexlease.payment.repository.PaymentOutboxEventRepository;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 支付事件 outbox：支付成功事件与流水状态同事务落库，再由中继投递给 order-service。
+ *
+ * <p>投递通道：
+ * <ul>
+ *   <li>启用消息（{@code flexlease.messaging.enabled=true}）时发布到 {@code payment.events} 交换机，并等待 broker 确认</li>
+ *   <li>未启用消息时回退为调用订单服务内部接口</li>
+ * </ul>
+ * 事务提交后立即在 {@code outboxDispatchExecutor} 上尝试投递一次，失败不影响支付确认结果；遗留事件由定时中继按指数退避重试（至少一次语义，
+ * 订单服务按支付流水幂等处理）。</p>
+ */
+@Component
+public class PaymentEventOutbox {
+
+    public static final String PAYMENT_SUCCEEDED = "PAYMENT_SUCCEEDED";
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentEventOutbox.class);
+
+    private final PaymentOutboxEventRepository outboxRepository;
+    private final OrderServiceClient orderServiceClient;
+    private final ObjectProvider<RabbitTemplate> rabbitTemplateProvider;
+    private final BusinessReplayLogWriter replayLogWriter;
+    private final ObjectMapper objectMapper;
+    private final PaymentOutboxProperties properties;
+    private final TransactionTemplate relayTransaction;
+    private final boolean messagingEnabled;
+    private final FlexleaseMetrics metrics;
+    private final Executor dispatchExecutor;
+
+    public PaymentEventOutbox(PaymentOutboxEventRepository outboxRepository,
+                              OrderServiceClient orderServiceClient,
+                              ObjectProvider<RabbitTemplate> rabbitTemplateProvider,
+                              BusinessReplayLogWriter replayLogWriter,
+                              ObjectMapper objectMapper,
+                              PaymentOutboxProperties properties,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${flexlease.messaging.enabled:true}") boolean messagingEnabled,
+                              FlexleaseMetrics metrics,
+                              @Qualifier("outboxDispatchExecutor") Executor dispatchExecutor) {
+        this.outboxRepository = outboxRepository;
+        this.orderServiceClient = orderServiceClient;
+        this.rabbitTemplateProvider = rabbitTemplateProvider;
+        this.replayLogWriter = replayLogWriter;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.relayTransaction = new TransactionTemplate(transactionManager);
+        // afterCommit 回调中原事务资源仍绑定在线程上，必须开启新事务
+        this.relayTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.messagingEnabled = messagingEnabled;
+        this.metrics = metrics;
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
+    /**
+     * 在当前事务内登记支付成功事件，提交后立即尝试投递。
+     */
+    public void enqueuePaymentSucceeded(PaymentTransaction transaction) {
+        PaymentSucceededMessage message = new PaymentSucceededMessage(
+                UUID.randomUUID(),
+                transaction.getId(),
+                transaction.getOrderId(),
+                transaction.getUserId(),
+                transaction.getScene().name(),
+                transaction.getAmount(),
+                OffsetDateTime.now()
+        );
+        outboxRepository.save(PaymentOutboxEvent.create(
+                message.eventId(),
+                PAYMENT_SUCCEEDED,
+                message.transactionId(),
+                message.orderId(),
+                serialize(message)
+        ));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatchExecutor.execute(() -> relay(message.eventId()));
+                }
+            });
+        } else {
+            dispatchExecutor.execute(() -> relay(message.eventId()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${flexlease.payment.outbox.relay-interval-ms:5000}",
+            initialDelayString = "${flexlease.payment.outbox.relay-interval-ms:5000}")
+    public void relayDue() {
+        List<UUID> due = outboxRepository.findDueIds(OffsetDateTime.now(), PageRequest.of(0, properties.getBatchSize()));
+        for (UUID eventId : due) {
+            relay(eventId);
+        }
+    }
+
+    /**
+     * 投递单条事件；返回是否已投递（含此前已被其他实例投递的情况）。
+     */
+    public boolean relay(UUID eventId) {
+        try {
+            return Boolean.TRUE.equals(relayTransaction.execute(status -> outboxRepository.findByIdForUpdate(eventId)
+                    .map(this::deliver)
+                    .orElse(false)));
+        } catch (RuntimeException ex) {
+            LOG.warn("Failed to relay payment outbox event {}: {}", eventId, ex.getMessage());
+            return false;
+        }
+    }
+
+    private boolean deliver(PaymentOutboxEvent event) {
+        if (event.isPublished()) {
+            return true;
+        }
+        try {
+            PaymentSucceededMessage message = objectMapper.readValue(event.getPayload(), PaymentSucceededMessage.class);
+            send(message);
+            event.markPublished();
+            return true;
+        } catch (JsonProcessingException | RuntimeException ex) {
+            OffsetDateTime retryAt = OffsetDateTime.now().plusNanos(backoffMs(event.getAttempts()) * 1_000_000L);
+            event.markFailed(ex.getMessage(), retryAt);
+            LOG.warn("Payment event {} for transaction {} not delivered (attempt {}), retry at {}: {}",
+                    event.getId(), event.getAggregateId(), event.getAttempts(), retryAt, ex.getMessage());
+            return false;
+        }
+    }
+
+    private void send(PaymentSucceededMessage message) {
+        RabbitTemplate rabbitTemplate = messagingEnabled ? rabbitTemplateProvider.getIfAvailable() : null;
+        if (rabbitTemplate == null) {
+            orderServiceClient.notifyPaymentSucceeded(message.orderId(), message.transactionId());
+            return;
+        }
+        try {
+            rabbitTemplate.invoke(operations -> {
+                operations.convertAndSend(MessagingConstants.PAYMENT_EVENTS_EXCHANGE,
+                        MessagingConstants.PAYMENT_SUCCEEDED_ROUTING_KEY,
+                        message);
+                operations.waitForConfirmsOrDie(properties.getConfirmTimeoutMs());
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            metrics.messagePublished(MessagingConstants.PAYMENT_EVENTS_EXCHANGE, false);
+            throw ex;
+        }
+        metrics.messagePublished(MessagingConstants.PAYMENT_EVENTS_EXCHANGE, true);
+        replayLogWriter.writeOutgoing(
+                MessagingConstants.PAYMENT_EVENTS_EXCHANGE,
+                MessagingConstants.PAYMENT_SUCCEEDED_ROUTING_KEY,
+                PAYMENT_SUCCEEDED,
+                "PaymentTransaction",
+                message.transactionId(),
+                message,
+                message.occurredAt()
+        );
+    }
+
+    private long backoffMs(int attempts) {
+        long backoff = properties.getRetryBackoffMs() << Math.min(attempts, 16);
+        return Math.min(backoff, properties.getMaxBackoffMs());
+    }
+
+    private String serialize(PaymentSucceededMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize payment event", ex);
+        }
+    }
+}
@@ -25,7 +25,6 @@ import com.flexlease.payment.dto.PaymentSplitRequest;
 import com.flexlease.payment.dto.PaymentTransactionResponse;
 import com.flexlease.payment.dto.RefundTransactionResponse;
 import com.flexlease.payment.repository.PaymentTransactionRepository;
-import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.OffsetDateTime;
@@ -35,12 +34,16 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
@@ -73,39 +76,39 @@ public class PaymentTransactionService {
     private final PaymentAssembler assembler;
     private final NotificationClient notificationClient;
     private final OrderServiceClient orderServiceClient;
-    private final VendorServiceClient vendorServiceClient;
+    private final VendorCommissionProfileCache commissionProfileCache;
+    private final PaymentEventOutbox paymentEventOutbox;
+    private final Executor remoteLookupExecutor;
     private final boolean autoConfirmPayments;
 
     public PaymentTransactionService(PaymentTransactionRepository paymentTransactionRepository,
                                      PaymentAssembler assembler,
                                      NotificationClient notificationClient,
                                      OrderServiceClient orderServiceClient,
-                                     VendorServiceClient vendorServiceClient,
+                                     VendorCommissionProfileCache commissionProfileCache,
+                                     PaymentEventOutbox paymentEventOutbox,
+                                     @Qualifier("remoteLookupExecutor") Executor remoteLookupExecutor,
                                      @Value("${flexlease.payment.auto-confirm:true}") boolean autoConfirmPayments) {
         this.paymentTransactionRepository = paymentTransactionRepository;
         this.assembler = assembler;
         this.notificationClient = notificationClient;
         this.orderServiceClient = orderServiceClient;
-        this.vendorServiceClient = vendorServiceClient;
+        this.commissionProfileCache = commissionProfileCache;
+        this.paymentEventOutbox = paymentEventOutbox;
+        this.remoteLookupExecutor = remoteLookupExecutor;
         this.autoConfirmPayments = autoConfirmPayments;
     }
 
     public PaymentTransactionResponse initPayment(UUID orderId, PaymentInitRequest request) {
         SecurityUtils.getCurrentPrincipal().ifPresent(principal -> validateInitPermission(principal, request));
+        // 可选：从订单服务读取“下单时信用快照”，用于对平台抽成做优惠展示（不影响支付金额本身）；与重复流水校验并行
+        CompletableFuture<OrderServiceClient.OrderCreditSnapshot> creditSnapshotFuture =
+                CompletableFuture.supplyAsync(() -> loadCreditSnapshot(orderId), remoteLookupExecutor);
         paymentTransactionRepository.findFirstByOrderIdAndSceneAndStatus(orderId, request.scene(), PaymentStatus.PENDING)
                 .ifPresent(existing -> {
                     throw new BusinessException(ErrorCode.VALIDATION_ERROR, "存在待支付的同类流水");
                 });
-
-        // 可选：从订单服务读取“下单时信用快照”，用于对平台抽成做优惠展示（不影响支付金额本身）。
-        OrderServiceClient.OrderCreditSnapshot creditSnapshot = null;
-        try {
-            creditSnapshot = orderServiceClient.loadOrderCreditSnapshot(orderId);
-        } catch (BusinessException ex) {
-            LOG.warn("加载订单 {} 信用快照失败，将跳过抽成优惠: {}", orderId, ex.getMessage());
-        } catch (RuntimeException ex) {
-            LOG.warn("加载订单 {} 信用快照异常，将跳过抽成优惠: {}", orderId, ex.getMessage());
-        }
+        OrderServiceClient.OrderCreditSnapshot creditSnapshot = creditSnapshotFuture.join();
 
         SplitBuildResult splitResult = buildSplits(request.vendorId(), request.splits(), creditSnapshot);
         if (splitResult.totalAmount().compareTo(request.amount()) > 0) {
@@ -253,6 +256,7 @@ public class PaymentTransactionService {
         }
     }
 
+    @Transactional(readOnly = true)
     public List<PaymentSettlementResponse> calculateSettlements(UUID vendorId,
                                                                  OffsetDateTime from,
                                                                  OffsetDateTime to,
@@ -379,12 +383,23 @@ public class PaymentTransactionService {
         return adjusted.setScale(4, RoundingMode.HALF_UP);
     }
 
+    private OrderServiceClient.OrderCreditSnapshot loadCreditSnapshot(UUID orderId) {
+        try {
+            return orderServiceClient.loadOrderCreditSnapshot(orderId);
+        } catch (BusinessException ex) {
+            LOG.warn("加载订单 {} 信用快照失败，将跳过抽成优惠: {}", orderId, ex.getMessage());
+        } catch (RuntimeException ex) {
+            LOG.warn("加载订单 {} 信用快照异常，将跳过抽成优惠: {}", orderId, ex.getMessage());
+        }
+        return null;
+    }
+
     private BigDecimal resolveCommissionRate(UUID vendorId) {
         if (vendorId == null) {
             return BigDecimal.ZERO;
         }
         try {
-            VendorServiceClient.VendorCommissionProfile profile = vendorServiceClient.loadCommissionProfile(vendorId);
+            VendorServiceClient.VendorCommissionProfile profile = commissionProfileCache.get(vendorId);
             if (profile != null && profile.commissionRate() != null) {
                 return profile.commissionRate();
             }
@@ -486,6 +501,8 @@ public class PaymentTransactionService {
     }
 
     private void publishPaymentSuccessEvent(PaymentTransaction transaction) {
+        // 订单侧推进经 outbox 异步投递，支付确认不再依赖订单服务的可用性
+        paymentEventOutbox.enqueuePaymentSucceeded(transaction);
         PaymentSuccessContext context = new PaymentSuccessContext(
                 transaction.getId(),
                 transaction.getOrderId(),
@@ -494,24 +511,17 @@ public class PaymentTransactionService {
                 transaction.getAmount()
         );
         if (TransactionSynchronizationManager.isSynchronizationActive()) {
-            // 避免“事务未提交就回调订单服务”导致订单读不到最新支付流水
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                 @Override
                 public void afterCommit() {
-                    dispatchPaymentSuccess(context);
+                    notifyPaymentSucceeded(context);
                 }
             });
         } else {
-            dispatchPaymentSuccess(context);
+            notifyPaymentSucceeded(context);
         }
     }
 
-    private void dispatchPaymentSuccess(PaymentSuccessContext context) {
-        LOG.debug("Payment {} succeeded, notifying order service", context.transactionId());
-        orderServiceClient.notifyPaymentSucceeded(context.orderId(), context.transactionId());
-        notifyPaymentSucceeded(context);
-    }
-
     private record PaymentSuccessContext(UUID transactionId,
                                          UUID orderId,
                                          UUID userId,
@@ -519,7 +529,10 @@ public class PaymentTransactionService {
                                          BigDecimal amount) {
     }
 
-    private static class SettlementAccumulator {
+    /**
+     * 按厂商累加结算口径；包内可见，供基准测试直接驱动。
+     */
+    static class SettlementAccumulator {
         private BigDecimal total = BigDecimal.ZERO;
         private BigDecimal deposit = BigDecimal.ZERO;
         private BigDecimal rent = BigDecimal.ZERO;
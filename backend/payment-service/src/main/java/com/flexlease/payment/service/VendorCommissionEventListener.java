@@ -0,0 +1,44 @@
+package com.flexlease.payment.service;
+
+import com.flexlease.common.messaging.MessagingConstants;
+import com.flexlease.common.messaging.VendorCommissionChangedMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 厂商抽成变更监听器：失效本地抽成缓存。
+ * <p>
+ * 每个实例使用独占的匿名队列绑定 {@code vendor.events}，保证所有实例都能收到变更广播。
+ */
+@Component
+@ConditionalOnProperty(prefix = "flexlease.messaging", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class VendorCommissionEventListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VendorCommissionEventListener.class);
+
+    private final VendorCommissionProfileCache profileCache;
+
+    public VendorCommissionEventListener(VendorCommissionProfileCache profileCache) {
+        this.profileCache = profileCache;
+    }
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(exclusive = "true", autoDelete = "true"),
+            exchange = @Exchange(value = MessagingConstants.VENDOR_EVENTS_EXCHANGE, type = ExchangeTypes.TOPIC),
+            key = MessagingConstants.VENDOR_COMMISSION_CHANGED_ROUTING_KEY
+    ))
+    public void onCommissionChanged(VendorCommissionChangedMessage message) {
+        if (message.vendorId() == null) {
+            return;
+        }
+        LOG.debug("Commission profile of vendor {} changed, evicting cache", message.vendorId());
+        profileCache.evict(message.vendorId());
+    }
+}
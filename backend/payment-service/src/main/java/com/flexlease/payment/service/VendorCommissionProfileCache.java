@@ -0,0 +1,53 @@
+package com.flexlease.payment.service;
+
+import com.flexlease.payment.client.VendorServiceClient;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 厂商抽成档案本地缓存。
+ *
+ * <p>抽成档案仅在管理员调整或季度评估时变化，user-service 变更后发布 {@code vendor.events}，
+ * 由 {@link VendorCommissionEventListener} 失效对应条目；TTL 作为漏收事件时的兜底。
+ * 加载失败不缓存，下次支付重新拉取。</p>
+ */
+@Component
+public class VendorCommissionProfileCache {
+
+    private final VendorServiceClient vendorServiceClient;
+    private final long ttlMs;
+    private final Map<UUID, CachedProfile> profiles = new ConcurrentHashMap<>();
+
+    public VendorCommissionProfileCache(VendorServiceClient vendorServiceClient,
+                                        @Value("${flexlease.payment.commission-cache.ttl-ms:3600000}") long ttlMs) {
+        this.vendorServiceClient = vendorServiceClient;
+        this.ttlMs = ttlMs;
+    }
+
+    public VendorServiceClient.VendorCommissionProfile get(UUID vendorId) {
+        long now = System.currentTimeMillis();
+        CachedProfile cached = profiles.get(vendorId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.profile();
+        }
+        VendorServiceClient.VendorCommissionProfile profile = vendorServiceClient.loadCommissionProfile(vendorId);
+        if (profile != null) {
+            profiles.put(vendorId, new CachedProfile(profile, now + ttlMs));
+        }
+        return profile;
+    }
+
+    public void evict(UUID vendorId) {
+        profiles.remove(vendorId);
+    }
+
+    public void clear() {
+        profiles.clear();
+    }
+
+    private record CachedProfile(VendorServiceClient.VendorCommissionProfile profile, long expiresAt) {
+    }
+}
@@ -0,0 +1,16 @@
+-- 支付领域事件 outbox：与支付状态变更同事务写入，由中继异步投递到 payment.events 交换机
+CREATE TABLE IF NOT EXISTS "payment".payment_outbox_event (
+    id UUID PRIMARY KEY,
+    event_type VARCHAR(60) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    order_id UUID NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_error VARCHAR(500),
+    published_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_payment_outbox_pending
+    ON "payment".payment_outbox_event (published_at, next_attempt_at);
@@ -9,11 +9,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.flexlease.common.exception.BusinessException;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.common.messaging.VendorCommissionChangedMessage;
 import com.flexlease.common.user.CreditTier;
 import com.flexlease.payment.client.NotificationClient;
 import com.flexlease.payment.client.OrderServiceClient;
 import com.flexlease.payment.client.VendorServiceClient;
 import com.flexlease.payment.domain.PaymentChannel;
+import com.flexlease.payment.domain.PaymentOutboxEvent;
 import com.flexlease.payment.domain.PaymentScene;
 import com.flexlease.payment.domain.PaymentStatus;
 import com.flexlease.payment.domain.PaymentSplitType;
@@ -26,8 +29,12 @@ import com.flexlease.payment.dto.PaymentSettlementResponse;
 import com.flexlease.payment.dto.PaymentSplitRequest;
 import com.flexlease.payment.dto.PaymentTransactionResponse;
 import com.flexlease.payment.dto.RefundTransactionResponse;
+import com.flexlease.payment.repository.PaymentOutboxEventRepository;
 import com.flexlease.payment.repository.PaymentTransactionRepository;
+import com.flexlease.payment.service.PaymentEventOutbox;
 import com.flexlease.payment.service.PaymentTransactionService;
+import com.flexlease.payment.service.VendorCommissionEventListener;
+import com.flexlease.payment.service.VendorCommissionProfileCache;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -78,6 +85,15 @@ class PaymentTransactionServiceIntegrationTest {
     @Autowired
     private PlatformTransactionManager transactionManager;
 
+    @Autowired
+    private PaymentEventOutbox paymentEventOutbox;
+
+    @Autowired
+    private PaymentOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private VendorCommissionProfileCache commissionProfileCache;
+
     @Test
     void shouldNotifyOrderServiceAfterCommitSoTransactionsAreVisible() {
         TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
@@ -357,6 +373,75 @@ class PaymentTransactionServiceIntegrationTest {
         assertThat(filteredSettlement.netAmount()).isEqualByComparingTo("900.00");
     }
 
+    @Test
+    void shouldKeepPaymentSucceededWhenOrderServiceUnavailableAndRelayLater() {
+        Mockito.doThrow(new BusinessException(ErrorCode.INTERNAL_ERROR, "订单服务不可用，请稍后重试"))
+                .when(orderServiceClient).notifyPaymentSucceeded(any(), any());
+
+        PaymentTransactionResponse created = paymentTransactionService.initPayment(UUID.randomUUID(), new PaymentInitRequest(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                PaymentScene.RENT,
+                PaymentChannel.MOCK,
+                new BigDecimal("300.00"),
+                "订单服务故障期间支付",
+                null
+        ));
+
+        assertThat(created.status()).isEqualTo(PaymentStatus.SUCCEEDED);
+        PaymentOutboxEvent pending = outboxEventRepository
+                .findFirstByAggregateIdAndEventType(created.id(), PaymentEventOutbox.PAYMENT_SUCCEEDED)
+                .orElseThrow();
+        assertThat(pending.isPublished()).isFalse();
+        assertThat(pending.getAttempts()).isEqualTo(1);
+        assertThat(pending.getNextAttemptAt()).isAfter(OffsetDateTime.now());
+        assertThat(pending.getLastError()).contains("订单服务不可用");
+
+        Mockito.doNothing().when(orderServiceClient).notifyPaymentSucceeded(any(), any());
+        assertThat(paymentEventOutbox.relay(pending.getId())).isTrue();
+        assertThat(paymentEventOutbox.relay(pending.getId())).isTrue();
+
+        PaymentOutboxEvent published = outboxEventRepository.findById(pending.getId()).orElseThrow();
+        assertThat(published.isPublished()).isTrue();
+        assertThat(published.getAttempts()).isEqualTo(2);
+        verify(orderServiceClient, times(2)).notifyPaymentSucceeded(created.orderId(), created.id());
+    }
+
+    @Test
+    void shouldCacheCommissionProfileUntilChangeEvent() {
+        mockCommissionRate(new BigDecimal("0.10"));
+        UUID vendorId = UUID.randomUUID();
+
+        PaymentTransactionResponse first = paymentTransactionService.initPayment(UUID.randomUUID(),
+                vendorIncomePayment(vendorId, "首笔租金"));
+        PaymentTransactionResponse second = paymentTransactionService.initPayment(UUID.randomUUID(),
+                vendorIncomePayment(vendorId, "次笔租金"));
+        assertThat(first.commissionRate()).isEqualByComparingTo("0.10");
+        assertThat(second.commissionRate()).isEqualByComparingTo("0.10");
+        verify(vendorServiceClient, times(1)).loadCommissionProfile(vendorId);
+
+        mockCommissionRate(new BigDecimal("0.05"));
+        new VendorCommissionEventListener(commissionProfileCache).onCommissionChanged(new VendorCommissionChangedMessage(
+                vendorId, "GENERAL", "EXCELLENT", 95, new BigDecimal("0.05"), OffsetDateTime.now()));
+
+        PaymentTransactionResponse afterChange = paymentTransactionService.initPayment(UUID.randomUUID(),
+                vendorIncomePayment(vendorId, "调整后租金"));
+        assertThat(afterChange.commissionRate()).isEqualByComparingTo("0.05");
+        verify(vendorServiceClient, times(2)).loadCommissionProfile(vendorId);
+    }
+
+    private PaymentInitRequest vendorIncomePayment(UUID vendorId, String description) {
+        return new PaymentInitRequest(
+                UUID.randomUUID(),
+                vendorId,
+                PaymentScene.RENT,
+                PaymentChannel.MOCK,
+                new BigDecimal("100.00"),
+                description,
+                List.of(new PaymentSplitRequest(PaymentSplitType.VENDOR_INCOME, new BigDecimal("100.00"), "VENDOR_ACCOUNT"))
+        );
+    }
+
     private void mockCommissionRate(BigDecimal rate) {
         when(vendorServiceClient.loadCommissionProfile(any()))
                 .thenReturn(new VendorServiceClient.VendorCommissionProfile("GENERAL", rate, "STANDARD", 80, rate));
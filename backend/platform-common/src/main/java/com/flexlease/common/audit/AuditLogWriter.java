@@ -1,6 +1,8 @@
 package com.flexlease.common.audit;
 
+import com.flexlease.common.metrics.FlexleaseMetrics;
 import com.flexlease.common.security.FlexleasePrincipal;
+import com.flexlease.common.tracing.TraceContextSupport;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,8 +13,8 @@ import org.springframework.stereotype.Component;
 /**
  * 审计日志写入器（HTTP 请求级）。
  *
- * <p>该类负责把一次 HTTP 调用的关键信息落库到 {@code audit.api_audit_log}。为了不影响主流程，
- * 写入失败会被吞掉并仅输出 debug 日志。</p>
+ * <p>该类负责把一次 HTTP 调用的关键信息落库到 {@code audit.api_audit_log}，并记录当前链路的 trace id，
+ * 便于按 trace 串联网关与各服务的请求记录。为了不影响主流程，写入失败会被吞掉，仅输出 debug 日志并计入 {@code flexlease.audit.write.failures} 指标。</p>
  */
 @Component
 public class AuditLogWriter {
@@ -21,11 +23,17 @@ public class AuditLogWriter {
 
     private final JdbcTemplate jdbcTemplate;
     private final String serviceName;
+    private final FlexleaseMetrics metrics;
+    private final TraceContextSupport traceContext;
 
     public AuditLogWriter(JdbcTemplate jdbcTemplate,
-                          @Value("${spring.application.name:unknown}") String serviceName) {
+                          @Value("${spring.application.name:unknown}") String serviceName,
+                          FlexleaseMetrics metrics,
+                          TraceContextSupport traceContext) {
         this.jdbcTemplate = jdbcTemplate;
         this.serviceName = serviceName;
+        this.metrics = metrics;
+        this.traceContext = traceContext;
     }
 
     public void writeHttpAudit(String method,
@@ -57,8 +65,9 @@ public class AuditLogWriter {
                               principal_username,
                               roles,
                               ip,
-                              user_agent
-                            ) VALUES (?,?,?,?,?,?,?,?,?,?,?,?)
+                              user_agent,
+                              trace_id
+                            ) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?)
                             """,
                     serviceName,
                     truncate(method, 10),
@@ -71,9 +80,11 @@ public class AuditLogWriter {
                     truncate(username, 100),
                     truncate(roles, 500),
                     truncate(ip, 64),
-                    truncate(userAgent, 1000)
+                    truncate(userAgent, 1000),
+                    traceContext.currentTraceId()
             );
         } catch (Exception ex) {
+            metrics.auditWriteFailed("http");
             LOG.debug("Skip persisting audit log due to error: {}", ex.getMessage());
         }
     }
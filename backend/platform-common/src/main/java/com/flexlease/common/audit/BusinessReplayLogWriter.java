@@ -2,6 +2,8 @@ package com.flexlease.common.audit;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.tracing.TraceContextSupport;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -14,7 +16,7 @@ import org.springframework.stereotype.Component;
  * 业务回放日志写入器（消息/事件级）。
  *
  * <p>用于把关键业务事件的收发记录落库到 {@code audit.business_replay_log}，便于排查跨服务事件链路、
- * 以及基于同一聚合（如订单）做收发时间线回放。为保持主流程稳定，写入失败会被吞掉并仅输出 debug 日志。</p>
+ * 以及基于同一聚合（如订单）做收发时间线回放；每条记录带上当前链路的 trace id，可与 {@code audit.api_audit_log} 及链路追踪后端互相跳转。为保持主流程稳定，写入失败会被吞掉，仅输出 debug 日志并计入 {@code flexlease.audit.write.failures} 指标。</p>
  */
 @Component
 public class BusinessReplayLogWriter {
@@ -24,13 +26,19 @@ public class BusinessReplayLogWriter {
     private final JdbcTemplate jdbcTemplate;
     private final ObjectMapper objectMapper;
     private final String serviceName;
+    private final FlexleaseMetrics metrics;
+    private final TraceContextSupport traceContext;
 
     public BusinessReplayLogWriter(JdbcTemplate jdbcTemplate,
                                    ObjectMapper objectMapper,
-                                   @Value("${spring.application.name:unknown}") String serviceName) {
+                                   @Value("${spring.application.name:unknown}") String serviceName,
+                                   FlexleaseMetrics metrics,
+                                   TraceContextSupport traceContext) {
         this.jdbcTemplate = jdbcTemplate;
         this.objectMapper = objectMapper;
         this.serviceName = serviceName;
+        this.metrics = metrics;
+        this.traceContext = traceContext;
     }
 
     public void writeOutgoing(String topic,
@@ -78,8 +86,9 @@ public class BusinessReplayLogWriter {
                               aggregate_type,
                               aggregate_id,
                               payload,
-                              occurred_at
-                            ) VALUES (?,?,?,?,?,?,?,?,?)
+                              occurred_at,
+                              trace_id
+                            ) VALUES (?,?,?,?,?,?,?,?,?,?)
                             """,
                     truncate(direction, 10),
                     truncate(serviceName, 50),
@@ -89,9 +98,11 @@ public class BusinessReplayLogWriter {
                     truncate(aggregateType, 100),
                     aggregateId,
                     truncate(json, 20000),
-                    occurredAt
+                    occurredAt,
+                    traceContext.currentTraceId()
             );
         } catch (Exception ex) {
+            metrics.auditWriteFailed("replay");
             LOG.debug("Skip persisting business replay log due to error: {}", ex.getMessage());
         }
     }
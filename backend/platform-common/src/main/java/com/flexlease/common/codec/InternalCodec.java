@@ -0,0 +1,71 @@
+package com.flexlease.common.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 服务间调用使用的二进制编码（Jackson Smile）。
+ *
+ * <p>Smile 与 JSON 共用同一套注解、模块与 Spring Boot 的 Jackson 配置，DTO 无需改动；
+ * 省去了字段名与数字的文本化开销，且属性名在同一报文内只写一次。</p>
+ * <ul>
+ *   <li>服务端：各 Servlet 服务在 JSON 之后注册 Smile 转换器，只有请求体或 {@code Accept} 声明
+ *   {@code application/x-jackson-smile} 时才会用到，浏览器与网关仍走 JSON；</li>
+ *   <li>客户端：内部 {@link RestTemplate}/{@link RestClient} 经 {@code preferBinary} 把 Smile 排在首位，
+ *   请求体默认按 Smile 编码，{@code Accept} 也优先 Smile；</li>
+ *   <li>RabbitMQ：见 {@link InternalMessageConverter}。</li>
+ * </ul>
+ * <p>{@code flexlease.codec.binary.enabled=false} 只关闭出站的二进制编码，入站仍能解析 Smile，
+ * 因而可以逐个服务灰度切换。</p>
+ */
+public class InternalCodec {
+
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final ObjectMapper smileMapper;
+    private final boolean binaryOutbound;
+
+    public InternalCodec(ObjectMapper smileMapper, boolean binaryOutbound) {
+        this.smileMapper = smileMapper;
+        this.binaryOutbound = binaryOutbound;
+    }
+
+    public ObjectMapper smileMapper() {
+        return smileMapper;
+    }
+
+    public boolean binaryOutbound() {
+        return binaryOutbound;
+    }
+
+    public MappingJackson2SmileHttpMessageConverter httpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(smileMapper);
+    }
+
+    /**
+     * 把 Smile 转换器移到首位；外部调用（如 LLM）的客户端不要经过此方法。
+     */
+    public RestTemplate preferBinary(RestTemplate restTemplate) {
+        if (binaryOutbound) {
+            List<HttpMessageConverter<?>> converters = new ArrayList<>(restTemplate.getMessageConverters());
+            moveSmileFirst(converters);
+            restTemplate.setMessageConverters(converters);
+        }
+        return restTemplate;
+    }
+
+    public RestClient.Builder preferBinary(RestClient.Builder builder) {
+        return binaryOutbound ? builder.messageConverters(this::moveSmileFirst) : builder;
+    }
+
+    private void moveSmileFirst(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(MappingJackson2SmileHttpMessageConverter.class::isInstance);
+        converters.add(0, httpMessageConverter());
+    }
+}
@@ -0,0 +1,48 @@
+package com.flexlease.common.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 注册 {@link InternalCodec} 与 Servlet 服务的 Smile HTTP 转换器；网关同样加载，供其 RabbitMQ 消费端使用。
+ *
+ * <p>Smile 的 {@link ObjectMapper} 由 Spring Boot 的 {@link Jackson2ObjectMapperBuilder} 构建，
+ * 与 JSON 共享时间格式、Blackbird 等模块配置，但不作为 Bean 暴露，避免与共享的 JSON ObjectMapper 混淆。</p>
+ */
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@ConditionalOnClass({ObjectMapper.class, SmileFactory.class})
+public class InternalCodecAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public InternalCodec internalCodec(Jackson2ObjectMapperBuilder builder,
+                                       @Value("${flexlease.codec.binary.enabled:true}") boolean binaryOutbound) {
+        ObjectMapper smileMapper = builder.factory(new SmileFactory()).build();
+        return new InternalCodec(smileMapper, binaryOutbound);
+    }
+
+    /**
+     * Spring Boot 的 {@code HttpMessageConverters} 会以同类型 Bean 原位替换 Spring MVC 默认的 Smile 转换器，
+     * 仍排在 JSON 之后，浏览器请求不受影响。
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(InternalCodec codec) {
+            return codec.httpMessageConverter();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.flexlease.common.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJackson2MessageConverter;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+/**
+ * RabbitMQ 消息转换器：发送时按配置写 Smile 或 JSON，接收时按消息的 {@code content_type} 选择解码器，
+ * 因此新旧编码的生产者与消费者可以在同一队列上共存。两种编码都写入 {@code __TypeId__}，类型映射与原先一致。
+ */
+public class InternalMessageConverter extends ContentTypeDelegatingMessageConverter {
+
+    public InternalMessageConverter(ObjectMapper jsonMapper, InternalCodec codec) {
+        this(new Jackson2JsonMessageConverter(jsonMapper), new SmileMessageConverter(codec.smileMapper()), codec.binaryOutbound());
+    }
+
+    private InternalMessageConverter(Jackson2JsonMessageConverter json, SmileMessageConverter smile, boolean binaryOutbound) {
+        super(binaryOutbound ? smile : json);
+        addDelegate(MessageProperties.CONTENT_TYPE_JSON, json);
+        addDelegate(SmileMessageConverter.CONTENT_TYPE, smile);
+    }
+
+    static final class SmileMessageConverter extends AbstractJackson2MessageConverter {
+
+        static final String CONTENT_TYPE = "application/x-jackson-smile";
+
+        // 父类只有在声明了 charset 时才直接按字节解析，否则会先按字符串解码而破坏二进制内容
+        private static final MimeType SUPPORTED = new MimeType("application", "x-jackson-smile", StandardCharsets.UTF_8);
+
+        SmileMessageConverter(ObjectMapper smileMapper) {
+            super(smileMapper, SUPPORTED, "*");
+        }
+
+        @Override
+        protected Message createMessage(Object object, MessageProperties messageProperties, @Nullable Type genericType) {
+            byte[] bytes;
+            try {
+                bytes = objectMapper.writeValueAsBytes(object);
+            } catch (IOException ex) {
+                throw new MessageConversionException("Failed to convert Message content", ex);
+            }
+            messageProperties.setContentType(CONTENT_TYPE);
+            messageProperties.setContentLength(bytes.length);
+            getJavaTypeMapper().fromJavaType(
+                    objectMapper.constructType(genericType == null ? object.getClass() : genericType), messageProperties);
+            return new Message(bytes, messageProperties);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.flexlease.common.concurrent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.dto.ApiResponse;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.security.JwtAuthProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 自适应并发限制与过载丢弃。
+ *
+ * <p>并发上限由 {@link GradientConcurrencyLimit} 按观测到的请求耗时自动调整；超出各优先级可用份额（见 {@link RequestPriority}）
+ * 的请求不进入业务处理，直接返回 503 与 {@code Retry-After}，由调用方稍后重试。过滤器位于审计过滤器外层，
+ * 被丢弃的请求不会再写审计日志，避免过载时数据库压力进一步放大。</p>
+ *
+ * <p>只有 {@code X-Internal-Token} 与配置的内部令牌一致的请求才按内部调用获得关键优先级，伪造或过期的令牌按路径正常分级，
+ * 不能借此挤占关键份额。
+ * 异步请求（如长连接推送）在 {@code doFilter} 返回时即释放并发名额，不计入耗时样本。</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(prefix = "flexlease.concurrency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private final GradientConcurrencyLimit limit;
+    private final FlexleaseMetrics metrics;
+    private final ObjectMapper objectMapper;
+    private final JwtAuthProperties authProperties;
+    private final List<String> criticalPaths;
+    private final List<String> sheddablePaths;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public AdaptiveConcurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                          JwtAuthProperties authProperties,
+                                          FlexleaseMetrics metrics,
+                                          ObjectMapper objectMapper) {
+        this.limit = new GradientConcurrencyLimit(properties);
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+        this.authProperties = authProperties;
+        this.criticalPaths = List.copyOf(properties.getCriticalPaths());
+        this.sheddablePaths = List.copyOf(properties.getSheddablePaths());
+        metrics.concurrencyGauges(limit::limit, inflight::get);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestPriority priority = classify(request);
+        int current = inflight.incrementAndGet();
+        if (current > priority.admissionLimit(limit.limit())) {
+            inflight.decrementAndGet();
+            metrics.concurrencyRejected(priority.tag());
+            writeUnavailable(response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            inflight.decrementAndGet();
+            if (!request.isAsyncStarted()) {
+                long now = System.nanoTime();
+                limit.onSample(now, now - start, current);
+            }
+        }
+    }
+
+    RequestPriority classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (authProperties.isInternalAccessToken(request.getHeader(INTERNAL_TOKEN_HEADER))
+                || criticalPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path))) {
+            return RequestPriority.CRITICAL;
+        }
+        if (sheddablePaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path))) {
+            return RequestPriority.SHEDDABLE;
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    int limit() {
+        return limit.limit();
+    }
+
+    private void writeUnavailable(HttpServletResponse response) {
+        if (response.isCommitted()) {
+            return;
+        }
+        try {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            ApiResponse<Void> body = ApiResponse.failure(ErrorCode.SERVICE_UNAVAILABLE.code(),
+                    ErrorCode.SERVICE_UNAVAILABLE.defaultMessage());
+            response.getWriter().write(objectMapper.writeValueAsString(body));
+        } catch (IOException ignored) {
+            // 忽略写响应异常
+        }
+    }
+}
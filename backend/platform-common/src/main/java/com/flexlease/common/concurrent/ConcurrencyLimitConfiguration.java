@@ -0,0 +1,14 @@
+package com.flexlease.common.concurrent;
+
+import com.flexlease.common.security.JwtAuthProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 注册 {@link ConcurrencyLimitProperties}，以及判定内部调用所需的 {@link JwtAuthProperties}
+ * （auth-service 的安全配置不注册后者）。
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties({ConcurrencyLimitProperties.class, JwtAuthProperties.class})
+public class ConcurrencyLimitConfiguration {
+}
@@ -0,0 +1,126 @@
+package com.flexlease.common.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 自适应并发限制配置（各 Servlet 服务复用）。
+ *
+ * <p>约定配置前缀：{@code flexlease.concurrency.*}。并发上限在 {@link #minLimit} 与 {@link #maxLimit} 之间
+ * 随观测到的请求耗时自动调整，{@link #initialLimit} 只是启动时的起点。</p>
+ */
+@ConfigurationProperties(prefix = "flexlease.concurrency")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private int initialLimit = 50;
+    private int minLimit = 10;
+    private int maxLimit = 400;
+    /**
+     * 长期耗时基线允许被超出的倍数，短期耗时在 {@code 基线 × tolerance} 以内时上限不下降。
+     */
+    private double tolerance = 1.5;
+    /**
+     * 每个采样窗口对上限的调整权重，越小越平滑。
+     */
+    private double smoothing = 0.2;
+    /**
+     * 采样窗口长度（毫秒）；窗口内样本数不足 {@link #minWindowSamples} 时顺延。
+     */
+    private long windowMs = 1000;
+    private int minWindowSamples = 10;
+    /**
+     * 关键请求：网关与服务间的内部调用（携带 {@code X-Internal-Token}）之外，额外按路径认定的关键接口，如支付回调。
+     */
+    private List<String> criticalPaths = new ArrayList<>(List.of(
+            "/api/v1/internal/**",
+            "/api/v1/payments/*/callback",
+            "/api/v1/payments/*/confirm"));
+    /**
+     * 可优先丢弃的浏览类请求。
+     */
+    private List<String> sheddablePaths = new ArrayList<>(List.of(
+            "/api/v1/catalog/**",
+            "/api/v1/analytics/**"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public int getMinWindowSamples() {
+        return minWindowSamples;
+    }
+
+    public void setMinWindowSamples(int minWindowSamples) {
+        this.minWindowSamples = minWindowSamples;
+    }
+
+    public List<String> getCriticalPaths() {
+        return criticalPaths;
+    }
+
+    public void setCriticalPaths(List<String> criticalPaths) {
+        this.criticalPaths = criticalPaths;
+    }
+
+    public List<String> getSheddablePaths() {
+        return sheddablePaths;
+    }
+
+    public void setSheddablePaths(List<String> sheddablePaths) {
+        this.sheddablePaths = sheddablePaths;
+    }
+}
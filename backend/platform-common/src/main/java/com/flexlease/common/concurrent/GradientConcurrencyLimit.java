@@ -0,0 +1,95 @@
+package com.flexlease.common.concurrent;
+
+/**
+ * 基于耗时梯度的自适应并发上限（思路同 Netflix concurrency-limits 的 Gradient2）。
+ *
+ * <p>按窗口汇总请求耗时：窗口平均耗时为短期耗时，长期耗时为各窗口的指数滑动平均，视为无排队时的基线。
+ * 短期耗时超过 {@code 基线 × tolerance} 说明请求开始排队，上限按比例收缩；否则上限以 {@code √limit} 的步长试探增长。
+ * 窗口内最大并发不足上限一半时流量本身不足以说明问题，跳过调整，避免空闲时上限无限膨胀。</p>
+ *
+ * <p>线程安全：采样与调整在同一把锁内完成，{@link #limit()} 读取 volatile 字段不加锁。</p>
+ */
+public class GradientConcurrencyLimit {
+
+    /** 长期耗时滑动平均约覆盖的窗口数。 */
+    private static final int LONG_WINDOWS = 20;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final int minWindowSamples;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    private long windowStart = -1;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInflight;
+
+    public GradientConcurrencyLimit(ConcurrencyLimitProperties properties) {
+        this.minLimit = Math.max(1, properties.getMinLimit());
+        this.maxLimit = Math.max(minLimit, properties.getMaxLimit());
+        this.tolerance = Math.max(1.0, properties.getTolerance());
+        this.smoothing = Math.min(1.0, Math.max(0.01, properties.getSmoothing()));
+        this.windowNanos = Math.max(1, properties.getWindowMs()) * 1_000_000L;
+        this.minWindowSamples = Math.max(1, properties.getMinWindowSamples());
+        this.estimatedLimit = clamp(properties.getInitialLimit());
+        this.limit = (int) estimatedLimit;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * @param now      采样时刻（{@link System#nanoTime()}）
+     * @param rttNanos 请求耗时
+     * @param inflight 该请求被接纳时的并发数
+     */
+    public synchronized void onSample(long now, long rttNanos, int inflight) {
+        if (windowStart < 0) {
+            windowStart = now;
+        }
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflight);
+        if (now - windowStart < windowNanos || windowSamples < minWindowSamples) {
+            return;
+        }
+        double shortRtt = (double) windowRttSum / windowSamples;
+        boolean appLimited = windowMaxInflight < estimatedLimit / 2;
+        windowStart = now;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInflight = 0;
+        update(shortRtt, appLimited);
+    }
+
+    private void update(double shortRtt, boolean appLimited) {
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) / LONG_WINDOWS;
+        }
+        // 负载回落后基线被抬高时加快回收，避免长期按过时的高耗时放宽上限
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+        if (appLimited) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = clamp(estimatedLimit * (1 - smoothing) + target * smoothing);
+        limit = (int) estimatedLimit;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,31 @@
+package com.flexlease.common.concurrent;
+
+/**
+ * 请求优先级：每一级只能占用并发上限的一部分，过载时低优先级请求先被拒绝，为高优先级请求留出余量。
+ */
+public enum RequestPriority {
+
+    /** 服务间内部调用与支付回调，可用满全部并发上限。 */
+    CRITICAL(1.0),
+    /** 普通业务请求。 */
+    NORMAL(0.9),
+    /** 目录浏览、统计报表等可重试、可由缓存兜底的读请求。 */
+    SHEDDABLE(0.6);
+
+    private final double share;
+
+    RequestPriority(double share) {
+        this.share = share;
+    }
+
+    /**
+     * 当前上限下该优先级允许的最大并发数，至少为 1。
+     */
+    public int admissionLimit(int limit) {
+        return Math.max(1, (int) (limit * share));
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,127 @@
+package com.flexlease.common.concurrent;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 虚拟线程载体线程钉住（pinning）诊断。
+ *
+ * <p>虚拟线程在 {@code synchronized} 块或本地方法中阻塞时无法卸载，会占住载体线程；载体线程数约等于 CPU 核数，
+ * 钉住多了就退化成比平台线程池更小的并发上限。开启虚拟线程模式（{@code spring.threads.virtual.enabled=true}）后，
+ * 本组件通过 JFR 事件流订阅 {@code jdk.VirtualThreadPinned}，超过阈值的钉住按调用点计入
+ * {@code flexlease.virtual.thread.pinned{site}}，每个调用点首次出现时输出一次栈以便定位（JDBC 驱动、我们自己的同步块等）。</p>
+ *
+ * <p>配置：{@code flexlease.virtual-threads.pinning.enabled}（默认开启）、
+ * {@code flexlease.virtual-threads.pinning.threshold-ms}（默认 20，与 JDK 默认阈值一致）。</p>
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "flexlease.virtual-threads.pinning", name = "enabled", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final int LOGGED_FRAMES = 12;
+    private static final String APPLICATION_PACKAGE = "com.flexlease.";
+
+    private final FlexleaseMetrics metrics;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(FlexleaseMetrics metrics,
+                                       @Value("${flexlease.virtual-threads.pinning.threshold-ms:20}") long thresholdMs) {
+        this.metrics = metrics;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        LOG.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event);
+        String site = site(frames);
+        metrics.virtualThreadPinned(site, event.getDuration());
+        if (reportedSites.add(site)) {
+            String stack = frames.stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(frame -> "\tat " + describe(frame))
+                    .collect(Collectors.joining("\n"));
+            LOG.warn("Virtual thread pinned for {} ms at {} (further occurrences only counted in {}):\n{}",
+                    event.getDuration().toMillis(), site, FlexleaseMetrics.VIRTUAL_THREAD_PINNED, stack);
+        }
+    }
+
+    private static List<RecordedFrame> frames(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    /**
+     * 以最近的业务代码帧作为调用点；整条栈都在框架/驱动内时取第一个非 JDK 帧，控制标签基数。
+     */
+    static String site(List<RecordedFrame> frames) {
+        RecordedFrame fallback = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APPLICATION_PACKAGE)) {
+                return type + "." + frame.getMethod().getName();
+            }
+            if (fallback == null && !type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                fallback = frame;
+            }
+        }
+        if (fallback == null) {
+            return "unknown";
+        }
+        return fallback.getMethod().getType().getName() + "." + fallback.getMethod().getName();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        if (!frame.isJavaFrame()) {
+            return "<native>";
+        }
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,65 @@
+package com.flexlease.common.datasource;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 开启 {@code flexlease.datasource.replica.enabled} 后，把服务的数据源替换为 {@link ReplicaRoutingDataSource}。
+ *
+ * <p>副本连接池不注册为 {@link DataSource} Bean，以免影响 Spring Boot 对主数据源的自动配置；连接池指标以
+ * {@code pool=replica} 标签导出为 {@code hikaricp_*}。</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "flexlease.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    static final String REPLICA_POOL_NAME = "replica";
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(ReadReplicaProperties properties, FlexleaseMetrics metrics) {
+        if (properties.getUrl() == null || properties.getUrl().isBlank()) {
+            throw new IllegalStateException("flexlease.datasource.replica.url is required when read replica routing is enabled");
+        }
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(REPLICA_POOL_NAME);
+        pool.setJdbcUrl(properties.getUrl());
+        pool.setUsername(properties.getUsername());
+        pool.setPassword(properties.getPassword());
+        pool.setMaximumPoolSize(properties.getMaximumPoolSize());
+        pool.setReadOnly(true);
+        // 副本暂不可达时不阻塞启动，只读请求先回退主库
+        pool.setInitializationFailTimeout(-1);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(metrics.registry()));
+        return new ReplicaLagMonitor(pool, properties, metrics);
+    }
+
+    @Bean
+    ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties);
+    }
+
+    @Bean
+    static BeanPostProcessor replicaRoutingDataSourcePostProcessor(ObjectProvider<ReplicaLagMonitor> monitor,
+                                                                    ObjectProvider<ReadYourWritesTracker> tracker,
+                                                                    ObjectProvider<FlexleaseMetrics> metrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof LazyConnectionDataSourceProxy) {
+                    return bean;
+                }
+                return ReplicaRoutingDataSource.wrap(dataSource, monitor.getObject(), tracker.getObject(), metrics.getObject());
+            }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package com.flexlease.common.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 只读副本路由配置（各服务复用）。
+ *
+ * <p>约定配置前缀：{@code flexlease.datasource.replica.*}。默认关闭，此时各服务仍只使用 {@code spring.datasource}。
+ * {@link #readYourWritesMs} 应不小于 {@link #maxLagMs}，否则用户写入后的首次读取仍可能落到未追上的副本。</p>
+ */
+@ConfigurationProperties(prefix = "flexlease.datasource.replica")
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+    /**
+     * 副本延迟超过该值时只读请求回退主库。
+     */
+    private long maxLagMs = 2000;
+    private long lagCheckIntervalMs = 1000;
+    /**
+     * 在副本上执行、返回延迟毫秒数的查询。默认适用于 PostgreSQL 流复制：WAL 已全部回放时视为 0，
+     * 避免主库空闲时按最后回放事务时间误判延迟；在主库上执行同样返回 0。
+     */
+    private String lagQuery = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0)
+                   END""";
+    /**
+     * 用户提交写事务后，其只读请求固定走主库的时长。
+     */
+    private long readYourWritesMs = 5000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public long getMaxLagMs() {
+        return maxLagMs;
+    }
+
+    public void setMaxLagMs(long maxLagMs) {
+        this.maxLagMs = maxLagMs;
+    }
+
+    public long getLagCheckIntervalMs() {
+        return lagCheckIntervalMs;
+    }
+
+    public void setLagCheckIntervalMs(long lagCheckIntervalMs) {
+        this.lagCheckIntervalMs = lagCheckIntervalMs;
+    }
+
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    public long getReadYourWritesMs() {
+        return readYourWritesMs;
+    }
+
+    public void setReadYourWritesMs(long readYourWritesMs) {
+        this.readYourWritesMs = readYourWritesMs;
+    }
+}
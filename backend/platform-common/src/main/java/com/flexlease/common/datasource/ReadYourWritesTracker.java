@@ -0,0 +1,58 @@
+package com.flexlease.common.datasource;
+
+import com.flexlease.common.security.SecurityUtils;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 读己之写：记录最近发起写事务的用户，在 {@link ReadReplicaProperties#getReadYourWritesMs()} 内其只读请求改走主库；
+ * 同一 HTTP 请求内写过之后的只读事务同样走主库。
+ *
+ * <p>记录只保存在当前实例内存中。同一用户的后续请求若被负载均衡到其他实例，依赖 {@code max-lag-ms} 兜底。</p>
+ */
+public class ReadYourWritesTracker {
+
+    static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".WROTE";
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowMs;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<UUID, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(ReadReplicaProperties properties) {
+        this(properties.getReadYourWritesMs(), System::currentTimeMillis);
+    }
+
+    ReadYourWritesTracker(long windowMs, LongSupplier clock) {
+        this.windowMs = windowMs;
+        this.clock = clock;
+    }
+
+    public void markWrite() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        SecurityUtils.getCurrentUserId().ifPresent(userId -> {
+            long now = clock.getAsLong();
+            lastWriteAt.put(userId, now);
+            if (lastWriteAt.size() > CLEANUP_THRESHOLD) {
+                lastWriteAt.values().removeIf(writtenAt -> now - writtenAt > windowMs);
+            }
+        });
+    }
+
+    public boolean requiresPrimary() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null && request.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        return SecurityUtils.getCurrentUserId()
+                .map(lastWriteAt::get)
+                .map(writtenAt -> clock.getAsLong() - writtenAt <= windowMs)
+                .orElse(false);
+    }
+}
@@ -0,0 +1,119 @@
+package com.flexlease.common.datasource;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 定期在副本上执行 {@link ReadReplicaProperties#getLagQuery()} 探测复制延迟，并持有副本连接池。
+ *
+ * <p>延迟未知（尚未探测成功、探测失败或最近一次成功探测已过去三个周期）与延迟超过
+ * {@link ReadReplicaProperties#getMaxLagMs()} 同样视为副本不可用，只读请求回退主库。</p>
+ */
+public class ReplicaLagMonitor implements SmartLifecycle, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final ReadReplicaProperties properties;
+    private ScheduledExecutorService scheduler;
+    private volatile long lagMs = -1;
+    private volatile long checkedAt;
+    private volatile boolean running;
+    private boolean lastUsable;
+
+    public ReplicaLagMonitor(DataSource replica, ReadReplicaProperties properties, FlexleaseMetrics metrics) {
+        this.replica = replica;
+        this.properties = properties;
+        metrics.replicaLagGauge(() -> lagMs < 0 ? Double.NaN : lagMs);
+    }
+
+    public DataSource replica() {
+        return replica;
+    }
+
+    /**
+     * 最近一次探测到的延迟毫秒数，未知时为 {@code -1}。
+     */
+    public long lagMs() {
+        return lagMs;
+    }
+
+    public boolean replicaUsable() {
+        long staleAfter = Math.max(1, properties.getLagCheckIntervalMs()) * 3;
+        return lagMs >= 0
+                && lagMs <= properties.getMaxLagMs()
+                && System.currentTimeMillis() - checkedAt <= staleAfter;
+    }
+
+    /**
+     * 立即探测一次延迟；由后台线程按 {@link ReadReplicaProperties#getLagCheckIntervalMs()} 周期调用。
+     */
+    public void refresh() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+            lagMs = resultSet.next() ? Math.max(0, Math.round(resultSet.getDouble(1))) : -1;
+            checkedAt = System.currentTimeMillis();
+        } catch (SQLException | RuntimeException ex) {
+            lagMs = -1;
+            LOG.debug("Replica lag check failed: {}", ex.getMessage());
+        }
+        boolean usable = replicaUsable();
+        if (usable != lastUsable) {
+            lastUsable = usable;
+            if (usable) {
+                LOG.info("Read replica available (lag {}ms)", lagMs);
+            } else {
+                LOG.warn("Read replica unavailable (lag {}ms, max {}ms), routing reads to primary", lagMs, properties.getMaxLagMs());
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(100, properties.getLagCheckIntervalMs());
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, interval, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        stop();
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.flexlease.common.datasource;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 按事务属性在主库与只读副本之间选择连接。
+ *
+ * <p>走副本的只有两类：{@code @Transactional(readOnly = true)} 事务，以及外层没有事务的
+ * {@code @Transactional(TxType.SUPPORTS)} 读方法（本仓库以 SUPPORTS 标注纯读方法）。其余情况一律走主库：
+ * 写事务、无事务上下文的访问（Flyway、审计日志等），以及用户刚写过（{@link ReadYourWritesTracker}）或副本不可用
+ * （{@link ReplicaLagMonitor}）时的只读请求。</p>
+ *
+ * <p>事务开始时尚未设置只读标记，必须外包 {@link LazyConnectionDataSourceProxy}，把取连接推迟到第一条语句执行时。</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    static final String POOL_PRIMARY = "primary";
+    static final String POOL_REPLICA = "replica";
+    static final String REASON_WRITE = "write";
+    static final String REASON_NON_TRANSACTIONAL = "non_transactional";
+    static final String REASON_READ_ONLY = "read_only";
+    static final String REASON_READ_YOUR_WRITES = "read_your_writes";
+    static final String REASON_REPLICA_UNAVAILABLE = "replica_unavailable";
+
+    private final DataSource primary;
+    private final ReplicaLagMonitor monitor;
+    private final ReadYourWritesTracker tracker;
+    private final FlexleaseMetrics metrics;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    ReplicaLagMonitor monitor,
+                                    ReadYourWritesTracker tracker,
+                                    FlexleaseMetrics metrics) {
+        this.primary = primary;
+        this.monitor = monitor;
+        this.tracker = tracker;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 包装为应注册到容器中的数据源。
+     */
+    public static DataSource wrap(DataSource primary,
+                                  ReplicaLagMonitor monitor,
+                                  ReadYourWritesTracker tracker,
+                                  FlexleaseMetrics metrics) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, monitor, tracker, metrics));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route().getConnection(username, password);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    private DataSource route() {
+        boolean actualTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || (TransactionSynchronizationManager.isSynchronizationActive() && !actualTransaction);
+        if (!readOnly) {
+            if (actualTransaction) {
+                tracker.markWrite();
+            }
+            return primary(actualTransaction ? REASON_WRITE : REASON_NON_TRANSACTIONAL);
+        }
+        if (tracker.requiresPrimary()) {
+            return primary(REASON_READ_YOUR_WRITES);
+        }
+        if (!monitor.replicaUsable()) {
+            return primary(REASON_REPLICA_UNAVAILABLE);
+        }
+        metrics.dataSourceRouted(POOL_REPLICA, REASON_READ_ONLY);
+        return monitor.replica();
+    }
+
+    private DataSource primary(String reason) {
+        metrics.dataSourceRouted(POOL_PRIMARY, reason);
+        return primary;
+    }
+}
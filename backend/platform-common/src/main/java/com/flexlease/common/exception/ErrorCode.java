@@ -13,7 +13,9 @@ public enum ErrorCode {
     UNAUTHORIZED(2001, "未认证"),
     FORBIDDEN(2003, "无权访问"),
     INVALID_CREDENTIALS(2004, "用户名或密码错误"),
-    INTERNAL_ERROR(5000, "系统异常");
+    TOO_MANY_REQUESTS(4029, "请求过于频繁"),
+    INTERNAL_ERROR(5000, "系统异常"),
+    SERVICE_UNAVAILABLE(5030, "服务繁忙，请稍后重试");
 
     private final int code;
     private final String defaultMessage;
@@ -1,5 +1,6 @@
 package com.flexlease.common.idempotency;
 
+import com.flexlease.common.metrics.FlexleaseMetrics;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
@@ -17,6 +18,11 @@ import org.springframework.stereotype.Component;
 public class IdempotencyService {
 
     private final ConcurrentMap<String, CacheEntry> storage = new ConcurrentHashMap<>();
+    private final FlexleaseMetrics metrics;
+
+    public IdempotencyService(FlexleaseMetrics metrics) {
+        this.metrics = metrics;
+    }
 
     /**
      * 在给定 TTL 内，同一个 key 只执行一次 action；TTL 未过期前重复调用会直接返回缓存结果。
@@ -26,13 +32,16 @@ public class IdempotencyService {
         Objects.requireNonNull(ttl, "TTL must not be null");
         Objects.requireNonNull(action, "Action must not be null");
 
+        boolean[] executed = new boolean[1];
         CacheEntry entry = storage.compute(key, (k, existing) -> {
             if (existing != null && !existing.isExpired(ttl)) {
                 return existing;
             }
             T result = action.get();
+            executed[0] = true;
             return new CacheEntry(result, Instant.now());
         });
+        metrics.idempotencyRequest(key, !executed[0]);
         @SuppressWarnings("unchecked")
         T value = (T) entry.value();
         return value;
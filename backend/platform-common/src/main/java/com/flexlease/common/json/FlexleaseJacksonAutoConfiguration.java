@@ -0,0 +1,28 @@
+package com.flexlease.common.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 为 Spring Boot 共享的 {@link ObjectMapper} 注册 Jackson Blackbird 模块：以 {@code LambdaMetafactory}
+ * 生成的访问器替代反射调用 getter/setter/构造器，订单详情这类深层嵌套的大响应序列化更快。
+ *
+ * <p>以自动配置方式加载，网关同样生效。Spring Boot 会把容器中的 {@code Module} Bean 注册到自动配置的
+ * {@link ObjectMapper}；{@code flexlease.json.blackbird.enabled=false} 可关闭以便排查序列化差异。</p>
+ */
+@AutoConfiguration
+@ConditionalOnClass({ObjectMapper.class, BlackbirdModule.class})
+@ConditionalOnProperty(prefix = "flexlease.json.blackbird", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FlexleaseJacksonAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
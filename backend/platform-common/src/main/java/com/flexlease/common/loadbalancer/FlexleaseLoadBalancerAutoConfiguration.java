@@ -0,0 +1,28 @@
+package com.flexlease.common.loadbalancer;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.metrics.FlexleaseMetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 把所有下游服务的默认负载均衡策略替换为 {@link LatencyAwareLoadBalancer}，网关同样加载。
+ * {@code flexlease.loadbalancer.enabled=false} 时回到 Spring Cloud 默认的轮询。
+ */
+@AutoConfiguration(after = FlexleaseMetricsAutoConfiguration.class)
+@ConditionalOnClass(ReactorServiceInstanceLoadBalancer.class)
+@ConditionalOnProperty(prefix = "flexlease.loadbalancer", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(LoadBalancingProperties.class)
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+public class FlexleaseLoadBalancerAutoConfiguration {
+
+    @Bean
+    public InstanceLoadTracker instanceLoadTracker(LoadBalancingProperties properties, FlexleaseMetrics metrics) {
+        return new InstanceLoadTracker(properties, metrics);
+    }
+}
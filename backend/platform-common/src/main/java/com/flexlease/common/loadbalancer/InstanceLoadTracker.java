@@ -0,0 +1,131 @@
+package com.flexlease.common.loadbalancer;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+
+/**
+ * 按实例汇总服务间调用的负载，供 {@link LatencyAwareLoadBalancer} 选择实例。
+ *
+ * <p>作为 {@link LoadBalancerLifecycle} 注册在主容器中，{@code @LoadBalanced} 的 RestTemplate/RestClient 与网关的
+ * {@code lb://} 路由在发出请求前后都会回调：请求开始时未完成数加一，结束时减一并记录耗时与成败。
+ * 连接异常与 5xx 计为失败，连续失败达到阈值的实例暂时剔除（{@code flexlease.loadbalancer.ejections{service}}）。
+ * 统计按服务隔离，实例从注册中心消失后随即丢弃，重新注册时从预热开始。</p>
+ */
+public class InstanceLoadTracker implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private final LoadBalancingProperties properties;
+    private final FlexleaseMetrics metrics;
+    private final long decayNanos;
+    private final long slowStartNanos;
+    private final long baseEjectionNanos;
+    private final Map<String, Map<String, InstanceStats>> services = new ConcurrentHashMap<>();
+
+    public InstanceLoadTracker(LoadBalancingProperties properties, FlexleaseMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.decayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, properties.getDecayMs()));
+        this.slowStartNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, properties.getSlowStartMs()));
+        this.baseEjectionNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, properties.getBaseEjectionMs()));
+    }
+
+    public void requestStarted(ServiceInstance instance) {
+        stats(instance, System.nanoTime()).requestStarted();
+    }
+
+    public void requestCompleted(ServiceInstance instance, long now, long rttNanos, boolean success) {
+        InstanceStats stats = stats(instance, now);
+        stats.requestFinished();
+        if (rttNanos > 0) {
+            stats.recordLatency(now, rttNanos, decayNanos);
+        }
+        if (stats.recordOutcome(now, success, Math.max(1, properties.getConsecutiveFailures()), baseEjectionNanos)) {
+            metrics.loadBalancerEjected(instance.getServiceId());
+        }
+    }
+
+    /**
+     * 与注册中心返回的实例列表对齐：新实例开始预热，已下线实例的统计丢弃。返回值与入参顺序一致。
+     */
+    List<InstanceStats> observe(String serviceId, List<ServiceInstance> instances, long now) {
+        Map<String, InstanceStats> known = services.computeIfAbsent(serviceId, key -> new ConcurrentHashMap<>());
+        List<InstanceStats> result = new ArrayList<>(instances.size());
+        Set<String> present = new HashSet<>(instances.size() * 2);
+        for (ServiceInstance instance : instances) {
+            String address = address(instance);
+            present.add(address);
+            result.add(known.computeIfAbsent(address, key -> new InstanceStats(now)));
+        }
+        if (known.size() > present.size()) {
+            known.keySet().retainAll(present);
+        }
+        return result;
+    }
+
+    long decayNanos() {
+        return decayNanos;
+    }
+
+    long slowStartNanos() {
+        return slowStartNanos;
+    }
+
+    private InstanceStats stats(ServiceInstance instance, long now) {
+        return services.computeIfAbsent(instance.getServiceId(), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(address(instance), key -> new InstanceStats(now));
+    }
+
+    private static String address(ServiceInstance instance) {
+        return instance.getHost() + ':' + instance.getPort();
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (request.getContext() instanceof TimedRequestContext timed) {
+            timed.setRequestStartTime(System.nanoTime());
+        }
+        if (lbResponse.hasServer()) {
+            requestStarted(lbResponse.getServer());
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (completionContext.status() == CompletionContext.Status.DISCARD || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long rtt = 0;
+        Request<Object> request = completionContext.getLoadBalancerRequest();
+        if (request != null && request.getContext() instanceof TimedRequestContext timed && timed.getRequestStartTime() > 0) {
+            rtt = now - timed.getRequestStartTime();
+        }
+        boolean success = completionContext.status() == CompletionContext.Status.SUCCESS
+                && !(completionContext.getClientResponse() instanceof ResponseData response
+                && response.getHttpStatus() != null
+                && response.getHttpStatus().is5xxServerError());
+        requestCompleted(lbResponse.getServer(), now, rtt, success);
+    }
+}
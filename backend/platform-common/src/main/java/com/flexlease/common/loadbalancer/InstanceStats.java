@@ -0,0 +1,119 @@
+package com.flexlease.common.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 单个实例的负载统计：未完成请求数、峰值敏感的耗时滑动平均、预热起点与剔除状态。
+ *
+ * <p>所有时刻均为 {@link System#nanoTime()}。未完成请求数无锁更新，其余字段在实例锁内读写。</p>
+ */
+final class InstanceStats {
+
+    private static final double MIN_SLOW_START_WEIGHT = 0.1;
+    private static final int MAX_EJECTION_MULTIPLIER = 10;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private boolean sampled;
+    private double ewmaNanos;
+    private long lastSampleAt;
+    private long warmingSince;
+
+    private int consecutiveFailures;
+    private int ejections;
+    private boolean ejected;
+    private long ejectedUntil;
+
+    InstanceStats(long now) {
+        this.warmingSince = now;
+    }
+
+    int outstanding() {
+        return outstanding.get();
+    }
+
+    void requestStarted() {
+        outstanding.incrementAndGet();
+    }
+
+    void requestFinished() {
+        outstanding.updateAndGet(value -> Math.max(0, value - 1));
+    }
+
+    /**
+     * 记录一次耗时：高于当前均值时直接取新值（对 GC 停顿等尖峰立即生效），否则按距上次采样的时间指数衰减。
+     */
+    synchronized void recordLatency(long now, long rttNanos, long decayNanos) {
+        if (!sampled || rttNanos > ewmaNanos) {
+            ewmaNanos = rttNanos;
+            sampled = true;
+        } else {
+            double weight = Math.exp(-(double) Math.max(0, now - lastSampleAt) / decayNanos);
+            ewmaNanos = ewmaNanos * weight + rttNanos * (1 - weight);
+        }
+        lastSampleAt = now;
+    }
+
+    /**
+     * 当前耗时估计。长时间没有样本时向 {@code fallbackNanos}（同服务其他实例的均值）回归，
+     * 否则一次尖峰后不再分到流量的实例将永远无法恢复。
+     */
+    synchronized double latency(long now, double fallbackNanos, long decayNanos) {
+        if (!sampled) {
+            return fallbackNanos;
+        }
+        double weight = Math.exp(-(double) Math.max(0, now - lastSampleAt) / decayNanos);
+        return fallbackNanos + (ewmaNanos - fallbackNanos) * weight;
+    }
+
+    synchronized boolean sampled() {
+        return sampled;
+    }
+
+    synchronized double rawLatency() {
+        return ewmaNanos;
+    }
+
+    /**
+     * 预热权重：从 {@value #MIN_SLOW_START_WEIGHT} 线性增长到 1。
+     */
+    synchronized double weight(long now, long slowStartNanos) {
+        long age = now - warmingSince;
+        if (slowStartNanos <= 0 || age >= slowStartNanos) {
+            return 1.0;
+        }
+        return Math.max(MIN_SLOW_START_WEIGHT, (double) age / slowStartNanos);
+    }
+
+    /**
+     * 剔除期满后恢复，并重新开始预热。
+     */
+    synchronized boolean ejected(long now) {
+        if (ejected && now - ejectedUntil >= 0) {
+            ejected = false;
+            warmingSince = now;
+        }
+        return ejected;
+    }
+
+    /**
+     * @return 本次失败是否触发了剔除
+     */
+    synchronized boolean recordOutcome(long now, boolean success, int failureThreshold, long baseEjectionNanos) {
+        if (success) {
+            consecutiveFailures = 0;
+            if (!ejected) {
+                ejections = 0;
+            }
+            return false;
+        }
+        if (ejected || ++consecutiveFailures < failureThreshold) {
+            return false;
+        }
+        consecutiveFailures = 0;
+        ejections = Math.min(ejections + 1, MAX_EJECTION_MULTIPLIER);
+        ejected = true;
+        ejectedUntil = now + baseEjectionNanos * ejections;
+        return true;
+    }
+}
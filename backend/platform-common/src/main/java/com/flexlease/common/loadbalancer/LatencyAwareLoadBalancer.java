@@ -0,0 +1,133 @@
+package com.flexlease.common.loadbalancer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * 按负载选择实例，替代默认的轮询：一个 GC 停顿或刚启动的实例不再与健康实例平分请求。
+ *
+ * <p>采用"二选一"（power of two choices）：按预热权重随机抽取两个可用实例，选代价较低者。代价为
+ * {@code 耗时估计 × (未完成请求数 + 1)}（{@code policy=least-outstanding} 时只看未完成请求数）。预热中的实例
+ * 被抽中的概率随权重线性增长，流量因此逐步放开；相比总是选全局最优，随机二选一也不会让所有客户端同时涌向
+ * 同一个刚变快的实例。被剔除的实例不参与选择，剔除比例超过 {@code max-ejection-percent} 时视为整体故障，
+ * 全部实例重新参与。</p>
+ */
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    /** 尚无任何耗时样本时的默认耗时估计（1ms），只用于相对比较。 */
+    private static final double DEFAULT_LATENCY_NANOS = 1_000_000;
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final InstanceLoadTracker tracker;
+    private final LoadBalancingProperties properties;
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                    String serviceId,
+                                    InstanceLoadTracker tracker,
+                                    LoadBalancingProperties properties) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.tracker = tracker;
+        this.properties = properties;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(instances -> {
+            ServiceInstance chosen = choose(instances, System.nanoTime());
+            return chosen == null ? new EmptyResponse() : new DefaultResponse(chosen);
+        });
+    }
+
+    public ServiceInstance choose(List<ServiceInstance> instances, long now) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+        List<InstanceStats> stats = tracker.observe(serviceId, instances, now);
+        if (instances.size() == 1) {
+            return instances.get(0);
+        }
+        List<Integer> candidates = new ArrayList<>(instances.size());
+        for (int i = 0; i < stats.size(); i++) {
+            if (!stats.get(i).ejected(now)) {
+                candidates.add(i);
+            }
+        }
+        int ejected = instances.size() - candidates.size();
+        if (candidates.isEmpty() || ejected * 100 > instances.size() * properties.getMaxEjectionPercent()) {
+            candidates.clear();
+            for (int i = 0; i < instances.size(); i++) {
+                candidates.add(i);
+            }
+        }
+        if (candidates.size() == 1) {
+            return instances.get(candidates.get(0));
+        }
+        double[] weights = new double[candidates.size()];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = stats.get(candidates.get(i)).weight(now, tracker.slowStartNanos());
+            total += weights[i];
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = sample(weights, total, -1, random);
+        int second = sample(weights, total - weights[first], first, random);
+        double fallback = averageLatency(stats);
+        int a = candidates.get(first);
+        int b = candidates.get(second);
+        return cost(stats.get(a), now, fallback) <= cost(stats.get(b), now, fallback) ? instances.get(a) : instances.get(b);
+    }
+
+    /**
+     * 按权重抽取一个下标，跳过 {@code excluded}。
+     */
+    private static int sample(double[] weights, double total, int excluded, ThreadLocalRandom random) {
+        double remaining = random.nextDouble() * total;
+        int last = -1;
+        for (int i = 0; i < weights.length; i++) {
+            if (i == excluded) {
+                continue;
+            }
+            last = i;
+            remaining -= weights[i];
+            if (remaining < 0) {
+                return i;
+            }
+        }
+        return last;
+    }
+
+    private double cost(InstanceStats stats, long now, double fallbackLatency) {
+        double load = stats.outstanding() + 1;
+        if (properties.getPolicy() == LoadBalancingProperties.Policy.EWMA) {
+            load *= stats.latency(now, fallbackLatency, tracker.decayNanos());
+        }
+        return load;
+    }
+
+    private static double averageLatency(List<InstanceStats> stats) {
+        double sum = 0;
+        int count = 0;
+        for (InstanceStats instance : stats) {
+            if (instance.sampled()) {
+                sum += instance.rawLatency();
+                count++;
+            }
+        }
+        return count == 0 ? DEFAULT_LATENCY_NANOS : sum / count;
+    }
+}
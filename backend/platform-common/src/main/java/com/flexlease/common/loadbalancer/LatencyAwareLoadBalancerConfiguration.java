@@ -0,0 +1,28 @@
+package com.flexlease.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 每个下游服务的 LoadBalancer 子容器中注册 {@link LatencyAwareLoadBalancer}。
+ *
+ * <p>刻意不加 {@code @Configuration}：该类只应由 {@code @LoadBalancerClients} 加载到子容器，
+ * 不能被各服务对 {@code com.flexlease} 的组件扫描注册到主容器。{@link InstanceLoadTracker} 位于主容器，
+ * 各子容器共享同一份统计。</p>
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> latencyAwareLoadBalancer(Environment environment,
+                                                                         LoadBalancerClientFactory clientFactory,
+                                                                         InstanceLoadTracker tracker,
+                                                                         LoadBalancingProperties properties) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId, tracker, properties);
+    }
+}
@@ -0,0 +1,102 @@
+package com.flexlease.common.loadbalancer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 服务间调用的客户端负载均衡配置（各服务复用，网关的 {@code lb://} 路由同样生效）。
+ *
+ * <p>约定配置前缀：{@code flexlease.loadbalancer.*}。关闭后回到 Spring Cloud LoadBalancer 默认的轮询。</p>
+ */
+@ConfigurationProperties(prefix = "flexlease.loadbalancer")
+public class LoadBalancingProperties {
+
+    private boolean enabled = true;
+    private Policy policy = Policy.EWMA;
+    /**
+     * 耗时滑动平均的衰减时间常数（毫秒）：约经过该时长，旧样本的权重衰减到 1/e。
+     */
+    private long decayMs = 10_000;
+    /**
+     * 新出现（或剔除期满恢复）的实例在该时长内按比例逐步放量，起点为正常权重的 10%。
+     */
+    private long slowStartMs = 30_000;
+    /**
+     * 连续失败（连接异常或 5xx）达到该次数即暂时剔除。
+     */
+    private int consecutiveFailures = 5;
+    /**
+     * 首次剔除时长（毫秒），之后每次连续剔除按次数线性延长，最多 10 倍。
+     */
+    private long baseEjectionMs = 30_000;
+    /**
+     * 同一服务最多剔除的实例比例；超过时视为整体故障，不再剔除任何实例。
+     */
+    private int maxEjectionPercent = 50;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    public void setPolicy(Policy policy) {
+        this.policy = policy;
+    }
+
+    public long getDecayMs() {
+        return decayMs;
+    }
+
+    public void setDecayMs(long decayMs) {
+        this.decayMs = decayMs;
+    }
+
+    public long getSlowStartMs() {
+        return slowStartMs;
+    }
+
+    public void setSlowStartMs(long slowStartMs) {
+        this.slowStartMs = slowStartMs;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public void setConsecutiveFailures(int consecutiveFailures) {
+        this.consecutiveFailures = consecutiveFailures;
+    }
+
+    public long getBaseEjectionMs() {
+        return baseEjectionMs;
+    }
+
+    public void setBaseEjectionMs(long baseEjectionMs) {
+        this.baseEjectionMs = baseEjectionMs;
+    }
+
+    public int getMaxEjectionPercent() {
+        return maxEjectionPercent;
+    }
+
+    public void setMaxEjectionPercent(int maxEjectionPercent) {
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+
+    public enum Policy {
+        /**
+         * 峰值敏感的耗时滑动平均 × (未完成请求数 + 1)，慢实例与积压实例都会少分到请求。
+         */
+        EWMA,
+        /**
+         * 只比较未完成请求数。
+         */
+        LEAST_OUTSTANDING
+    }
+}
@@ -23,4 +23,60 @@ public final class MessagingConstants {
      * notification-service 订阅订单事件使用的队列名称。
      */
     public static final String ORDER_EVENTS_NOTIFICATION_QUEUE = "order.events.notification";
+
+    /**
+     * 支付领域事件 Topic Exchange 名称。
+     */
+    public static final String PAYMENT_EVENTS_EXCHANGE = "payment.events";
+
+    /**
+     * 支付成功事件路由键。
+     */
+    public static final String PAYMENT_SUCCEEDED_ROUTING_KEY = "payment.succeeded";
+
+    /**
+     * order-service 订阅支付事件使用的队列名称。
+     */
+    public static final String PAYMENT_EVENTS_ORDER_QUEUE = "payment.events.order";
+
+    /**
+     * order-service 支付事件延迟重试队列名前缀，后接延迟毫秒数；消息在队列内停留到 TTL 到期后死信回
+     * {@link #PAYMENT_EVENTS_ORDER_QUEUE}。
+     */
+    public static final String PAYMENT_EVENTS_ORDER_RETRY_QUEUE_PREFIX = "payment.events.order.retry.";
+
+    /**
+     * order-service 多次重试仍失败的支付事件停放队列，由 order-service 定时移回原队列再次处理。
+     */
+    public static final String PAYMENT_EVENTS_ORDER_PARKING_QUEUE = "payment.events.order.parking";
+
+    /**
+     * 厂商领域事件 Topic Exchange 名称。
+     */
+    public static final String VENDOR_EVENTS_EXCHANGE = "vendor.events";
+
+    /**
+     * 厂商抽成档案变更事件路由键。
+     */
+    public static final String VENDOR_COMMISSION_CHANGED_ROUTING_KEY = "vendor.commission-changed";
+
+    /**
+     * 商品领域事件 Topic Exchange 名称。
+     */
+    public static final String PRODUCT_EVENTS_EXCHANGE = "product.events";
+
+    /**
+     * 商品目录内容变更事件路由键。
+     */
+    public static final String PRODUCT_CHANGED_ROUTING_KEY = "product.changed";
+
+    /**
+     * 通知领域事件 Topic Exchange 名称。
+     */
+    public static final String NOTIFICATION_EVENTS_EXCHANGE = "notification.events";
+
+    /**
+     * 站内信已写入事件路由键，notification-service 各实例据此向本机连接推送。
+     */
+    public static final String NOTIFICATION_CREATED_ROUTING_KEY = "notification.created";
 }
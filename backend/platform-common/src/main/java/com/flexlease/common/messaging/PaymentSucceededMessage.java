@@ -0,0 +1,20 @@
+package com.flexlease.common.messaging;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * payment-service 经 outbox 发布的支付成功事件，
+ * order-service 据此推进订单状态（按支付流水幂等）。
+ */
+public record PaymentSucceededMessage(
+        UUID eventId,
+        UUID transactionId,
+        UUID orderId,
+        UUID userId,
+        String scene,
+        BigDecimal amount,
+        OffsetDateTime occurredAt
+) {
+}
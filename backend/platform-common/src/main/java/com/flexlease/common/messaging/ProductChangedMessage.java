@@ -0,0 +1,14 @@
+package com.flexlease.common.messaging;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * product-service 在商品、租赁方案、SKU、媒体或库存等影响目录展示的数据变更后发布的事件，
+ * 供网关等持有目录响应缓存的组件失效缓存。
+ */
+public record ProductChangedMessage(
+        UUID productId,
+        OffsetDateTime changedAt
+) {
+}
@@ -0,0 +1,19 @@
+package com.flexlease.common.messaging;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * user-service 在厂商抽成档案变更（管理员调整或季度评估）后发布的事件，
+ * 供 payment-service 等持有本地抽成缓存的服务失效缓存。
+ */
+public record VendorCommissionChangedMessage(
+        UUID vendorId,
+        String industryCategory,
+        String creditTier,
+        Integer slaScore,
+        BigDecimal commissionRate,
+        OffsetDateTime changedAt
+) {
+}
@@ -0,0 +1,64 @@
+package com.flexlease.common.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 按接口统计每次请求发出的 JDBC 语句数，记录到 {@link FlexleaseMetrics#HTTP_DB_STATEMENTS}。
+ *
+ * <p>默认关闭，压测或排查 N+1 时通过 {@code flexlease.metrics.db-statements.enabled=true} 开启：
+ * 开启后所有 {@link DataSource} 会被 {@link JdbcStatementCounter} 包装。过滤器位于审计过滤器外层，
+ * 因此审计日志写入也计入本次请求的语句数。</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "flexlease.metrics.db-statements", name = "enabled", havingValue = "true")
+public class DbStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final FlexleaseMetrics metrics;
+
+    public DbStatementMetricsFilter(FlexleaseMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Bean
+    static BeanPostProcessor jdbcStatementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? JdbcStatementCounter.wrap(dataSource) : bean;
+            }
+        };
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        JdbcStatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = JdbcStatementCounter.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            metrics.httpDbStatements(request.getMethod(), pattern == null ? "UNKNOWN" : pattern.toString(), statements);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.flexlease.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 业务热点路径指标（Micrometer）。
+ * <p>
+ * 各服务统一通过该类记录指标，保证指标名与标签在七个服务间一致；导出到 {@code /actuator/prometheus} 时
+ * 点号会转换为下划线，例如 {@code flexlease.inventory.lock.retries} 对应 {@code flexlease_inventory_lock_retries_total}。
+ * 所有指标额外带有公共标签 {@code application}（见 {@link FlexleaseMetricsAutoConfiguration}）。
+ */
+public class FlexleaseMetrics {
+
+    /** 库存乐观锁冲突后的重试次数。 */
+    public static final String INVENTORY_LOCK_RETRIES = "flexlease.inventory.lock.retries";
+    /** 一次库存批量变更（含重试）的耗时，标签 {@code outcome}。 */
+    public static final String INVENTORY_RESERVATION = "flexlease.inventory.reservation";
+    /** 幂等键处理次数，标签 {@code scope}、{@code result=hit|miss}。 */
+    public static final String IDEMPOTENCY_REQUESTS = "flexlease.idempotency.requests";
+    /** 审计/回放日志写入失败次数（写入失败不影响主流程，只在此计数），标签 {@code kind}。 */
+    public static final String AUDIT_WRITE_FAILURES = "flexlease.audit.write.failures";
+    /** 消息发布次数，标签 {@code exchange}、{@code outcome=success|failure}。 */
+    public static final String MESSAGING_PUBLISH = "flexlease.messaging.publish";
+    /** 消费失败的支付事件去向，标签 {@code stage=delayed|parked|redriven}；{@code parked} 非零即需要排查。 */
+    public static final String PAYMENT_EVENT_RETRIES = "flexlease.payment.event.retries";
+    /** 单次 HTTP 请求内发出的 JDBC 语句数，标签 {@code method}、{@code uri}（仅在开启 {@code flexlease.metrics.db-statements.enabled} 时记录）。 */
+    public static final String HTTP_DB_STATEMENTS = "flexlease.http.db.statements";
+    /** 虚拟线程钉住载体线程的时长，标签 {@code site}（仅在虚拟线程模式下记录）。 */
+    public static final String VIRTUAL_THREAD_PINNED = "flexlease.virtual.thread.pinned";
+    /** 网关限流拒绝次数，标签 {@code rule}、{@code client=user|ip}。 */
+    public static final String GATEWAY_RATE_LIMITED = "flexlease.gateway.rate.limited";
+    /** 网关请求合并结果，标签 {@code route}、{@code role=leader|follower|fallback}；{@code follower} 即节省的上游请求数。 */
+    public static final String GATEWAY_COALESCED = "flexlease.gateway.coalesced";
+    /** 网关响应缓存查询结果，标签 {@code route}、{@code result=hit|stale|not_modified|miss}；除 {@code miss} 外均未访问上游。 */
+    public static final String GATEWAY_CACHE_REQUESTS = "flexlease.gateway.cache.requests";
+    /** 网关响应缓存后台重新验证结果，标签 {@code outcome=not_modified|updated|failed}。 */
+    public static final String GATEWAY_CACHE_REVALIDATIONS = "flexlease.gateway.cache.revalidations";
+    /** 网关响应缓存淘汰条目数，标签 {@code cause=size|event}。 */
+    public static final String GATEWAY_CACHE_EVICTIONS = "flexlease.gateway.cache.evictions";
+
+    /** 自适应并发上限（Gauge），随请求耗时变化。 */
+    public static final String CONCURRENCY_LIMIT = "flexlease.concurrency.limit";
+    /** 正在处理的请求数（Gauge）。 */
+    public static final String CONCURRENCY_INFLIGHT = "flexlease.concurrency.inflight";
+    /** 超出并发上限被丢弃的请求数，标签 {@code priority=critical|normal|sheddable}。 */
+    public static final String CONCURRENCY_REJECTED = "flexlease.concurrency.rejected";
+
+    /** 数据源取连接次数，标签 {@code pool=primary|replica}、{@code reason}（见 {@code ReplicaRoutingDataSource}，仅在开启只读副本路由时记录）。 */
+    public static final String DATASOURCE_ROUTING = "flexlease.datasource.routing";
+    /** 只读副本复制延迟（Gauge，毫秒），未知时为 NaN。 */
+    public static final String DATASOURCE_REPLICA_LAG = "flexlease.datasource.replica.lag";
+
+    /** 客户端负载均衡剔除实例的次数，标签 {@code service}（下游服务名）。 */
+    public static final String LOADBALANCER_EJECTIONS = "flexlease.loadbalancer.ejections";
+
+    /** 启动预热各任务的累计执行耗时，标签 {@code task}、{@code outcome}。 */
+    public static final String WARMUP = "flexlease.warmup";
+    /** 启动后前若干个业务请求的耗时，标签 {@code warmup=on|off}（见 {@code flexlease.warmup.first-requests}）。 */
+    public static final String STARTUP_FIRST_REQUESTS = "flexlease.startup.first.requests";
+
+    /** 当前实例上的通知推送（SSE）连接数（Gauge）。 */
+    public static final String NOTIFICATION_PUSH_SUBSCRIBERS = "flexlease.notification.push.subscribers";
+    /** 通知推送事件数，标签 {@code outcome=delivered|dropped|rejected}；{@code dropped} 为发送队列溢出断开的连接。 */
+    public static final String NOTIFICATION_PUSH_EVENTS = "flexlease.notification.push.events";
+    /** 可合并通知的处理结果，标签 {@code result=buffered|merged|bypassed}；{@code merged} 即省下的日志写入数。 */
+    public static final String NOTIFICATION_DIGEST = "flexlease.notification.digest";
+
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+
+    private final MeterRegistry registry;
+
+    public FlexleaseMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public MeterRegistry registry() {
+        return registry;
+    }
+
+    public Timer.Sample startTimer() {
+        return Timer.start(registry);
+    }
+
+    public void inventoryLockRetry(String operation) {
+        Counter.builder(INVENTORY_LOCK_RETRIES)
+                .tag("operation", operation)
+                .register(registry)
+                .increment();
+    }
+
+    public void inventoryReservationCompleted(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder(INVENTORY_RESERVATION)
+                .tag(TAG_OUTCOME, outcome)
+                .register(registry));
+    }
+
+    /**
+     * @param key 幂等键，约定为 {@code 域:动作:业务键}，仅取前两段作为 {@code scope} 标签以控制基数
+     */
+    public void idempotencyRequest(String key, boolean hit) {
+        Counter.builder(IDEMPOTENCY_REQUESTS)
+                .tag("scope", idempotencyScope(key))
+                .tag("result", hit ? "hit" : "miss")
+                .register(registry)
+                .increment();
+    }
+
+    public void auditWriteFailed(String kind) {
+        Counter.builder(AUDIT_WRITE_FAILURES)
+                .tag("kind", kind)
+                .register(registry)
+                .increment();
+    }
+
+    public void messagePublished(String exchange, boolean success) {
+        Counter.builder(MESSAGING_PUBLISH)
+                .tag("exchange", exchange)
+                .tag(TAG_OUTCOME, success ? OUTCOME_SUCCESS : OUTCOME_FAILURE)
+                .register(registry)
+                .increment();
+    }
+
+    public void paymentEventRetried(String stage) {
+        Counter.builder(PAYMENT_EVENT_RETRIES)
+                .tag("stage", stage)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * @param uri 路由模板（如 {@code /api/v1/orders/{orderId}}），不可传入原始路径以免标签基数失控
+     */
+    public void httpDbStatements(String method, String uri, int statements) {
+        DistributionSummary.builder(HTTP_DB_STATEMENTS)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(registry)
+                .record(statements);
+    }
+
+    /**
+     * @param site 钉住发生的调用点（类名.方法名），由调用方收敛基数
+     */
+    public void virtualThreadPinned(String site, Duration duration) {
+        Timer.builder(VIRTUAL_THREAD_PINNED)
+                .tag("site", site)
+                .register(registry)
+                .record(duration);
+    }
+
+    public void gatewayRateLimited(String rule, String client) {
+        Counter.builder(GATEWAY_RATE_LIMITED)
+                .tag("rule", rule)
+                .tag("client", client)
+                .register(registry)
+                .increment();
+    }
+
+    public void gatewayCoalesced(String route, String role) {
+        Counter.builder(GATEWAY_COALESCED)
+                .tag("route", route)
+                .tag("role", role)
+                .register(registry)
+                .increment();
+    }
+
+    public void gatewayCacheRequest(String route, String result) {
+        Counter.builder(GATEWAY_CACHE_REQUESTS)
+                .tag("route", route)
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+
+    public void gatewayCacheRevalidated(String outcome) {
+        Counter.builder(GATEWAY_CACHE_REVALIDATIONS)
+                .tag(TAG_OUTCOME, outcome)
+                .register(registry)
+                .increment();
+    }
+
+    public void gatewayCacheEvicted(String cause, int entries) {
+        Counter.builder(GATEWAY_CACHE_EVICTIONS)
+                .tag("cause", cause)
+                .register(registry)
+                .increment(entries);
+    }
+
+    public void concurrencyGauges(Supplier<Number> limit, Supplier<Number> inflight) {
+        Gauge.builder(CONCURRENCY_LIMIT, limit)
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder(CONCURRENCY_INFLIGHT, inflight)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    public void concurrencyRejected(String priority) {
+        Counter.builder(CONCURRENCY_REJECTED)
+                .tag("priority", priority)
+                .register(registry)
+                .increment();
+    }
+
+    public void dataSourceRouted(String pool, String reason) {
+        Counter.builder(DATASOURCE_ROUTING)
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    public void replicaLagGauge(Supplier<Number> lagMs) {
+        Gauge.builder(DATASOURCE_REPLICA_LAG, lagMs)
+                .baseUnit("milliseconds")
+                .strongReference(true)
+                .register(registry);
+    }
+
+    public void loadBalancerEjected(String service) {
+        Counter.builder(LOADBALANCER_EJECTIONS)
+                .tag("service", service == null ? "unknown" : service)
+                .register(registry)
+                .increment();
+    }
+
+    public void warmupTaskCompleted(String task, String outcome, Duration elapsed) {
+        Timer.builder(WARMUP)
+                .tag("task", task)
+                .tag(TAG_OUTCOME, outcome)
+                .register(registry)
+                .record(elapsed);
+    }
+
+    public void startupFirstRequest(boolean warmedUp, long nanos) {
+        Timer.builder(STARTUP_FIRST_REQUESTS)
+                .tag("warmup", warmedUp ? "on" : "off")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(registry)
+                .record(Duration.ofNanos(nanos));
+    }
+
+    public void notificationPushGauge(Supplier<Number> subscribers) {
+        Gauge.builder(NOTIFICATION_PUSH_SUBSCRIBERS, subscribers)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    public void notificationPushed(String outcome) {
+        Counter.builder(NOTIFICATION_PUSH_EVENTS)
+                .tag(TAG_OUTCOME, outcome)
+                .register(registry)
+                .increment();
+    }
+
+    public void notificationDigested(String result) {
+        Counter.builder(NOTIFICATION_DIGEST)
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+
+    static String idempotencyScope(String key) {
+        if (key == null) {
+            return "unknown";
+        }
+        int first = key.indexOf(':');
+        if (first < 0) {
+            return "default";
+        }
+        int second = key.indexOf(':', first + 1);
+        return second < 0 ? key.substring(0, first) : key.substring(0, second);
+    }
+}
@@ -0,0 +1,62 @@
+package com.flexlease.common.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 统一的指标配置，以自动配置方式加载，网关等未扫描 {@code com.flexlease.common} 的服务同样生效。
+ * <ul>
+ *     <li>公共标签 {@code application}（取 {@code spring.application.name}）；</li>
+ *     <li>{@code flexlease.*} 计时器与 HTTP 服务端/客户端请求计时器输出直方图桶，便于 Prometheus 计算分位数；</li>
+ *     <li>提供 {@link FlexleaseMetrics}，无 {@link MeterRegistry} 时退化为本地内存注册表。</li>
+ * </ul>
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnClass(MeterRegistry.class)
+public class FlexleaseMetricsAutoConfiguration {
+
+    private static final List<String> HISTOGRAM_PREFIXES = List.of(
+            "flexlease.",
+            "http.server.requests",
+            "http.client.requests",
+            "spring.cloud.gateway.requests"
+    );
+
+    @Bean
+    @ConditionalOnMissingBean
+    public FlexleaseMetrics flexleaseMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new FlexleaseMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    public MeterFilter flexleaseCommonTagsMeterFilter(Environment environment) {
+        return MeterFilter.commonTags(Tags.of("application", environment.getProperty("spring.application.name", "unknown")));
+    }
+
+    @Bean
+    public MeterFilter flexleaseHistogramMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER || HISTOGRAM_PREFIXES.stream().noneMatch(id.getName()::startsWith)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
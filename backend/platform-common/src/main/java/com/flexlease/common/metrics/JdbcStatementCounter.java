@@ -0,0 +1,92 @@
+package com.flexlease.common.metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 按线程统计 JDBC 语句数。
+ *
+ * <p>由 {@link DbStatementMetricsFilter} 在请求开始时 {@link #begin()}、结束时 {@link #end()}；
+ * 期间经 {@link #wrap(DataSource)} 包装的数据源每准备一条语句（{@code prepareStatement}/{@code prepareCall}/{@code createStatement}）计数一次。
+ * 不在请求内的线程（定时任务、消息消费）不计数。批量写入只准备一次语句，因此计数反映的是数据库往返次数的下界。</p>
+ */
+public final class JdbcStatementCounter {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private JdbcStatementCounter() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new int[1]);
+    }
+
+    /**
+     * 结束统计并返回本线程自 {@link #begin()} 以来的语句数。
+     */
+    public static int end() {
+        int[] counter = CURRENT.get();
+        CURRENT.remove();
+        return counter == null ? 0 : counter[0];
+    }
+
+    static void increment() {
+        int[] counter = CURRENT.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        if (dataSource instanceof CountingDataSource) {
+            return dataSource;
+        }
+        return new CountingDataSource(dataSource);
+    }
+
+    private static Connection countingConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                JdbcStatementCounter.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("equals".equals(method.getName()) && args != null && args.length == 1) {
+                        return proxy == args[0];
+                    }
+                    if ("hashCode".equals(method.getName()) && (args == null || args.length == 0)) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if (STATEMENT_FACTORIES.contains(method.getName())) {
+                        increment();
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+
+    static final class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countingConnection(obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return countingConnection(obtainTargetDataSource().getConnection(username, password));
+        }
+    }
+}
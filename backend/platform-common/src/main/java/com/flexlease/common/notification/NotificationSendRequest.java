@@ -9,6 +9,10 @@ import java.util.Map;
  *
  * <p>用于调用 notification-service 的发送接口：可指定 {@code templateCode} 走模板渲染，
  * 或直接传入 {@code subject/content} 走自定义内容。</p>
+ *
+ * <p>{@code digest=true} 表示该通知可与短时间内的同类通知合并：notification-service 在合并窗口内按
+ * （接收方、contextType、contextReference、模板/标题）缓冲，窗口结束时只写入一条汇总日志。
+ * 适用于取证上传、订单留言、倒计时提醒等突发且内容相近的通知；需要立即送达的通知保持默认值。</p>
  */
 public record NotificationSendRequest(
         String templateCode,
@@ -17,7 +21,8 @@ public record NotificationSendRequest(
         String content,
         Map<String, Object> variables,
         @Size(max = 50) String contextType,
-        @Size(max = 100) String contextReference
+        @Size(max = 100) String contextReference,
+        boolean digest
 ) {
 
     public NotificationSendRequest(String templateCode,
@@ -25,7 +30,17 @@ public record NotificationSendRequest(
                                     @Size(max = 200) String subject,
                                     String content,
                                     Map<String, Object> variables) {
-        this(templateCode, recipient, subject, content, variables, null, null);
+        this(templateCode, recipient, subject, content, variables, null, null, false);
+    }
+
+    public NotificationSendRequest(String templateCode,
+                                    @NotBlank @Size(max = 100) String recipient,
+                                    @Size(max = 200) String subject,
+                                    String content,
+                                    Map<String, Object> variables,
+                                    @Size(max = 50) String contextType,
+                                    @Size(max = 100) String contextReference) {
+        this(templateCode, recipient, subject, content, variables, contextType, contextReference, false);
     }
 
     /**
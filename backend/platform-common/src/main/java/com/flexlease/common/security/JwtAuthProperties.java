@@ -1,5 +1,7 @@
 package com.flexlease.common.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -8,7 +10,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * JWT 相关配置（各微服务复用）。
  *
  * <p>约定配置前缀：{@code security.jwt.*}。其中 {@code internalAccessToken} 用于服务间互信调用，
- * 对应请求头 {@code X-Internal-Token}。</p>
+ * 对应请求头 {@code X-Internal-Token}；{@code principalHeaderSecret} 为网关签发 {@link PrincipalHeaderCodec#HEADER}
+ * 的密钥，网关与各服务必须一致。</p>
  */
 @ConfigurationProperties(prefix = "security.jwt")
 public class JwtAuthProperties {
@@ -16,6 +19,9 @@ public class JwtAuthProperties {
     private String secret = "flexlease-default-secret-please-change";
     private String issuer = "flexlease-auth-service";
     private String internalAccessToken = "flexlease-internal-secret";
+    private String principalHeaderSecret = "flexlease-principal-header-secret-please-change";
+    private long principalHeaderTtlSeconds = 30;
+    private boolean trustPrincipalHeader = true;
     private final List<String> permitAll = new ArrayList<>(List.of("/actuator/health", "/actuator/info"));
 
     public String getSecret() {
@@ -48,6 +54,40 @@ public class JwtAuthProperties {
         }
     }
 
+    /**
+     * 以常量时间比较 {@code X-Internal-Token} 请求头与配置的内部令牌。
+     */
+    public boolean isInternalAccessToken(String token) {
+        return token != null && MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                internalAccessToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getPrincipalHeaderSecret() {
+        return principalHeaderSecret;
+    }
+
+    public void setPrincipalHeaderSecret(String principalHeaderSecret) {
+        if (principalHeaderSecret != null && !principalHeaderSecret.isBlank()) {
+            this.principalHeaderSecret = principalHeaderSecret;
+        }
+    }
+
+    public long getPrincipalHeaderTtlSeconds() {
+        return principalHeaderTtlSeconds;
+    }
+
+    public void setPrincipalHeaderTtlSeconds(long principalHeaderTtlSeconds) {
+        this.principalHeaderTtlSeconds = principalHeaderTtlSeconds;
+    }
+
+    public boolean isTrustPrincipalHeader() {
+        return trustPrincipalHeader;
+    }
+
+    public void setTrustPrincipalHeader(boolean trustPrincipalHeader) {
+        this.trustPrincipalHeader = trustPrincipalHeader;
+    }
+
     public List<String> getPermitAll() {
         return permitAll;
     }
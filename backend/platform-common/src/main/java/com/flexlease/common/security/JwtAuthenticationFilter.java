@@ -26,7 +26,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 /**
  * JWT 鉴权过滤器。
  * <p>
- * 优先校验内部调用的 {@code X-Internal-Token}，否则校验 {@code Authorization: Bearer <token>}，
+ * 优先校验内部调用的 {@code X-Internal-Token}，其次信任网关签发的 {@link PrincipalHeaderCodec#HEADER}（网关已校验过 JWT，
+ * 这里只做一次 HMAC），最后才校验 {@code Authorization: Bearer <token>}，
  * 并把解析后的身份写入 Spring Security 的 {@link SecurityContextHolder}。
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -36,12 +37,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenVerifier tokenVerifier;
     private final JwtAuthProperties properties;
+    private final PrincipalHeaderCodec principalHeaderCodec;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     public JwtAuthenticationFilter(JwtTokenVerifier tokenVerifier, JwtAuthProperties properties) {
         this.tokenVerifier = tokenVerifier;
         this.properties = properties;
+        this.principalHeaderCodec = properties.isTrustPrincipalHeader() ? new PrincipalHeaderCodec(properties) : null;
     }
 
     @Override
@@ -65,6 +68,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authenticatePrincipalHeader(request, authorization)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         if (authorization == null || !authorization.startsWith("Bearer ")) {
             writeUnauthorized(response, "缺少访问令牌");
             return;
@@ -76,25 +84,48 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        tokenVerifier.verify(token).ifPresentOrElse(principal -> {
-            List<SimpleGrantedAuthority> authorities = principal.roles().stream()
-                    .map(role -> role.startsWith("ROLE_") ? role : "ROLE_" + role)
-                    .map(SimpleGrantedAuthority::new)
-                    .collect(Collectors.toList());
-            User user = new User(principal.username() == null ? principal.userId().toString() : principal.username(),
-                    "", authorities);
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(principal, token, user.getAuthorities());
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            request.setAttribute(PRINCIPAL_REQUEST_ATTRIBUTE, principal);
-        }, () -> writeUnauthorized(response, "访问令牌无效或已过期"));
+        tokenVerifier.verify(token).ifPresentOrElse(principal -> authenticate(request, principal, token),
+                () -> writeUnauthorized(response, "访问令牌无效或已过期"));
 
         if (!response.isCommitted()) {
             filterChain.doFilter(request, response);
         }
     }
 
+    private boolean authenticatePrincipalHeader(HttpServletRequest request, String authorization) {
+        if (principalHeaderCodec == null) {
+            return false;
+        }
+        String header = request.getHeader(PrincipalHeaderCodec.HEADER);
+        if (header == null) {
+            return false;
+        }
+        // 签名不符或已过期时不拒绝，回退到 JWT 校验
+        return principalHeaderCodec.decode(header, request.getMethod(), request.getRequestURI(), request.getQueryString())
+                .map(principal -> {
+                    String token = authorization != null && authorization.startsWith("Bearer ")
+                            ? authorization.substring(7).trim()
+                            : null;
+                    authenticate(request, principal, token);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private void authenticate(HttpServletRequest request, FlexleasePrincipal principal, String token) {
+        List<SimpleGrantedAuthority> authorities = principal.roles().stream()
+                .map(role -> role.startsWith("ROLE_") ? role : "ROLE_" + role)
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        User user = new User(principal.username() == null ? principal.userId().toString() : principal.username(),
+                "", authorities);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(principal, token, user.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        request.setAttribute(PRINCIPAL_REQUEST_ATTRIBUTE, principal);
+    }
+
     private boolean authenticateInternalToken(HttpServletRequest request) {
         String internalToken = request.getHeader(INTERNAL_TOKEN_HEADER);
         if (internalToken == null || internalToken.isBlank()) {
@@ -24,7 +24,11 @@ public class JwtTokenVerifier {
 
     public JwtTokenVerifier(JwtAuthProperties properties) {
         this.issuer = properties.getIssuer();
-        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(ensureBase64(properties.getSecret())));
+        this.key = signingKey(properties.getSecret());
+    }
+
+    static Key signingKey(String secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(ensureBase64(secret)));
     }
 
     public Optional<FlexleasePrincipal> verify(String token) {
@@ -63,7 +67,7 @@ public class JwtTokenVerifier {
                 .collect(Collectors.toSet());
     }
 
-    private String ensureBase64(String secret) {
+    private static String ensureBase64(String secret) {
         try {
             Decoders.BASE64.decode(secret);
             return secret;
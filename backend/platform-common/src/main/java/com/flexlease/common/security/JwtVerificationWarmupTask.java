@@ -0,0 +1,53 @@
+package com.flexlease.common.security;
+
+import com.flexlease.common.warmup.WarmupTask;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * 预热请求鉴权路径：反复校验一枚用本服务密钥签发的合成访问令牌，并对解析出的身份做一次网关身份头的签发与校验。
+ *
+ * <p>令牌只在内存中使用，不对应任何真实用户。</p>
+ */
+public class JwtVerificationWarmupTask implements WarmupTask {
+
+    private static final String WARMUP_PATH = "/api/v1/warmup";
+
+    private final JwtTokenVerifier verifier;
+    private final PrincipalHeaderCodec principalHeaderCodec;
+    private final String token;
+
+    public JwtVerificationWarmupTask(JwtTokenVerifier verifier, JwtAuthProperties properties) {
+        this.verifier = verifier;
+        this.principalHeaderCodec = new PrincipalHeaderCodec(properties);
+        Instant now = Instant.now();
+        this.token = Jwts.builder()
+                .setIssuer(properties.getIssuer())
+                .setSubject(UUID.randomUUID().toString())
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(Duration.ofHours(1))))
+                .claim("username", "warmup")
+                .claim("roles", "USER")
+                .claim("tokenType", "ACCESS")
+                .signWith(JwtTokenVerifier.signingKey(properties.getSecret()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Override
+    public String name() {
+        return "jwt-verification";
+    }
+
+    @Override
+    public void run() {
+        FlexleasePrincipal principal = verifier.verify(token)
+                .orElseThrow(() -> new IllegalStateException("合成令牌校验失败"));
+        String header = principalHeaderCodec.encode(principal, "GET", WARMUP_PATH, null);
+        principalHeaderCodec.decode(header, "GET", WARMUP_PATH, null)
+                .orElseThrow(() -> new IllegalStateException("身份头校验失败"));
+    }
+}
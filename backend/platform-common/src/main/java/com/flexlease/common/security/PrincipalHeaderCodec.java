@@ -0,0 +1,116 @@
+package com.flexlease.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 网关签发的已验证身份头 {@value #HEADER}。
+ *
+ * <p>网关校验一次 JWT 后把身份压缩成 {@code base64url(userId\nvendorId\nusername\nroles\nexpiresAt).base64url(HMAC-SHA256)}，
+ * 签名同时覆盖请求方法、路径与原始查询串，下游只需一次 HMAC 即可信任该身份，不再重复解析 JWT。
+ * 有效期很短（{@code security.jwt.principal-header-ttl-seconds}，默认 30 秒），且只能用于签发时的那个请求，
+ * 被截获后也无法换到其他接口或改写查询参数重放。</p>
+ */
+public class PrincipalHeaderCodec {
+
+    public static final String HEADER = "X-Flexlease-Principal";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+    private final Clock clock;
+    private final ThreadLocal<Mac> macs;
+
+    public PrincipalHeaderCodec(JwtAuthProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    PrincipalHeaderCodec(JwtAuthProperties properties, Clock clock) {
+        this.key = new SecretKeySpec(properties.getPrincipalHeaderSecret().getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.ttlSeconds = properties.getPrincipalHeaderTtlSeconds();
+        this.clock = clock;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * @param query 未解码的查询串（不含 {@code ?}），没有时传 {@code null}
+     */
+    public String encode(FlexleasePrincipal principal, String method, String path, String query) {
+        String payload = String.join("\n",
+                principal.userId() == null ? "" : principal.userId().toString(),
+                principal.vendorId() == null ? "" : principal.vendorId().toString(),
+                principal.username() == null ? "" : principal.username(),
+                String.join(",", principal.roles()),
+                Long.toString(clock.instant().getEpochSecond() + ttlSeconds));
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes, method, path, query));
+    }
+
+    /**
+     * 校验签名、有效期与请求方法/路径/查询串；任一项不符返回空，由调用方回退到 JWT 校验。
+     */
+    public Optional<FlexleasePrincipal> decode(String header, String method, String path, String query) {
+        if (header == null || header.isBlank()) {
+            return Optional.empty();
+        }
+        int dot = header.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payloadBytes = DECODER.decode(header.substring(0, dot));
+            byte[] signature = DECODER.decode(header.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(payloadBytes, method, path, query))) {
+                return Optional.empty();
+            }
+            String[] fields = new String(payloadBytes, StandardCharsets.UTF_8).split("\n", -1);
+            if (fields.length != 5 || Long.parseLong(fields[4]) < clock.instant().getEpochSecond()) {
+                return Optional.empty();
+            }
+            Set<String> roles = fields[3].isEmpty()
+                    ? Set.of()
+                    : Arrays.stream(fields[3].split(",")).collect(Collectors.toSet());
+            return Optional.of(new FlexleasePrincipal(
+                    fields[0].isEmpty() ? null : UUID.fromString(fields[0]),
+                    fields[1].isEmpty() ? null : UUID.fromString(fields[1]),
+                    fields[2].isEmpty() ? null : fields[2],
+                    roles));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] payload, String method, String path, String query) {
+        Mac mac = macs.get();
+        mac.update(payload);
+        mac.update((byte) '\n');
+        mac.update(method.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) '\n');
+        mac.update(path.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) '?');
+        return mac.doFinal(query == null ? new byte[0] : query.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 unavailable", ex);
+        }
+    }
+}
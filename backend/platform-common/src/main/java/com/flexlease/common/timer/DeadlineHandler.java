@@ -0,0 +1,19 @@
+package com.flexlease.common.timer;
+
+import java.util.Set;
+
+/**
+ * 定时器到期回调。
+ *
+ * <p>回调在认领定时器的同一事务中执行：抛出异常时认领回滚，定时器按退避策略重新排期。
+ * 实现需自行校验业务状态（例如订单已支付则直接返回），以便重复或过期的触发成为空操作。</p>
+ */
+public interface DeadlineHandler {
+
+    /**
+     * 该处理器负责的定时器主题。
+     */
+    Set<String> topics();
+
+    void onDeadline(DeadlineTimer timer);
+}
@@ -0,0 +1,20 @@
+package com.flexlease.common.timer;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 已到期的持久化定时器。
+ *
+ * @param id       定时器 ID
+ * @param topic    定时器主题，用于路由到对应的 {@link DeadlineHandler}
+ * @param key      业务主键（通常为聚合根 ID 字符串）
+ * @param dueAt    到期时间
+ * @param attempts 已失败重试次数
+ */
+public record DeadlineTimer(UUID id, String topic, String key, OffsetDateTime dueAt, int attempts) {
+
+    public UUID keyAsUuid() {
+        return UUID.fromString(key);
+    }
+}
@@ -0,0 +1,12 @@
+package com.flexlease.common.timer;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 注册 {@link DeadlineTimerProperties}。
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(DeadlineTimerProperties.class)
+public class DeadlineTimerConfiguration {
+}
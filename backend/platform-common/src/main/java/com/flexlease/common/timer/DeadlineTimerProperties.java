@@ -0,0 +1,104 @@
+package com.flexlease.common.timer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 持久化定时器配置（各微服务复用）。
+ *
+ * <p>约定配置前缀：{@code flexlease.timer.*}。默认关闭；启用的服务需要在自身迁移脚本中创建
+ * {@code timer.deadline_timer} 表。</p>
+ */
+@ConfigurationProperties(prefix = "flexlease.timer")
+public class DeadlineTimerProperties {
+
+    private boolean enabled = false;
+    /**
+     * 时间轮最底层刻度（毫秒），决定触发精度。
+     */
+    private long tickMs = 100;
+    private int wheelSize = 512;
+    /**
+     * 每次从表中预加载到内存时间轮的时间窗口（毫秒）。
+     */
+    private long loadWindowMs = 300_000;
+    /**
+     * 预加载周期（毫秒），应小于 {@link #loadWindowMs}。
+     */
+    private long reloadIntervalMs = 60_000;
+    private int loadBatchSize = 5_000;
+    private int workerThreads = 2;
+    private int maxAttempts = 5;
+    private long retryBackoffMs = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    public void setTickMs(long tickMs) {
+        this.tickMs = tickMs;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    public long getLoadWindowMs() {
+        return loadWindowMs;
+    }
+
+    public void setLoadWindowMs(long loadWindowMs) {
+        this.loadWindowMs = loadWindowMs;
+    }
+
+    public long getReloadIntervalMs() {
+        return reloadIntervalMs;
+    }
+
+    public void setReloadIntervalMs(long reloadIntervalMs) {
+        this.reloadIntervalMs = reloadIntervalMs;
+    }
+
+    public int getLoadBatchSize() {
+        return loadBatchSize;
+    }
+
+    public void setLoadBatchSize(int loadBatchSize) {
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getRetryBackoffMs() {
+        return retryBackoffMs;
+    }
+
+    public void setRetryBackoffMs(long retryBackoffMs) {
+        this.retryBackoffMs = retryBackoffMs;
+    }
+}
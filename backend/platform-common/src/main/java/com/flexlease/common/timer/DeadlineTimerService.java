@@ -0,0 +1,355 @@
+package com.flexlease.common.timer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 持久化截止时间定时器。
+ *
+ * <p>业务在创建实体时调用 {@link #schedule} 把截止时间写入 {@code timer.deadline_timer}（与业务数据同事务），
+ * 后台线程周期性把近期窗口内的定时器加载进 {@link HierarchicalTimingWheel}，到期后在工作线程中
+ * 以 {@code DELETE ... WHERE id = ? AND due_at = ?} 认领并回调 {@link DeadlineHandler}。
+ * 认领与回调同处一个事务，多实例部署时同一定时器只会被一个实例处理；回调失败则按指数退避重新排期。</p>
+ *
+ * <p>未启用（{@code flexlease.timer.enabled=false}）时 {@link #schedule}/{@link #cancel} 为空操作。</p>
+ */
+@Component
+public class DeadlineTimerService implements SmartLifecycle {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeadlineTimerService.class);
+    private static final long MAX_RETRY_BACKOFF_MS = Duration.ofHours(1).toMillis();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DeadlineTimerProperties properties;
+    private final ObjectProvider<DeadlineHandler> handlerProvider;
+    private final ObjectProvider<TransactionTemplate> transactionTemplateProvider;
+
+    private final Object monitor = new Object();
+    /**
+     * 已装入时间轮或正在工作线程中认领的定时器：ID -> 到期毫秒；用于识别改期后的过期条目，
+     * 并避免积压时下一轮装载把尚未认领完的同一批定时器再次排入。
+     */
+    private final ConcurrentMap<UUID, Long> loaded = new ConcurrentHashMap<>();
+    private final Map<String, DeadlineHandler> handlers = new HashMap<>();
+    private HierarchicalTimingWheel<DeadlineTimer> wheel;
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService workers;
+    private Thread driver;
+    private volatile boolean running;
+    private volatile long loadedUntilMs;
+    private boolean wakeup;
+
+    public DeadlineTimerService(JdbcTemplate jdbcTemplate,
+                                DeadlineTimerProperties properties,
+                                ObjectProvider<DeadlineHandler> handlerProvider,
+                                ObjectProvider<TransactionTemplate> transactionTemplateProvider) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.handlerProvider = handlerProvider;
+        this.transactionTemplateProvider = transactionTemplateProvider;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public void schedule(String topic, UUID key, OffsetDateTime dueAt) {
+        schedule(topic, key.toString(), dueAt);
+    }
+
+    /**
+     * 登记（或改期）定时器；同一 {@code topic + key} 只保留一条，再次调用会覆盖到期时间并清零重试次数。
+     */
+    public void schedule(String topic, String key, OffsetDateTime dueAt) {
+        if (!isEnabled()) {
+            return;
+        }
+        Objects.requireNonNull(topic, "topic must not be null");
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(dueAt, "dueAt must not be null");
+        OffsetDateTime due = dueAt.truncatedTo(ChronoUnit.MILLIS);
+        UUID id = upsert(topic, key, due);
+        DeadlineTimer timer = new DeadlineTimer(id, topic, key, due, 0);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueueIfNearTerm(timer);
+                }
+            });
+        } else {
+            enqueueIfNearTerm(timer);
+        }
+    }
+
+    public void cancel(String topic, UUID key) {
+        cancel(topic, key.toString());
+    }
+
+    /**
+     * 取消定时器；已装入时间轮的条目到期时认领不到记录，自然成为空操作。
+     */
+    public void cancel(String topic, String key) {
+        if (!isEnabled()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM timer.deadline_timer WHERE topic = ? AND timer_key = ?", topic, key);
+    }
+
+    @Override
+    public void start() {
+        if (!isEnabled() || running) {
+            return;
+        }
+        handlerProvider.orderedStream().forEach(handler -> handler.topics().forEach(topic -> {
+            DeadlineHandler previous = handlers.putIfAbsent(topic, handler);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate deadline handler for topic " + topic);
+            }
+        }));
+        transactionTemplate = transactionTemplateProvider.getIfAvailable();
+        if (transactionTemplate == null) {
+            throw new IllegalStateException("Deadline timers require a TransactionTemplate");
+        }
+        wheel = new HierarchicalTimingWheel<>(properties.getTickMs(), properties.getWheelSize(), System.currentTimeMillis());
+        AtomicInteger workerIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(Math.max(1, properties.getWorkerThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "deadline-timer-worker-" + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        driver = new Thread(this::runLoop, "deadline-timer-driver");
+        driver.setDaemon(true);
+        driver.start();
+        LOG.info("Deadline timer started for topics {}", handlers.keySet());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        synchronized (monitor) {
+            wakeup = true;
+            monitor.notifyAll();
+        }
+        workers.shutdown();
+        try {
+            driver.join(TimeUnit.SECONDS.toMillis(5));
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runLoop() {
+        long nextReloadAt = 0;
+        while (running) {
+            long now = System.currentTimeMillis();
+            if (now >= nextReloadAt) {
+                try {
+                    reload(now);
+                } catch (RuntimeException ex) {
+                    LOG.warn("Failed to load deadline timers: {}", ex.getMessage());
+                }
+                nextReloadAt = now + properties.getReloadIntervalMs();
+            }
+            List<DeadlineTimer> expired;
+            long nextExpiration;
+            synchronized (monitor) {
+                expired = wheel.advance(now);
+                nextExpiration = wheel.nextExpirationMs();
+            }
+            expired.forEach(this::dispatch);
+            long waitMs = Math.min(nextExpiration, nextReloadAt) - System.currentTimeMillis();
+            synchronized (monitor) {
+                if (!wakeup && waitMs > 0) {
+                    try {
+                        monitor.wait(waitMs);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                wakeup = false;
+            }
+        }
+    }
+
+    private void reload(long nowMs) {
+        long horizonMs = nowMs + properties.getLoadWindowMs();
+        int batchSize = Math.max(1, properties.getLoadBatchSize());
+        List<DeadlineTimer> timers = jdbcTemplate.query("""
+                        SELECT id, topic, timer_key, due_at, attempts
+                        FROM timer.deadline_timer
+                        WHERE due_at <= ?
+                        ORDER BY due_at
+                        LIMIT ?
+                        """,
+                this::mapTimer,
+                toOffsetDateTime(horizonMs),
+                batchSize);
+        if (timers.size() == batchSize) {
+            // 窗口内积压超过单批上限：只承诺已加载到的位置，剩余部分下个周期再装
+            horizonMs = timers.get(timers.size() - 1).dueAt().toInstant().toEpochMilli();
+        }
+        loadedUntilMs = horizonMs;
+        timers.forEach(this::enqueue);
+    }
+
+    private void enqueueIfNearTerm(DeadlineTimer timer) {
+        if (running && timer.dueAt().toInstant().toEpochMilli() <= loadedUntilMs) {
+            enqueue(timer);
+            synchronized (monitor) {
+                wakeup = true;
+                monitor.notifyAll();
+            }
+        }
+    }
+
+    private void enqueue(DeadlineTimer timer) {
+        long dueMs = timer.dueAt().toInstant().toEpochMilli();
+        Long previous = loaded.put(timer.id(), dueMs);
+        if (previous != null && previous == dueMs) {
+            return;
+        }
+        boolean queued;
+        synchronized (monitor) {
+            queued = wheel.add(timer, dueMs);
+        }
+        if (!queued) {
+            dispatch(timer);
+        }
+    }
+
+    private void dispatch(DeadlineTimer timer) {
+        long dueMs = timer.dueAt().toInstant().toEpochMilli();
+        if (!Objects.equals(loaded.get(timer.id()), dueMs)) {
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    fire(timer);
+                } finally {
+                    // 认领事务结束后才释放，期间重新装载到同一条记录会被 enqueue 视为已装入
+                    loaded.remove(timer.id(), dueMs);
+                }
+            });
+        } catch (RuntimeException ex) {
+            loaded.remove(timer.id(), dueMs);
+            LOG.debug("Skip deadline timer {} because workers are shutting down", timer.id());
+        }
+    }
+
+    private void fire(DeadlineTimer timer) {
+        DeadlineHandler handler = handlers.get(timer.topic());
+        if (handler == null) {
+            // 可能是滚动发布中只有新版本实例注册了该主题：按重试退避推迟，超过次数后删除
+            retryLater(timer, new IllegalStateException("No deadline handler registered for topic " + timer.topic()));
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int claimed = jdbcTemplate.update(
+                        "DELETE FROM timer.deadline_timer WHERE id = ? AND due_at = ?",
+                        timer.id(),
+                        timer.dueAt());
+                if (claimed == 1) {
+                    handler.onDeadline(timer);
+                }
+            });
+        } catch (RuntimeException ex) {
+            retryLater(timer, ex);
+        }
+    }
+
+    private void retryLater(DeadlineTimer timer, RuntimeException cause) {
+        int attempts = timer.attempts() + 1;
+        if (attempts >= properties.getMaxAttempts()) {
+            LOG.error("Deadline timer {}:{} failed {} times, giving up: {}",
+                    timer.topic(), timer.key(), attempts, cause.getMessage());
+            jdbcTemplate.update("DELETE FROM timer.deadline_timer WHERE id = ? AND due_at = ?", timer.id(), timer.dueAt());
+            return;
+        }
+        long backoffMs = Math.min(MAX_RETRY_BACKOFF_MS, properties.getRetryBackoffMs() << Math.min(attempts - 1, 20));
+        OffsetDateTime nextDue = OffsetDateTime.now().plus(Duration.ofMillis(backoffMs)).truncatedTo(ChronoUnit.MILLIS);
+        LOG.warn("Deadline timer {}:{} failed (attempt {}), retry at {}: {}",
+                timer.topic(), timer.key(), attempts, nextDue, cause.getMessage());
+        int updated = jdbcTemplate.update(
+                "UPDATE timer.deadline_timer SET due_at = ?, attempts = ? WHERE id = ? AND due_at = ?",
+                nextDue,
+                attempts,
+                timer.id(),
+                timer.dueAt());
+        if (updated == 1) {
+            enqueueIfNearTerm(new DeadlineTimer(timer.id(), timer.topic(), timer.key(), nextDue, attempts));
+        }
+    }
+
+    private UUID upsert(String topic, String key, OffsetDateTime dueAt) {
+        List<UUID> existing = jdbcTemplate.queryForList(
+                "SELECT id FROM timer.deadline_timer WHERE topic = ? AND timer_key = ?",
+                UUID.class,
+                topic,
+                key);
+        if (!existing.isEmpty()) {
+            jdbcTemplate.update("UPDATE timer.deadline_timer SET due_at = ?, attempts = 0 WHERE id = ?", dueAt, existing.get(0));
+            return existing.get(0);
+        }
+        // 同一 topic + key 的并发登记由唯一约束兜底，失败随业务事务回滚
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+                "INSERT INTO timer.deadline_timer (id, topic, timer_key, due_at, attempts) VALUES (?,?,?,?,0)",
+                id,
+                topic,
+                key,
+                dueAt);
+        return id;
+    }
+
+    private DeadlineTimer mapTimer(ResultSet rs, int rowNum) throws SQLException {
+        return new DeadlineTimer(
+                rs.getObject("id", UUID.class),
+                rs.getString("topic"),
+                rs.getString("timer_key"),
+                rs.getObject("due_at", OffsetDateTime.class),
+                rs.getInt("attempts"));
+    }
+
+    private OffsetDateTime toOffsetDateTime(long epochMs) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,150 @@
+package com.flexlease.common.timer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 分层时间轮（内存）。
+ *
+ * <p>最底层每格 {@code tickMs}，共 {@code wheelSize} 格；超出当前层跨度的条目放入上一层（每格为下层的整圈），
+ * 上层格子到期时把条目重新插入下层逐级下沉。插入为 O(1)，推进时间只处理非空格子
+ * （按格子到期时间放在优先队列中），与待触发条目的总数无关。</p>
+ *
+ * <p>条目保证不早于其到期时间触发，最多晚一个 {@code tickMs}。非线程安全，由调用方串行访问。</p>
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final PriorityQueue<Bucket<T>> queue = new PriorityQueue<>(Comparator.comparingLong(bucket -> bucket.expiration));
+    private final long tickMs;
+    private final Level root;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs and wheelSize must be positive");
+        }
+        this.tickMs = tickMs;
+        this.root = new Level(tickMs, wheelSize, startMs);
+    }
+
+    /**
+     * 插入条目；若已到期则不入轮并返回 {@code false}，由调用方立即处理。
+     */
+    public boolean add(T item, long expirationMs) {
+        // 格子按下取整到期，推迟一个刻度放入以保证不提前触发
+        if (root.add(new Entry<>(item, expirationMs + tickMs))) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 推进时钟到 {@code nowMs}，返回期间到期的条目。
+     */
+    public List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        Bucket<T> bucket;
+        while ((bucket = queue.peek()) != null && bucket.expiration <= nowMs) {
+            queue.poll();
+            root.advanceClock(bucket.expiration);
+            for (Entry<T> entry : bucket.drain()) {
+                if (!root.add(entry)) {
+                    expired.add(entry.item);
+                    size--;
+                }
+            }
+        }
+        root.advanceClock(nowMs);
+        return expired;
+    }
+
+    /**
+     * 最近一个非空格子的到期时间；没有待触发条目时返回 {@link Long#MAX_VALUE}。
+     */
+    public long nextExpirationMs() {
+        Bucket<T> bucket = queue.peek();
+        return bucket == null ? Long.MAX_VALUE : bucket.expiration;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private final class Level {
+
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket<T>[] buckets;
+        private long currentTime;
+        private Level overflow;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tickMs, int wheelSize, long startMs) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+            this.currentTime = startMs - (startMs % tickMs);
+        }
+
+        private boolean add(Entry<T> entry) {
+            long expiration = entry.expirationMs;
+            if (expiration < currentTime + tickMs) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                long virtualId = expiration / tickMs;
+                Bucket<T> bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.entries.add(entry);
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    queue.add(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(interval, wheelSize, currentTime);
+            }
+            return overflow.add(entry);
+        }
+
+        private void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private final List<Entry<T>> entries = new ArrayList<>();
+        private long expiration = -1;
+
+        private boolean setExpiration(long expirationMs) {
+            if (expiration == expirationMs) {
+                return false;
+            }
+            expiration = expirationMs;
+            return true;
+        }
+
+        private List<Entry<T>> drain() {
+            List<Entry<T>> drained = new ArrayList<>(entries);
+            entries.clear();
+            expiration = -1;
+            return drained;
+        }
+    }
+
+    private record Entry<T>(T item, long expirationMs) {
+    }
+}
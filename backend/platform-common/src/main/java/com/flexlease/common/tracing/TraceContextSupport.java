@@ -0,0 +1,79 @@
+package com.flexlease.common.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 链路追踪辅助：读取当前 trace id，以及为批量消费的消息逐条接续上游链路。
+ * <p>
+ * HTTP（RestTemplate/RestClient）与单条消息的收发由 Micrometer Observation 自动传播上下文；
+ * 批量监听器拿到的是整批消息，框架不会为每条消息建立 span，需要在这里按消息头（W3C {@code traceparent}）手动接续。
+ * 未引入追踪实现时所有方法退化为空操作。
+ */
+@Component
+public class TraceContextSupport {
+
+    private final ObjectProvider<Tracer> tracerProvider;
+    private final ObjectProvider<Propagator> propagatorProvider;
+
+    public TraceContextSupport(ObjectProvider<Tracer> tracerProvider, ObjectProvider<Propagator> propagatorProvider) {
+        this.tracerProvider = tracerProvider;
+        this.propagatorProvider = propagatorProvider;
+    }
+
+    /**
+     * 当前线程所在链路的 trace id；不在链路中时返回 {@code null}。
+     */
+    public String currentTraceId() {
+        Tracer tracer = tracerProvider.getIfAvailable();
+        if (tracer == null) {
+            return null;
+        }
+        Span span = tracer.currentSpan();
+        if (span == null) {
+            return null;
+        }
+        String traceId = span.context().traceId();
+        return traceId == null || traceId.isBlank() || isAllZero(traceId) ? null : traceId;
+    }
+
+    /**
+     * 以消息头中的上游上下文为父级开启一个消费 span 并执行 {@code action}。
+     */
+    public void runInConsumerSpan(String name, Map<String, ?> headers, Runnable action) {
+        Tracer tracer = tracerProvider.getIfAvailable();
+        Propagator propagator = propagatorProvider.getIfAvailable();
+        if (tracer == null || propagator == null) {
+            action.run();
+            return;
+        }
+        Span span = propagator.extract(headers, (carrier, key) -> {
+                    Object value = carrier.get(key);
+                    return value == null ? null : value.toString();
+                })
+                .kind(Span.Kind.CONSUMER)
+                .name(name)
+                .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            action.run();
+        } catch (RuntimeException ex) {
+            span.error(ex);
+            throw ex;
+        } finally {
+            span.end();
+        }
+    }
+
+    private boolean isAllZero(String traceId) {
+        for (int i = 0; i < traceId.length(); i++) {
+            if (traceId.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
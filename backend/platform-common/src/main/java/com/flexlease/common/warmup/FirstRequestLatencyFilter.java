@@ -0,0 +1,91 @@
+package com.flexlease.common.warmup;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 统计实例启动后前 {@code flexlease.warmup.first-requests} 个业务请求的耗时。
+ *
+ * <p>耗时计入 {@code flexlease.startup.first.requests{warmup=on|off}}，全部完成后输出一行首个请求、P50、P90 与最大耗时，
+ * 同一服务开启与关闭预热各启动一次即可对比预热对首批请求的改善。之后过滤器只做一次计数比较，不再计时。</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class FirstRequestLatencyFilter extends OncePerRequestFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FirstRequestLatencyFilter.class);
+
+    private final WarmupRunner runner;
+    private final FlexleaseMetrics metrics;
+    private final int limit;
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicLongArray latencies;
+
+    public FirstRequestLatencyFilter(WarmupRunner runner, WarmupProperties properties, FlexleaseMetrics metrics) {
+        this.runner = runner;
+        this.metrics = metrics;
+        this.limit = Math.max(0, properties.getFirstRequests());
+        this.latencies = new AtomicLongArray(limit);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return started.get() >= limit || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        int slot = started.getAndIncrement();
+        if (slot >= limit) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long begin = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - begin;
+            latencies.set(slot, elapsed);
+            metrics.startupFirstRequest(runner.isWarmedUp(), elapsed);
+            if (completed.incrementAndGet() == limit) {
+                logSummary();
+            }
+        }
+    }
+
+    private void logSummary() {
+        long[] sorted = new long[limit];
+        for (int i = 0; i < limit; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        long first = sorted[0];
+        Arrays.sort(sorted);
+        LOG.info("First {} requests after startup (warm-up {}): first {} ms, p50 {} ms, p90 {} ms, max {} ms",
+                limit,
+                runner.isWarmedUp() ? "on" : "off",
+                millis(first),
+                millis(sorted[(limit - 1) / 2]),
+                millis(sorted[(int) Math.ceil(limit * 0.9) - 1]),
+                millis(sorted[limit - 1]));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,12 @@
+package com.flexlease.common.warmup;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 注册 {@link WarmupProperties}。
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfiguration {
+}
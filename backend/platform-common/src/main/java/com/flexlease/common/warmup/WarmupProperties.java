@@ -0,0 +1,59 @@
+package com.flexlease.common.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 启动预热配置（各 Servlet 服务复用）。
+ *
+ * <p>约定配置前缀：{@code flexlease.warmup.*}。各任务轮流执行，直到都跑满 {@link #iterations} 次
+ * 或总耗时超过 {@link #durationMs}，以先到者为准。</p>
+ */
+@ConfigurationProperties(prefix = "flexlease.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+    /**
+     * 每个任务的执行次数上限。
+     */
+    private int iterations = 2000;
+    /**
+     * 预热总时长上限（毫秒），超出后剩余迭代直接放弃，实例照常启动。
+     */
+    private long durationMs = 15000;
+    /**
+     * 启动后单独统计耗时的业务请求数，用于对比开启/关闭预热时首批请求的延迟；0 表示不统计。
+     */
+    private int firstRequests = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public int getFirstRequests() {
+        return firstRequests;
+    }
+
+    public void setFirstRequests(int firstRequests) {
+        this.firstRequests = firstRequests;
+    }
+}
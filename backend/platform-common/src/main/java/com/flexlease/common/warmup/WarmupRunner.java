@@ -0,0 +1,160 @@
+package com.flexlease.common.warmup;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 在实例对外可见之前执行 {@link WarmupTask}。
+ *
+ * <p>以 {@link #PHASE} 作为生命周期阶段，早于 Eureka 自动注册（阶段 0）与 Web 服务器开始监听端口，
+ * 且在 {@code start()} 中同步执行：预热结束前实例既不会出现在注册中心，也不会通过就绪探针，
+ * 网关与其他服务的负载均衡器自然不会把请求发过来。</p>
+ *
+ * <p>各任务轮流执行，保证时长预算用完时每个任务都得到了相近的执行次数。任务抛出异常只记录一次并停止该任务，
+ * 不影响其他任务与实例启动。每个任务结束时输出首次执行与最后若干次平均耗时，直观反映 JIT 编译前后的差距。</p>
+ */
+@Component
+public class WarmupRunner implements SmartLifecycle {
+
+    /** 生命周期阶段：小于 Eureka 自动注册的阶段 0。 */
+    public static final int PHASE = -100;
+
+    private static final Logger LOG = LoggerFactory.getLogger(WarmupRunner.class);
+    private static final int TAIL_SAMPLES = 100;
+
+    private final List<WarmupTask> tasks;
+    private final WarmupProperties properties;
+    private final FlexleaseMetrics metrics;
+    private volatile boolean running;
+    private volatile boolean warmedUp;
+
+    @Autowired
+    public WarmupRunner(ObjectProvider<WarmupTask> tasks, WarmupProperties properties, FlexleaseMetrics metrics) {
+        this(tasks.orderedStream().toList(), properties, metrics);
+    }
+
+    public WarmupRunner(List<WarmupTask> tasks, WarmupProperties properties, FlexleaseMetrics metrics) {
+        this.tasks = List.copyOf(tasks);
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void start() {
+        if (properties.isEnabled() && !tasks.isEmpty() && properties.getIterations() > 0) {
+            warmedUp = runTasks();
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 是否至少有一个任务完成了预热，用于区分首批请求指标的 {@code warmup} 标签。
+     */
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    private boolean runTasks() {
+        long started = System.nanoTime();
+        long deadline = started + Duration.ofMillis(properties.getDurationMs()).toNanos();
+        List<TaskProgress> active = new ArrayList<>();
+        tasks.forEach(task -> active.add(new TaskProgress(task)));
+        boolean expired = false;
+        for (int i = 0; i < properties.getIterations() && !active.isEmpty() && !expired; i++) {
+            Iterator<TaskProgress> iterator = active.iterator();
+            while (iterator.hasNext()) {
+                if (System.nanoTime() - deadline >= 0) {
+                    expired = true;
+                    break;
+                }
+                TaskProgress progress = iterator.next();
+                if (!progress.runOnce()) {
+                    iterator.remove();
+                }
+            }
+        }
+        // 时长预算在首轮内耗尽时，排在后面的任务一次都没执行
+        active.removeIf(progress -> progress.iterations == 0);
+        active.forEach(progress -> progress.report(FlexleaseMetrics.OUTCOME_SUCCESS));
+        LOG.info("JIT warm-up finished in {} ms ({} of {} tasks completed{})",
+                Duration.ofNanos(System.nanoTime() - started).toMillis(),
+                active.size(),
+                tasks.size(),
+                expired ? ", duration budget exhausted" : "");
+        return !active.isEmpty();
+    }
+
+    private final class TaskProgress {
+
+        private final WarmupTask task;
+        private final long[] tail = new long[TAIL_SAMPLES];
+        private long firstNanos;
+        private long totalNanos;
+        private int iterations;
+
+        private TaskProgress(WarmupTask task) {
+            this.task = task;
+        }
+
+        /**
+         * @return 任务失败时返回 {@code false}，调用方不再执行该任务
+         */
+        private boolean runOnce() {
+            long begin = System.nanoTime();
+            try {
+                task.run();
+            } catch (Exception ex) {
+                totalNanos += System.nanoTime() - begin;
+                LOG.warn("Warm-up task {} failed after {} iterations and is skipped: {}", task.name(), iterations, ex.toString());
+                report(FlexleaseMetrics.OUTCOME_FAILURE);
+                return false;
+            }
+            long elapsed = System.nanoTime() - begin;
+            if (iterations == 0) {
+                firstNanos = elapsed;
+            }
+            tail[iterations % TAIL_SAMPLES] = elapsed;
+            totalNanos += elapsed;
+            iterations++;
+            return true;
+        }
+
+        private void report(String outcome) {
+            metrics.warmupTaskCompleted(task.name(), outcome, Duration.ofNanos(totalNanos));
+            if (FlexleaseMetrics.OUTCOME_SUCCESS.equals(outcome)) {
+                int samples = Math.min(iterations, TAIL_SAMPLES);
+                long sum = 0;
+                for (int i = 0; i < samples; i++) {
+                    sum += tail[i];
+                }
+                LOG.info("Warm-up task {}: {} iterations in {} ms, first {} us, last {} avg {} us",
+                        task.name(), iterations, Duration.ofNanos(totalNanos).toMillis(),
+                        firstNanos / 1000, samples, sum / samples / 1000);
+            }
+        }
+    }
+}
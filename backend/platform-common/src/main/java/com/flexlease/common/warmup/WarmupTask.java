@@ -0,0 +1,18 @@
+package com.flexlease.common.warmup;
+
+/**
+ * 启动预热任务：在实例注册到 Eureka、开始接收流量之前被 {@link WarmupRunner} 反复执行，
+ * 让 JIT 提前编译热点路径，避免最先到达的真实请求承担解释执行与类加载的开销。
+ *
+ * <p>任务只能做内存内的合成计算（组装 DTO、JSON 序列化、签名校验等），不得写库、发起远程调用或发送消息；
+ * 执行时实例尚未注册，下游服务也可能还没就绪。任务会被执行上千次，单次应控制在毫秒级以内。</p>
+ */
+public interface WarmupTask {
+
+    /**
+     * 日志与指标中的任务名，取值应固定。
+     */
+    String name();
+
+    void run() throws Exception;
+}
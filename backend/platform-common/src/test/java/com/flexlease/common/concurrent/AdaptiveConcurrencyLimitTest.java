@@ -0,0 +1,151 @@
+package com.flexlease.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.common.security.JwtAuthProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    private static final String INTERNAL_TOKEN = "internal-token";
+
+    private final FlexleaseMetrics metrics = new FlexleaseMetrics(new SimpleMeterRegistry());
+
+    @Test
+    void limitShrinksWhenLatencyRisesAndRecoversAfterwards() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(properties(100, 10, 400));
+        long now = 0;
+        for (int i = 0; i < 20; i++) {
+            now += 1000 * MS;
+            limit.onSample(now, 20 * MS, 100);
+        }
+        int steady = limit.limit();
+        assertThat(steady).isGreaterThanOrEqualTo(100);
+
+        for (int i = 0; i < 10; i++) {
+            now += 1000 * MS;
+            limit.onSample(now, 200 * MS, limit.limit());
+        }
+        int congested = limit.limit();
+        assertThat(congested).isLessThan(steady / 2);
+
+        for (int i = 0; i < 30; i++) {
+            now += 1000 * MS;
+            limit.onSample(now, 20 * MS, limit.limit());
+        }
+        assertThat(limit.limit()).isGreaterThan(congested);
+    }
+
+    @Test
+    void idleTrafficDoesNotInflateLimit() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(properties(50, 10, 400));
+        long now = 0;
+        for (int i = 0; i < 50; i++) {
+            now += 1000 * MS;
+            limit.onSample(now, 5 * MS, 1);
+        }
+        assertThat(limit.limit()).isEqualTo(50);
+    }
+
+    @Test
+    void browsingIsShedBeforeNormalAndInternalCallsKeepTheirShare() throws Exception {
+        // 上限固定为 10：浏览类 6、普通 9、关键 10
+        ConcurrencyLimitProperties properties = properties(10, 10, 10);
+        AdaptiveConcurrencyLimitFilter filter = filter(properties);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch admitted = new CountDownLatch(6);
+        FilterChain holding = (request, response) -> {
+            admitted.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            for (int i = 0; i < 6; i++) {
+                executor.submit(() -> {
+                    filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/customers/orders"),
+                            new MockHttpServletResponse(), holding);
+                    return null;
+                });
+            }
+            assertThat(admitted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            MockHttpServletResponse browsing = perform(filter, new MockHttpServletRequest("GET", "/api/v1/analytics/dashboard"));
+            assertThat(browsing.getStatus()).isEqualTo(503);
+            assertThat(browsing.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+            assertThat(browsing.getContentAsString()).contains("\"code\":" + ErrorCode.SERVICE_UNAVAILABLE.code());
+
+            MockHttpServletRequest internal = new MockHttpServletRequest("POST", "/api/v1/internal/orders/1/payment-success");
+            internal.addHeader("X-Internal-Token", INTERNAL_TOKEN);
+            assertThat(perform(filter, internal).getStatus()).isEqualTo(200);
+            assertThat(perform(filter, new MockHttpServletRequest("POST", "/api/v1/payments/1/callback")).getStatus())
+                    .isEqualTo(200);
+            assertThat(perform(filter, new MockHttpServletRequest("GET", "/api/v1/customers/orders")).getStatus())
+                    .isEqualTo(200);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(metrics.registry().get(FlexleaseMetrics.CONCURRENCY_REJECTED).tag("priority", "sheddable").counter().count())
+                .isEqualTo(1);
+        assertThat(metrics.registry().get(FlexleaseMetrics.CONCURRENCY_LIMIT).gauge().value()).isEqualTo(10);
+        assertThat(metrics.registry().get(FlexleaseMetrics.CONCURRENCY_INFLIGHT).gauge().value()).isZero();
+    }
+
+    @Test
+    void onlyConfiguredInternalTokenGrantsCriticalPriority() {
+        AdaptiveConcurrencyLimitFilter filter = filter(properties(10, 10, 10));
+
+        MockHttpServletRequest trusted = new MockHttpServletRequest("GET", "/api/v1/analytics/dashboard");
+        trusted.addHeader("X-Internal-Token", INTERNAL_TOKEN);
+        assertThat(filter.classify(trusted)).isEqualTo(RequestPriority.CRITICAL);
+
+        MockHttpServletRequest forged = new MockHttpServletRequest("GET", "/api/v1/analytics/dashboard");
+        forged.addHeader("X-Internal-Token", "forged");
+        assertThat(filter.classify(forged)).isEqualTo(RequestPriority.SHEDDABLE);
+
+        MockHttpServletRequest empty = new MockHttpServletRequest("GET", "/api/v1/customers/orders");
+        empty.addHeader("X-Internal-Token", "");
+        assertThat(filter.classify(empty)).isEqualTo(RequestPriority.NORMAL);
+    }
+
+    private AdaptiveConcurrencyLimitFilter filter(ConcurrencyLimitProperties properties) {
+        JwtAuthProperties authProperties = new JwtAuthProperties();
+        authProperties.setInternalAccessToken(INTERNAL_TOKEN);
+        return new AdaptiveConcurrencyLimitFilter(properties, authProperties, metrics, new ObjectMapper());
+    }
+
+    private MockHttpServletResponse perform(AdaptiveConcurrencyLimitFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> { });
+        return response;
+    }
+
+    private static ConcurrencyLimitProperties properties(int initial, int min, int max) {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(initial);
+        properties.setMinLimit(min);
+        properties.setMaxLimit(max);
+        properties.setMinWindowSamples(1);
+        return properties;
+    }
+}
@@ -0,0 +1,42 @@
+package com.flexlease.product.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.codec.InternalCodec;
+import com.flexlease.common.codec.InternalMessageConverter;
+import com.flexlease.common.messaging.MessagingConstants;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RabbitMQ 发布端配置（商品事件）。
+ * <p>
+ * 目录内容变更发布到 {@code product.events} 交换机，供网关失效目录响应缓存。
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "flexlease.messaging", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MessagingConfig {
+
+    @Bean
+    public TopicExchange productEventsExchange() {
+        return new TopicExchange(MessagingConstants.PRODUCT_EVENTS_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public MessageConverter internalMessageConverter(ObjectMapper objectMapper, InternalCodec codec) {
+        return new InternalMessageConverter(objectMapper, codec);
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
+        RabbitTemplate template = new RabbitTemplate(connectionFactory);
+        template.setMessageConverter(messageConverter);
+        // 发送时把当前链路上下文写入消息头（traceparent），消费端据此接续同一条 trace
+        template.setObservationEnabled(true);
+        return template;
+    }
+}
@@ -1,21 +1,40 @@
 package com.flexlease.product.config;
 
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.WebContentInterceptor;
 
 /**
  * Web MVC 配置。
  * <p>
  * 将本地文件系统中的上传目录映射为静态资源路径 {@code /media/**}，以便前端通过 Nginx / 网关直接访问。
+ * 目录接口 {@code /api/v1/catalog/**} 的内容与调用者无关，输出 {@code Cache-Control: public, max-age, stale-while-revalidate}
+ * 与基于响应体的 ETag，网关据此缓存并以 {@code If-None-Match} 重新验证；按用户区分的咨询接口不在此列。
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private static final String CATALOG_PATTERN = "/api/v1/catalog/**";
+    private static final String INQUIRY_PATTERN = "/api/v1/catalog/products/*/inquiries/**";
+
     private final StorageProperties storageProperties;
+    private final Duration catalogMaxAge;
+    private final Duration catalogStaleWhileRevalidate;
 
-    public WebConfig(StorageProperties storageProperties) {
+    public WebConfig(StorageProperties storageProperties,
+                     @Value("${flexlease.catalog.http-cache.max-age:30s}") Duration catalogMaxAge,
+                     @Value("${flexlease.catalog.http-cache.stale-while-revalidate:60s}") Duration catalogStaleWhileRevalidate) {
         this.storageProperties = storageProperties;
+        this.catalogMaxAge = catalogMaxAge;
+        this.catalogStaleWhileRevalidate = catalogStaleWhileRevalidate;
     }
 
     @Override
@@ -25,4 +44,23 @@ public class WebConfig implements WebMvcConfigurer {
                 .addResourceLocations(location)
                 .setCachePeriod(3600);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        WebContentInterceptor interceptor = new WebContentInterceptor();
+        interceptor.addCacheMapping(CacheControl.maxAge(catalogMaxAge)
+                .staleWhileRevalidate(catalogStaleWhileRevalidate)
+                .cachePublic(), CATALOG_PATTERN);
+        registry.addInterceptor(interceptor).addPathPatterns(CATALOG_PATTERN).excludePathPatterns(INQUIRY_PATTERN);
+    }
+
+    /**
+     * 目录响应的 ETag；请求携带匹配的 {@code If-None-Match} 时返回 304，省去响应体传输。
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> catalogEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/v1/catalog/*");
+        return registration;
+    }
 }
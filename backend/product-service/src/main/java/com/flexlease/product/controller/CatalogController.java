@@ -3,8 +3,10 @@ package com.flexlease.product.controller;
 import com.flexlease.common.dto.ApiResponse;
 import com.flexlease.product.domain.RentalPlanType;
 import com.flexlease.product.dto.CatalogProductResponse;
+import com.flexlease.product.dto.CatalogSearchResponse;
 import com.flexlease.product.dto.PagedResponse;
 import com.flexlease.product.service.CatalogQueryService;
+import com.flexlease.product.service.CatalogSearchService;
 import java.math.BigDecimal;
 import java.util.Locale;
 import java.util.UUID;
@@ -20,16 +22,19 @@ import org.springframework.web.bind.annotation.RestController;
 /**
  * C 端商品目录（Catalog）接口。
  * <p>
- * 用于前台列表/详情页展示已上架商品，支持按类目/关键词/租赁类型/押金区间筛选与按租金排序。
+ * 用于前台列表/详情页展示已上架商品，支持按类目/关键词/租赁类型/押金区间筛选与按租金排序；
+ * {@code /search} 额外返回相关度排序结果与分面统计。
  */
 @RestController
 @RequestMapping("/api/v1/catalog/products")
 public class CatalogController {
 
     private final CatalogQueryService catalogQueryService;
+    private final CatalogSearchService catalogSearchService;
 
-    public CatalogController(CatalogQueryService catalogQueryService) {
+    public CatalogController(CatalogQueryService catalogQueryService, CatalogSearchService catalogSearchService) {
         this.catalogQueryService = catalogQueryService;
+        this.catalogSearchService = catalogSearchService;
     }
 
     @GetMapping
@@ -46,6 +51,20 @@ public class CatalogController {
         return ApiResponse.success(catalogQueryService.listActive(categoryCode, keyword, planType, minDeposit, maxDeposit, normalizedSort, pageable));
     }
 
+    @GetMapping("/search")
+    public ApiResponse<CatalogSearchResponse> search(@RequestParam(required = false) String keyword,
+                                                     @RequestParam(required = false) String categoryCode,
+                                                     @RequestParam(required = false) RentalPlanType planType,
+                                                     @RequestParam(required = false) BigDecimal minDeposit,
+                                                     @RequestParam(required = false) BigDecimal maxDeposit,
+                                                     @RequestParam(required = false) String rentSort,
+                                                     @RequestParam(defaultValue = "1") int page,
+                                                     @RequestParam(defaultValue = "10") int size) {
+        Pageable pageable = PageRequest.of(Math.max(page - 1, 0), Math.max(1, Math.min(size, 100)));
+        String normalizedSort = rentSort == null || rentSort.isBlank() ? null : rentSort.trim().toUpperCase(Locale.ROOT);
+        return ApiResponse.success(catalogSearchService.search(keyword, categoryCode, planType, minDeposit, maxDeposit, normalizedSort, pageable));
+    }
+
     @GetMapping("/{productId}")
     public ApiResponse<CatalogProductResponse> get(@PathVariable UUID productId) {
         return ApiResponse.success(catalogQueryService.getProduct(productId));
@@ -0,0 +1,42 @@
+package com.flexlease.product.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 目录检索响应：按相关度排序的分页结果与分面统计。
+ * <p>
+ * 分面采用“侧向钻取”口径：某一维度的计数忽略该维度自身的筛选条件，但应用其余条件，便于前台切换选项。
+ */
+public record CatalogSearchResponse(
+        PagedResponse<CatalogProductResponse> results,
+        Facets facets
+) {
+
+    /**
+     * 分面统计集合。
+     */
+    public record Facets(
+            List<FacetCount> categories,
+            List<FacetCount> planTypes,
+            List<DepositRangeCount> depositRanges
+    ) {}
+
+    /**
+     * 离散取值的命中商品数。
+     */
+    public record FacetCount(
+            String value,
+            long count
+    ) {}
+
+    /**
+     * 押金区间 [min, max) 的命中商品数；max 为空表示无上限。
+     */
+    public record DepositRangeCount(
+            String key,
+            BigDecimal min,
+            BigDecimal max,
+            long count
+    ) {}
+}
@@ -9,7 +9,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
@@ -40,7 +39,6 @@ public class NotificationClient {
     public void send(NotificationSendRequest request) {
         try {
             HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
             headers.set("X-Internal-Token", jwtAuthProperties.getInternalAccessToken());
             ResponseEntity<ApiResponse> response = restTemplate.postForEntity(
                     properties.getBaseUrl() + "/notifications/send",
@@ -2,6 +2,8 @@ package com.flexlease.product.repository;
 
 import com.flexlease.product.domain.Product;
 import com.flexlease.product.domain.ProductStatus;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -43,4 +45,10 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
      */
     @EntityGraph(attributePaths = {"rentalPlans", "rentalPlans.skus", "mediaAssets"})
     Optional<Product> findWithPlansByIdAndVendorId(UUID id, UUID vendorId);
+
+    /**
+     * 批量预加载租赁方案、SKU 与媒体资源，用于检索结果组装。
+     */
+    @EntityGraph(attributePaths = {"rentalPlans", "rentalPlans.skus", "mediaAssets"})
+    List<Product> findWithPlansByIdIn(Collection<UUID> ids);
 }
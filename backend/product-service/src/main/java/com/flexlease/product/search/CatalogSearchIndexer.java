@@ -0,0 +1,202 @@
+package com.flexlease.product.search;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.product.domain.ProductSkuStatus;
+import com.flexlease.product.domain.ProductStatus;
+import com.flexlease.product.domain.RentalPlanStatus;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 目录检索索引维护。
+ * <p>
+ * 商品、租赁方案、SKU 的写操作通过 {@link #markDirty(UUID)} 登记受影响的商品，同一事务内去重，
+ * 在事务提交前（实体变更已 flush）统一重建这些商品的索引行，使索引与业务数据同事务提交。
+ * 只有上架（ACTIVE）商品会被收录，其余状态在重建时直接移出索引。
+ */
+@Component
+public class CatalogSearchIndexer {
+
+    public static final int NAME_WEIGHT = 10;
+    public static final int CATEGORY_WEIGHT = 4;
+    public static final int SKU_WEIGHT = 3;
+    public static final int DESCRIPTION_WEIGHT = 2;
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogSearchIndexer.class);
+    private static final Object DIRTY_PRODUCTS_KEY = new Object();
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public CatalogSearchIndexer(JdbcTemplate jdbcTemplate,
+                                EntityManager entityManager,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 登记需要刷新索引的商品；无事务时立即刷新。
+     */
+    @SuppressWarnings("unchecked")
+    public void markDirty(UUID productId) {
+        if (productId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> reindex(productId));
+            return;
+        }
+        Set<UUID> dirty = (Set<UUID>) TransactionSynchronizationManager.getResource(DIRTY_PRODUCTS_KEY);
+        if (dirty == null) {
+            Set<UUID> pending = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(DIRTY_PRODUCTS_KEY, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    entityManager.flush();
+                    // 按固定顺序加锁，同时修改多个商品的事务之间不会互相等待成环
+                    pending.stream().sorted().forEach(CatalogSearchIndexer.this::reindex);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DIRTY_PRODUCTS_KEY);
+                }
+            });
+            dirty = pending;
+        }
+        dirty.add(productId);
+    }
+
+    /**
+     * 启动时补齐缺失的索引（首次上线或索引表被清空后），按批次提交。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissing() {
+        List<UUID> missing = jdbcTemplate.queryForList("""
+                SELECT p.id FROM product.product p
+                WHERE p.status = ?
+                  AND NOT EXISTS (SELECT 1 FROM product.catalog_search_document d WHERE d.product_id = p.id)
+                """, UUID.class, ProductStatus.ACTIVE.name());
+        if (missing.isEmpty()) {
+            return;
+        }
+        for (int from = 0; from < missing.size(); from += BACKFILL_BATCH_SIZE) {
+            List<UUID> batch = missing.subList(from, Math.min(from + BACKFILL_BATCH_SIZE, missing.size()));
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::reindex));
+        }
+        LOG.info("Backfilled catalog search index for {} products", missing.size());
+    }
+
+    /**
+     * 以数据库当前数据重建单个商品的索引行，需在事务内调用。
+     * <p>
+     * 先锁定商品行：并发修改同一商品不同 SKU/方案的事务会在此排队，后者在前者提交后再删除重建，
+     * 避免两边都删空后各自插入索引行而主键冲突。
+     */
+    public void reindex(UUID productId) {
+        List<ProductRow> products = jdbcTemplate.query("""
+                SELECT name, category_code, description, status, created_at
+                FROM product.product WHERE id = ?
+                FOR UPDATE
+                """, (rs, rowNum) -> new ProductRow(
+                rs.getString("name"),
+                rs.getString("category_code"),
+                rs.getString("description"),
+                rs.getString("status"),
+                rs.getObject("created_at", OffsetDateTime.class)
+        ), productId);
+        jdbcTemplate.update("DELETE FROM product.catalog_search_document WHERE product_id = ?", productId);
+        if (products.isEmpty() || !ProductStatus.ACTIVE.name().equals(products.getFirst().status())) {
+            return;
+        }
+        ProductRow product = products.getFirst();
+        List<PlanRow> plans = jdbcTemplate.query("""
+                SELECT id, plan_type, deposit_amount, rent_amount_monthly
+                FROM product.rental_plan WHERE product_id = ? AND status = ?
+                """, (rs, rowNum) -> new PlanRow(
+                rs.getObject("id", UUID.class),
+                rs.getString("plan_type"),
+                rs.getBigDecimal("deposit_amount"),
+                rs.getBigDecimal("rent_amount_monthly")
+        ), productId, RentalPlanStatus.ACTIVE.name());
+        List<String> skuTexts = new ArrayList<>();
+        jdbcTemplate.query("""
+                SELECT sku_code, attributes FROM product.product_sku WHERE product_id = ? AND status = ?
+                """, rs -> {
+            skuTexts.add(rs.getString("sku_code"));
+            skuTexts.addAll(attributeValues(rs.getString("attributes")));
+        }, productId, ProductSkuStatus.ACTIVE.name());
+
+        Map<String, Integer> weights = new HashMap<>();
+        CatalogSearchTokenizer.index(product.name(), NAME_WEIGHT, weights);
+        CatalogSearchTokenizer.index(product.categoryCode(), CATEGORY_WEIGHT, weights);
+        CatalogSearchTokenizer.index(String.join(" ", skuTexts), SKU_WEIGHT, weights);
+        CatalogSearchTokenizer.index(product.description(), DESCRIPTION_WEIGHT, weights);
+
+        jdbcTemplate.update("""
+                INSERT INTO product.catalog_search_document (product_id, category_code, created_at, indexed_at)
+                VALUES (?, ?, ?, ?)
+                """, productId, product.categoryCode(), product.createdAt(), OffsetDateTime.now());
+        List<Object[]> termRows = weights.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), productId, entry.getValue()})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO product.catalog_search_term (term, product_id, weight) VALUES (?, ?, ?)", termRows);
+        List<Object[]> planRows = plans.stream()
+                .map(plan -> new Object[]{plan.id(), productId, plan.planType(), plan.depositAmount(), plan.rentAmountMonthly()})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO product.catalog_search_plan (plan_id, product_id, plan_type, deposit_amount, rent_amount_monthly)
+                VALUES (?, ?, ?, ?, ?)
+                """, planRows);
+    }
+
+    private List<String> attributeValues(String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            Map<String, Object> attributes = objectMapper.readValue(json, new TypeReference<>() {
+            });
+            return attributes.values().stream()
+                    .filter(value -> value != null)
+                    .map(String::valueOf)
+                    .toList();
+        } catch (Exception ex) {
+            LOG.debug("Skip unreadable sku attributes: {}", ex.getMessage());
+            return List.of();
+        }
+    }
+
+    private record ProductRow(String name, String categoryCode, String description, String status, OffsetDateTime createdAt) {
+    }
+
+    private record PlanRow(UUID id, String planType, BigDecimal depositAmount, BigDecimal rentAmountMonthly) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.flexlease.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 目录检索分词器。
+ * <p>
+ * 文本先做 NFKC 归一化并转小写，再切分为两类片段：
+ * <ul>
+ *     <li>字母数字片段：整词入索引，同时写入长度 ≥ 2 的前缀，支持边输入边检索；</li>
+ *     <li>中日韩文字片段：按单字与二元组（bigram）入索引，查询时优先使用二元组。</li>
+ * </ul>
+ * 索引端与查询端共用同一套归一化规则，保证两端切出的词项一致。
+ */
+public final class CatalogSearchTokenizer {
+
+    public static final int MAX_TERM_LENGTH = 64;
+    private static final int MAX_PREFIX_LENGTH = 20;
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private CatalogSearchTokenizer() {
+    }
+
+    /**
+     * 将字段文本切分为带权词项，累加到 {@code weights}：同一词项在同一字段内只计一次，跨字段叠加。
+     *
+     * @param fieldWeight 字段权重；前缀与单字按半权计入
+     */
+    public static void index(String text, int fieldWeight, Map<String, Integer> weights) {
+        Map<String, Integer> field = new LinkedHashMap<>();
+        for (Segment segment : segments(text)) {
+            String value = segment.value();
+            if (segment.cjk()) {
+                int half = Math.max(1, fieldWeight / 2);
+                for (int i = 0; i < value.length(); i++) {
+                    field.merge(value.substring(i, i + 1), half, Math::max);
+                    if (i + 1 < value.length()) {
+                        field.merge(value.substring(i, i + 2), fieldWeight, Math::max);
+                    }
+                }
+            } else {
+                String word = truncate(value);
+                field.merge(word, fieldWeight, Math::max);
+                int half = Math.max(1, fieldWeight / 2);
+                int maxPrefix = Math.min(word.length() - 1, MAX_PREFIX_LENGTH);
+                for (int length = MIN_PREFIX_LENGTH; length <= maxPrefix; length++) {
+                    field.merge(word.substring(0, length), half, Math::max);
+                }
+            }
+        }
+        field.forEach((term, weight) -> weights.merge(term, weight, Integer::sum));
+    }
+
+    /**
+     * 将查询串切分为需要全部命中的词项集合。
+     */
+    public static Set<String> query(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (Segment segment : segments(text)) {
+            String value = segment.value();
+            if (!segment.cjk()) {
+                terms.add(truncate(value));
+            } else if (value.length() == 1) {
+                terms.add(value);
+            } else {
+                for (int i = 0; i + 1 < value.length(); i++) {
+                    terms.add(value.substring(i, i + 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 查询串能否交给倒排索引检索：切不出词项，或含单个字符的字母数字片段（索引不写单字符前缀）时返回 {@code false}，
+     * 由调用方改用商品名子串匹配。
+     */
+    public static boolean indexable(String text) {
+        List<Segment> segments = segments(text);
+        return !segments.isEmpty()
+                && segments.stream().allMatch(segment -> segment.cjk() || segment.value().length() >= MIN_PREFIX_LENGTH);
+    }
+
+    private static List<Segment> segments(String text) {
+        List<Segment> segments = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return segments;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        boolean currentCjk = false;
+        int offset = 0;
+        while (offset < normalized.length()) {
+            int codePoint = normalized.codePointAt(offset);
+            offset += Character.charCount(codePoint);
+            boolean cjk = isCjk(codePoint);
+            boolean wordChar = cjk || Character.isLetterOrDigit(codePoint);
+            if (!wordChar || (!current.isEmpty() && cjk != currentCjk)) {
+                flush(current, currentCjk, segments);
+            }
+            if (wordChar) {
+                current.appendCodePoint(codePoint);
+                currentCjk = cjk;
+            }
+        }
+        flush(current, currentCjk, segments);
+        return segments;
+    }
+
+    private static void flush(StringBuilder current, boolean cjk, List<Segment> segments) {
+        if (!current.isEmpty()) {
+            segments.add(new Segment(current.toString(), cjk));
+            current.setLength(0);
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_TERM_LENGTH ? value.substring(0, MAX_TERM_LENGTH) : value;
+    }
+
+    private record Segment(String value, boolean cjk) {
+    }
+}
@@ -0,0 +1,316 @@
+package com.flexlease.product.service;
+
+import com.flexlease.product.domain.Product;
+import com.flexlease.product.domain.RentalPlanType;
+import com.flexlease.product.dto.CatalogProductResponse;
+import com.flexlease.product.dto.CatalogSearchResponse;
+import com.flexlease.product.dto.PagedResponse;
+import com.flexlease.product.repository.ProductRepository;
+import com.flexlease.product.search.CatalogSearchTokenizer;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * 目录检索服务：基于 {@code catalog_search_*} 倒排索引完成关键词匹配、相关度排序、筛选、分页与分面统计。
+ * <p>
+ * 关键词切分后的词项需全部命中（AND 语义），相关度为命中词项的权重之和（商品名 &gt; 类目 &gt; SKU 属性 &gt; 描述）；
+ * 方案类型与押金区间筛选要求同一个启用中的方案同时满足。分页在数据库侧完成，只为当前页加载商品实体。
+ * <p>
+ * 索引只支持整词与词首前缀：关键词过短（单个字母或数字）时直接按商品名子串匹配，索引无命中（如 {@code phone}
+ * 之于 {@code iPhone}）时再按子串匹配重查一次，保证结果不少于原先的名称模糊查询。第一页不足一页时不再单独计数。
+ */
+@Service
+@Transactional(Transactional.TxType.SUPPORTS)
+public class CatalogSearchService {
+
+    private static final int MAX_QUERY_TERMS = 16;
+    private static final List<DepositRange> DEPOSIT_RANGES = List.of(
+            new DepositRange("0-500", BigDecimal.ZERO, new BigDecimal("500")),
+            new DepositRange("500-2000", new BigDecimal("500"), new BigDecimal("2000")),
+            new DepositRange("2000-5000", new BigDecimal("2000"), new BigDecimal("5000")),
+            new DepositRange("5000+", new BigDecimal("5000"), null)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final ProductAssembler assembler;
+
+    public CatalogSearchService(NamedParameterJdbcTemplate jdbcTemplate,
+                                ProductRepository productRepository,
+                                ProductAssembler assembler) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.assembler = assembler;
+    }
+
+    public CatalogSearchResponse search(String keyword,
+                                        String categoryCode,
+                                        RentalPlanType planType,
+                                        BigDecimal minDeposit,
+                                        BigDecimal maxDeposit,
+                                        String rentSort,
+                                        Pageable pageable) {
+        Hits hits = find(new SearchQuery(keyword, categoryCode, planType, minDeposit, maxDeposit), rentSort, pageable);
+        SearchQuery query = hits.query();
+        return new CatalogSearchResponse(
+                toPagedResponse(hits.ids()),
+                new CatalogSearchResponse.Facets(categoryFacet(query), planTypeFacet(query), depositFacet(query))
+        );
+    }
+
+    /**
+     * 仅返回分页结果，供目录列表接口复用。
+     */
+    public PagedResponse<CatalogProductResponse> list(String keyword,
+                                                      String categoryCode,
+                                                      RentalPlanType planType,
+                                                      BigDecimal minDeposit,
+                                                      BigDecimal maxDeposit,
+                                                      String rentSort,
+                                                      Pageable pageable) {
+        return toPagedResponse(find(new SearchQuery(keyword, categoryCode, planType, minDeposit, maxDeposit), rentSort, pageable).ids());
+    }
+
+    /**
+     * 先按索引检索，无命中时退回商品名子串匹配；返回实际采用的查询，分面统计与之保持一致。
+     */
+    private Hits find(SearchQuery query, String rentSort, Pageable pageable) {
+        Pageable request = PageRequest.of(Math.max(pageable.getPageNumber(), 0), Math.max(pageable.getPageSize(), 1));
+        Page<UUID> ids = pageIds(query, rentSort, request);
+        if (ids.getTotalElements() == 0 && query.indexed()) {
+            query = query.byName();
+            ids = pageIds(query, rentSort, request);
+        }
+        return new Hits(query, ids);
+    }
+
+    private Page<UUID> pageIds(SearchQuery query, String rentSort, Pageable pageable) {
+        MapSqlParameterSource params = query.params()
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+        List<UUID> ids = jdbcTemplate.queryForList(query.with()
+                + "SELECT d.product_id " + query.from(true, true, true)
+                + query.orderBy(rentSort)
+                + " LIMIT :limit OFFSET :offset", params, UUID.class);
+        return PageableExecutionUtils.getPage(ids, pageable, () -> {
+            Long total = jdbcTemplate.queryForObject(query.with() + "SELECT COUNT(*) " + query.from(true, true, true),
+                    query.params(), Long.class);
+            return total == null ? 0 : total;
+        });
+    }
+
+    private PagedResponse<CatalogProductResponse> toPagedResponse(Page<UUID> ids) {
+        Map<UUID, Product> products = ids.isEmpty() ? Map.of() : productRepository.findWithPlansByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<CatalogProductResponse> content = ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(assembler::toCatalog)
+                .toList();
+        return new PagedResponse<>(content, ids.getNumber() + 1, ids.getSize(), ids.getTotalElements(), ids.getTotalPages());
+    }
+
+    private List<CatalogSearchResponse.FacetCount> categoryFacet(SearchQuery query) {
+        return jdbcTemplate.query(query.with()
+                        + "SELECT d.category_code AS facet_value, COUNT(*) AS facet_count " + query.from(false, true, true)
+                        + " GROUP BY d.category_code ORDER BY facet_count DESC, facet_value",
+                query.params(),
+                (rs, rowNum) -> new CatalogSearchResponse.FacetCount(rs.getString("facet_value"), rs.getLong("facet_count")));
+    }
+
+    private List<CatalogSearchResponse.FacetCount> planTypeFacet(SearchQuery query) {
+        return jdbcTemplate.query(query.with()
+                        + "SELECT f.plan_type AS facet_value, COUNT(DISTINCT f.product_id) AS facet_count"
+                        + " FROM product.catalog_search_plan f"
+                        + " WHERE f.product_id IN (SELECT d.product_id " + query.from(true, false, false) + ")"
+                        + query.planCondition("f", false, true)
+                        + " GROUP BY f.plan_type ORDER BY facet_count DESC, facet_value",
+                query.params(),
+                (rs, rowNum) -> new CatalogSearchResponse.FacetCount(rs.getString("facet_value"), rs.getLong("facet_count")));
+    }
+
+    private List<CatalogSearchResponse.DepositRangeCount> depositFacet(SearchQuery query) {
+        StringBuilder bucket = new StringBuilder("CASE");
+        for (int i = 0; i < DEPOSIT_RANGES.size() - 1; i++) {
+            bucket.append(" WHEN f.deposit_amount < ").append(DEPOSIT_RANGES.get(i).max().toPlainString())
+                    .append(" THEN ").append(i);
+        }
+        bucket.append(" ELSE ").append(DEPOSIT_RANGES.size() - 1).append(" END");
+        Map<Integer, Long> counts = new HashMap<>();
+        jdbcTemplate.query(query.with()
+                        + "SELECT " + bucket + " AS bucket, COUNT(DISTINCT f.product_id) AS facet_count"
+                        + " FROM product.catalog_search_plan f"
+                        + " WHERE f.product_id IN (SELECT d.product_id " + query.from(true, false, false) + ")"
+                        + query.planCondition("f", true, false)
+                        + " GROUP BY " + bucket,
+                query.params(),
+                rs -> {
+                    counts.put(rs.getInt("bucket"), rs.getLong("facet_count"));
+                });
+        List<CatalogSearchResponse.DepositRangeCount> ranges = new ArrayList<>();
+        for (int i = 0; i < DEPOSIT_RANGES.size(); i++) {
+            DepositRange range = DEPOSIT_RANGES.get(i);
+            ranges.add(new CatalogSearchResponse.DepositRangeCount(range.key(), range.min(), range.max(), counts.getOrDefault(i, 0L)));
+        }
+        return ranges;
+    }
+
+    private record DepositRange(String key, BigDecimal min, BigDecimal max) {
+    }
+
+    private record Hits(SearchQuery query, Page<UUID> ids) {
+    }
+
+    /**
+     * 一次检索的条件及其 SQL 片段；分面查询通过开关排除自身维度的条件。
+     */
+    private static final class SearchQuery {
+
+        private final String keyword;
+        private final List<String> terms;
+        private final String namePattern;
+        private final String categoryCode;
+        private final RentalPlanType planType;
+        private final BigDecimal minDeposit;
+        private final BigDecimal maxDeposit;
+
+        private SearchQuery(String keyword,
+                            String categoryCode,
+                            RentalPlanType planType,
+                            BigDecimal minDeposit,
+                            BigDecimal maxDeposit) {
+            this(keyword, !StringUtils.hasText(keyword) || CatalogSearchTokenizer.indexable(keyword),
+                    StringUtils.hasText(categoryCode) ? categoryCode.trim() : null, planType, minDeposit, maxDeposit);
+        }
+
+        private SearchQuery(String keyword,
+                            boolean indexed,
+                            String categoryCode,
+                            RentalPlanType planType,
+                            BigDecimal minDeposit,
+                            BigDecimal maxDeposit) {
+            this.keyword = keyword;
+            if (indexed) {
+                Set<String> queryTerms = CatalogSearchTokenizer.query(keyword);
+                this.terms = queryTerms.stream().limit(MAX_QUERY_TERMS).toList();
+                this.namePattern = null;
+            } else {
+                this.terms = List.of();
+                this.namePattern = "%" + escapeLike(keyword.trim().toLowerCase(Locale.ROOT)) + "%";
+            }
+            this.categoryCode = categoryCode;
+            this.planType = planType;
+            this.minDeposit = minDeposit;
+            this.maxDeposit = maxDeposit;
+        }
+
+        /**
+         * 是否按索引词项检索（有关键词且未退回子串匹配）。
+         */
+        private boolean indexed() {
+            return !terms.isEmpty();
+        }
+
+        /**
+         * 同样的筛选条件，改按商品名子串（忽略大小写）匹配关键词。
+         */
+        private SearchQuery byName() {
+            return new SearchQuery(keyword, false, categoryCode, planType, minDeposit, maxDeposit);
+        }
+
+        private static String escapeLike(String value) {
+            return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        }
+
+        private MapSqlParameterSource params() {
+            MapSqlParameterSource params = new MapSqlParameterSource();
+            if (!terms.isEmpty()) {
+                params.addValue("terms", terms).addValue("termCount", terms.size());
+            }
+            if (namePattern != null) {
+                params.addValue("namePattern", namePattern);
+            }
+            params.addValue("categoryCode", categoryCode);
+            params.addValue("planType", planType == null ? null : planType.name());
+            params.addValue("minDeposit", minDeposit);
+            params.addValue("maxDeposit", maxDeposit);
+            return params;
+        }
+
+        private String with() {
+            if (terms.isEmpty()) {
+                return "";
+            }
+            return "WITH hits AS (SELECT t.product_id, SUM(t.weight) AS score"
+                    + " FROM product.catalog_search_term t WHERE t.term IN (:terms)"
+                    + " GROUP BY t.product_id HAVING COUNT(*) = :termCount) ";
+        }
+
+        private String from(boolean withCategory, boolean withPlanType, boolean withDeposit) {
+            StringBuilder sql = new StringBuilder(terms.isEmpty()
+                    ? "FROM product.catalog_search_document d WHERE 1 = 1"
+                    : "FROM hits h JOIN product.catalog_search_document d ON d.product_id = h.product_id WHERE 1 = 1");
+            if (namePattern != null) {
+                sql.append(" AND EXISTS (SELECT 1 FROM product.product n WHERE n.id = d.product_id")
+                        .append(" AND LOWER(n.name) LIKE :namePattern ESCAPE '\\')");
+            }
+            if (withCategory && categoryCode != null) {
+                sql.append(" AND d.category_code = :categoryCode");
+            }
+            String planCondition = planCondition("p", withPlanType, withDeposit);
+            if (!planCondition.isEmpty()) {
+                sql.append(" AND EXISTS (SELECT 1 FROM product.catalog_search_plan p WHERE p.product_id = d.product_id")
+                        .append(planCondition)
+                        .append(")");
+            }
+            return sql.toString();
+        }
+
+        private String planCondition(String alias, boolean withPlanType, boolean withDeposit) {
+            StringBuilder sql = new StringBuilder();
+            if (withPlanType && planType != null) {
+                sql.append(" AND ").append(alias).append(".plan_type = :planType");
+            }
+            if (withDeposit && minDeposit != null) {
+                sql.append(" AND ").append(alias).append(".deposit_amount >= :minDeposit");
+            }
+            if (withDeposit && maxDeposit != null) {
+                sql.append(" AND ").append(alias).append(".deposit_amount <= :maxDeposit");
+            }
+            return sql.toString();
+        }
+
+        private String orderBy(String rentSort) {
+            StringBuilder sql = new StringBuilder(" ORDER BY ");
+            if ("RENT_ASC".equalsIgnoreCase(rentSort) || "RENT_DESC".equalsIgnoreCase(rentSort)) {
+                sql.append("(SELECT MIN(r.rent_amount_monthly) FROM product.catalog_search_plan r WHERE r.product_id = d.product_id")
+                        .append(planType == null ? "" : " AND r.plan_type = :planType")
+                        .append(") ")
+                        .append("RENT_ASC".equalsIgnoreCase(rentSort) ? "ASC" : "DESC")
+                        .append(" NULLS LAST, ");
+            }
+            if (!terms.isEmpty()) {
+                sql.append("h.score DESC, ");
+            }
+            return sql.append("d.created_at DESC, d.product_id").toString();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.flexlease.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.dto.ApiResponse;
+import com.flexlease.common.warmup.WarmupTask;
+import com.flexlease.product.domain.Product;
+import com.flexlease.product.domain.ProductSku;
+import com.flexlease.product.domain.RentalPlan;
+import com.flexlease.product.domain.RentalPlanType;
+import com.flexlease.product.dto.CatalogProductResponse;
+import com.flexlease.product.dto.PagedResponse;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * 预热商品目录：一页合成商品经 {@link ProductAssembler#toCatalog} 组装后序列化为目录列表响应，
+ * 再单独序列化一次商品详情（厂商视图）。
+ *
+ * <p>合成商品只在内存中构造、从不持久化；每个商品带一个未启用方案，覆盖目录组装时的状态过滤。</p>
+ */
+@Component
+public class CatalogWarmupTask implements WarmupTask {
+
+    private static final int PAGE_SIZE = 12;
+    private static final int SKUS_PER_PLAN = 3;
+
+    private final ProductAssembler assembler;
+    private final ObjectMapper objectMapper;
+    private final List<Product> products = new ArrayList<>();
+
+    public CatalogWarmupTask(ProductAssembler assembler, ObjectMapper objectMapper) {
+        this.assembler = assembler;
+        this.objectMapper = objectMapper;
+        UUID vendorId = UUID.randomUUID();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            products.add(syntheticProduct(vendorId, i));
+        }
+    }
+
+    @Override
+    public String name() {
+        return "catalog";
+    }
+
+    @Override
+    public void run() throws Exception {
+        List<CatalogProductResponse> content = products.stream().map(assembler::toCatalog).toList();
+        objectMapper.writeValueAsBytes(ApiResponse.success(new PagedResponse<>(content, 1, PAGE_SIZE, PAGE_SIZE, 1)));
+        objectMapper.writeValueAsBytes(ApiResponse.success(assembler.toProductResponse(products.get(0))));
+    }
+
+    private Product syntheticProduct(UUID vendorId, int index) {
+        Product product = Product.create(vendorId, "预热商品-" + index, "WARMUP", "仅用于启动预热的合成商品", null);
+        product.activate();
+        RentalPlanType[] planTypes = RentalPlanType.values();
+        for (int p = 0; p < planTypes.length; p++) {
+            BigDecimal deposit = BigDecimal.valueOf(1000L + index * 100L);
+            RentalPlan plan = RentalPlan.create(product,
+                    planTypes[p],
+                    12,
+                    deposit,
+                    new BigDecimal("199.90"),
+                    planTypes[p] == RentalPlanType.STANDARD ? null : deposit.multiply(BigDecimal.TEN),
+                    true,
+                    "MONTH",
+                    new BigDecimal("189.90"));
+            if (p < planTypes.length - 1) {
+                plan.activate();
+            }
+            for (int s = 0; s < SKUS_PER_PLAN; s++) {
+                String attributes = assembler.writeAttributes(Map.of("color", "色" + s, "capacity", (s + 1) * 128 + "G"));
+                plan.getSkus().add(ProductSku.create(product, plan, "WARMUP-" + index + "-" + p + "-" + s, attributes, 10));
+            }
+            product.getRentalPlans().add(plan);
+        }
+        return product;
+    }
+}
@@ -2,6 +2,7 @@ package com.flexlease.product.service;
 
 import com.flexlease.common.exception.BusinessException;
 import com.flexlease.common.exception.ErrorCode;
+import com.flexlease.common.metrics.FlexleaseMetrics;
 import com.flexlease.product.config.InventoryConcurrencyProperties;
 import com.flexlease.product.domain.InventoryChangeType;
 import com.flexlease.product.domain.InventorySnapshot;
@@ -10,6 +11,7 @@ import com.flexlease.product.dto.InventoryReservationBatchRequest;
 import com.flexlease.product.dto.InventoryReservationItemRequest;
 import com.flexlease.product.repository.InventorySnapshotRepository;
 import com.flexlease.product.repository.ProductSkuRepository;
+import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
@@ -34,6 +36,7 @@ public class InventoryReservationService {
      *   <li>通过 {@link ProductSku#getVersion()} 的乐观锁控制并发写入冲突</li>
      *   <li>发生 {@link OptimisticLockingFailureException} 时按配置做重试与退避</li>
      *   <li>每条库存变更都会写入 {@link InventorySnapshot} 形成流水</li>
+     *   <li>重试次数与批次耗时记录到 {@link FlexleaseMetrics}</li>
      * </ul>
      */
     private final ProductSkuRepository productSkuRepository;
@@ -41,11 +44,13 @@ public class InventoryReservationService {
     private final TransactionTemplate transactionTemplate;
     private final int maxAttempts;
     private final Duration backoff;
+    private final FlexleaseMetrics metrics;
 
     public InventoryReservationService(ProductSkuRepository productSkuRepository,
                                        InventorySnapshotRepository inventorySnapshotRepository,
                                        PlatformTransactionManager transactionManager,
-                                       InventoryConcurrencyProperties concurrencyProperties) {
+                                       InventoryConcurrencyProperties concurrencyProperties,
+                                       FlexleaseMetrics metrics) {
         this.productSkuRepository = productSkuRepository;
         this.inventorySnapshotRepository = inventorySnapshotRepository;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
@@ -53,6 +58,7 @@ public class InventoryReservationService {
         this.maxAttempts = Math.max(1, concurrency.getMaxAttempts());
         Duration configuredBackoff = concurrency.getBackoff();
         this.backoff = configuredBackoff == null ? Duration.ZERO : configuredBackoff;
+        this.metrics = metrics;
     }
 
     /**
@@ -61,21 +67,30 @@ public class InventoryReservationService {
      * 该方法会将一次批量请求放在事务中执行；如遇乐观锁冲突，则回滚并整体重试，确保批次内命令“要么都成功，要么都失败”。
      */
     public void processReservations(InventoryReservationBatchRequest request) {
+        Timer.Sample sample = metrics.startTimer();
+        String outcome = "rejected";
         int attempt = 0;
-        while (true) {
-            try {
-                transactionTemplate.executeWithoutResult(status -> processOnce(request));
-                return;
-            } catch (OptimisticLockingFailureException ex) {
-                attempt++;
-                if (attempt >= maxAttempts) {
-                    LOG.error("Inventory reservation failed after {} attempts for reference {}", attempt, request.referenceId());
-                    throw new BusinessException(ErrorCode.INTERNAL_ERROR, "库存繁忙，请稍后重试");
+        try {
+            while (true) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> processOnce(request));
+                    outcome = FlexleaseMetrics.OUTCOME_SUCCESS;
+                    return;
+                } catch (OptimisticLockingFailureException ex) {
+                    attempt++;
+                    if (attempt >= maxAttempts) {
+                        outcome = "conflict";
+                        LOG.error("Inventory reservation failed after {} attempts for reference {}", attempt, request.referenceId());
+                        throw new BusinessException(ErrorCode.INTERNAL_ERROR, "库存繁忙，请稍后重试");
+                    }
+                    metrics.inventoryLockRetry("reservation");
+                    LOG.debug("Retrying inventory reservation for reference {} due to concurrent update (attempt {})",
+                            request.referenceId(), attempt + 1);
+                    applyBackoff(attempt);
                 }
-                LOG.debug("Retrying inventory reservation for reference {} due to concurrent update (attempt {})",
-                        request.referenceId(), attempt + 1);
-                applyBackoff(attempt);
             }
+        } finally {
+            metrics.inventoryReservationCompleted(sample, outcome);
         }
     }
 
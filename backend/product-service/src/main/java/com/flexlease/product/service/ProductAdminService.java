@@ -8,6 +8,7 @@ import com.flexlease.product.dto.PagedResponse;
 import com.flexlease.product.dto.ProductResponse;
 import com.flexlease.product.dto.ProductSummaryResponse;
 import com.flexlease.product.repository.ProductRepository;
+import com.flexlease.product.search.CatalogSearchIndexer;
 import jakarta.transaction.Transactional;
 import java.util.UUID;
 import java.util.function.Function;
@@ -23,14 +24,21 @@ public class ProductAdminService {
     /**
      * 管理员商品审核服务。
      * <p>
-     * 主要用于查询待审核商品、审核通过与驳回，并写入审核人/备注等信息。
+     * 主要用于查询待审核商品、审核通过与驳回，并写入审核人/备注等信息；审核结果随事务同步到目录检索索引，并通知网关失效目录缓存。
      */
     private final ProductRepository productRepository;
     private final ProductAssembler assembler;
+    private final CatalogSearchIndexer catalogSearchIndexer;
+    private final ProductEventPublisher productEventPublisher;
 
-    public ProductAdminService(ProductRepository productRepository, ProductAssembler assembler) {
+    public ProductAdminService(ProductRepository productRepository,
+                               ProductAssembler assembler,
+                               CatalogSearchIndexer catalogSearchIndexer,
+                               ProductEventPublisher productEventPublisher) {
         this.productRepository = productRepository;
         this.assembler = assembler;
+        this.catalogSearchIndexer = catalogSearchIndexer;
+        this.productEventPublisher = productEventPublisher;
     }
 
     @Transactional(Transactional.TxType.SUPPORTS)
@@ -52,6 +60,8 @@ public class ProductAdminService {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR, "仅待审核商品可执行该操作");
         }
         product.markApproved(reviewerId, remark);
+        catalogSearchIndexer.markDirty(productId);
+        productEventPublisher.publishChanged(productId);
         return assembler.toProductResponse(product);
     }
 
@@ -61,6 +71,8 @@ public class ProductAdminService {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR, "仅待审核商品可执行该操作");
         }
         product.markRejected(reviewerId, remark);
+        catalogSearchIndexer.markDirty(productId);
+        productEventPublisher.publishChanged(productId);
         return assembler.toProductResponse(product);
     }
 
@@ -0,0 +1,107 @@
+package com.flexlease.product.service;
+
+import com.flexlease.common.audit.BusinessReplayLogWriter;
+import com.flexlease.common.messaging.MessagingConstants;
+import com.flexlease.common.messaging.ProductChangedMessage;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 商品事件发布器：影响目录展示的数据变更后通知持有目录缓存的组件（网关响应缓存）。
+ * <p>
+ * 同一事务内按商品去重，事务提交后发送并写入业务回放日志；发送失败只记录告警，
+ * 订阅方依赖 {@code Cache-Control} 中的 {@code max-age} 兜底收敛。订单下单带来的库存预占不发布事件，
+ * 目录中的可用库存允许在 {@code max-age} 内滞后，下单时仍以库存预占结果为准。
+ */
+@Component
+public class ProductEventPublisher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProductEventPublisher.class);
+    private static final Object CHANGED_PRODUCTS_KEY = new Object();
+
+    private final ObjectProvider<RabbitTemplate> rabbitTemplateProvider;
+    private final BusinessReplayLogWriter replayLogWriter;
+    private final boolean messagingEnabled;
+    private final FlexleaseMetrics metrics;
+
+    public ProductEventPublisher(ObjectProvider<RabbitTemplate> rabbitTemplateProvider,
+                                 BusinessReplayLogWriter replayLogWriter,
+                                 @Value("${flexlease.messaging.enabled:true}") boolean messagingEnabled,
+                                 FlexleaseMetrics metrics) {
+        this.rabbitTemplateProvider = rabbitTemplateProvider;
+        this.replayLogWriter = replayLogWriter;
+        this.messagingEnabled = messagingEnabled;
+        this.metrics = metrics;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void publishChanged(UUID productId) {
+        if (productId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(new ProductChangedMessage(productId, OffsetDateTime.now()));
+            return;
+        }
+        Set<UUID> changed = (Set<UUID>) TransactionSynchronizationManager.getResource(CHANGED_PRODUCTS_KEY);
+        if (changed == null) {
+            Set<UUID> pending = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(CHANGED_PRODUCTS_KEY, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    OffsetDateTime changedAt = OffsetDateTime.now();
+                    pending.forEach(id -> dispatch(new ProductChangedMessage(id, changedAt)));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CHANGED_PRODUCTS_KEY);
+                }
+            });
+            changed = pending;
+        }
+        changed.add(productId);
+    }
+
+    private void dispatch(ProductChangedMessage payload) {
+        replayLogWriter.writeOutgoing(
+                MessagingConstants.PRODUCT_EVENTS_EXCHANGE,
+                MessagingConstants.PRODUCT_CHANGED_ROUTING_KEY,
+                "PRODUCT_CHANGED",
+                "Product",
+                payload.productId(),
+                payload,
+                payload.changedAt()
+        );
+        if (!messagingEnabled) {
+            return;
+        }
+        RabbitTemplate rabbitTemplate = rabbitTemplateProvider.getIfAvailable();
+        if (rabbitTemplate == null) {
+            LOG.debug("Skip publishing change of product {} because RabbitTemplate is not available.", payload.productId());
+            return;
+        }
+        try {
+            rabbitTemplate.convertAndSend(MessagingConstants.PRODUCT_EVENTS_EXCHANGE,
+                    MessagingConstants.PRODUCT_CHANGED_ROUTING_KEY,
+                    payload);
+            metrics.messagePublished(MessagingConstants.PRODUCT_EVENTS_EXCHANGE, true);
+        } catch (AmqpException ex) {
+            metrics.messagePublished(MessagingConstants.PRODUCT_EVENTS_EXCHANGE, false);
+            LOG.warn("Failed to publish change of product {}: {}", payload.productId(), ex.getMessage());
+        }
+    }
+}
@@ -23,21 +23,24 @@ public class ProductMediaService {
     /**
      * 商品媒体资源管理服务。
      * <p>
-     * 文件先写入本地存储，再落库保存元信息与排序；删除时会同时删除数据库记录与本地文件。
+     * 文件先写入本地存储，再落库保存元信息与排序；删除时会同时删除数据库记录与本地文件；媒体变更会通知网关失效目录缓存。
      */
     private final ProductRepository productRepository;
     private final MediaAssetRepository mediaAssetRepository;
     private final FileStorageService fileStorageService;
     private final ProductAssembler productAssembler;
+    private final ProductEventPublisher productEventPublisher;
 
     public ProductMediaService(ProductRepository productRepository,
                                MediaAssetRepository mediaAssetRepository,
                                FileStorageService fileStorageService,
-                               ProductAssembler productAssembler) {
+                               ProductAssembler productAssembler,
+                               ProductEventPublisher productEventPublisher) {
         this.productRepository = productRepository;
         this.mediaAssetRepository = mediaAssetRepository;
         this.fileStorageService = fileStorageService;
         this.productAssembler = productAssembler;
+        this.productEventPublisher = productEventPublisher;
     }
 
     @Transactional(Transactional.TxType.SUPPORTS)
@@ -57,6 +60,7 @@ public class ProductMediaService {
         MediaAsset asset = MediaAsset.create(product, stored.fileName(), stored.url(), stored.contentType(), stored.size(), resolvedSort);
         product.addMediaAsset(asset);
         MediaAsset saved = mediaAssetRepository.save(asset);
+        productEventPublisher.publishChanged(product.getId());
         return productAssembler.toMediaAssetResponse(saved);
     }
 
@@ -66,6 +70,7 @@ public class ProductMediaService {
         }
         MediaAsset asset = loadAsset(vendorId, productId, mediaId);
         asset.updateSortOrder(sortOrder);
+        productEventPublisher.publishChanged(productId);
         return productAssembler.toMediaAssetResponse(asset);
     }
 
@@ -75,6 +80,7 @@ public class ProductMediaService {
         asset.getProduct().removeMediaAsset(asset);
         mediaAssetRepository.delete(asset);
         fileStorageService.delete(fileName);
+        productEventPublisher.publishChanged(productId);
     }
 
     private Product getProduct(UUID vendorId, UUID productId) {
@@ -24,6 +24,7 @@ import com.flexlease.product.repository.InventorySnapshotRepository;
 import com.flexlease.product.repository.ProductRepository;
 import com.flexlease.product.repository.ProductSkuRepository;
 import com.flexlease.product.repository.RentalPlanRepository;
+import com.flexlease.product.search.CatalogSearchIndexer;
 import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
 import java.util.List;
@@ -42,23 +43,31 @@ public class VendorProductService {
      * 厂商侧商品管理服务。
      * <p>
      * 聚合商品、租赁方案、SKU、库存流水等操作；并负责对“是否属于当前厂商”的权限边界做二次校验。
+     * 影响目录展示的写操作会登记到 {@link CatalogSearchIndexer}，随事务刷新检索索引，并在提交后经
+     * {@link ProductEventPublisher} 通知网关失效目录缓存。
      */
     private final ProductRepository productRepository;
     private final RentalPlanRepository rentalPlanRepository;
     private final ProductSkuRepository productSkuRepository;
     private final InventorySnapshotRepository inventorySnapshotRepository;
     private final ProductAssembler assembler;
+    private final CatalogSearchIndexer catalogSearchIndexer;
+    private final ProductEventPublisher productEventPublisher;
 
     public VendorProductService(ProductRepository productRepository,
                                 RentalPlanRepository rentalPlanRepository,
                                 ProductSkuRepository productSkuRepository,
                                 InventorySnapshotRepository inventorySnapshotRepository,
-                                ProductAssembler assembler) {
+                                ProductAssembler assembler,
+                                CatalogSearchIndexer catalogSearchIndexer,
+                                ProductEventPublisher productEventPublisher) {
         this.productRepository = productRepository;
         this.rentalPlanRepository = rentalPlanRepository;
         this.productSkuRepository = productSkuRepository;
         this.inventorySnapshotRepository = inventorySnapshotRepository;
         this.assembler = assembler;
+        this.catalogSearchIndexer = catalogSearchIndexer;
+        this.productEventPublisher = productEventPublisher;
     }
 
     public ProductResponse createProduct(UUID vendorId, ProductRequest request) {
@@ -77,6 +86,8 @@ public class VendorProductService {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR, "商品审核中，暂不可修改");
         }
         product.updateBasicInfo(request.name(), request.categoryCode(), request.description(), request.coverImageUrl());
+        catalogSearchIndexer.markDirty(product.getId());
+        productEventPublisher.publishChanged(product.getId());
         return assembler.toProductResponse(product);
     }
 
@@ -116,6 +127,8 @@ public class VendorProductService {
         }
         product.resetReviewRemark();
         product.submitForReview();
+        catalogSearchIndexer.markDirty(product.getId());
+        productEventPublisher.publishChanged(product.getId());
         return assembler.toProductResponse(product);
     }
 
@@ -132,6 +145,8 @@ public class VendorProductService {
             }
             product.markInactive();
         }
+        catalogSearchIndexer.markDirty(product.getId());
+        productEventPublisher.publishChanged(product.getId());
         return assembler.toProductResponse(product);
     }
 
@@ -153,6 +168,8 @@ public class VendorProductService {
             request.extensionUnit(),
             normalizeNullable(request.extensionPrice(), "续租费用需大于等于 0"));
         rentalPlanRepository.save(plan);
+        catalogSearchIndexer.markDirty(product.getId());
+        productEventPublisher.publishChanged(product.getId());
         return assembler.toRentalPlanResponse(plan);
     }
 
@@ -169,6 +186,8 @@ public class VendorProductService {
                 request.allowExtend(),
                 request.extensionUnit(),
             normalizeNullable(request.extensionPrice(), "续租费用需大于等于 0"));
+        catalogSearchIndexer.markDirty(productId);
+        productEventPublisher.publishChanged(productId);
         return assembler.toRentalPlanResponse(plan);
     }
 
@@ -178,6 +197,8 @@ public class VendorProductService {
             return assembler.toRentalPlanResponse(plan);
         }
         plan.activate();
+        catalogSearchIndexer.markDirty(productId);
+        productEventPublisher.publishChanged(productId);
         return assembler.toRentalPlanResponse(plan);
     }
 
@@ -187,6 +208,8 @@ public class VendorProductService {
             return assembler.toRentalPlanResponse(plan);
         }
         plan.deactivate();
+        catalogSearchIndexer.markDirty(productId);
+        productEventPublisher.publishChanged(productId);
         return assembler.toRentalPlanResponse(plan);
     }
 
@@ -208,6 +231,8 @@ public class VendorProductService {
             sku.updateBasicInfo(sku.getSkuCode(), attributesJson, sku.getStockTotal(), available, sku.getStatus());
         }
         productSkuRepository.save(sku);
+        catalogSearchIndexer.markDirty(productId);
+        productEventPublisher.publishChanged(productId);
         return assembler.toSkuResponse(sku);
     }
 
@@ -230,6 +255,8 @@ public class VendorProductService {
         if (!plan.equals(sku.getRentalPlan())) {
             sku.setRentalPlan(plan);
         }
+        catalogSearchIndexer.markDirty(productId);
+        productEventPublisher.publishChanged(productId);
         return assembler.toSkuResponse(sku);
     }
 
@@ -264,6 +291,7 @@ public class VendorProductService {
         }
         inventorySnapshotRepository.save(InventorySnapshot.record(sku, request.changeType(), signedQty, sku.getStockAvailable(), request.referenceId()));
         productSkuRepository.save(sku);
+        productEventPublisher.publishChanged(productId);
         return assembler.toSkuResponse(sku);
     }
 
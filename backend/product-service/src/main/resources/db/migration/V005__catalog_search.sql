@@ -0,0 +1,26 @@
+-- 目录检索倒排索引：仅收录上架商品，由商品/方案/SKU 写操作在事务提交前增量刷新
+CREATE TABLE IF NOT EXISTS product.catalog_search_document (
+    product_id UUID PRIMARY KEY REFERENCES product.product(id) ON DELETE CASCADE,
+    category_code VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    indexed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS product.catalog_search_term (
+    term VARCHAR(64) NOT NULL,
+    product_id UUID NOT NULL REFERENCES product.catalog_search_document(product_id) ON DELETE CASCADE,
+    weight INT NOT NULL,
+    PRIMARY KEY (term, product_id)
+);
+
+CREATE TABLE IF NOT EXISTS product.catalog_search_plan (
+    plan_id UUID PRIMARY KEY,
+    product_id UUID NOT NULL REFERENCES product.catalog_search_document(product_id) ON DELETE CASCADE,
+    plan_type VARCHAR(30) NOT NULL,
+    deposit_amount NUMERIC(18,2) NOT NULL,
+    rent_amount_monthly NUMERIC(18,2) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_catalog_search_document_category ON product.catalog_search_document(category_code, created_at);
+CREATE INDEX IF NOT EXISTS idx_catalog_search_term_product ON product.catalog_search_term(product_id);
+CREATE INDEX IF NOT EXISTS idx_catalog_search_plan_product ON product.catalog_search_plan(product_id, plan_type, deposit_amount);
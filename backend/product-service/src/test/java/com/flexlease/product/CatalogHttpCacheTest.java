@@ -0,0 +1,119 @@
+package com.flexlease.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.flexlease.common.security.FlexleasePrincipal;
+import com.flexlease.common.security.JwtAuthProperties;
+import com.flexlease.common.security.PrincipalHeaderCodec;
+import com.flexlease.product.domain.RentalPlanType;
+import com.flexlease.product.dto.ProductRequest;
+import com.flexlease.product.dto.ProductResponse;
+import com.flexlease.product.dto.RentalPlanRequest;
+import com.flexlease.product.dto.RentalPlanResponse;
+import com.flexlease.product.dto.SkuRequest;
+import com.flexlease.product.service.ProductAdminService;
+import com.flexlease.product.service.VendorProductService;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flexlease-product-http-cache;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;INIT=CREATE SCHEMA IF NOT EXISTS product",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@SpringBootTest
+@AutoConfigureMockMvc
+class CatalogHttpCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtAuthProperties jwtAuthProperties;
+
+    @Autowired
+    private VendorProductService vendorProductService;
+
+    @Autowired
+    private ProductAdminService productAdminService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void catalogDetailIsPubliclyCacheableAndRevalidatedByEtag() throws Exception {
+        UUID productId = approvedProduct();
+        String path = "/api/v1/catalog/products/" + productId;
+
+        String etag = mockMvc.perform(get(path).header(PrincipalHeaderCodec.HEADER, principalHeader(path)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public, stale-while-revalidate=60"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(path)
+                        .header(PrincipalHeaderCodec.HEADER, principalHeader(path))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void userScopedInquiriesAreNotMarkedPublic() throws Exception {
+        UUID productId = approvedProduct();
+        String path = "/api/v1/catalog/products/" + productId + "/inquiries";
+
+        String cacheControl = mockMvc.perform(get(path).header(PrincipalHeaderCodec.HEADER, principalHeader(path)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.CACHE_CONTROL);
+
+        assertThat(cacheControl).doesNotContain("public");
+    }
+
+    @Test
+    void catalogWritesRecordProductChangedEvents() {
+        UUID productId = approvedProduct();
+
+        Integer events = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM audit.business_replay_log WHERE aggregate_id = ? AND event_type = 'PRODUCT_CHANGED'",
+                Integer.class,
+                productId);
+
+        // 创建、方案、SKU、提交审核、审核通过分属不同事务，每个事务各发布一次
+        assertThat(events).isGreaterThanOrEqualTo(5);
+    }
+
+    private UUID approvedProduct() {
+        UUID vendorId = UUID.randomUUID();
+        ProductResponse product = vendorProductService.createProduct(vendorId,
+                new ProductRequest("折叠自行车", "OUTDOOR", "城市通勤折叠车", null));
+        RentalPlanResponse plan = vendorProductService.createPlan(vendorId, product.id(), new RentalPlanRequest(
+                RentalPlanType.STANDARD, 3, new BigDecimal("200.00"), new BigDecimal("59.00"), null, true, "MONTH", null));
+        vendorProductService.activatePlan(vendorId, product.id(), plan.id());
+        vendorProductService.createSku(vendorId, product.id(), plan.id(),
+                new SkuRequest("BIKE-" + product.id(), Map.of("color", "灰"), 4, null, null));
+        vendorProductService.submitForReview(vendorId, product.id());
+        productAdminService.approveProduct(product.id(), UUID.randomUUID(), "通过");
+        return product.id();
+    }
+
+    private String principalHeader(String path) {
+        return new PrincipalHeaderCodec(jwtAuthProperties)
+                .encode(new FlexleasePrincipal(UUID.randomUUID(), null, "catalog-user", Set.of("USER")), "GET", path, null);
+    }
+}
@@ -6,15 +6,18 @@ import com.flexlease.product.domain.InventoryChangeType;
 import com.flexlease.product.domain.ProductStatus;
 import com.flexlease.product.domain.RentalPlanType;
 import com.flexlease.product.dto.CatalogProductResponse;
+import com.flexlease.product.dto.CatalogSearchResponse;
 import com.flexlease.product.dto.InventoryAdjustRequest;
 import com.flexlease.product.dto.PagedResponse;
 import com.flexlease.product.dto.ProductRequest;
 import com.flexlease.product.dto.ProductResponse;
+import com.flexlease.product.dto.ProductShelveRequest;
 import com.flexlease.product.dto.RentalPlanRequest;
 import com.flexlease.product.dto.RentalPlanResponse;
 import com.flexlease.product.dto.SkuRequest;
 import com.flexlease.product.dto.SkuResponse;
 import com.flexlease.product.service.CatalogQueryService;
+import com.flexlease.product.service.CatalogSearchService;
 import com.flexlease.product.service.ProductAdminService;
 import com.flexlease.product.service.VendorProductService;
 import java.math.BigDecimal;
@@ -46,6 +49,9 @@ class ProductServiceIntegrationTest {
     @Autowired
     private CatalogQueryService catalogQueryService;
 
+    @Autowired
+    private CatalogSearchService catalogSearchService;
+
     @Test
     void endToEndProductLifecycle() {
         UUID vendorId = UUID.randomUUID();
@@ -115,4 +121,91 @@ class ProductServiceIntegrationTest {
                 assertThat(skuItem.stockAvailable()).isGreaterThanOrEqualTo(0)
         ));
     }
+
+    @Test
+    void catalogSearchRanksByRelevanceAndFollowsWrites() {
+        UUID vendorId = UUID.randomUUID();
+        UUID reviewerId = UUID.randomUUID();
+        ProductResponse headphones = vendorProductService.createProduct(vendorId,
+                new ProductRequest("Sony 降噪耳机 WH1000", "AUDIO", "头戴式无线耳机", null));
+        RentalPlanResponse headphonesPlan = vendorProductService.createPlan(vendorId, headphones.id(), new RentalPlanRequest(
+                RentalPlanType.STANDARD, 6, new BigDecimal("300.00"), new BigDecimal("99.00"), null, true, "MONTH", null));
+        vendorProductService.activatePlan(vendorId, headphones.id(), headphonesPlan.id());
+        vendorProductService.createSku(vendorId, headphones.id(), headphonesPlan.id(),
+                new SkuRequest("WH-BLACK", Map.of("color", "星空黑"), 3, null, null));
+        vendorProductService.submitForReview(vendorId, headphones.id());
+        productAdminService.approveProduct(headphones.id(), reviewerId, "通过");
+
+        ProductResponse speaker = vendorProductService.createProduct(vendorId,
+                new ProductRequest("蓝牙音箱", "AUDIO", "可与降噪耳机组合使用的桌面音箱", null));
+        RentalPlanResponse speakerPlan = vendorProductService.createPlan(vendorId, speaker.id(), new RentalPlanRequest(
+                RentalPlanType.RENT_TO_OWN, 12, new BigDecimal("2500.00"), new BigDecimal("199.00"), new BigDecimal("3999.00"), true, "MONTH", null));
+        vendorProductService.activatePlan(vendorId, speaker.id(), speakerPlan.id());
+        vendorProductService.submitForReview(vendorId, speaker.id());
+        productAdminService.approveProduct(speaker.id(), reviewerId, "通过");
+
+        CatalogSearchResponse response = catalogSearchService.search("降噪耳机", null, null, null, null, null, PageRequest.of(0, 10));
+        assertThat(response.results().content()).extracting(CatalogProductResponse::id)
+                .containsExactly(headphones.id(), speaker.id());
+        assertThat(response.facets().categories()).containsExactly(new CatalogSearchResponse.FacetCount("AUDIO", 2));
+        assertThat(response.facets().planTypes()).extracting(CatalogSearchResponse.FacetCount::value)
+                .containsExactlyInAnyOrder("STANDARD", "RENT_TO_OWN");
+        assertThat(response.facets().depositRanges()).extracting(CatalogSearchResponse.DepositRangeCount::count)
+                .containsExactly(1L, 0L, 1L, 0L);
+
+        CatalogSearchResponse filtered = catalogSearchService.search("降噪耳机", null, RentalPlanType.RENT_TO_OWN, null, null, null, PageRequest.of(0, 10));
+        assertThat(filtered.results().content()).extracting(CatalogProductResponse::id).containsExactly(speaker.id());
+        assertThat(filtered.facets().planTypes()).hasSize(2);
+
+        assertThat(catalogQueryService.listActive(null, "son", null, null, null, null, PageRequest.of(0, 10)).content())
+                .extracting(CatalogProductResponse::id).containsExactly(headphones.id());
+        assertThat(catalogSearchService.search("星空黑", null, null, null, null, null, PageRequest.of(0, 10)).results().content())
+                .extracting(CatalogProductResponse::id).containsExactly(headphones.id());
+
+        vendorProductService.deactivatePlan(vendorId, headphones.id(), headphonesPlan.id());
+        assertThat(catalogSearchService.search("降噪耳机", null, RentalPlanType.STANDARD, null, null, null, PageRequest.of(0, 10))
+                .results().totalElements()).isZero();
+
+        vendorProductService.changeShelveStatus(vendorId, speaker.id(), new ProductShelveRequest(false));
+        vendorProductService.changeShelveStatus(vendorId, headphones.id(), new ProductShelveRequest(false));
+        assertThat(catalogSearchService.search("音箱", null, null, null, null, null, PageRequest.of(0, 10))
+                .results().content()).isEmpty();
+        assertThat(catalogSearchService.search("降噪耳机", null, null, null, null, null, PageRequest.of(0, 10))
+                .facets().categories()).isEmpty();
+    }
+
+    @Test
+    void catalogKeywordStillMatchesNameSubstrings() {
+        UUID vendorId = UUID.randomUUID();
+        ProductResponse phone = activeProduct(vendorId, "Apple iPhone 15", "PHONE");
+        ProductResponse longName = activeProduct(vendorId, "Supercalifragilisticexpialidocious Lamp", "HOME");
+        try {
+            assertThat(catalogQueryService.listActive(null, "phone", null, null, null, null, PageRequest.of(0, 10)).content())
+                    .extracting(CatalogProductResponse::id).containsExactly(phone.id());
+            assertThat(catalogQueryService.listActive(null, "i", null, null, null, null, PageRequest.of(0, 10)).content())
+                    .extracting(CatalogProductResponse::id).contains(phone.id(), longName.id());
+            assertThat(catalogQueryService.listActive("PHONE", "5", null, null, null, null, PageRequest.of(0, 10)).content())
+                    .extracting(CatalogProductResponse::id).containsExactly(phone.id());
+            assertThat(catalogQueryService.listActive(null, "supercalifragilisticexpi", null, null, null, null, PageRequest.of(0, 10)).content())
+                    .extracting(CatalogProductResponse::id).containsExactly(longName.id());
+            assertThat(catalogQueryService.listActive(null, "%", null, null, null, null, PageRequest.of(0, 10)).content()).isEmpty();
+
+            CatalogSearchResponse response = catalogSearchService.search("phone", null, RentalPlanType.STANDARD, null, null, null, PageRequest.of(0, 10));
+            assertThat(response.results().content()).extracting(CatalogProductResponse::id).containsExactly(phone.id());
+            assertThat(response.facets().categories()).containsExactly(new CatalogSearchResponse.FacetCount("PHONE", 1));
+        } finally {
+            vendorProductService.changeShelveStatus(vendorId, phone.id(), new ProductShelveRequest(false));
+            vendorProductService.changeShelveStatus(vendorId, longName.id(), new ProductShelveRequest(false));
+        }
+    }
+
+    private ProductResponse activeProduct(UUID vendorId, String name, String categoryCode) {
+        ProductResponse product = vendorProductService.createProduct(vendorId, new ProductRequest(name, categoryCode, null, null));
+        RentalPlanResponse plan = vendorProductService.createPlan(vendorId, product.id(), new RentalPlanRequest(
+                RentalPlanType.STANDARD, 6, new BigDecimal("300.00"), new BigDecimal("99.00"), null, true, "MONTH", null));
+        vendorProductService.activatePlan(vendorId, product.id(), plan.id());
+        vendorProductService.submitForReview(vendorId, product.id());
+        productAdminService.approveProduct(product.id(), UUID.randomUUID(), "通过");
+        return product;
+    }
 }
@@ -0,0 +1,80 @@
+package com.flexlease.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flexlease.product.domain.Product;
+import com.flexlease.product.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class CatalogSearchIndexerConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private CatalogSearchIndexer indexer;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    private UUID productId;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (productId != null) {
+            productRepository.deleteById(productId);
+        }
+    }
+
+    @Test
+    void concurrentReindexOfSameProductKeepsSingleDocument() throws Exception {
+        Product product = Product.create(UUID.randomUUID(), "并发索引商品", "TEST", "reindex race", null);
+        product.markApproved(UUID.randomUUID(), null);
+        productId = productRepository.save(product).getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                for (int round = 0; round < ROUNDS; round++) {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    transactionTemplate.executeWithoutResult(status -> indexer.markDirty(product.getId()));
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+
+        Integer documents = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product.catalog_search_document WHERE product_id = ?", Integer.class, productId);
+        assertThat(documents).isEqualTo(1);
+    }
+}
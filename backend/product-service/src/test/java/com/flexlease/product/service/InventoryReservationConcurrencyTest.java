@@ -3,6 +3,7 @@ package com.flexlease.product.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
+import com.flexlease.common.metrics.FlexleaseMetrics;
 import com.flexlease.product.domain.InventoryChangeType;
 import com.flexlease.product.domain.Product;
 import com.flexlease.product.domain.ProductSku;
@@ -14,6 +15,7 @@ import com.flexlease.product.repository.InventorySnapshotRepository;
 import com.flexlease.product.repository.ProductRepository;
 import com.flexlease.product.repository.ProductSkuRepository;
 import com.flexlease.product.repository.RentalPlanRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
@@ -59,6 +61,9 @@ class InventoryReservationConcurrencyTest {
     @Autowired
     private InventorySnapshotRepository inventorySnapshotRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private UUID skuId;
     private ExecutorService executor;
 
@@ -138,5 +143,9 @@ class InventoryReservationConcurrencyTest {
         assertThat(refreshed.getStockAvailable()).isZero();
         assertThat(inventorySnapshotRepository.count())
                 .isEqualTo(THREADS * (long) ITERATIONS_PER_THREAD);
+        assertThat(meterRegistry.get(FlexleaseMetrics.INVENTORY_RESERVATION)
+                .tag("outcome", FlexleaseMetrics.OUTCOME_SUCCESS)
+                .timer()
+                .count()).isEqualTo(THREADS * (long) ITERATIONS_PER_THREAD);
     }
 }
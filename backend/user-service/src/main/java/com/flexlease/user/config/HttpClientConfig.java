@@ -1,5 +1,7 @@
 package com.flexlease.user.config;
 
+import com.flexlease.common.codec.InternalCodec;
+import org.springframework.boot.autoconfigure.web.client.RestClientBuilderConfigurer;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,14 +10,16 @@ import org.springframework.web.client.RestClient;
 /**
  * HTTP 客户端配置。
  * <p>
- * user-service 采用 Spring 的 {@link RestClient}，并开启 {@code @LoadBalanced} 以支持按服务名调用其他微服务。
+ * user-service 采用 Spring 的 {@link RestClient}，并开启 {@code @LoadBalanced} 以支持按服务名调用其他微服务；
+ * 通过 {@link RestClientBuilderConfigurer} 应用 Spring Boot 的默认定制（含 {@code http.client.requests} 观测），
+ * 再由 {@link InternalCodec} 把 Smile 转换器排在首位。
  */
 @Configuration
 public class HttpClientConfig {
 
     @Bean
     @LoadBalanced
-    RestClient.Builder loadBalancedRestClientBuilder() {
-        return RestClient.builder();
+    RestClient.Builder loadBalancedRestClientBuilder(RestClientBuilderConfigurer configurer, InternalCodec codec) {
+        return codec.preferBinary(configurer.configure(RestClient.builder()));
     }
 }
@@ -0,0 +1,42 @@
+package com.flexlease.user.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flexlease.common.codec.InternalCodec;
+import com.flexlease.common.codec.InternalMessageConverter;
+import com.flexlease.common.messaging.MessagingConstants;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RabbitMQ 发布端配置（厂商事件）。
+ * <p>
+ * 厂商抽成档案变更发布到 {@code vendor.events} 交换机，供 payment-service 失效本地抽成缓存。
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "flexlease.messaging", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MessagingConfig {
+
+    @Bean
+    public TopicExchange vendorEventsExchange() {
+        return new TopicExchange(MessagingConstants.VENDOR_EVENTS_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public MessageConverter internalMessageConverter(ObjectMapper objectMapper, InternalCodec codec) {
+        return new InternalMessageConverter(objectMapper, codec);
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
+        RabbitTemplate template = new RabbitTemplate(connectionFactory);
+        template.setMessageConverter(messageConverter);
+        // 发送时把当前链路上下文写入消息头（traceparent），消费端据此接续同一条 trace
+        template.setObservationEnabled(true);
+        return template;
+    }
+}
@@ -7,7 +7,6 @@ import java.util.Map;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
@@ -42,7 +41,6 @@ public class AuthServiceClient {
             restClient.patch()
                     .uri("/api/v1/internal/users/{id}/status", userId)
                     .header("X-Internal-Token", properties.getInternalToken())
-                    .contentType(MediaType.APPLICATION_JSON)
                     .body(Map.of("status", status))
                     .retrieve()
                     .toBodilessEntity();
@@ -57,7 +55,6 @@ public class AuthServiceClient {
             restClient.patch()
                     .uri("/api/v1/internal/users/{id}/vendor", userId)
                     .header("X-Internal-Token", properties.getInternalToken())
-                    .contentType(MediaType.APPLICATION_JSON)
                     .body(Map.of("vendorId", vendorId))
                     .retrieve()
                     .toBodilessEntity();
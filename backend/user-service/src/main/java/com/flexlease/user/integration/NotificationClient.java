@@ -7,7 +7,6 @@ import com.flexlease.common.security.JwtAuthProperties;
 import com.flexlease.user.config.NotificationServiceProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
@@ -40,7 +39,6 @@ public class NotificationClient {
         try {
             restClient.post()
                     .uri("/notifications/send")
-                    .contentType(MediaType.APPLICATION_JSON)
                     .header("X-Internal-Token", jwtAuthProperties.getInternalAccessToken())
                     .body(request)
                     .retrieve()
@@ -6,6 +6,7 @@ import com.flexlease.user.domain.Vendor;
 import com.flexlease.user.domain.VendorStatus;
 import com.flexlease.user.integration.NotificationClient;
 import com.flexlease.user.repository.VendorRepository;
+import com.flexlease.user.service.VendorEventPublisher;
 import com.flexlease.user.service.VendorSlaCalculationService;
 import java.math.BigDecimal;
 import java.util.List;
@@ -23,7 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
  * <ol>
  *   <li>自动计算厂商 SLA 评分（基于订单履约数据）</li>
  *   <li>根据 SLA 评分调整信用档位（commissionCreditTier）</li>
- *   <li>通知厂商费率变更</li>
+ *   <li>通知厂商费率变更，并发布抽成变更事件供 payment-service 失效缓存</li>
  * </ol>
  * 评估规则：
  * <ul>
@@ -46,13 +47,16 @@ public class CommissionReviewScheduler {
     private final VendorRepository vendorRepository;
     private final VendorSlaCalculationService slaCalculationService;
     private final NotificationClient notificationClient;
+    private final VendorEventPublisher vendorEventPublisher;
 
     public CommissionReviewScheduler(VendorRepository vendorRepository,
                                      VendorSlaCalculationService slaCalculationService,
-                                     NotificationClient notificationClient) {
+                                     NotificationClient notificationClient,
+                                     VendorEventPublisher vendorEventPublisher) {
         this.vendorRepository = vendorRepository;
         this.slaCalculationService = slaCalculationService;
         this.notificationClient = notificationClient;
+        this.vendorEventPublisher = vendorEventPublisher;
     }
 
     /**
@@ -92,6 +96,7 @@ public class CommissionReviewScheduler {
                         calculatedSla != null ? calculatedSla : vendor.getCommissionSlaScore()
                 );
                 vendorRepository.save(vendor);
+                vendorEventPublisher.publishCommissionChanged(vendor);
 
                 BigDecimal newRate = vendor.calculateCommissionRate();
 
@@ -0,0 +1,94 @@
+package com.flexlease.user.service;
+
+import com.flexlease.common.audit.BusinessReplayLogWriter;
+import com.flexlease.common.messaging.MessagingConstants;
+import com.flexlease.common.messaging.VendorCommissionChangedMessage;
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.user.domain.Vendor;
+import java.time.OffsetDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 厂商事件发布器：抽成档案变更后通知持有本地缓存的服务（payment-service）。
+ * <p>
+ * 与订单事件一致，在事务提交后发送，并写入业务回放日志；发送失败只记录告警，
+ * 订阅方依赖缓存 TTL 兜底收敛。
+ */
+@Component
+public class VendorEventPublisher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VendorEventPublisher.class);
+
+    private final ObjectProvider<RabbitTemplate> rabbitTemplateProvider;
+    private final BusinessReplayLogWriter replayLogWriter;
+    private final boolean messagingEnabled;
+    private final FlexleaseMetrics metrics;
+
+    public VendorEventPublisher(ObjectProvider<RabbitTemplate> rabbitTemplateProvider,
+                                BusinessReplayLogWriter replayLogWriter,
+                                @Value("${flexlease.messaging.enabled:true}") boolean messagingEnabled,
+                                FlexleaseMetrics metrics) {
+        this.rabbitTemplateProvider = rabbitTemplateProvider;
+        this.replayLogWriter = replayLogWriter;
+        this.messagingEnabled = messagingEnabled;
+        this.metrics = metrics;
+    }
+
+    public void publishCommissionChanged(Vendor vendor) {
+        VendorCommissionChangedMessage payload = new VendorCommissionChangedMessage(
+                vendor.getId(),
+                vendor.getIndustryCategory(),
+                vendor.getCommissionCreditTier() == null ? null : vendor.getCommissionCreditTier().name(),
+                vendor.getCommissionSlaScore(),
+                vendor.calculateCommissionRate(),
+                OffsetDateTime.now()
+        );
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(payload);
+                }
+            });
+        } else {
+            dispatch(payload);
+        }
+    }
+
+    private void dispatch(VendorCommissionChangedMessage payload) {
+        replayLogWriter.writeOutgoing(
+                MessagingConstants.VENDOR_EVENTS_EXCHANGE,
+                MessagingConstants.VENDOR_COMMISSION_CHANGED_ROUTING_KEY,
+                "VENDOR_COMMISSION_CHANGED",
+                "Vendor",
+                payload.vendorId(),
+                payload,
+                payload.changedAt()
+        );
+        if (!messagingEnabled) {
+            return;
+        }
+        RabbitTemplate rabbitTemplate = rabbitTemplateProvider.getIfAvailable();
+        if (rabbitTemplate == null) {
+            LOG.debug("Skip publishing commission change for vendor {} because RabbitTemplate is not available.", payload.vendorId());
+            return;
+        }
+        try {
+            rabbitTemplate.convertAndSend(MessagingConstants.VENDOR_EVENTS_EXCHANGE,
+                    MessagingConstants.VENDOR_COMMISSION_CHANGED_ROUTING_KEY,
+                    payload);
+            metrics.messagePublished(MessagingConstants.VENDOR_EVENTS_EXCHANGE, true);
+        } catch (AmqpException ex) {
+            metrics.messagePublished(MessagingConstants.VENDOR_EVENTS_EXCHANGE, false);
+            LOG.warn("Failed to publish commission change for vendor {}: {}", payload.vendorId(), ex.getMessage());
+        }
+    }
+}
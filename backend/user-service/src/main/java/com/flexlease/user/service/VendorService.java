@@ -29,9 +29,12 @@ public class VendorService {
      * 厂商主体在“入驻审核通过”时创建；后续可由管理员维护抽成档案，也可由厂商维护联系信息等资料。
      */
     private final VendorRepository vendorRepository;
+    private final VendorEventPublisher vendorEventPublisher;
 
-    public VendorService(VendorRepository vendorRepository) {
+    public VendorService(VendorRepository vendorRepository,
+                         VendorEventPublisher vendorEventPublisher) {
         this.vendorRepository = vendorRepository;
+        this.vendorEventPublisher = vendorEventPublisher;
     }
 
     @Transactional
@@ -125,6 +128,7 @@ public class VendorService {
                 request.creditTier(),
                 request.slaScore()
         );
+        vendorEventPublisher.publishCommissionChanged(vendor);
         return toCommissionProfile(vendor);
     }
 
@@ -0,0 +1,58 @@
+package com.flexlease.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.flexlease.common.metrics.FlexleaseMetrics;
+import com.flexlease.user.support.TestJwtTokens;
+import io.micrometer.core.instrument.DistributionSummary;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:flexlease-user-db-metrics;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;INIT=CREATE SCHEMA IF NOT EXISTS users",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "flexlease.messaging.enabled=false",
+    "flexlease.metrics.db-statements.enabled=true"
+})
+@SpringBootTest
+@AutoConfigureMockMvc
+class DbStatementMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FlexleaseMetrics metrics;
+
+    @Test
+    void recordsStatementCountPerRouteTemplate() throws Exception {
+        String token = TestJwtTokens.bearerToken(UUID.randomUUID(), "metrics-user", "USER");
+
+        // 首次访问会建档（查询 + 插入），再次访问只读
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/customers/profile").header(HttpHeaders.AUTHORIZATION, token))
+                    .andExpect(status().isOk());
+        }
+
+        DistributionSummary summary = metrics.registry().find(FlexleaseMetrics.HTTP_DB_STATEMENTS)
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/customers/profile")
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.max()).isGreaterThanOrEqualTo(2);
+        assertThat(summary.totalAmount()).isGreaterThan(summary.max());
+    }
+}
@@ -0,0 +1,75 @@
+package com.flexlease.user;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.flexlease.common.security.FlexleasePrincipal;
+import com.flexlease.common.security.JwtAuthProperties;
+import com.flexlease.common.security.PrincipalHeaderCodec;
+import com.flexlease.user.support.TestJwtTokens;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:flexlease-user-principal-header;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;INIT=CREATE SCHEMA IF NOT EXISTS users",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "flexlease.messaging.enabled=false"
+})
+@SpringBootTest
+@AutoConfigureMockMvc
+class PrincipalHeaderAuthenticationTest {
+
+    private static final String PROFILE_PATH = "/api/v1/customers/profile";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtAuthProperties jwtAuthProperties;
+
+    @Test
+    void trustsGatewaySignedPrincipalWithoutBearerToken() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String header = new PrincipalHeaderCodec(jwtAuthProperties)
+                .encode(new FlexleasePrincipal(userId, null, "edge-user", Set.of("USER")), "GET", PROFILE_PATH, null);
+
+        mockMvc.perform(get(PROFILE_PATH).header(PrincipalHeaderCodec.HEADER, header))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.userId").value(userId.toString()));
+    }
+
+    @Test
+    void rejectsPrincipalSignedForAnotherRouteQueryOrKey() throws Exception {
+        FlexleasePrincipal principal = new FlexleasePrincipal(UUID.randomUUID(), null, "edge-user", Set.of("USER"));
+        String otherRoute = new PrincipalHeaderCodec(jwtAuthProperties).encode(principal, "GET", "/api/v1/customers/addresses", null);
+        String otherQuery = new PrincipalHeaderCodec(jwtAuthProperties).encode(principal, "GET", PROFILE_PATH, "userId=" + UUID.randomUUID());
+        JwtAuthProperties forged = new JwtAuthProperties();
+        forged.setPrincipalHeaderSecret("not-the-gateway-secret");
+        String otherKey = new PrincipalHeaderCodec(forged).encode(principal, "GET", PROFILE_PATH, null);
+
+        mockMvc.perform(get(PROFILE_PATH).header(PrincipalHeaderCodec.HEADER, otherRoute))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get(PROFILE_PATH).header(PrincipalHeaderCodec.HEADER, otherQuery))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get(PROFILE_PATH).header(PrincipalHeaderCodec.HEADER, otherKey))
+                .andExpect(status().isUnauthorized());
+
+        // 身份头无效时回退为 JWT 校验
+        mockMvc.perform(get(PROFILE_PATH)
+                        .header(PrincipalHeaderCodec.HEADER, otherKey)
+                        .header(HttpHeaders.AUTHORIZATION, TestJwtTokens.bearerToken(principal.userId(), "edge-user", "USER")))
+                .andExpect(status().isOk());
+    }
+}
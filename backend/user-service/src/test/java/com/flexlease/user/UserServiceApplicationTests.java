@@ -33,7 +33,8 @@ import static org.mockito.Mockito.times;
     "spring.datasource.url=jdbc:h2:mem:flexlease-user-test;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;INIT=CREATE SCHEMA IF NOT EXISTS users",
     "spring.datasource.driver-class-name=org.h2.Driver",
     "spring.datasource.username=sa",
-    "spring.datasource.password="
+    "spring.datasource.password=",
+    "flexlease.messaging.enabled=false"
 })
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -0,0 +1,9 @@
+#!/bin/sh
+# 主库首次初始化时执行（挂载到 /docker-entrypoint-initdb.d）：创建复制账号并允许其发起流复制。
+set -e
+
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<-SQL
+    CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD '${REPLICATION_PASSWORD:-replicator}';
+SQL
+
+echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,115 @@
+/**
+ * 订单沟通消息（游标分页）：
+ * - 首次加载最新一页，向上翻页通过 before 游标拉取更早消息
+ * - 加载后自动标记已读；发送成功后直接追加到本地列表，无需刷新订单详情
+ */
+import { ref, watch, type WatchSource } from 'vue';
+import {
+  listOrderMessages,
+  markOrderMessagesRead,
+  postOrderMessage,
+  type OrderMessage
+} from '../services/orderService';
+
+const PAGE_SIZE = 30;
+
+export const useOrderConversation = (orderId: WatchSource<string | null | undefined>) => {
+  const messages = ref<OrderMessage[]>([]);
+  const hasMore = ref(false);
+  const loading = ref(false);
+  const unreadCount = ref(0);
+  let currentOrderId: string | null = null;
+  let nextCursor: string | null = null;
+
+  const reset = () => {
+    messages.value = [];
+    hasMore.value = false;
+    unreadCount.value = 0;
+    nextCursor = null;
+  };
+
+  const markRead = async () => {
+    if (!currentOrderId || unreadCount.value === 0) {
+      return;
+    }
+    try {
+      const result = await markOrderMessagesRead(currentOrderId);
+      unreadCount.value = result.unreadCount;
+    } catch {
+      // 已读回执失败不影响阅读
+    }
+  };
+
+  const loadLatest = async () => {
+    if (!currentOrderId) {
+      return;
+    }
+    const targetId = currentOrderId;
+    loading.value = true;
+    try {
+      const page = await listOrderMessages(targetId, { size: PAGE_SIZE });
+      if (targetId !== currentOrderId) {
+        return;
+      }
+      messages.value = page.content;
+      hasMore.value = page.hasMore;
+      nextCursor = page.nextCursor ?? null;
+      unreadCount.value = page.unreadCount;
+    } finally {
+      loading.value = false;
+    }
+    await markRead();
+  };
+
+  const loadOlder = async () => {
+    if (!currentOrderId || !hasMore.value || !nextCursor || loading.value) {
+      return;
+    }
+    const targetId = currentOrderId;
+    loading.value = true;
+    try {
+      const page = await listOrderMessages(targetId, { before: nextCursor, size: PAGE_SIZE });
+      if (targetId !== currentOrderId) {
+        return;
+      }
+      messages.value = [...page.content, ...messages.value];
+      hasMore.value = page.hasMore;
+      nextCursor = page.nextCursor ?? null;
+    } finally {
+      loading.value = false;
+    }
+  };
+
+  const send = async (actorId: string, text: string) => {
+    if (!currentOrderId) {
+      return null;
+    }
+    const created = await postOrderMessage(currentOrderId, { actorId, message: text });
+    messages.value = [...messages.value, created];
+    return created;
+  };
+
+  watch(
+    orderId,
+    (id) => {
+      currentOrderId = id ?? null;
+      reset();
+      if (currentOrderId) {
+        loadLatest().catch(() => {
+          // 加载失败时保持空列表，由发送/重试入口提示
+        });
+      }
+    },
+    { immediate: true }
+  );
+
+  return {
+    messages,
+    hasMore,
+    loading,
+    unreadCount,
+    loadLatest,
+    loadOlder,
+    send
+  };
+};
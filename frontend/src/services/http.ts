@@ -29,6 +29,11 @@ const http = axios.create({
   baseURL: import.meta.env.VITE_API_BASE_URL ?? '/api/v1'
 });
 
+/** 当前访问令牌；供无法走 axios 的请求（如 fetch 读取 SSE 事件流）手动携带。 */
+export const currentAccessToken = () => authHandlers.getToken();
+
+export const apiBaseUrl = http.defaults.baseURL ?? '/api/v1';
+
 let refreshPromise: Promise<string | null> | null = null;
 
 http.interceptors.request.use((config: InternalAxiosRequestConfig) => {
@@ -1,8 +1,10 @@
 /**
  * 通知中心 API（notification-service）：
  * - 站内信列表、状态/场景过滤等
+ * - 收件箱游标分页、未读数与标记已读
+ * - 新通知推送（SSE），断线后携带 Last-Event-ID 重连补发
  */
-import http from './http';
+import http, { apiBaseUrl, currentAccessToken } from './http';
 
 export type NotificationStatus = 'PENDING' | 'SENT' | 'FAILED';
 
@@ -42,6 +44,27 @@ export type NotificationLogQuery = {
   contextType?: string;
 };
 
+export type NotificationInboxPage = {
+  content: NotificationLog[];
+  nextCursor?: string | null;
+  hasMore: boolean;
+  unreadCount: number;
+  lastReadAt?: string | null;
+};
+
+export type NotificationInboxQuery = {
+  contextType?: string;
+  /** 上一页最后一条通知的 ID */
+  before?: string;
+  size?: number;
+};
+
+export type NotificationUnread = {
+  recipient: string;
+  unreadCount: number;
+  lastReadAt?: string | null;
+};
+
 export type NotificationTemplate = {
   id: string;
   code: string;
@@ -62,7 +85,127 @@ export const listNotificationLogs = async (filters: NotificationLogQuery = {}) =
   return response.data.data;
 };
 
+export const listNotificationInbox = async (query: NotificationInboxQuery = {}) => {
+  const response = await http.get<ApiResponse<NotificationInboxPage>>('/notifications/inbox', {
+    params: query
+  });
+  return response.data.data;
+};
+
+export const getNotificationUnread = async () => {
+  const response = await http.get<ApiResponse<NotificationUnread>>('/notifications/inbox/unread');
+  return response.data.data;
+};
+
+/** 标记已读到 upTo 对应的通知，省略时标记到最新一条 */
+export const markNotificationsRead = async (upTo?: string) => {
+  const response = await http.post<ApiResponse<NotificationUnread>>('/notifications/inbox/read', null, {
+    params: upTo ? { upTo } : undefined
+  });
+  return response.data.data;
+};
+
 export const listNotificationTemplates = async () => {
   const response = await http.get<ApiResponse<NotificationTemplate[]>>('/notifications/templates');
   return response.data.data;
 };
+
+export type NotificationStreamHandlers = {
+  onNotification: (log: NotificationLog) => void;
+  /** 服务端无法补发断线期间的通知时触发，调用方应重新拉取列表 */
+  onReset?: () => void;
+};
+
+const STREAM_MAX_BACKOFF_MS = 60_000;
+
+/**
+ * 订阅新通知推送，返回取消订阅函数。
+ * EventSource 无法携带 Authorization 头，这里用 fetch 读取事件流，并自行处理重连与 Last-Event-ID。
+ * 连接被拒绝（如推送关闭或连接数已满）时按指数退避重试，期间页面仍可手动刷新列表。
+ */
+export const subscribeNotifications = (handlers: NotificationStreamHandlers) => {
+  const controller = new AbortController();
+  let lastEventId: string | null = null;
+  let retryMs = 3000;
+  let failures = 0;
+
+  const dispatch = (block: string) => {
+    let event = 'message';
+    let id: string | null = null;
+    const data: string[] = [];
+    for (const line of block.split('\n')) {
+      const separator = line.indexOf(':');
+      if (separator === 0) {
+        continue;
+      }
+      const field = separator < 0 ? line : line.slice(0, separator);
+      const value = separator < 0 ? '' : line.slice(separator + 1).replace(/^ /, '');
+      if (field === 'event') {
+        event = value;
+      } else if (field === 'id') {
+        id = value;
+      } else if (field === 'data') {
+        data.push(value);
+      } else if (field === 'retry' && /^\d+$/.test(value)) {
+        retryMs = Number(value);
+      }
+    }
+    if (id) {
+      lastEventId = id;
+    }
+    if (event === 'notification' && data.length) {
+      handlers.onNotification(JSON.parse(data.join('\n')) as NotificationLog);
+    } else if (event === 'reset') {
+      lastEventId = null;
+      handlers.onReset?.();
+    }
+  };
+
+  const connect = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const headers: Record<string, string> = { Accept: 'text/event-stream' };
+        const token = currentAccessToken();
+        if (token) {
+          headers.Authorization = `Bearer ${token}`;
+        }
+        if (lastEventId) {
+          headers['Last-Event-ID'] = lastEventId;
+        }
+        const response = await fetch(`${apiBaseUrl}/notifications/stream`, {
+          headers,
+          signal: controller.signal
+        });
+        if (!response.ok || !response.body) {
+          throw new Error(`notification stream rejected: ${response.status}`);
+        }
+        failures = 0;
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) {
+            break;
+          }
+          buffer += value;
+          let boundary = buffer.indexOf('\n\n');
+          while (boundary >= 0) {
+            dispatch(buffer.slice(0, boundary));
+            buffer = buffer.slice(boundary + 2);
+            boundary = buffer.indexOf('\n\n');
+          }
+        }
+      } catch {
+        failures += 1;
+      }
+      if (controller.signal.aborted) {
+        return;
+      }
+      const delay = Math.min(retryMs * 2 ** failures, STREAM_MAX_BACKOFF_MS);
+      await new Promise((resolve) => setTimeout(resolve, delay));
+    }
+  };
+
+  void connect();
+  return () => controller.abort();
+};
@@ -160,6 +160,27 @@ export type OrderMessagePayload = {
   message: string;
 };
 
+export type OrderMessage = {
+  id: string;
+  orderId: string;
+  senderId: string;
+  actorRole?: string | null;
+  content: string;
+  createdAt: string;
+};
+
+export type OrderMessagePage = {
+  content: OrderMessage[];
+  nextCursor?: string | null;
+  hasMore: boolean;
+  unreadCount: number;
+};
+
+export type OrderConversationUnread = {
+  orderId: string;
+  unreadCount: number;
+};
+
 export type UploadOrderProofPayload = {
   actorId: string;
   proofType: OrderProofType;
@@ -574,11 +595,26 @@ export const forceCloseOrder = async (
   return response.data.data;
 };
 
+export const listOrderMessages = async (
+  orderId: string,
+  params: { before?: string | null; size?: number } = {}
+): Promise<OrderMessagePage> => {
+  const response = await http.get<ApiResponse<OrderMessagePage>>(`/orders/${orderId}/messages`, {
+    params
+  });
+  return response.data.data;
+};
+
 export const postOrderMessage = async (
   orderId: string,
   payload: OrderMessagePayload
-): Promise<RentalOrderDetail> => {
-  const response = await http.post<ApiResponse<RentalOrderDetail>>(`/orders/${orderId}/messages`, payload);
+): Promise<OrderMessage> => {
+  const response = await http.post<ApiResponse<OrderMessage>>(`/orders/${orderId}/messages`, payload);
+  return response.data.data;
+};
+
+export const markOrderMessagesRead = async (orderId: string): Promise<OrderConversationUnread> => {
+  const response = await http.post<ApiResponse<OrderConversationUnread>>(`/orders/${orderId}/messages/read`);
   return response.data.data;
 };
 
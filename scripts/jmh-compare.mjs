@@ -0,0 +1,69 @@
+#!/usr/bin/env node
+
+/**
+ * JMH 结果对比脚本：比较两次 `-rf json` 输出，按基准名 + 参数逐项列出变化，超过阈值的退化标记为 REGRESSION。
+ * 用法：
+ *   node scripts/jmh-compare.mjs <baseline.json> <candidate.json> [阈值百分比，默认 10]
+ * 存在退化时以退出码 1 结束，便于在 CI 中直接作为门禁。
+ */
+
+import fs from 'node:fs/promises';
+
+const [baselinePath, candidatePath, thresholdArg] = process.argv.slice(2);
+if (!baselinePath || !candidatePath) {
+  console.error('用法：node scripts/jmh-compare.mjs <baseline.json> <candidate.json> [threshold%]');
+  process.exit(2);
+}
+const threshold = Number(thresholdArg ?? 10);
+
+function keyOf(result) {
+  const params = Object.entries(result.params ?? {})
+    .map(([name, value]) => `${name}=${value}`)
+    .join(',');
+  return params ? `${result.benchmark} [${params}]` : result.benchmark;
+}
+
+// 吞吐类越大越好，其余（avgt/sample/ss）越小越好
+function higherIsBetter(result) {
+  return result.mode === 'thrpt';
+}
+
+async function load(file) {
+  const results = JSON.parse(await fs.readFile(file, 'utf8'));
+  return new Map(results.map((result) => [keyOf(result), result]));
+}
+
+const baseline = await load(baselinePath);
+const candidate = await load(candidatePath);
+
+let regressions = 0;
+const rows = [];
+for (const [key, current] of candidate) {
+  const previous = baseline.get(key);
+  if (!previous) {
+    rows.push([key, '-', current.primaryMetric.score.toFixed(3), current.primaryMetric.scoreUnit, 'NEW']);
+    continue;
+  }
+  const before = previous.primaryMetric.score;
+  const after = current.primaryMetric.score;
+  const change = before === 0 ? 0 : ((after - before) / before) * 100;
+  const worse = higherIsBetter(current) ? -change : change;
+  let verdict = '';
+  if (worse > threshold) {
+    verdict = 'REGRESSION';
+    regressions += 1;
+  } else if (worse < -threshold) {
+    verdict = 'IMPROVED';
+  }
+  rows.push([key, before.toFixed(3), after.toFixed(3), current.primaryMetric.scoreUnit,
+    `${change >= 0 ? '+' : ''}${change.toFixed(1)}% ${verdict}`.trim()]);
+}
+
+console.log(['benchmark', 'baseline', 'candidate', 'unit', 'change'].join('\t'));
+for (const row of rows) {
+  console.log(row.join('\t'));
+}
+if (regressions > 0) {
+  console.error(`\n${regressions} 项基准退化超过 ${threshold}%`);
+  process.exit(1);
+}